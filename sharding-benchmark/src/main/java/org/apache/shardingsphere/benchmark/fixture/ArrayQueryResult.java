@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.merger.QueryResult;
+
+import java.io.InputStream;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Query result over rows in memory, used to feed merge engine without databases.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ArrayQueryResult implements QueryResult {
+    
+    private final List<String> columnLabels;
+    
+    private final Object[][] rows;
+    
+    private int currentIndex = -1;
+    
+    @Override
+    public boolean next() {
+        return ++currentIndex < rows.length;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnLabels.size();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) {
+        return columnLabels.get(columnIndex - 1);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return rows[currentIndex][columnIndex - 1];
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getValue(columnLabels.indexOf(columnLabel) + 1, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getValue(columnLabel, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        throw new UnsupportedOperationException("getInputStream");
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        throw new UnsupportedOperationException("getInputStream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return false;
+    }
+    
+    @Override
+    public void close() {
+    }
+}
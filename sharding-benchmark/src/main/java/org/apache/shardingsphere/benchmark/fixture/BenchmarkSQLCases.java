@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.test.sql.SQLCaseType;
+import org.apache.shardingsphere.test.sql.SQLCasesLoader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * SQL cases of benchmark, loaded from supported SQL cases of {@code sharding-sql-test}.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkSQLCases {
+    
+    /**
+     * Get SQL with placeholders.
+     * 
+     * @param sqlCaseId SQL case ID
+     * @return SQL with placeholders
+     */
+    public static String getSQL(final String sqlCaseId) {
+        return SQLCasesLoader.getInstance().getSupportedSQL(sqlCaseId, SQLCaseType.Placeholder, Collections.emptyList());
+    }
+    
+    /**
+     * Get SQLs with placeholders of all supported SQL cases for database type.
+     * 
+     * @param databaseType database type
+     * @return SQLs with placeholders
+     */
+    public static Collection<String> getAllSQLs(final DatabaseType databaseType) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (Object[] each : SQLCasesLoader.getInstance().getSupportedSQLTestParameters(Collections.singletonList(databaseType), DatabaseType.class)) {
+            if (databaseType == each[1]) {
+                result.add(getSQL((String) each[0]));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Create parameters for SQL with placeholders.
+     * 
+     * <p>
+     * Parameters are sequential integers start from 1, so sharding values are spread over all shards.
+     * </p>
+     * 
+     * @param sql SQL with placeholders
+     * @return parameters
+     */
+    public static List<Object> createParameters(final String sql) {
+        List<Object> result = new ArrayList<>();
+        for (int i = 0; i < sql.length(); i++) {
+            if ('?' == sql.charAt(i)) {
+                result.add(result.size() + 1);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.api.config.rule.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.rule.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sharding rule of benchmark.
+ * 
+ * <p>
+ * Logic tables {@code t_order} and {@code t_order_item} are binding tables, 
+ * sharding databases by {@code user_id} and sharding tables by {@code order_id}, each data source has two actual tables for each logic table.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkShardingRule {
+    
+    /**
+     * Actual table count of each logic table in each data source.
+     */
+    public static final int TABLE_COUNT_PER_DATA_SOURCE = 2;
+    
+    /**
+     * Get data source name.
+     * 
+     * @param index index of data source
+     * @return data source name
+     */
+    public static String getDataSourceName(final int index) {
+        return "ds_" + index;
+    }
+    
+    /**
+     * Get data source names.
+     * 
+     * @param shardCount shard count
+     * @return data source names
+     */
+    public static Collection<String> getDataSourceNames(final int shardCount) {
+        Collection<String> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            result.add(getDataSourceName(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Create sharding rule configuration.
+     * 
+     * @param shardCount shard count
+     * @return sharding rule configuration
+     */
+    public static ShardingRuleConfiguration createShardingRuleConfiguration(final int shardCount) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(createTableRuleConfiguration("t_order", shardCount));
+        result.getTableRuleConfigs().add(createTableRuleConfiguration("t_order_item", shardCount));
+        result.getBindingTableGroups().add("t_order, t_order_item");
+        result.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % " + shardCount + "}"));
+        return result;
+    }
+    
+    private static TableRuleConfiguration createTableRuleConfiguration(final String logicTable, final int shardCount) {
+        TableRuleConfiguration result = new TableRuleConfiguration();
+        result.setLogicTable(logicTable);
+        result.setActualDataNodes(String.format("ds_${0..%d}.%s_${0..%d}", shardCount - 1, logicTable, TABLE_COUNT_PER_DATA_SOURCE - 1));
+        result.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", logicTable + "_${order_id % " + TABLE_COUNT_PER_DATA_SOURCE + "}"));
+        return result;
+    }
+    
+    /**
+     * Create sharding rule.
+     * 
+     * @param shardCount shard count
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final int shardCount) {
+        return new ShardingRule(createShardingRuleConfiguration(shardCount), getDataSourceNames(shardCount));
+    }
+    
+    /**
+     * Create sharding meta data without connecting to databases.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardCount shard count
+     * @param databaseType database type
+     * @return sharding meta data
+     */
+    public static ShardingMetaData createShardingMetaData(final ShardingRule shardingRule, final int shardCount, final DatabaseType databaseType) {
+        Map<String, String> dataSourceURLs = new LinkedHashMap<>(shardCount, 1);
+        for (String each : getDataSourceNames(shardCount)) {
+            dataSourceURLs.put(each, getURL(each, databaseType));
+        }
+        return new ShardingMetaData(new ShardingDataSourceMetaData(dataSourceURLs, shardingRule, databaseType), createShardingTableMetaData());
+    }
+    
+    private static String getURL(final String dataSourceName, final DatabaseType databaseType) {
+        switch (databaseType) {
+            case MySQL:
+                return "jdbc:mysql://127.0.0.1:3306/" + dataSourceName;
+            case PostgreSQL:
+                return "jdbc:postgresql://127.0.0.1:5432/" + dataSourceName;
+            default:
+                return getH2URL(dataSourceName);
+        }
+    }
+    
+    /**
+     * Get URL of in-memory H2 database.
+     * 
+     * @param dataSourceName data source name
+     * @return URL of in-memory H2 database
+     */
+    public static String getH2URL(final String dataSourceName) {
+        return "jdbc:h2:mem:benchmark_" + dataSourceName + ";DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL";
+    }
+    
+    private static ShardingTableMetaData createShardingTableMetaData() {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        tables.put("t_order_item", new TableMetaData(Arrays.asList(new ColumnMetaData("item_id", "int", true), 
+                new ColumnMetaData("order_id", "int", false), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false))));
+        return new ShardingTableMetaData(tables);
+    }
+}
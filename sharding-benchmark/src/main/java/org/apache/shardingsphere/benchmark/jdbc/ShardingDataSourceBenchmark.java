@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingRule;
+import org.apache.shardingsphere.shardingjdbc.api.ShardingDataSourceFactory;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark for sharding data source over in-memory H2 databases.
+ * 
+ * <p>
+ * It covers parsing, routing, rewriting, executing and merging of each SQL.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingDataSourceBenchmark {
+    
+    private static final String SELECT_BY_SHARDING_KEY_SQL = "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?";
+    
+    private static final String SELECT_ORDER_BY_LIMIT_SQL = "SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT ?, ?";
+    
+    private static final String SELECT_GROUP_BY_SQL = "SELECT user_id, COUNT(order_id) AS orders_count FROM t_order GROUP BY user_id ORDER BY user_id";
+    
+    private static final String UPDATE_BY_SHARDING_KEY_SQL = "UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?";
+    
+    @Param({"2", "4", "8"})
+    private int shardCount;
+    
+    @Param({"1000"})
+    private int rowsPerShard;
+    
+    private ShardingDataSource shardingDataSource;
+    
+    private Connection connection;
+    
+    private int totalRows;
+    
+    private int sequence;
+    
+    /**
+     * Set up in-memory H2 databases and sharding data source.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(shardCount, 1);
+        for (String each : BenchmarkShardingRule.getDataSourceNames(shardCount)) {
+            DataSource dataSource = createDataSource(each);
+            createTables(dataSource);
+            dataSourceMap.put(each, dataSource);
+        }
+        shardingDataSource = (ShardingDataSource) ShardingDataSourceFactory.createDataSource(
+                dataSourceMap, BenchmarkShardingRule.createShardingRuleConfiguration(shardCount), new HashMap<String, Object>(), new Properties());
+        connection = shardingDataSource.getConnection();
+        totalRows = shardCount * rowsPerShard;
+        insertRows();
+    }
+    
+    private DataSource createDataSource(final String dataSourceName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setDriverClassName("org.h2.Driver");
+        result.setJdbcUrl(BenchmarkShardingRule.getH2URL(dataSourceName));
+        result.setUsername("sa");
+        result.setPassword("");
+        result.setMaximumPoolSize(BenchmarkShardingRule.TABLE_COUNT_PER_DATA_SOURCE * 2);
+        return result;
+    }
+    
+    private void createTables(final DataSource dataSource) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < BenchmarkShardingRule.TABLE_COUNT_PER_DATA_SOURCE; i++) {
+                statement.execute(String.format("DROP TABLE IF EXISTS t_order_%d", i));
+                statement.execute(String.format("CREATE TABLE t_order_%d (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))", i));
+                statement.execute(String.format("DROP TABLE IF EXISTS t_order_item_%d", i));
+                statement.execute(String.format(
+                        "CREATE TABLE t_order_item_%d (item_id INT NOT NULL, order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (item_id))", i));
+            }
+        }
+    }
+    
+    private void insertRows() throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < totalRows; i++) {
+                preparedStatement.setInt(1, i);
+                preparedStatement.setInt(2, getUserId(i));
+                preparedStatement.setString(3, "init");
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    private int getUserId(final int orderId) {
+        return orderId / BenchmarkShardingRule.TABLE_COUNT_PER_DATA_SOURCE;
+    }
+    
+    /**
+     * Close sharding data source.
+     * 
+     * @throws Exception exception
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        connection.close();
+        shardingDataSource.close();
+    }
+    
+    /**
+     * Select one row by sharding key, which is routed to single shard.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void selectByShardingKey(final Blackhole blackhole) throws SQLException {
+        int orderId = nextOrderId();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SELECT_BY_SHARDING_KEY_SQL)) {
+            preparedStatement.setInt(1, getUserId(orderId));
+            preparedStatement.setInt(2, orderId);
+            consume(preparedStatement, blackhole);
+        }
+    }
+    
+    /**
+     * Select one page ordered by order ID, which is routed to all shards and merged.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void selectOrderByLimit(final Blackhole blackhole) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SELECT_ORDER_BY_LIMIT_SQL)) {
+            preparedStatement.setInt(1, nextOrderId());
+            preparedStatement.setInt(2, 10);
+            consume(preparedStatement, blackhole);
+        }
+    }
+    
+    /**
+     * Select aggregation grouped by user ID, which is routed to all shards and merged.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void selectGroupBy(final Blackhole blackhole) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(SELECT_GROUP_BY_SQL)) {
+            consume(preparedStatement, blackhole);
+        }
+    }
+    
+    /**
+     * Update one row by sharding key, which is routed to single shard.
+     * 
+     * @return updated count
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int updateByShardingKey() throws SQLException {
+        int orderId = nextOrderId();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(UPDATE_BY_SHARDING_KEY_SQL)) {
+            preparedStatement.setString(1, "updated");
+            preparedStatement.setInt(2, getUserId(orderId));
+            preparedStatement.setInt(3, orderId);
+            return preparedStatement.executeUpdate();
+        }
+    }
+    
+    private int nextOrderId() {
+        sequence = (sequence + 1) % totalRows;
+        return sequence;
+    }
+    
+    private void consume(final PreparedStatement preparedStatement, final Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                for (int i = 1; i <= columnCount; i++) {
+                    blackhole.consume(resultSet.getObject(i));
+                }
+            }
+        }
+    }
+}
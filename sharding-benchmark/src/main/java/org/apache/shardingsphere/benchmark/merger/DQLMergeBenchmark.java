@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merger;
+
+import org.apache.shardingsphere.benchmark.fixture.ArrayQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingRule;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.merger.MergedResult;
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.core.merger.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.parsing.SQLParsingEngine;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for DQL merge engine.
+ * 
+ * <p>
+ * Each shard returns rows ordered by the first column from memory, so it measures merging only.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DQLMergeBenchmark {
+    
+    @Param({"order_by", "group_by", "limit"})
+    private String mergeType;
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    @Param({"1000", "10000"})
+    private int rowsPerShard;
+    
+    private SelectStatement selectStatement;
+    
+    private List<String> columnLabels;
+    
+    private Object[][][] shardRows;
+    
+    /**
+     * Set up parsed select statement and rows of each shard.
+     */
+    @Setup
+    public void setUp() {
+        ShardingRule shardingRule = BenchmarkShardingRule.createShardingRule(shardCount);
+        String sql = getSQL();
+        selectStatement = (SelectStatement) new SQLParsingEngine(
+                DatabaseType.MySQL, sql, shardingRule, BenchmarkShardingRule.createShardingMetaData(shardingRule, shardCount, DatabaseType.MySQL).getTable()).parse(false);
+        boolean isGroupBy = "group_by".equals(mergeType);
+        columnLabels = isGroupBy ? Arrays.asList("user_id", "orders_count") : Arrays.asList("order_id", "user_id");
+        shardRows = new Object[shardCount][rowsPerShard][];
+        for (int i = 0; i < shardCount; i++) {
+            for (int j = 0; j < rowsPerShard; j++) {
+                shardRows[i][j] = isGroupBy ? new Object[] {j, (long) i + 1} : new Object[] {j * shardCount + i, j % 100};
+            }
+        }
+    }
+    
+    private String getSQL() {
+        switch (mergeType) {
+            case "order_by":
+                return "SELECT order_id, user_id FROM t_order ORDER BY order_id";
+            case "group_by":
+                return "SELECT user_id, COUNT(order_id) AS orders_count FROM t_order GROUP BY user_id ORDER BY user_id";
+            case "limit":
+                return String.format("SELECT order_id, user_id FROM t_order ORDER BY order_id LIMIT %d, 100", rowsPerShard / 2);
+            default:
+                throw new UnsupportedOperationException(mergeType);
+        }
+    }
+    
+    /**
+     * Merge query results.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            queryResults.add(new ArrayQueryResult(columnLabels, each));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(DatabaseType.MySQL, selectStatement, queryResults).merge();
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            blackhole.consume(mergedResult.getValue(2, Object.class));
+        }
+    }
+}
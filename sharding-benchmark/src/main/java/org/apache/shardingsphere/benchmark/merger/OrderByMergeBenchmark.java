@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merger;
+
+import org.apache.shardingsphere.benchmark.fixture.ArrayQueryResult;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.merger.dql.orderby.LoserTree;
+import org.apache.shardingsphere.core.merger.dql.orderby.OrderByValue;
+import org.apache.shardingsphere.core.parsing.parser.context.orderby.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for k-way merging of order by, comparing priority queue and loser tree.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderByMergeBenchmark {
+    
+    private static final int TOTAL_ROWS = 1 << 20;
+    
+    private static final List<String> COLUMN_LABELS = Collections.singletonList("order_id");
+    
+    private static final List<OrderItem> ORDER_BY_ITEMS = Collections.singletonList(new OrderItem(1, OrderDirection.ASC, OrderDirection.ASC));
+    
+    @Param({"2", "16", "128", "1024"})
+    private int shardCount;
+    
+    private Object[][][] shardRows;
+    
+    /**
+     * Set up ordered rows of each shard.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(shardCount);
+        int rowsPerShard = TOTAL_ROWS / shardCount;
+        shardRows = new Object[shardCount][rowsPerShard][];
+        for (Object[][] each : shardRows) {
+            int value = 0;
+            for (int i = 0; i < rowsPerShard; i++) {
+                value += random.nextInt(shardCount * 2);
+                each[i] = new Object[] {value};
+            }
+        }
+    }
+    
+    /**
+     * Merge with priority queue.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeWithPriorityQueue(final Blackhole blackhole) throws SQLException {
+        PriorityQueue<OrderByValue> queue = new PriorityQueue<>(shardCount);
+        for (Object[][] each : shardRows) {
+            OrderByValue orderByValue = new OrderByValue(new ArrayQueryResult(COLUMN_LABELS, each), ORDER_BY_ITEMS);
+            if (orderByValue.next()) {
+                queue.offer(orderByValue);
+            }
+        }
+        while (!queue.isEmpty()) {
+            OrderByValue first = queue.poll();
+            blackhole.consume(first.getQueryResult().getValue(1, Object.class));
+            if (first.next()) {
+                queue.offer(first);
+            }
+        }
+    }
+    
+    /**
+     * Merge with loser tree.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void mergeWithLoserTree(final Blackhole blackhole) throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(shardCount);
+        for (Object[][] each : shardRows) {
+            OrderByValue orderByValue = new OrderByValue(new ArrayQueryResult(COLUMN_LABELS, each), ORDER_BY_ITEMS);
+            if (orderByValue.next()) {
+                orderByValues.add(orderByValue);
+            }
+        }
+        LoserTree<OrderByValue> loserTree = new LoserTree<>(orderByValues);
+        while (!loserTree.isEmpty()) {
+            OrderByValue first = loserTree.peek();
+            blackhole.consume(first.getQueryResult().getValue(1, Object.class));
+            loserTree.adjust(!first.next());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parsing;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.antlr.parser.SQLParserDFACache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for ANTLR SQL parser with all supported MySQL SQL cases of {@code sharding-sql-test}.
+ * 
+ * <p>
+ * Cold parsing clears shared DFA cache before each invocation, warm parsing reuses DFA cache populated by previous invocations.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AntlrParsingBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean twoStageEnabled;
+    
+    @Param({"false", "true"})
+    private boolean cold;
+    
+    private final Collection<String> sqls = new LinkedList<>();
+    
+    /**
+     * Set up SQLs which can be parsed by ANTLR SQL parser.
+     */
+    @Setup
+    public void setUp() {
+        SQLParserDFACache.getInstance().init(twoStageEnabled, 0);
+        for (String each : BenchmarkSQLCases.getAllSQLs(DatabaseType.MySQL)) {
+            if (1 == SQLParserDFACache.getInstance().warmUp(DatabaseType.MySQL, Collections.singletonList(each))) {
+                sqls.add(each);
+            }
+        }
+    }
+    
+    /**
+     * Clear DFA cache for cold parsing.
+     */
+    @Setup(Level.Invocation)
+    public void clearDFA() {
+        if (cold) {
+            SQLParserDFACache.getInstance().clear(DatabaseType.MySQL);
+        }
+    }
+    
+    /**
+     * Parse all SQLs.
+     * 
+     * @return count of parsed SQLs
+     */
+    @Benchmark
+    public int parse() {
+        return SQLParserDFACache.getInstance().warmUp(DatabaseType.MySQL, sqls);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parsing;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingRule;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.parsing.SQLParsingEngine;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL parsing engine.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParsingBenchmark {
+    
+    @Param({"select_equal_with_single_table", "select_in_with_single_table", "select_full_route_with_binding_tables", 
+            "select_group_by_with_order_by_and_limit", "insert_with_all_placeholders", "update_without_alias"})
+    private String sqlCaseId;
+    
+    @Param({"false", "true"})
+    private boolean useCache;
+    
+    private String sql;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingTableMetaData shardingTableMetaData;
+    
+    /**
+     * Set up SQL and sharding rule.
+     */
+    @Setup
+    public void setUp() {
+        sql = BenchmarkSQLCases.getSQL(sqlCaseId);
+        shardingRule = BenchmarkShardingRule.createShardingRule(2);
+        shardingTableMetaData = BenchmarkShardingRule.createShardingMetaData(shardingRule, 2, DatabaseType.MySQL).getTable();
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule, shardingTableMetaData).parse(useCache);
+    }
+}
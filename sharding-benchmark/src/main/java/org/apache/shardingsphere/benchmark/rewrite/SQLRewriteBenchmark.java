@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingRule;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.optimizer.OptimizeEngineFactory;
+import org.apache.shardingsphere.core.optimizer.condition.ShardingConditions;
+import org.apache.shardingsphere.core.parsing.SQLParsingEngine;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.rewrite.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.routing.SQLUnit;
+import org.apache.shardingsphere.core.routing.router.sharding.RoutingEngineFactory;
+import org.apache.shardingsphere.core.routing.type.RoutingResult;
+import org.apache.shardingsphere.core.routing.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for SQL rewrite engine.
+ * 
+ * <p>
+ * SQL is parsed and routed once, each invocation rewrites logic SQL into actual SQL of all routed table units.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteBenchmark {
+    
+    @Param({"select_equal_with_single_table", "select_in_with_single_table", "select_full_route_with_binding_tables", 
+            "select_group_by_with_order_by_and_limit", "insert_with_all_placeholders", "update_without_alias"})
+    private String sqlCaseId;
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingMetaData shardingMetaData;
+    
+    private SQLStatement sqlStatement;
+    
+    private ShardingConditions shardingConditions;
+    
+    private RoutingResult routingResult;
+    
+    /**
+     * Set up parsed SQL statement and routing result.
+     */
+    @Setup
+    public void setUp() {
+        sql = BenchmarkSQLCases.getSQL(sqlCaseId);
+        parameters = BenchmarkSQLCases.createParameters(sql);
+        shardingRule = BenchmarkShardingRule.createShardingRule(shardCount);
+        shardingMetaData = BenchmarkShardingRule.createShardingMetaData(shardingRule, shardCount, DatabaseType.MySQL);
+        sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, sql, shardingRule, shardingMetaData.getTable()).parse(false);
+        shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, null).optimize();
+        routingResult = RoutingEngineFactory.newInstance(shardingRule, shardingMetaData.getDataSource(), sqlStatement, shardingConditions).route();
+    }
+    
+    /**
+     * Rewrite SQL.
+     * 
+     * @return SQL units
+     */
+    @Benchmark
+    public Collection<SQLUnit> rewrite() {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, sql, DatabaseType.MySQL, sqlStatement, shardingConditions, parameters);
+        SQLBuilder sqlBuilder = rewriteEngine.rewrite(routingResult.isSingleRouting());
+        Collection<TableUnit> tableUnits = routingResult.getTableUnits().getTableUnits();
+        Collection<SQLUnit> result = new ArrayList<>(tableUnits.size());
+        for (TableUnit each : tableUnits) {
+            result.add(rewriteEngine.generateSQL(each, sqlBuilder, shardingMetaData.getDataSource()));
+        }
+        return result;
+    }
+}
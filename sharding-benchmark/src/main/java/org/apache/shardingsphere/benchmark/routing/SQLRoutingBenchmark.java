@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.routing;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingRule;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.routing.SQLRouteResult;
+import org.apache.shardingsphere.core.routing.router.sharding.ParsingSQLRouter;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for parsing SQL router.
+ * 
+ * <p>
+ * Parsing results are cached as same as runtime, so it measures optimizing, routing and rewriting of each route.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRoutingBenchmark {
+    
+    @Param({"select_equal_with_single_table", "select_in_with_single_table", "select_full_route_with_binding_tables", 
+            "select_group_by_with_order_by_and_limit", "insert_with_all_placeholders", "update_without_alias"})
+    private String sqlCaseId;
+    
+    @Param({"2", "8", "32"})
+    private int shardCount;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private ShardingRule shardingRule;
+    
+    private ShardingMetaData shardingMetaData;
+    
+    /**
+     * Set up SQL and sharding rule.
+     */
+    @Setup
+    public void setUp() {
+        sql = BenchmarkSQLCases.getSQL(sqlCaseId);
+        parameters = BenchmarkSQLCases.createParameters(sql);
+        shardingRule = BenchmarkShardingRule.createShardingRule(shardCount);
+        shardingMetaData = BenchmarkShardingRule.createShardingMetaData(shardingRule, shardCount, DatabaseType.MySQL);
+    }
+    
+    /**
+     * Route SQL.
+     * 
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult route() {
+        ParsingSQLRouter router = new ParsingSQLRouter(shardingRule, shardingMetaData, DatabaseType.MySQL, false);
+        return router.route(sql, new ArrayList<>(parameters), router.parse(sql, true));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.transport;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQLCases;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandPacketType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for MySQL packet codec.
+ * 
+ * <p>
+ * Wide result sets are covered by column count, each column value is a short string.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MySQLPacketCodecBenchmark {
+    
+    private static final int ROWS_PER_RESULT_SET = 1000;
+    
+    @Param({"4", "32", "256"})
+    private int columnCount;
+    
+    private EmbeddedChannel channel;
+    
+    private List<Object> row;
+    
+    private ByteBuf comQueryPacket;
+    
+    /**
+     * Set up channel with MySQL packet codec and packets.
+     */
+    @Setup
+    public void setUp() {
+        channel = new EmbeddedChannel(new MySQLPacketCodec());
+        row = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            row.add("column_value_" + i);
+        }
+        byte[] sql = BenchmarkSQLCases.getSQL("select_full_route_with_binding_tables").getBytes(StandardCharsets.UTF_8);
+        comQueryPacket = Unpooled.buffer();
+        comQueryPacket.writeMediumLE(sql.length + 1);
+        comQueryPacket.writeByte(0);
+        comQueryPacket.writeByte(CommandPacketType.COM_QUERY.getValue());
+        comQueryPacket.writeBytes(sql);
+    }
+    
+    /**
+     * Release channel and packets.
+     */
+    @TearDown
+    public void tearDown() {
+        comQueryPacket.release();
+        channel.finishAndReleaseAll();
+    }
+    
+    /**
+     * Encode text result set row packet.
+     * 
+     * @return encoded bytes
+     */
+    @Benchmark
+    public int encodeTextResultSetRow() {
+        channel.writeOutbound(new TextResultSetRowPacket(1, row));
+        ByteBuf encoded = channel.readOutbound();
+        int result = encoded.readableBytes();
+        encoded.release();
+        return result;
+    }
+    
+    /**
+     * Encode text result set rows, throughput is measured as rows per second.
+     * 
+     * @return encoded bytes
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(ROWS_PER_RESULT_SET)
+    public long encodeTextResultSet() {
+        for (int i = 0; i < ROWS_PER_RESULT_SET; i++) {
+            channel.write(new TextResultSetRowPacket(i + 2, row));
+        }
+        channel.flush();
+        long result = 0;
+        ByteBuf each;
+        while (null != (each = channel.readOutbound())) {
+            result += each.readableBytes();
+            each.release();
+        }
+        return result;
+    }
+    
+    /**
+     * Decode command query packet.
+     * 
+     * @return decoded bytes
+     */
+    @Benchmark
+    public int decodeComQuery() {
+        channel.writeInbound(comQueryPacket.retainedDuplicate());
+        ByteBuf decoded = channel.readInbound();
+        int result = decoded.readableBytes();
+        decoded.release();
+        return result;
+    }
+}
@@ -44,6 +44,8 @@ public final class ShardingRuleConfiguration implements RuleConfiguration {
     
     private Collection<String> broadcastTables = new LinkedList<>();
     
+    private Collection<String> cacheableTables = new LinkedList<>();
+    
     private ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
     
     private ShardingStrategyConfiguration defaultTableShardingStrategyConfig;
@@ -69,11 +69,63 @@ public enum ShardingPropertiesConstant {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Enable adaptive connection mode planning with observed statistics of data sources.
+     *
+     * <p>
+     * Fast queries on idle data sources may use more connections than max connections size per query,
+     * and saturated data sources use only one connection and load results into memory.
+     * </p>
+     */
+    CONNECTION_MODE_ADAPTIVE_ENABLED("connection.mode.adaptive.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max concurrent opened connection size for each data source, used to judge saturation of data source in adaptive connection mode planning.
+     *
+     * <p>
+     * 0 means using max pool size of each data source, or 64 if pool size of data source is unknown.
+     * Default: 0
+     * </p>
+     */
+    MAX_CONNECTIONS_SIZE_PER_DATA_SOURCE("max.connections.size.per.data.source", String.valueOf(0), int.class),
+    
     /**
      * Sharding-Proxy's flush threshold for every records from databases.
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy.frontend.flush.threshold", String.valueOf(128), int.class),
     
+    /**
+     * Enable non-blocking streaming of query results for Sharding-Proxy.
+     * 
+     * <p>
+     * When frontend channel is not writable, streaming of query results is paused without holding executor thread,
+     * and resumed by another task when channel becomes writable again.
+     * Default: false
+     * </p>
+     */
+    PROXY_FRONTEND_NON_BLOCKING_STREAMING_ENABLED("proxy.frontend.non.blocking.streaming.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max count of threads which run commands of XA transactions for Sharding-Proxy.
+     * 
+     * <p>
+     * Thread is leased by one frontend connection until its XA transaction ends,
+     * connections wait for thread in order if all threads are leased.
+     * Default: CPU cores * 16.
+     * </p>
+     */
+    PROXY_FRONTEND_XA_CARRIER_MAX_SIZE("proxy.frontend.xa.carrier.max.size", String.valueOf(Runtime.getRuntime().availableProcessors() * 16), int.class),
+    
+    /**
+     * Max count of prepared statements held by all frontend connections of Sharding-Proxy.
+     * 
+     * <p>
+     * Preparing more statements will fail until some statements are closed.
+     * Default: 16382, same as max_prepared_stmt_count of MySQL.
+     * </p>
+     */
+    PROXY_PREPARED_STATEMENT_MAX_COUNT("proxy.prepared.statement.max.count", String.valueOf(16382), int.class),
+    
     /**
      * Transaction type of proxy.
      *
@@ -105,7 +157,218 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    /**
+     * Seconds to wait for responses of SQL sent to backend channels when Sharding-Proxy uses NIO backend.
+     * 
+     * <p>
+     * Backend channels are closed when timeout, so running SQL are interrupted by database.
+     * Connection timeout is only used for connecting and acquiring backend channels.
+     * Default: 0, wait without timeout.
+     * </p>
+     */
+    PROXY_BACKEND_QUERY_TIMEOUT_SECONDS("proxy.backend.query.timeout.seconds", String.valueOf(0), int.class),
+    
+    /**
+     * Max rows queued in a query result of NIO backend before reading from its backend channel is paused.
+     * 
+     * <p>
+     * Reading is resumed when queued rows are taken down to half of this size.
+     * Reading is never paused while other commands are pipelined behind the query on the same channel, so that their responses are not blocked.
+     * Default: 1024, 0 means never pause reading.
+     * </p>
+     */
+    PROXY_BACKEND_QUERY_QUEUED_ROWS_HIGH_WATER_MARK("proxy.backend.query.queued.rows.high.water.mark", String.valueOf(1024), int.class),
+    
+    /**
+     * Fetch size of backend statements which stream query results in MEMORY_STRICTLY connection mode of Sharding-Proxy.
+     * 
+     * <p>
+     * MySQL streams rows one by one, unless {@code useCursorFetch=true} is set in JDBC URL, then server side cursor fetches this size of rows each time.
+     * PostgreSQL uses cursor only in transaction.
+     * Default: 1000
+     * </p>
+     */
+    PROXY_BACKEND_QUERY_FETCH_SIZE("proxy.backend.query.fetch.size", String.valueOf(1000), int.class),
+    
+    /**
+     * Max size of consecutive DML statements routed to the same data source which are executed in one JDBC batch by Sharding-Proxy.
+     *
+     * <p>
+     * Statements of multi-statements COM_QUERY and pipelined COM_QUERY commands are batched, and OK packets are still returned for every statement.
+     * Default: 0, execute statements one by one.
+     * </p>
+     */
+    PROXY_BACKEND_BATCH_MAX_SIZE("proxy.backend.batch.max.size", String.valueOf(0), int.class),
+    
+    /**
+     * Max estimated memory bytes of query results cached by Sharding-Proxy.
+     * 
+     * <p>
+     * Only queries on cacheable tables of sharding rule are cached, and cached results are invalidated when cacheable tables are modified via proxy.
+     * Default: 0, disable result cache.
+     * </p>
+     */
+    PROXY_RESULT_CACHE_MAX_BYTES("proxy.result.cache.max.bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Time to live of cached query results of Sharding-Proxy in milliseconds.
+     */
+    PROXY_RESULT_CACHE_TTL_MILLISECONDS("proxy.result.cache.ttl.milliseconds", String.valueOf(1000L), long.class),
+    
+    /**
+     * Size of connections opened for each backend data source before Sharding-Proxy is online.
+     *
+     * <p>
+     * Connections are opened in parallel and returned to the pool, size is limited by max pool size of data source.
+     * Default: 0, do not warm up connections.
+     * </p>
+     */
+    PROXY_WARM_UP_CONNECTIONS_SIZE("proxy.warm.up.connections.size", String.valueOf(0), int.class),
+    
+    /**
+     * File of SQL statements separated by semicolon, which are parsed into parsing result cache before Sharding-Proxy is online.
+     *
+     * <p>
+     * The most frequently prepared statements are recorded and written into a separate file with {@code .recorded} suffix when Sharding-Proxy shuts down,
+     * which is parsed together with this file on next startup.
+     * Default: empty, do not warm up parsing result cache.
+     * </p>
+     */
+    PROXY_WARM_UP_SQL_FILE("proxy.warm.up.sql.file", "", String.class),
+    
+    /**
+     * Max count of the most frequently prepared statements written into warm up SQL file.
+     */
+    PROXY_WARM_UP_SQL_MAX_COUNT("proxy.warm.up.sql.max.count", String.valueOf(1000), int.class),
+    
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max cached parsing results size for each sharding rule and database type.
+     */
+    PARSING_RESULT_CACHE_SIZE("parsing.result.cache.size", String.valueOf(65535), int.class),
+    
+    /**
+     * Eviction policy of parsing result cache.
+     *
+     * <p>
+     * LRU:
+     * Evict least recently used SQL when cache is full.
+     * </p>
+     *
+     * <p>
+     * SOFT:
+     * Evict least recently used SQL when cache is full, and let GC reclaim parsing results under memory pressure.
+     * </p>
+     */
+    PARSING_RESULT_CACHE_EVICTION_POLICY("parsing.result.cache.eviction.policy", "LRU", String.class),
+    
+    /**
+     * Enable two stage parsing of ANTLR SQL parsers or not.
+     *
+     * <p>
+     * SQL is parsed with faster {@code SLL} prediction mode at first, and parsed with {@code LL} prediction mode again only if syntax error found.
+     * It is shared by the whole JVM, the value of sharding data source or proxy initialized last takes effect.
+     * Default: false
+     * </p>
+     */
+    PARSING_TWO_STAGE_ENABLED("parsing.two.stage.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max DFA states size shared by ANTLR SQL parsers of each dialect, DFA cache of dialect is cleared when exceeded.
+     *
+     * <p>
+     * It is shared by the whole JVM, the value of sharding data source or proxy initialized last takes effect.
+     * Default: 0, unbounded.
+     * </p>
+     */
+    PARSING_DFA_MAX_STATES_SIZE("parsing.dfa.max.states.size", String.valueOf(0), int.class),
+    
+    /**
+     * Enable literal normalization of SQL executed by statement or not.
+     *
+     * <p>
+     * Literals of conditions, limit and insert values are replaced with parameter markers before parsing,
+     * so SQL which only differ in literals share one parsing result, and literals are restored after rewriting.
+     * Default: false
+     * </p>
+     */
+    PARSING_LITERAL_NORMALIZATION_ENABLED("parsing.literal.normalization.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max rows size of each row group when multi-rows insert statement executed by statement is split, parsed, routed and executed group by group.
+     *
+     * <p>
+     * Insert statements with more rows than this size are split, so memory of parsing and rewriting is bounded regardless of rows size.
+     * Insert statements are split only inside an open transaction, so all row groups are committed or rolled back together;
+     * in auto commit mode the insert statement is executed as a whole to keep it atomic.
+     * Default: 0, do not split.
+     * </p>
+     */
+    STREAMING_INSERT_ROW_GROUP_SIZE("streaming.insert.row.group.size", String.valueOf(0), int.class),
+    
+    /**
+     * Data source names which load query results into columnar memory storage in CONNECTION_STRICTLY mode, separated by comma.
+     */
+    MEMORY_QUERY_RESULT_COLUMNAR_DATA_SOURCES("memory.query.result.columnar.data.sources", "", String.class),
+    
+    /**
+     * Estimated memory bytes of each columnar query result before spilling remaining rows to disk.
+     * 
+     * <p>
+     * Default: 0, never spill.
+     * </p>
+     */
+    MEMORY_QUERY_RESULT_SPILL_THRESHOLD_BYTES("memory.query.result.spill.threshold.bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Max group rows kept in memory when merging group by results, partial aggregations are spilled to disk beyond it.
+     * 
+     * <p>
+     * Default: 0, never spill.
+     * </p>
+     */
+    GROUP_BY_MEMORY_MAX_ROWS("group.by.memory.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Directory for spilled temporary files.
+     * 
+     * <p>
+     * Default: directory of {@code java.io.tmpdir}.
+     * </p>
+     */
+    SPILL_DIRECTORY("spill.directory", "", String.class),
+    
+    /**
+     * Enable keyset pagination rewrite or not.
+     * 
+     * <p>
+     * When query is ordered by the single column primary key, the next page of a paginated query is rewritten from {@code LIMIT offset, count}
+     * to {@code WHERE key > last_key LIMIT 0, count}, the last key is remembered from previous page.
+     * Rows inserted or deleted between pages may shift results compared with offset pagination.
+     * Default: false
+     * </p>
+     */
+    KEYSET_PAGINATION_ENABLED("keyset.pagination.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of last keys of pages remembered for keyset pagination rewrite.
+     * 
+     * <p>
+     * Each sharding data source of Sharding-JDBC and each schema of Sharding-Proxy owns its cursors.
+     * Default: 4096
+     * </p>
+     */
+    KEYSET_PAGINATION_CURSOR_CACHE_SIZE("keyset.pagination.cursor.cache.size", String.valueOf(4096), int.class),
+    
+    /**
+     * Seconds to keep last key of page for keyset pagination rewrite after it is last accessed.
+     * 
+     * <p>
+     * Default: 600
+     * </p>
+     */
+    KEYSET_PAGINATION_CURSOR_EXPIRE_SECONDS("keyset.pagination.cursor.expire.seconds", String.valueOf(600), int.class);
     
     private final String key;
     
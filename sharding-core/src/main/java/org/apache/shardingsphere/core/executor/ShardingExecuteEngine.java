@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.core.executor;
 
+import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import lombok.Getter;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.util.ShardingExecutorService;
 
@@ -41,6 +44,7 @@ import java.util.concurrent.ExecutionException;
  */
 public final class ShardingExecuteEngine implements AutoCloseable {
     
+    @Getter
     private final ShardingExecutorService shardingExecutorService;
     
     private ListeningExecutorService executorService;
@@ -149,19 +153,59 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         }
         Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
         ShardingExecuteGroup<I> firstInputs = inputGroupsIterator.next();
-        Collection<ListenableFuture<Collection<O>>> restResultFutures = asyncGroupExecute(Lists.newArrayList(inputGroupsIterator), callback);
+        Collection<ListenableFuture<Collection<O>>> restResultFutures = submitGroups(Lists.newArrayList(inputGroupsIterator), callback);
         return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
-        Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
+    /**
+     * Execute for group asynchronously.
+     * 
+     * <p>All groups are executed in executor, caller thread will not be blocked unless executor is saturated.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback sharding execute callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute results, results are in same order with input groups
+     */
+    public <I, O> ListenableFuture<List<O>> asyncGroupExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+        return Futures.transform(Futures.allAsList(submitGroups(inputGroups, callback)), new Function<List<Collection<O>>, List<O>>() {
+            
+            @Override
+            public List<O> apply(final List<Collection<O>> input) {
+                List<O> result = new LinkedList<>();
+                for (Collection<O> each : input) {
+                    result.addAll(each);
+                }
+                return result;
+            }
+        });
+    }
+    
+    /**
+     * Execute for group asynchronously and get futures in completion order.
+     * 
+     * <p>First future will be completed by first finished group, so that results can be consumed as soon as any group finished.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback sharding execute callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return futures of execute results in completion order
+     */
+    public <I, O> List<ListenableFuture<Collection<O>>> asyncGroupExecuteInCompletionOrder(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+        return Futures.inCompletionOrder(submitGroups(inputGroups, callback));
+    }
+    
+    private <I, O> List<ListenableFuture<Collection<O>>> submitGroups(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
+        List<ListenableFuture<Collection<O>>> result = new ArrayList<>(inputGroups.size());
         for (ShardingExecuteGroup<I> each : inputGroups) {
-            result.add(asyncGroupExecute(each, callback));
+            result.add(submitGroup(each, callback));
         }
         return result;
     }
     
-    private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
+    private <I, O> ListenableFuture<Collection<O>> submitGroup(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
         final Map<String, Object> dataMap = ShardingExecuteDataMap.getDataMap();
         return executorService.submit(new Callable<Collection<O>>() {
             
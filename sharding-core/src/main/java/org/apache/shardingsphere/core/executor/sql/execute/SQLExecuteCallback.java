@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.core.executor.sql.execute;
 
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.executor.ShardingExecuteCallback;
 import org.apache.shardingsphere.core.executor.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.executor.StatementExecuteUnit;
 import org.apache.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.executor.sql.statistics.DataSourceExecuteStatistics;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetaDataFactory;
 import org.apache.shardingsphere.spi.executor.SPISQLExecutionHook;
@@ -48,6 +52,9 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
     
     private final boolean isExceptionThrown;
     
+    @Setter(AccessLevel.PACKAGE)
+    private ExecuteStatistics executeStatistics;
+    
     @Override
     public final T execute(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         return execute0(statementExecuteUnit, isTrunkThread, shardingExecuteDataMap);
@@ -67,15 +74,26 @@ public abstract class SQLExecuteCallback<T> implements ShardingExecuteCallback<S
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         DataSourceMetaData dataSourceMetaData = DataSourceMetaDataFactory.newInstance(databaseType, statementExecuteUnit.getDatabaseMetaData().getURL());
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        DataSourceExecuteStatistics statistics = null == executeStatistics ? null : executeStatistics.get(statementExecuteUnit.getRouteUnit().getDataSourceName());
+        long startTime = System.nanoTime();
+        boolean isSuccess = false;
+        if (null != statistics) {
+            statistics.start();
+        }
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
             T result = executeSQL(statementExecuteUnit);
+            isSuccess = true;
             sqlExecutionHook.finishSuccess();
             return result;
         } catch (final SQLException ex) {
             sqlExecutionHook.finishFailure(ex);
             ExecutorExceptionHandler.handleException(ex);
             return null;
+        } finally {
+            if (null != statistics) {
+                statistics.finish(System.nanoTime() - startTime, isSuccess);
+            }
         }
     }
     
@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.core.executor.sql.execute;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.executor.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.executor.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.executor.StatementExecuteUnit;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
 import org.apache.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 
 import java.sql.SQLException;
@@ -41,6 +43,12 @@ public final class SQLExecuteTemplate {
     
     private final ShardingExecuteEngine executeEngine;
     
+    private final ExecuteStatistics executeStatistics;
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine) {
+        this(executeEngine, null);
+    }
+    
     /**
      * Execute group.
      *
@@ -67,6 +75,8 @@ public final class SQLExecuteTemplate {
     @SuppressWarnings("unchecked")
     public <T> List<T> executeGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        recordStatistics(firstCallback);
+        recordStatistics(callback);
         try {
             return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback);
         } catch (final SQLException ex) {
@@ -74,4 +84,24 @@ public final class SQLExecuteTemplate {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute group asynchronously.
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ListenableFuture<List<T>> asyncExecuteGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups, final SQLExecuteCallback<T> callback) {
+        recordStatistics(callback);
+        return executeEngine.asyncGroupExecute((Collection) sqlExecuteGroups, callback);
+    }
+    
+    private void recordStatistics(final SQLExecuteCallback<?> callback) {
+        if (null != callback && null != executeStatistics) {
+            callback.setExecuteStatistics(executeStatistics);
+        }
+    }
 }
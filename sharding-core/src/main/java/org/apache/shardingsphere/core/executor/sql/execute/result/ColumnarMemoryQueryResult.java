@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.executor.sql.execute.result.columnar.ColumnarRows;
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.core.util.SpillFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Query result for memory loading with columnar storage.
+ *
+ * <p>
+ * Values are kept in primitive arrays or dictionaries per column instead of boxed values per row.
+ * Once estimated memory exceeds spill threshold, remaining rows are spilled to a temporary file.
+ * Rows after a value which is not serializable stay in memory instead of being spilled.
+ * The temporary file is deleted when all rows are read, on error, or when query result is closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ColumnarMemoryQueryResult implements QueryResult {
+    
+    private static final int SPILL_CHECK_INTERVAL = 256;
+    
+    private final Multimap<String, Integer> columnLabelAndIndexMap;
+    
+    private final int columnCount;
+    
+    private final ColumnarRows columnarRows;
+    
+    private final List<Object[]> unspillableRows = new ArrayList<>();
+    
+    private Iterator<Object[]> unspillableRowsIterator;
+    
+    private SpillFile spillFile;
+    
+    private int currentRowIndex = -1;
+    
+    private Object[] currentSpilledRow;
+    
+    private boolean hasCurrentRow;
+    
+    public ColumnarMemoryQueryResult(final ResultSet resultSet, final long spillThresholdBytes, final String spillDirectory) throws SQLException {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        columnCount = resultSetMetaData.getColumnCount();
+        columnLabelAndIndexMap = getMetaData(resultSetMetaData);
+        columnarRows = new ColumnarRows(columnCount);
+        try {
+            loadResultData(resultSet, spillThresholdBytes, spillDirectory);
+        } catch (final SQLException ex) {
+            closeSpillFile();
+            throw ex;
+        } catch (final IOException ex) {
+            closeSpillFile();
+            throw new SQLException(ex);
+        }
+    }
+    
+    private Multimap<String, Integer> getMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        Multimap<String, Integer> result = HashMultimap.create();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.put(resultSetMetaData.getColumnLabel(columnIndex), columnIndex);
+        }
+        return result;
+    }
+    
+    private void loadResultData(final ResultSet resultSet, final long spillThresholdBytes, final String spillDirectory) throws SQLException, IOException {
+        while (resultSet.next()) {
+            Object[] row = new Object[columnCount];
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                row[columnIndex - 1] = resultSet.getObject(columnIndex);
+            }
+            if (!unspillableRows.isEmpty() || null != spillFile && !isSerializable(row)) {
+                unspillableRows.add(row);
+                continue;
+            }
+            if (null != spillFile) {
+                spillFile.write(row);
+                continue;
+            }
+            columnarRows.add(row);
+            if (spillThresholdBytes > 0 && 0 == columnarRows.getRowCount() % SPILL_CHECK_INTERVAL && columnarRows.getMemoryBytes() > spillThresholdBytes) {
+                spillFile = new SpillFile(spillDirectory);
+            }
+        }
+    }
+    
+    private boolean isSerializable(final Object[] row) {
+        for (Object each : row) {
+            if (null != each && !(each instanceof Serializable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get rows count loaded in memory.
+     *
+     * @return rows count loaded in memory
+     */
+    public int getMemoryRowCount() {
+        return columnarRows.getRowCount() + unspillableRows.size();
+    }
+    
+    /**
+     * Get rows count spilled to disk.
+     *
+     * @return rows count spilled to disk
+     */
+    public int getSpilledRowCount() {
+        return null == spillFile ? 0 : spillFile.getSize();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (currentRowIndex + 1 < columnarRows.getRowCount()) {
+            currentRowIndex++;
+            hasCurrentRow = true;
+            return true;
+        }
+        currentRowIndex = columnarRows.getRowCount();
+        if (null != spillFile && spillFile.hasNext()) {
+            try {
+                currentSpilledRow = (Object[]) spillFile.next();
+            } catch (final IOException ex) {
+                closeSpillFile();
+                throw new SQLException(ex);
+            }
+            hasCurrentRow = true;
+            return true;
+        }
+        closeSpillFile();
+        if (null == unspillableRowsIterator) {
+            unspillableRowsIterator = unspillableRows.iterator();
+        }
+        if (unspillableRowsIterator.hasNext()) {
+            currentSpilledRow = unspillableRowsIterator.next();
+            hasCurrentRow = true;
+            return true;
+        }
+        currentSpilledRow = null;
+        hasCurrentRow = false;
+        return false;
+    }
+    
+    private void closeSpillFile() {
+        if (null == spillFile) {
+            return;
+        }
+        try {
+            spillFile.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    @Override
+    public void close() {
+        closeSpillFile();
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        return null == currentSpilledRow ? columnarRows.getValue(currentRowIndex, columnIndex) : currentSpilledRow[columnIndex - 1];
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) {
+        return getCurrentValue(getColumnIndex(columnLabel));
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(getColumnIndex(columnLabel));
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(getCurrentValue(columnIndex));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return getInputStream(getCurrentValue(getColumnIndex(columnLabel)));
+    }
+    
+    @SneakyThrows
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return !hasCurrentRow;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        for (Entry<String, Integer> entry : columnLabelAndIndexMap.entries()) {
+            if (columnIndex == entry.getValue()) {
+                return entry.getKey();
+            }
+        }
+        throw new SQLException("Column index out of range", "9999");
+    }
+    
+    private int getColumnIndex(final String columnLabel) {
+        return columnLabelAndIndexMap.get(columnLabel).iterator().next();
+    }
+}
@@ -172,6 +172,10 @@ public class DistinctQueryResult implements QueryResult {
         return null == currentRow;
     }
     
+    @Override
+    public void close() {
+    }
+    
     @Override
     public int getColumnCount() {
         return columnLabelAndIndexMap.size();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.executor.sql.execute.result;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.executor.sql.execute.row.QueryRow;
 import org.apache.shardingsphere.core.merger.QueryResult;
@@ -34,7 +35,6 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -50,11 +50,16 @@ public final class MemoryQueryResult implements QueryResult {
     
     private final Iterator<QueryRow> resultData;
     
+    @Getter
+    private final int rowCount;
+    
     private QueryRow currentRow;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
         columnLabelAndIndexMap = getMetaData(resultSet.getMetaData());
-        resultData = getResultData(resultSet);
+        Collection<QueryRow> rows = getResultData(resultSet);
+        rowCount = rows.size();
+        resultData = rows.iterator();
     }
     
     private Multimap<String, Integer> getMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
@@ -65,16 +70,17 @@ public final class MemoryQueryResult implements QueryResult {
         return result;
     }
     
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<QueryRow> result = new LinkedList<>();
+    private Collection<QueryRow> getResultData(final ResultSet resultSet) throws SQLException {
+        Collection<QueryRow> result = new ArrayList<>();
+        int columnCount = columnLabelAndIndexMap.size();
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnLabelAndIndexMap.size());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
+            List<Object> rowData = new ArrayList<>(columnCount);
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
                 rowData.add(resultSet.getObject(columnIndex));
             }
             result.add(new QueryRow(rowData));
         }
-        return result.iterator();
+        return result;
     }
     
     @Override
@@ -132,6 +138,10 @@ public final class MemoryQueryResult implements QueryResult {
         return null == currentRow;
     }
     
+    @Override
+    public void close() {
+    }
+    
     @Override
     public int getColumnCount() {
         return columnLabelAndIndexMap.size();
@@ -148,6 +158,6 @@ public final class MemoryQueryResult implements QueryResult {
     }
     
     private Integer getColumnIndex(final String columnLabel) {
-        return new ArrayList<>(columnLabelAndIndexMap.get(columnLabel)).get(0);
+        return columnLabelAndIndexMap.get(columnLabel).iterator().next();
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.Sets;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.merger.QueryResult;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Memory query result factory.
+ *
+ * @author zhangliang
+ */
+public final class MemoryQueryResultFactory {
+    
+    private final Collection<String> columnarDataSourceNames;
+    
+    private final long spillThresholdBytes;
+    
+    private final String spillDirectory;
+    
+    public MemoryQueryResultFactory(final ShardingProperties shardingProperties) {
+        String columnarDataSources = shardingProperties.getValue(ShardingPropertiesConstant.MEMORY_QUERY_RESULT_COLUMNAR_DATA_SOURCES);
+        columnarDataSourceNames = Sets.newHashSet(Splitter.on(',').trimResults().omitEmptyStrings().split(columnarDataSources));
+        spillThresholdBytes = shardingProperties.<Long>getValue(ShardingPropertiesConstant.MEMORY_QUERY_RESULT_SPILL_THRESHOLD_BYTES);
+        spillDirectory = shardingProperties.getValue(ShardingPropertiesConstant.SPILL_DIRECTORY);
+    }
+    
+    /**
+     * Create new instance of memory query result.
+     *
+     * @param dataSourceName data source name
+     * @param resultSet result set
+     * @return memory query result
+     * @throws SQLException SQL exception
+     */
+    public QueryResult newInstance(final String dataSourceName, final ResultSet resultSet) throws SQLException {
+        return columnarDataSourceNames.contains(dataSourceName) ? new ColumnarMemoryQueryResult(resultSet, spillThresholdBytes, spillDirectory) : new MemoryQueryResult(resultSet);
+    }
+}
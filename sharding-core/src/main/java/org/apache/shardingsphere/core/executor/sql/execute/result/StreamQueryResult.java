@@ -207,6 +207,10 @@ public final class StreamQueryResult implements QueryResult {
         return resultSet.wasNull();
     }
     
+    @Override
+    public void close() {
+    }
+    
     @Override
     public int getColumnCount() throws SQLException {
         return resultSet.getMetaData().getColumnCount();
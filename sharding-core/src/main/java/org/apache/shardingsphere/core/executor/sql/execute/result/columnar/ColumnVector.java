@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Column vector which stores values of one column for all rows.
+ *
+ * @author zhangliang
+ */
+public abstract class ColumnVector {
+    
+    private static final int MIN_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Append value.
+     *
+     * @param value value to be appended
+     * @return appended or not, false means value is not supported by this column vector
+     */
+    public final boolean add(final Object value) {
+        if (null != value && !isSupported(value)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        if (null == value) {
+            nulls.set(size);
+        } else {
+            setValue(size, value);
+        }
+        size++;
+        return true;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    public final Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getValue(rowIndex);
+    }
+    
+    /**
+     * Get estimated memory bytes.
+     *
+     * @return estimated memory bytes
+     */
+    public final long getMemoryBytes() {
+        return nulls.size() / 8 + getValueMemoryBytes();
+    }
+    
+    protected final int newCapacity(final int currentCapacity, final int minCapacity) {
+        return Math.max(Math.max(minCapacity, currentCapacity + (currentCapacity >> 1)), MIN_CAPACITY);
+    }
+    
+    protected final int[] ensureCapacity(final int[] values, final int minCapacity) {
+        return minCapacity > values.length ? Arrays.copyOf(values, newCapacity(values.length, minCapacity)) : values;
+    }
+    
+    protected final long[] ensureCapacity(final long[] values, final int minCapacity) {
+        return minCapacity > values.length ? Arrays.copyOf(values, newCapacity(values.length, minCapacity)) : values;
+    }
+    
+    protected abstract boolean isSupported(Object value);
+    
+    protected abstract void ensureCapacity(int minCapacity);
+    
+    protected abstract void setValue(int rowIndex, Object value);
+    
+    protected abstract Object getValue(int rowIndex);
+    
+    protected abstract long getValueMemoryBytes();
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Column vector factory.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnVectorFactory {
+    
+    /**
+     * Create new instance of column vector for value.
+     *
+     * @param value first not null value of column
+     * @return column vector
+     */
+    public static ColumnVector newInstance(final Object value) {
+        Class<?> type = value.getClass();
+        if (Integer.class == type) {
+            return new IntColumnVector();
+        }
+        if (Long.class == type) {
+            return new LongColumnVector();
+        }
+        if (Double.class == type) {
+            return new DoubleColumnVector();
+        }
+        if (String.class == type) {
+            return new StringColumnVector();
+        }
+        if (Timestamp.class == type) {
+            return new TimestampColumnVector();
+        }
+        if (Date.class == type || Time.class == type) {
+            return new DateColumnVector(type);
+        }
+        return new ObjectColumnVector();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+import lombok.Getter;
+
+/**
+ * Rows stored column by column.
+ *
+ * <p>
+ * Column vector of each column is chosen by its first not null value,
+ * and falls back to object column vector when a value of another type appears.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ColumnarRows {
+    
+    private final ColumnVector[] columnVectors;
+    
+    @Getter
+    private int rowCount;
+    
+    public ColumnarRows(final int columnCount) {
+        columnVectors = new ColumnVector[columnCount];
+    }
+    
+    /**
+     * Append row.
+     *
+     * @param row row values
+     */
+    public void add(final Object[] row) {
+        for (int i = 0; i < columnVectors.length; i++) {
+            add(i, row[i]);
+        }
+        rowCount++;
+    }
+    
+    private void add(final int columnIndex, final Object value) {
+        if (null == columnVectors[columnIndex]) {
+            if (null == value) {
+                return;
+            }
+            columnVectors[columnIndex] = createColumnVector(value);
+        }
+        if (!columnVectors[columnIndex].add(value)) {
+            columnVectors[columnIndex] = copyToObjectColumnVector(columnVectors[columnIndex]);
+            columnVectors[columnIndex].add(value);
+        }
+    }
+    
+    private ColumnVector createColumnVector(final Object value) {
+        ColumnVector result = ColumnVectorFactory.newInstance(value);
+        for (int i = 0; i < rowCount; i++) {
+            result.add(null);
+        }
+        return result;
+    }
+    
+    private ColumnVector copyToObjectColumnVector(final ColumnVector columnVector) {
+        ColumnVector result = new ObjectColumnVector();
+        for (int i = 0; i < columnVector.getSize(); i++) {
+            result.add(columnVector.get(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        ColumnVector columnVector = columnVectors[columnIndex - 1];
+        return null == columnVector ? null : columnVector.get(rowIndex);
+    }
+    
+    /**
+     * Get estimated memory bytes.
+     *
+     * @return estimated memory bytes
+     */
+    public long getMemoryBytes() {
+        long result = 0L;
+        for (ColumnVector each : columnVectors) {
+            if (null != each) {
+                result += each.getMemoryBytes();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Date;
+import java.sql.Time;
+
+/**
+ * Column vector for {@code java.sql.Date} or {@code java.sql.Time} values.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DateColumnVector extends ColumnVector {
+    
+    private final Class<?> type;
+    
+    private long[] values = new long[0];
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return type == value.getClass();
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        values = ensureCapacity(values, minCapacity);
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final Object value) {
+        values[rowIndex] = ((java.util.Date) value).getTime();
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return Date.class == type ? new Date(values[rowIndex]) : new Time(values[rowIndex]);
+    }
+    
+    @Override
+    protected long getValueMemoryBytes() {
+        return values.length * 8L;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+/**
+ * Column vector for long values.
+ *
+ * @author zhangliang
+ */
+public final class LongColumnVector extends ColumnVector {
+    
+    private long[] values = new long[0];
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return Long.class == value.getClass();
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        values = ensureCapacity(values, minCapacity);
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final Object value) {
+        values[rowIndex] = (Long) value;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    protected long getValueMemoryBytes() {
+        return values.length * 8L;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Column vector for values without specialized column vector.
+ *
+ * @author zhangliang
+ */
+public final class ObjectColumnVector extends ColumnVector {
+    
+    private static final int OBJECT_OVERHEAD_BYTES = 16;
+    
+    private Object[] values = new Object[0];
+    
+    private long objectMemoryBytes;
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return true;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        if (minCapacity > values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, minCapacity));
+        }
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final Object value) {
+        values[rowIndex] = value;
+        objectMemoryBytes += getObjectMemoryBytes(value);
+    }
+    
+    private long getObjectMemoryBytes(final Object value) {
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES * 3 + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_OVERHEAD_BYTES * 4 + ((BigDecimal) value).precision() / 2;
+        }
+        return OBJECT_OVERHEAD_BYTES * 2;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    protected long getValueMemoryBytes() {
+        return values.length * 8L + objectMemoryBytes;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column vector for string values.
+ *
+ * <p>
+ * Strings are dictionary encoded, each distinct string is stored only once.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class StringColumnVector extends ColumnVector {
+    
+    private static final int DICTIONARY_ENTRY_OVERHEAD_BYTES = 80;
+    
+    private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private int[] codes = new int[0];
+    
+    private long dictionaryMemoryBytes;
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return String.class == value.getClass();
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        codes = ensureCapacity(codes, minCapacity);
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final Object value) {
+        Integer code = dictionaryCodes.get(value);
+        if (null == code) {
+            code = dictionary.size();
+            dictionary.add((String) value);
+            dictionaryCodes.put((String) value, code);
+            dictionaryMemoryBytes += DICTIONARY_ENTRY_OVERHEAD_BYTES + ((String) value).length() * 2L;
+        }
+        codes[rowIndex] = code;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return dictionary.get(codes[rowIndex]);
+    }
+    
+    @Override
+    protected long getValueMemoryBytes() {
+        return codes.length * 4L + dictionaryMemoryBytes;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result.columnar;
+
+import java.sql.Timestamp;
+
+/**
+ * Column vector for timestamp values.
+ *
+ * @author zhangliang
+ */
+public final class TimestampColumnVector extends ColumnVector {
+    
+    private long[] millis = new long[0];
+    
+    private int[] nanos = new int[0];
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return Timestamp.class == value.getClass();
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        millis = ensureCapacity(millis, minCapacity);
+        nanos = ensureCapacity(nanos, minCapacity);
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final Object value) {
+        millis[rowIndex] = ((Timestamp) value).getTime();
+        nanos[rowIndex] = ((Timestamp) value).getNanos();
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        Timestamp result = new Timestamp(millis[rowIndex]);
+        result.setNanos(nanos[rowIndex]);
+        return result;
+    }
+    
+    @Override
+    protected long getValueMemoryBytes() {
+        return millis.length * 12L;
+    }
+}
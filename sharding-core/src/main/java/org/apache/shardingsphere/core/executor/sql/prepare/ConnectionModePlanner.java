@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.prepare;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.executor.sql.statistics.DataSourceExecuteStatistics;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
+
+/**
+ * Connection mode planner.
+ *
+ * <p>
+ * Without adaptive planning, connection size is bounded by max connections size per query.
+ * With adaptive planning, connection size also follows observed statistics of data source:
+ * fast queries on an idle data source may open up to a quarter of the connections per data source,
+ * while a saturated data source gets only one connection and loads results into memory.
+ * Max connections per data source is derived from max pool size of data source if it is not configured.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class ConnectionModePlanner {
+    
+    private static final long FAST_QUERY_LATENCY_MILLIS = 10L;
+    
+    private static final int DEFAULT_MAX_CONNECTIONS_SIZE_PER_DATA_SOURCE = 64;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final boolean adaptive;
+    
+    private final int maxConnectionsSizePerDataSource;
+    
+    private final ExecuteStatistics executeStatistics;
+    
+    public ConnectionModePlanner(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, false, maxConnectionsSizePerQuery, null);
+    }
+    
+    /**
+     * Plan connection size and connection mode.
+     *
+     * @param dataSourceName data source name
+     * @param sqlUnitsSize SQL units size of data source
+     * @return connection mode plan
+     */
+    public ConnectionModePlan plan(final String dataSourceName, final int sqlUnitsSize) {
+        if (!adaptive || null == executeStatistics) {
+            return createPlan(maxConnectionsSizePerQuery, sqlUnitsSize);
+        }
+        DataSourceExecuteStatistics statistics = executeStatistics.get(dataSourceName);
+        ConnectionModePlan result = createPlan(getAdaptiveConnectionSize(statistics), sqlUnitsSize);
+        statistics.recordDecision(result.getConnectionMode(), result.getConnectionSize());
+        return result;
+    }
+    
+    private int getAdaptiveConnectionSize(final DataSourceExecuteStatistics statistics) {
+        int maxConnectionsSize = getMaxConnectionsSizePerDataSource(statistics);
+        int inFlightCount = statistics.getInFlightCount();
+        if (inFlightCount >= maxConnectionsSize) {
+            return 1;
+        }
+        boolean isIdle = inFlightCount * 4 < maxConnectionsSize;
+        boolean isFastQuery = statistics.getExecuteCount() > 0 && statistics.getAverageLatencyMillis() < FAST_QUERY_LATENCY_MILLIS;
+        return isIdle && isFastQuery ? Math.max(maxConnectionsSizePerQuery, maxConnectionsSize / 4) : maxConnectionsSizePerQuery;
+    }
+    
+    private int getMaxConnectionsSizePerDataSource(final DataSourceExecuteStatistics statistics) {
+        if (maxConnectionsSizePerDataSource > 0) {
+            return maxConnectionsSizePerDataSource;
+        }
+        return statistics.getMaxPoolSize() > 0 ? statistics.getMaxPoolSize() : DEFAULT_MAX_CONNECTIONS_SIZE_PER_DATA_SOURCE;
+    }
+    
+    private ConnectionModePlan createPlan(final int connectionSize, final int sqlUnitsSize) {
+        int actualConnectionSize = Math.max(Math.min(connectionSize, sqlUnitsSize), 1);
+        return new ConnectionModePlan(actualConnectionSize, actualConnectionSize < sqlUnitsSize ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY);
+    }
+}
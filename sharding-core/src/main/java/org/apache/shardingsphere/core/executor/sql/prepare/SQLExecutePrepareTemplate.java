@@ -45,7 +45,11 @@ import java.util.Map.Entry;
 @RequiredArgsConstructor
 public final class SQLExecutePrepareTemplate {
     
-    private final int maxConnectionsSizePerQuery;
+    private final ConnectionModePlanner connectionModePlanner;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(new ConnectionModePlanner(maxConnectionsSizePerQuery));
+    }
     
     /**
      * Get execute unit groups.
@@ -83,9 +87,11 @@ public final class SQLExecutePrepareTemplate {
     private List<ShardingExecuteGroup<StatementExecuteUnit>> getSQLExecuteGroups(
             final String dataSourceName, final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         List<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+        ConnectionModePlan connectionModePlan = connectionModePlanner.plan(dataSourceName, sqlUnits.size());
+        int connectionSize = connectionModePlan.getConnectionSize();
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
-        ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+        ConnectionMode connectionMode = connectionModePlan.getConnectionMode();
         List<Connection> connections = callback.getConnections(connectionMode, dataSourceName, sqlUnitPartitions.size());
         int count = 0;
         for (List<SQLUnit> each : sqlUnitPartitions) {
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.statistics;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rolling execute statistics of data source.
+ *
+ * <p>
+ * Latency and row count are exponentially weighted moving averages, so recent executions dominate and old ones fade out.
+ * Row count is only recorded for executions whose rows are known without streaming them, such as updates and results loaded into memory.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DataSourceExecuteStatistics {
+    
+    private final String dataSourceName;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong executeCount = new AtomicLong();
+    
+    private final AtomicLong failureCount = new AtomicLong();
+    
+    private final MovingAverage latencyNanos = new MovingAverage();
+    
+    private final MovingAverage rowCount = new MovingAverage();
+    
+    private final AtomicLong totalRowCount = new AtomicLong();
+    
+    private final AtomicLong memoryStrictlyDecisionCount = new AtomicLong();
+    
+    private final AtomicLong connectionStrictlyDecisionCount = new AtomicLong();
+    
+    private final AtomicInteger lastConnectionSize = new AtomicInteger();
+    
+    private volatile int maxPoolSize;
+    
+    /**
+     * Record SQL execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Record SQL execution finished.
+     *
+     * @param latencyNanos latency in nanoseconds
+     * @param isSuccess is execution success or not
+     */
+    public void finish(final long latencyNanos, final boolean isSuccess) {
+        inFlightCount.decrementAndGet();
+        if (!isSuccess) {
+            failureCount.incrementAndGet();
+        }
+        this.latencyNanos.add(latencyNanos);
+        executeCount.incrementAndGet();
+    }
+    
+    /**
+     * Record rows queried or affected by one SQL execution.
+     *
+     * @param rowCount rows queried or affected
+     */
+    public void recordRowCount(final long rowCount) {
+        this.rowCount.add(rowCount);
+        totalRowCount.addAndGet(rowCount);
+    }
+    
+    /**
+     * Record connection mode decision.
+     *
+     * @param connectionMode connection mode
+     * @param connectionSize connection size
+     */
+    public void recordDecision(final ConnectionMode connectionMode, final int connectionSize) {
+        if (ConnectionMode.MEMORY_STRICTLY == connectionMode) {
+            memoryStrictlyDecisionCount.incrementAndGet();
+        } else {
+            connectionStrictlyDecisionCount.incrementAndGet();
+        }
+        lastConnectionSize.set(connectionSize);
+    }
+    
+    /**
+     * Get data source name.
+     *
+     * @return data source name
+     */
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+    
+    /**
+     * Get count of SQL executions in flight.
+     *
+     * @return count of SQL executions in flight
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get count of finished SQL executions.
+     *
+     * @return count of finished SQL executions
+     */
+    public long getExecuteCount() {
+        return executeCount.get();
+    }
+    
+    /**
+     * Get count of failed SQL executions.
+     *
+     * @return count of failed SQL executions
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+    
+    /**
+     * Get average latency in milliseconds.
+     *
+     * @return average latency in milliseconds
+     */
+    public long getAverageLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(latencyNanos.get());
+    }
+    
+    /**
+     * Get average rows of one SQL execution.
+     *
+     * @return average rows of one SQL execution
+     */
+    public long getAverageRowCount() {
+        return rowCount.get();
+    }
+    
+    /**
+     * Get total recorded rows.
+     *
+     * @return total recorded rows
+     */
+    public long getTotalRowCount() {
+        return totalRowCount.get();
+    }
+    
+    /**
+     * Get count of decisions for memory strictly mode.
+     *
+     * @return count of decisions for memory strictly mode
+     */
+    public long getMemoryStrictlyDecisionCount() {
+        return memoryStrictlyDecisionCount.get();
+    }
+    
+    /**
+     * Get count of decisions for connection strictly mode.
+     *
+     * @return count of decisions for connection strictly mode
+     */
+    public long getConnectionStrictlyDecisionCount() {
+        return connectionStrictlyDecisionCount.get();
+    }
+    
+    /**
+     * Get connection size of last decision.
+     *
+     * @return connection size of last decision
+     */
+    public int getLastConnectionSize() {
+        return lastConnectionSize.get();
+    }
+    
+    /**
+     * Get max pool size of data source.
+     *
+     * @return max pool size of data source, {@code 0} if unknown
+     */
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+    
+    /**
+     * Set max pool size of data source.
+     *
+     * @param maxPoolSize max pool size of data source
+     */
+    public void setMaxPoolSize(final int maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.statistics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Execute statistics of all data sources and logic tables.
+ *
+ * <p>
+ * Statistics are kept by each sharding data source or logic schema, so data sources with same name in different schemas do not share statistics.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class ExecuteStatistics {
+    
+    private final ConcurrentMap<String, DataSourceExecuteStatistics> dataSourceStatistics = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<String, TableExecuteStatistics> tableStatistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get execute statistics of data source.
+     *
+     * @param dataSourceName data source name
+     * @return execute statistics of data source
+     */
+    public DataSourceExecuteStatistics get(final String dataSourceName) {
+        DataSourceExecuteStatistics result = dataSourceStatistics.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        dataSourceStatistics.putIfAbsent(dataSourceName, new DataSourceExecuteStatistics(dataSourceName));
+        return dataSourceStatistics.get(dataSourceName);
+    }
+    
+    /**
+     * Get execute statistics of all data sources.
+     *
+     * @return execute statistics of all data sources
+     */
+    public Collection<DataSourceExecuteStatistics> getAll() {
+        return Collections.unmodifiableCollection(dataSourceStatistics.values());
+    }
+    
+    /**
+     * Get execute statistics of logic table.
+     *
+     * @param logicTableName logic table name
+     * @return execute statistics of logic table
+     */
+    public TableExecuteStatistics getTable(final String logicTableName) {
+        String key = logicTableName.toLowerCase();
+        TableExecuteStatistics result = tableStatistics.get(key);
+        if (null != result) {
+            return result;
+        }
+        tableStatistics.putIfAbsent(key, new TableExecuteStatistics(key));
+        return tableStatistics.get(key);
+    }
+    
+    /**
+     * Get execute statistics of all logic tables.
+     *
+     * @return execute statistics of all logic tables
+     */
+    public Collection<TableExecuteStatistics> getAllTables() {
+        return Collections.unmodifiableCollection(tableStatistics.values());
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        dataSourceStatistics.clear();
+        tableStatistics.clear();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exponentially weighted moving average.
+ *
+ * <p>
+ * First sample is taken as average, every following sample moves average by one eighth of its difference.
+ * </p>
+ *
+ * @author zhangliang
+ */
+final class MovingAverage {
+    
+    private static final int SMOOTHING_SHIFT = 3;
+    
+    private final AtomicLong sampleCount = new AtomicLong();
+    
+    private final AtomicLong average = new AtomicLong();
+    
+    /**
+     * Add sample.
+     *
+     * @param sample sample
+     */
+    void add(final long sample) {
+        if (0 == sampleCount.getAndIncrement()) {
+            average.set(sample);
+            return;
+        }
+        long current;
+        do {
+            current = average.get();
+        } while (!average.compareAndSet(current, current + ((sample - current) >> SMOOTHING_SHIFT)));
+    }
+    
+    /**
+     * Get count of added samples.
+     *
+     * @return count of added samples
+     */
+    long getSampleCount() {
+        return sampleCount.get();
+    }
+    
+    /**
+     * Get average.
+     *
+     * @return average, {@code 0} if no sample added
+     */
+    long get() {
+        return average.get();
+    }
+}
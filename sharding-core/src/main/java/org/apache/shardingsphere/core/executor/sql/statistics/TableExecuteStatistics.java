@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.statistics;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rolling execute statistics of logic table.
+ *
+ * <p>
+ * One execution is one logic SQL which may be routed to multiple data sources,
+ * latency and row count are measured for the whole logic SQL.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class TableExecuteStatistics {
+    
+    private final String logicTableName;
+    
+    private final AtomicLong executeCount = new AtomicLong();
+    
+    private final AtomicLong failureCount = new AtomicLong();
+    
+    private final MovingAverage latencyNanos = new MovingAverage();
+    
+    private final MovingAverage rowCount = new MovingAverage();
+    
+    /**
+     * Record logic SQL execution finished.
+     *
+     * @param latencyNanos latency in nanoseconds
+     * @param rowCount rows queried or affected, negative if unknown
+     * @param isSuccess is execution success or not
+     */
+    public void finish(final long latencyNanos, final long rowCount, final boolean isSuccess) {
+        executeCount.incrementAndGet();
+        if (!isSuccess) {
+            failureCount.incrementAndGet();
+            return;
+        }
+        this.latencyNanos.add(latencyNanos);
+        if (rowCount >= 0) {
+            this.rowCount.add(rowCount);
+        }
+    }
+    
+    /**
+     * Get logic table name.
+     *
+     * @return logic table name
+     */
+    public String getLogicTableName() {
+        return logicTableName;
+    }
+    
+    /**
+     * Get count of finished executions.
+     *
+     * @return count of finished executions
+     */
+    public long getExecuteCount() {
+        return executeCount.get();
+    }
+    
+    /**
+     * Get count of failed executions.
+     *
+     * @return count of failed executions
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+    
+    /**
+     * Get average latency of success executions in milliseconds.
+     *
+     * @return average latency in milliseconds
+     */
+    public long getAverageLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(latencyNanos.get());
+    }
+    
+    /**
+     * Get average rows of success executions whose row count is known.
+     *
+     * @return average rows
+     */
+    public long getAverageRowCount() {
+        return rowCount.get();
+    }
+}
@@ -20,12 +20,16 @@ package org.apache.shardingsphere.core.merger;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.merger.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merger.dql.DQLMergeEngine;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.routing.SQLRouteResult;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.sql.SQLException;
@@ -48,13 +52,37 @@ public final class MergeEngineFactory {
      * @param sqlStatement SQL statement
      * @param shardingTableMetaData sharding table meta Data
      * @param queryResults query results
+     * @param shardingProperties sharding properties
      * @return merge engine instance
      * @throws SQLException SQL exception
      */
-    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, 
-                                          final SQLStatement sqlStatement, final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults) throws SQLException {
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLStatement sqlStatement, 
+                                          final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
+        return newInstance(databaseType, shardingRule, sqlStatement, null, shardingTableMetaData, queryResults, shardingProperties);
+    }
+    
+    /**
+     * Create merge engine instance.
+     *
+     * @param databaseType database type
+     * @param shardingRule sharding rule
+     * @param routeResult SQL route result
+     * @param shardingTableMetaData sharding table meta Data
+     * @param queryResults query results
+     * @param shardingProperties sharding properties
+     * @return merge engine instance
+     * @throws SQLException SQL exception
+     */
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLRouteResult routeResult, 
+                                          final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
+        return newInstance(databaseType, shardingRule, routeResult.getSqlStatement(), routeResult.getPaginationContext(), shardingTableMetaData, queryResults, shardingProperties);
+    }
+    
+    private static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLStatement sqlStatement, final PaginationContext paginationContext, 
+                                           final ShardingTableMetaData shardingTableMetaData, final List<QueryResult> queryResults, final ShardingProperties shardingProperties) throws SQLException {
         if (sqlStatement instanceof SelectStatement) {
-            return new DQLMergeEngine(databaseType, (SelectStatement) sqlStatement, queryResults);
+            return new DQLMergeEngine(databaseType, (SelectStatement) sqlStatement, queryResults, shardingProperties.<Integer>getValue(ShardingPropertiesConstant.GROUP_BY_MEMORY_MAX_ROWS), 
+                    shardingProperties.<String>getValue(ShardingPropertiesConstant.SPILL_DIRECTORY), paginationContext);
         } 
         if (sqlStatement instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, (DALStatement) sqlStatement, shardingTableMetaData);
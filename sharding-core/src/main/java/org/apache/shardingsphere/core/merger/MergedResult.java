@@ -105,4 +105,11 @@ public interface MergedResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held by it and by query results merged.
+     *
+     * @throws SQLException SQL Exception
+     */
+    void close() throws SQLException;
 }
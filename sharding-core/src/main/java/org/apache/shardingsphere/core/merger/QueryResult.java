@@ -122,4 +122,11 @@ public interface QueryResult {
      * @throws SQLException SQL Exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close query result and release resources held by it, such as spilled files.
+     *
+     * @throws SQLException SQL Exception
+     */
+    void close() throws SQLException;
 }
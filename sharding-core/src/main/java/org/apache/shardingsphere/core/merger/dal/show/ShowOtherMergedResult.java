@@ -75,4 +75,9 @@ public final class ShowOtherMergedResult implements MergedResult {
     public boolean wasNull() {
         return false;
     }
+    
+    @Override
+    public void close() throws SQLException {
+        queryResult.close();
+    }
 }
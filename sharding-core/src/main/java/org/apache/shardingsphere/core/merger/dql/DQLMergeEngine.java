@@ -26,6 +26,7 @@ import org.apache.shardingsphere.core.merger.MergeEngine;
 import org.apache.shardingsphere.core.merger.MergedResult;
 import org.apache.shardingsphere.core.merger.QueryResult;
 import org.apache.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.core.merger.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResult;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMe
 import org.apache.shardingsphere.core.merger.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
 import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
 import org.apache.shardingsphere.core.util.SQLUtil;
 
 import java.sql.SQLException;
@@ -58,11 +60,30 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final Map<String, Integer> columnLabelIndexMap;
     
+    private final int groupByMemoryMaxRows;
+    
+    private final String spillDirectory;
+    
+    private final PaginationContext paginationContext;
+    
     public DQLMergeEngine(final DatabaseType databaseType, final SelectStatement selectStatement, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, selectStatement, queryResults, 0, "");
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SelectStatement selectStatement, final List<QueryResult> queryResults, 
+                          final int groupByMemoryMaxRows, final String spillDirectory) throws SQLException {
+        this(databaseType, selectStatement, queryResults, groupByMemoryMaxRows, spillDirectory, null);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SelectStatement selectStatement, final List<QueryResult> queryResults, 
+                          final int groupByMemoryMaxRows, final String spillDirectory, final PaginationContext paginationContext) throws SQLException {
         this.databaseType = databaseType;
         this.selectStatement = selectStatement;
         this.queryResults = getRealQueryResults(queryResults);
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
+        this.groupByMemoryMaxRows = groupByMemoryMaxRows;
+        this.spillDirectory = spillDirectory;
+        this.paginationContext = paginationContext;
     }
     
     private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) {
@@ -103,7 +124,21 @@ public final class DQLMergeEngine implements MergeEngine {
             return new IteratorStreamMergedResult(queryResults);
         }
         selectStatement.setIndexForItems(columnLabelIndexMap);
-        return decorate(build());
+        try {
+            return decorate(build());
+        } catch (final SQLException ex) {
+            closeQueryResults();
+            throw ex;
+        }
+    }
+    
+    private void closeQueryResults() {
+        for (QueryResult each : queryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
     }
     
     private MergedResult build() throws SQLException {
@@ -119,6 +154,8 @@ public final class DQLMergeEngine implements MergeEngine {
     private MergedResult getGroupByMergedResult() throws SQLException {
         if (selectStatement.isSameGroupByAndOrderByItems()) {
             return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatement);
+        } else if (groupByMemoryMaxRows > 0) {
+            return new GroupBySpillMergedResult(columnLabelIndexMap, queryResults, selectStatement, groupByMemoryMaxRows, spillDirectory);
         } else {
             return new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectStatement);
         }
@@ -130,7 +167,7 @@ public final class DQLMergeEngine implements MergeEngine {
             return mergedResult;
         }
         if (DatabaseType.MySQL == databaseType || DatabaseType.PostgreSQL == databaseType || DatabaseType.H2 == databaseType) {
-            return new LimitDecoratorMergedResult(mergedResult, selectStatement.getLimit());
+            return new LimitDecoratorMergedResult(mergedResult, selectStatement.getLimit(), selectStatement.getOrderByItems(), paginationContext);
         }
         if (DatabaseType.Oracle == databaseType) {
             return new RowNumberDecoratorMergedResult(mergedResult, selectStatement.getLimit());
@@ -24,6 +24,8 @@ import org.apache.shardingsphere.core.merger.QueryResult;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Stream merged result.
@@ -33,6 +35,8 @@ import java.util.Calendar;
 @Setter
 public abstract class StreamMergedResult implements MergedResult {
     
+    private List<QueryResult> queryResults = Collections.emptyList();
+    
     private QueryResult currentQueryResult;
     
     private boolean wasNull;
@@ -92,4 +96,19 @@ public abstract class StreamMergedResult implements MergedResult {
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        SQLException ex = null;
+        for (QueryResult each : queryResults) {
+            try {
+                each.close();
+            } catch (final SQLException closeException) {
+                ex = closeException;
+            }
+        }
+        if (null != ex) {
+            throw ex;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merger.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Partially aggregated row of one group, which can be spilled to disk.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class GroupByPartialRow implements Serializable {
+    
+    private static final long serialVersionUID = -2866373380950425627L;
+    
+    private final List<Object> groupValues;
+    
+    private final Object[] data;
+    
+    private final AggregationUnit[] aggregationUnits;
+    
+    /**
+     * Merge partial aggregation of same group.
+     *
+     * @param partialRow partial row of same group
+     */
+    public void merge(final GroupByPartialRow partialRow) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].merge(partialRow.getAggregationUnits()[i].getPartialValues());
+        }
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merger.dql.groupby;
+
+import com.google.common.base.Function;
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.core.merger.dql.common.MemoryMergedResult;
+import org.apache.shardingsphere.core.merger.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.core.merger.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.merger.dql.orderby.CompareUtil;
+import org.apache.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.util.SpillFile;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Memory merged result for group by, which spills to disk when group rows exceed memory limit.
+ *
+ * <p>
+ * Partial aggregations are spilled as runs sorted by group by items, and merged with aggregation unit merge semantics.
+ * Aggregated rows are sorted by external merge sort when they exceed memory limit too.
+ * Spilled runs are deleted when all rows are read, on error, or when merged result is closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class GroupBySpillMergedResult extends MemoryMergedResult {
+    
+    private final SelectStatement selectStatement;
+    
+    private final int maxMemoryRows;
+    
+    private final String spillDirectory;
+    
+    private final Comparator<MemoryQueryResultRow> rowComparator;
+    
+    private final Collection<SpillFile> spillFiles = new LinkedList<>();
+    
+    private final List<MemoryQueryResultRow> sortBuffer = new ArrayList<>();
+    
+    private final List<SpillFile> orderRuns = new LinkedList<>();
+    
+    private int columnCount;
+    
+    private Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private PriorityQueue<SpillFileCursor<MemoryQueryResultRow>> orderRunCursors;
+    
+    public GroupBySpillMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                    final SelectStatement selectStatement, final int maxMemoryRows, final String spillDirectory) throws SQLException {
+        super(labelAndIndexMap);
+        Preconditions.checkArgument(maxMemoryRows > 0, "Max memory rows of group by must be positive.");
+        this.selectStatement = selectStatement;
+        this.maxMemoryRows = maxMemoryRows;
+        this.spillDirectory = spillDirectory;
+        rowComparator = new GroupByRowComparator(selectStatement);
+        try {
+            init(queryResults);
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(ex);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults) throws SQLException, IOException {
+        Map<GroupByValue, GroupByPartialRow> partialRows = new HashMap<>(1024);
+        List<SpillFile> groupRuns = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            columnCount = each.getColumnCount();
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatement.getGroupByItems());
+                GroupByPartialRow partialRow = partialRows.get(groupByValue);
+                if (null == partialRow) {
+                    partialRow = createPartialRow(each, groupByValue);
+                    partialRows.put(groupByValue, partialRow);
+                }
+                aggregate(each, partialRow);
+                if (partialRows.size() >= maxMemoryRows) {
+                    groupRuns.add(spillGroupRun(partialRows.values()));
+                    partialRows.clear();
+                }
+            }
+        }
+        if (groupRuns.isEmpty()) {
+            for (GroupByPartialRow each : partialRows.values()) {
+                addAggregatedRow(each);
+            }
+        } else {
+            if (!partialRows.isEmpty()) {
+                groupRuns.add(spillGroupRun(partialRows.values()));
+                partialRows.clear();
+            }
+            mergeGroupRuns(groupRuns);
+        }
+        initResultRows();
+    }
+    
+    private GroupByPartialRow createPartialRow(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        List<AggregationSelectItem> aggregationSelectItems = selectStatement.getAggregationSelectItems();
+        AggregationUnit[] aggregationUnits = new AggregationUnit[aggregationSelectItems.size()];
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i] = AggregationUnitFactory.create(aggregationSelectItems.get(i).getType());
+        }
+        return new GroupByPartialRow(new ArrayList<Object>(groupByValue.getGroupValues()), data, aggregationUnits);
+    }
+    
+    private void aggregate(final QueryResult queryResult, final GroupByPartialRow partialRow) throws SQLException {
+        List<AggregationSelectItem> aggregationSelectItems = selectStatement.getAggregationSelectItems();
+        for (int i = 0; i < aggregationSelectItems.size(); i++) {
+            AggregationSelectItem aggregationSelectItem = aggregationSelectItems.get(i);
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (aggregationSelectItem.getDerivedAggregationSelectItems().isEmpty()) {
+                values.add(getAggregationValue(queryResult, aggregationSelectItem));
+            } else {
+                for (AggregationSelectItem derived : aggregationSelectItem.getDerivedAggregationSelectItems()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            partialRow.getAggregationUnits()[i].merge(values);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationSelectItem aggregationSelectItem) throws SQLException {
+        Object result = queryResult.getValue(aggregationSelectItem.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    private SpillFile spillGroupRun(final Collection<GroupByPartialRow> partialRows) throws IOException {
+        List<GroupByPartialRow> sortedPartialRows = new ArrayList<>(partialRows);
+        Collections.sort(sortedPartialRows, new GroupValueComparator());
+        SpillFile result = createSpillFile();
+        for (GroupByPartialRow each : sortedPartialRows) {
+            result.write(each);
+        }
+        return result;
+    }
+    
+    private void mergeGroupRuns(final List<SpillFile> groupRuns) throws IOException {
+        Comparator<GroupByPartialRow> groupValueComparator = new GroupValueComparator();
+        PriorityQueue<SpillFileCursor<GroupByPartialRow>> cursors = createCursors(groupRuns, groupValueComparator, new Function<Object, GroupByPartialRow>() {
+            
+            @Override
+            public GroupByPartialRow apply(final Object input) {
+                return (GroupByPartialRow) input;
+            }
+        });
+        while (!cursors.isEmpty()) {
+            GroupByPartialRow first = cursors.peek().getCurrent();
+            Map<List<Object>, GroupByPartialRow> sameGroups = new LinkedHashMap<>();
+            while (!cursors.isEmpty() && 0 == groupValueComparator.compare(first, cursors.peek().getCurrent())) {
+                SpillFileCursor<GroupByPartialRow> cursor = cursors.poll();
+                GroupByPartialRow partialRow = cursor.getCurrent();
+                GroupByPartialRow sameGroup = sameGroups.get(partialRow.getGroupValues());
+                if (null == sameGroup) {
+                    sameGroups.put(partialRow.getGroupValues(), partialRow);
+                } else {
+                    sameGroup.merge(partialRow);
+                }
+                if (cursor.next()) {
+                    cursors.offer(cursor);
+                }
+            }
+            for (GroupByPartialRow each : sameGroups.values()) {
+                addAggregatedRow(each);
+            }
+        }
+    }
+    
+    private void addAggregatedRow(final GroupByPartialRow partialRow) throws IOException {
+        List<AggregationSelectItem> aggregationSelectItems = selectStatement.getAggregationSelectItems();
+        MemoryQueryResultRow row = new MemoryQueryResultRow(partialRow.getData());
+        for (int i = 0; i < aggregationSelectItems.size(); i++) {
+            row.setCell(aggregationSelectItems.get(i).getIndex(), partialRow.getAggregationUnits()[i].getResult());
+        }
+        sortBuffer.add(row);
+        if (sortBuffer.size() >= maxMemoryRows) {
+            spillOrderRun();
+        }
+    }
+    
+    private void spillOrderRun() throws IOException {
+        Collections.sort(sortBuffer, rowComparator);
+        SpillFile orderRun = createSpillFile();
+        for (MemoryQueryResultRow each : sortBuffer) {
+            Object[] data = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                data[i] = each.getCell(i + 1);
+            }
+            orderRun.write(data);
+        }
+        orderRuns.add(orderRun);
+        sortBuffer.clear();
+    }
+    
+    private void initResultRows() throws IOException {
+        if (orderRuns.isEmpty()) {
+            Collections.sort(sortBuffer, rowComparator);
+            if (!sortBuffer.isEmpty()) {
+                setCurrentResultSetRow(sortBuffer.get(0));
+            }
+            memoryResultSetRows = sortBuffer.iterator();
+            return;
+        }
+        if (!sortBuffer.isEmpty()) {
+            spillOrderRun();
+        }
+        orderRunCursors = createCursors(orderRuns, rowComparator, new Function<Object, MemoryQueryResultRow>() {
+            
+            @Override
+            public MemoryQueryResultRow apply(final Object input) {
+                return new MemoryQueryResultRow((Object[]) input);
+            }
+        });
+    }
+    
+    private <T> PriorityQueue<SpillFileCursor<T>> createCursors(final List<SpillFile> runs, final Comparator<T> comparator, final Function<Object, T> converter) throws IOException {
+        PriorityQueue<SpillFileCursor<T>> result = new PriorityQueue<>(runs.size(), new Comparator<SpillFileCursor<T>>() {
+            
+            @Override
+            public int compare(final SpillFileCursor<T> o1, final SpillFileCursor<T> o2) {
+                int compareResult = comparator.compare(o1.getCurrent(), o2.getCurrent());
+                return 0 == compareResult ? Integer.compare(o1.getRunIndex(), o2.getRunIndex()) : compareResult;
+            }
+        });
+        int runIndex = 0;
+        for (SpillFile each : runs) {
+            SpillFileCursor<T> cursor = new SpillFileCursor<>(each, runIndex++, converter);
+            if (cursor.next()) {
+                result.offer(cursor);
+            }
+        }
+        return result;
+    }
+    
+    private SpillFile createSpillFile() throws IOException {
+        SpillFile result = new SpillFile(spillDirectory);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    /**
+     * Get count of spilled runs.
+     *
+     * @return count of spilled runs
+     */
+    public int getSpilledRunCount() {
+        return spillFiles.size();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryResultSetRows) {
+            if (memoryResultSetRows.hasNext()) {
+                setCurrentResultSetRow(memoryResultSetRows.next());
+                return true;
+            }
+            return false;
+        }
+        if (orderRunCursors.isEmpty()) {
+            close();
+            return false;
+        }
+        SpillFileCursor<MemoryQueryResultRow> cursor = orderRunCursors.poll();
+        setCurrentResultSetRow(cursor.getCurrent());
+        try {
+            if (cursor.next()) {
+                orderRunCursors.offer(cursor);
+            }
+        } catch (final IOException | RuntimeException ex) {
+            close();
+            throw new SQLException(ex);
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        for (SpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        if (null != orderRunCursors) {
+            orderRunCursors.clear();
+        }
+    }
+    
+    private final class GroupValueComparator implements Comparator<GroupByPartialRow> {
+        
+        @SuppressWarnings("rawtypes")
+        @Override
+        public int compare(final GroupByPartialRow o1, final GroupByPartialRow o2) {
+            for (int i = 0; i < o1.getGroupValues().size(); i++) {
+                Object groupValue1 = o1.getGroupValues().get(i);
+                Preconditions.checkState(null == groupValue1 || groupValue1 instanceof Comparable, "Group by value must implements Comparable");
+                Object groupValue2 = o2.getGroupValues().get(i);
+                Preconditions.checkState(null == groupValue2 || groupValue2 instanceof Comparable, "Group by value must implements Comparable");
+                int result = CompareUtil.compareTo((Comparable) groupValue1, (Comparable) groupValue2, OrderDirection.ASC, OrderDirection.ASC);
+                if (0 != result) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+    
+    private static final class SpillFileCursor<T> {
+        
+        private final SpillFile spillFile;
+        
+        private final int runIndex;
+        
+        private final Function<Object, T> converter;
+        
+        private T current;
+        
+        private SpillFileCursor(final SpillFile spillFile, final int runIndex, final Function<Object, T> converter) {
+            this.spillFile = spillFile;
+            this.runIndex = runIndex;
+            this.converter = converter;
+        }
+        
+        private boolean next() throws IOException {
+            if (!spillFile.hasNext()) {
+                spillFile.close();
+                return false;
+            }
+            current = converter.apply(spillFile.next());
+            return true;
+        }
+        
+        private T getCurrent() {
+            return current;
+        }
+        
+        private int getRunIndex() {
+            return runIndex;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.merger.dql.groupby.aggregation;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -24,7 +25,7 @@ import java.util.List;
  * 
  * @author gaohongtao
  */
-public interface AggregationUnit {
+public interface AggregationUnit extends Serializable {
     
     /**
      * merge aggregation values.
@@ -39,4 +40,11 @@ public interface AggregationUnit {
      * @return aggregation result
      */
     Comparable<?> getResult();
+    
+    /**
+     * Get partial aggregation values, which can be merged into another aggregation unit of same type.
+     * 
+     * @return partial aggregation values
+     */
+    List<Comparable<?>> getPartialValues();
 }
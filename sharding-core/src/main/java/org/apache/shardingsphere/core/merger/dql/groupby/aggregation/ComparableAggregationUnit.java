@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merger.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -53,4 +54,9 @@ public final class ComparableAggregationUnit implements AggregationUnit {
     public Comparable<?> getResult() {
         return result;
     }
+    
+    @Override
+    public List<Comparable<?>> getPartialValues() {
+        return Collections.<Comparable<?>>singletonList(result);
+    }
 }
@@ -34,6 +34,7 @@ public final class IteratorStreamMergedResult extends StreamMergedResult {
     private final Iterator<QueryResult> queryResults;
     
     public IteratorStreamMergedResult(final List<QueryResult> queryResults) {
+        setQueryResults(queryResults);
         this.queryResults = queryResults.iterator();
         setCurrentQueryResult(this.queryResults.next());
     }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merger.dql.orderby;
+
+import java.util.List;
+
+/**
+ * Loser tree for k-way merging.
+ *
+ * <p>
+ * Each internal node keeps the loser of the match between its children, and node 0 keeps the overall winner.
+ * Replacing the winner needs only one match per tree level, which is {@code log k} comparisons.
+ * Exhausted leaves lose every match.
+ * </p>
+ *
+ * @author zhangliang
+ *
+ * @param <T> class type of leaf
+ */
+public final class LoserTree<T extends Comparable<T>> {
+    
+    private final List<T> leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private final int leafCount;
+    
+    public LoserTree(final List<T> leaves) {
+        this.leaves = leaves;
+        leafCount = leaves.size();
+        exhausted = new boolean[leafCount];
+        tree = new int[Math.max(leafCount, 1)];
+        build();
+    }
+    
+    private void build() {
+        if (leafCount <= 1) {
+            return;
+        }
+        int[] winners = new int[leafCount * 2];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = winners[1];
+    }
+    
+    /**
+     * Judge is all leaves exhausted or not.
+     *
+     * @return is all leaves exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leafCount || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get winner leaf.
+     *
+     * @return winner leaf
+     */
+    public T peek() {
+        return leaves.get(tree[0]);
+    }
+    
+    /**
+     * Replay matches after winner leaf changed.
+     *
+     * @param isWinnerExhausted is winner leaf exhausted or not
+     */
+    public void adjust(final boolean isWinnerExhausted) {
+        int winner = tree[0];
+        exhausted[winner] = isWinnerExhausted;
+        for (int node = (winner + leafCount) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int leaf, final int otherLeaf) {
+        if (exhausted[leaf]) {
+            return false;
+        }
+        if (exhausted[otherLeaf]) {
+            return true;
+        }
+        int result = leaves.get(leaf).compareTo(leaves.get(otherLeaf));
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.merger.dql.orderby;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.merger.QueryResult;
 import org.apache.shardingsphere.core.parsing.parser.context.orderby.OrderItem;
 
@@ -31,6 +32,10 @@ import java.util.List;
 /**
  * Order by value.
  * 
+ * <p>
+ * Integral order values are also decoded into primitive slots, so comparing them needs no boxed compare.
+ * </p>
+ * 
  * @author zhangliang
  */
 @RequiredArgsConstructor
@@ -43,6 +48,10 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private List<Comparable<?>> orderValues;
     
+    private long[] integralOrderValues;
+    
+    private boolean[] integralFlags;
+    
     /**
      * iterate next data.
      *
@@ -56,24 +65,42 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     }
     
     private List<Comparable<?>> getOrderValues() throws SQLException {
+        if (null == integralFlags) {
+            integralOrderValues = new long[orderByItems.size()];
+            integralFlags = new boolean[orderByItems.size()];
+        }
         List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+        for (int i = 0; i < orderByItems.size(); i++) {
+            Object value = queryResult.getValue(orderByItems.get(i).getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
             result.add((Comparable<?>) value);
+            integralFlags[i] = isIntegral(value);
+            if (integralFlags[i]) {
+                integralOrderValues[i] = ((Number) value).longValue();
+            }
         }
         return result;
     }
     
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
     @Override
     public int compareTo(final OrderByValue o) {
         for (int i = 0; i < orderByItems.size(); i++) {
             OrderItem thisOrderBy = orderByItems.get(i);
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
+            int result = integralFlags[i] && o.integralFlags[i] ? compareIntegral(integralOrderValues[i], o.integralOrderValues[i], thisOrderBy)
+                    : CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), thisOrderBy.getOrderDirection(), thisOrderBy.getNullOrderDirection());
             if (0 != result) {
                 return result;
             }
         }
         return 0;
     }
+    
+    private int compareIntegral(final long thisValue, final long otherValue, final OrderItem orderItem) {
+        int result = thisValue < otherValue ? -1 : (thisValue == otherValue ? 0 : 1);
+        return OrderDirection.ASC == orderItem.getOrderDirection() ? result : -result;
+    }
 }
@@ -20,11 +20,19 @@ package org.apache.shardingsphere.core.merger.dql.pagination;
 import org.apache.shardingsphere.core.merger.MergedResult;
 import org.apache.shardingsphere.core.merger.dql.common.DecoratorMergedResult;
 import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
+import org.apache.shardingsphere.core.parsing.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Decorator merged result for limit pagination.
+ * 
+ * <p>
+ * Merged rows are counted into pagination context, and last order by key of page is remembered for keyset pagination of next page.
+ * </p>
  *
  * @author zhangliang
  */
@@ -32,13 +40,23 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
     private final Limit limit;
     
+    private final List<OrderItem> orderByItems;
+    
+    private final PaginationContext paginationContext;
+    
     private final boolean skipAll;
     
     private int rowNumber;
     
     public LimitDecoratorMergedResult(final MergedResult mergedResult, final Limit limit) throws SQLException {
+        this(mergedResult, limit, Collections.<OrderItem>emptyList(), null);
+    }
+    
+    public LimitDecoratorMergedResult(final MergedResult mergedResult, final Limit limit, final List<OrderItem> orderByItems, final PaginationContext paginationContext) throws SQLException {
         super(mergedResult);
         this.limit = limit;
+        this.orderByItems = orderByItems;
+        this.paginationContext = paginationContext;
         skipAll = skipOffset();
     }
     
@@ -47,6 +65,7 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
             if (!getMergedResult().next()) {
                 return true;
             }
+            recordMergedRow();
         }
         rowNumber = 0;
         return false;
@@ -60,6 +79,26 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (limit.getRowCountValue() < 0) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= limit.getRowCountValue() && getMergedResult().next();
+        if (++rowNumber > limit.getRowCountValue() || !getMergedResult().next()) {
+            return false;
+        }
+        recordMergedRow();
+        if (rowNumber == limit.getRowCountValue() && null != paginationContext && paginationContext.isCursorRecordable()) {
+            recordCursor();
+        }
+        return true;
+    }
+    
+    private void recordMergedRow() {
+        if (null != paginationContext) {
+            paginationContext.recordMergedRow();
+        }
+    }
+    
+    private void recordCursor() throws SQLException {
+        Object lastKey = getMergedResult().getValue(orderByItems.get(0).getIndex(), Object.class);
+        if (lastKey instanceof Comparable) {
+            paginationContext.getCursorCache().put(paginationContext.getCursorKey(), paginationContext.getOffset() + paginationContext.getRowCount(), (Comparable<?>) lastKey);
+        }
     }
 }
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.core.metadata.table.executor;
 
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.executor.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.ShardingDataSourceMetaData;
@@ -32,7 +34,10 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Table meta data initializer.
@@ -69,19 +74,40 @@ public final class TableMetaDataInitializer {
     }
     
     private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+        Map<String, ListenableFuture<TableMetaData>> tableMetaDataFutures = new LinkedHashMap<>(shardingRule.getTableRules().size(), 1);
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            tableMetaDataFutures.put(each.getLogicTable(), tableMetaDataLoader.asyncLoad(each.getLogicTable(), shardingRule));
         }
-        return result;
+        return getTableMetaDataMap(tableMetaDataFutures);
     }
     
     private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+        Map<String, ListenableFuture<TableMetaData>> tableMetaDataFutures = new LinkedHashMap<>();
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
         if (actualDefaultDataSourceName.isPresent()) {
             for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
+                tableMetaDataFutures.put(each, tableMetaDataLoader.asyncLoad(each, shardingRule));
+            }
+        }
+        return getTableMetaDataMap(tableMetaDataFutures);
+    }
+    
+    private Map<String, TableMetaData> getTableMetaDataMap(final Map<String, ListenableFuture<TableMetaData>> tableMetaDataFutures) throws SQLException {
+        Map<String, TableMetaData> result = new HashMap<>(tableMetaDataFutures.size(), 1);
+        for (Entry<String, ListenableFuture<TableMetaData>> entry : tableMetaDataFutures.entrySet()) {
+            try {
+                result.put(entry.getKey(), entry.getValue().get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ShardingException(ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof SQLException) {
+                    throw (SQLException) ex.getCause();
+                }
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new ShardingException(ex);
             }
         }
         return result;
@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.core.metadata.table.executor;
 
+import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.executor.ShardingExecuteEngine;
@@ -70,13 +73,36 @@ public final class TableMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public TableMetaData load(final String logicTableName, final ShardingRule shardingRule) throws SQLException {
-        List<TableMetaData> actualTableMetaDataList = load(getDataNodeGroups(logicTableName, shardingRule), shardingRule.getShardingDataSourceNames());
+        List<TableMetaData> actualTableMetaDataList = executeEngine.groupExecute(
+                getDataNodeGroups(getDataNodeGroups(logicTableName, shardingRule)), createLoadCallback(shardingRule.getShardingDataSourceNames()));
         checkUniformed(logicTableName, actualTableMetaDataList);
         return actualTableMetaDataList.iterator().next();
     }
     
-    private List<TableMetaData> load(final Map<String, List<DataNode>> dataNodeGroups, final ShardingDataSourceNames shardingDataSourceNames) throws SQLException {
-        return executeEngine.groupExecute(getDataNodeGroups(dataNodeGroups), new ShardingGroupExecuteCallback<DataNode, TableMetaData>() {
+    /**
+     * Load table meta data asynchronously.
+     * 
+     * <p>Caller thread is not blocked, so that meta data of different tables can be loaded in parallel.</p>
+     *
+     * @param logicTableName logic table name
+     * @param shardingRule sharding rule
+     * @return future of table meta data
+     */
+    public ListenableFuture<TableMetaData> asyncLoad(final String logicTableName, final ShardingRule shardingRule) {
+        ListenableFuture<List<TableMetaData>> actualTableMetaDataListFuture = executeEngine.asyncGroupExecute(
+                getDataNodeGroups(getDataNodeGroups(logicTableName, shardingRule)), createLoadCallback(shardingRule.getShardingDataSourceNames()));
+        return Futures.transform(actualTableMetaDataListFuture, new Function<List<TableMetaData>, TableMetaData>() {
+            
+            @Override
+            public TableMetaData apply(final List<TableMetaData> input) {
+                checkUniformed(logicTableName, input);
+                return input.iterator().next();
+            }
+        });
+    }
+    
+    private ShardingGroupExecuteCallback<DataNode, TableMetaData> createLoadCallback(final ShardingDataSourceNames shardingDataSourceNames) {
+        return new ShardingGroupExecuteCallback<DataNode, TableMetaData>() {
             
             @Override
             public Collection<TableMetaData> execute(final Collection<DataNode> dataNodes, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
@@ -85,7 +111,7 @@ public final class TableMetaDataLoader {
                 String catalog = null == dataSourceMetaData ? null : dataSourceMetaData.getSchemaName();
                 return load(shardingDataSourceNames.getRawMasterDataSourceName(dataSourceName), catalog, dataNodes);
             }
-        });
+        };
     }
     
     private Collection<TableMetaData> load(final String dataSourceName, final String catalog, final Collection<DataNode> dataNodes) throws SQLException {
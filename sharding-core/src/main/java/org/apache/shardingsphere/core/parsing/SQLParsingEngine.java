@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.core.parsing;
 
-import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
@@ -29,6 +28,8 @@ import org.apache.shardingsphere.core.parsing.parser.sql.SQLParserFactory;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.concurrent.Callable;
+
 /**
  * SQL parsing engine.
  *
@@ -52,22 +53,24 @@ public final class SQLParsingEngine {
      * @return parsed SQL statement
      */
     public SQLStatement parse(final boolean useCache) {
-        Optional<SQLStatement> cachedSQLStatement = getSQLStatementFromCache(useCache);
-        if (cachedSQLStatement.isPresent()) {
-            return cachedSQLStatement.get();
+        if (!useCache) {
+            return parse();
         }
+        return ParsingResultCache.getInstance().getSQLStatement(dbType, shardingRule, sql, new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return parse();
+            }
+        });
+    }
+    
+    private SQLStatement parse() {
         LexerEngine lexerEngine = LexerEngineFactory.newInstance(dbType, sql);
         SQLStatement result = SQLParserFactory.newInstance(dbType, shardingRule, lexerEngine, shardingTableMetaData, sql).parse();
         if (result instanceof AbstractSQLStatement) {
             ((AbstractSQLStatement) result).setLogicSQL(sql);
         }
-        if (useCache) {
-            ParsingResultCache.getInstance().put(sql, result);
-        }
         return result;
     }
-    
-    private Optional<SQLStatement> getSQLStatementFromCache(final boolean useCache) {
-        return useCache ? Optional.fromNullable(ParsingResultCache.getInstance().getSQLStatement(sql)) : Optional.<SQLStatement>absent();
-    }
 }
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.SQLType;
+import org.apache.shardingsphere.core.parsing.lexer.analyzer.CharType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SQL statement classifier.
+ * 
+ * <p>
+ * Classify SQL type by leading keywords scanned over SQL chars directly, whitespaces, comments and hints before keywords are skipped.
+ * Statements which can not be classified by leading keywords, such as {@code SET} statements, are judged by {@code SQLJudgeEngine},
+ * and judged SQL types are memorized.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementClassifier {
+    
+    private static final int MAX_JUDGED_SIZE = 1024;
+    
+    private static final String[] DQL_KEYWORDS = {"SELECT"};
+    
+    private static final String[] DML_KEYWORDS = {"INSERT", "UPDATE", "DELETE"};
+    
+    private static final String[] TCL_KEYWORDS = {"COMMIT", "ROLLBACK", "SAVEPOINT", "BEGIN"};
+    
+    private static final String[] DAL_KEYWORDS = {"USE", "DESC", "DESCRIBE", "SHOW"};
+    
+    private static final String[] DCL_KEYWORDS = {"GRANT", "REVOKE", "DENY"};
+    
+    private static final String[] DDL_PRIMARY_KEYWORDS = {"CREATE", "ALTER", "DROP", "TRUNCATE"};
+    
+    private static final String[] DCL_PRIMARY_KEYWORDS = {"CREATE", "ALTER", "DROP", "RENAME"};
+    
+    private static final String[] DCL_SECONDARY_KEYWORDS = {"LOGIN", "USER", "ROLE"};
+    
+    private static final Map<SQLType, Optional<SQLType>> CLASSIFIED_RESULTS = createClassifiedResults();
+    
+    private static final Cache<String, SQLType> JUDGED_SQL_TYPES = CacheBuilder.newBuilder().maximumSize(MAX_JUDGED_SIZE).build();
+    
+    private static Map<SQLType, Optional<SQLType>> createClassifiedResults() {
+        Map<SQLType, Optional<SQLType>> result = new EnumMap<>(SQLType.class);
+        for (SQLType each : SQLType.values()) {
+            result.put(each, Optional.of(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Classify SQL type by leading keywords.
+     * 
+     * @param sql SQL
+     * @return SQL type, absent if can not be classified by leading keywords
+     */
+    public static Optional<SQLType> classify(final String sql) {
+        int beginPosition = skipIgnored(sql, 0);
+        int endPosition = getKeywordEndPosition(sql, beginPosition);
+        if (isKeyword(sql, beginPosition, endPosition, DQL_KEYWORDS)) {
+            return CLASSIFIED_RESULTS.get(SQLType.DQL);
+        }
+        if (isKeyword(sql, beginPosition, endPosition, DML_KEYWORDS)) {
+            return CLASSIFIED_RESULTS.get(SQLType.DML);
+        }
+        if (isKeyword(sql, beginPosition, endPosition, TCL_KEYWORDS)) {
+            return CLASSIFIED_RESULTS.get(SQLType.TCL);
+        }
+        if (isKeyword(sql, beginPosition, endPosition, DAL_KEYWORDS)) {
+            return CLASSIFIED_RESULTS.get(SQLType.DAL);
+        }
+        if (isKeyword(sql, beginPosition, endPosition, DCL_KEYWORDS)) {
+            return CLASSIFIED_RESULTS.get(SQLType.DCL);
+        }
+        boolean isDDLPrimary = isKeyword(sql, beginPosition, endPosition, DDL_PRIMARY_KEYWORDS);
+        boolean isDCLPrimary = isKeyword(sql, beginPosition, endPosition, DCL_PRIMARY_KEYWORDS);
+        if (!isDDLPrimary && !isDCLPrimary) {
+            return Optional.absent();
+        }
+        int secondaryBeginPosition = skipIgnored(sql, endPosition);
+        boolean isDCLSecondary = isKeyword(sql, secondaryBeginPosition, getKeywordEndPosition(sql, secondaryBeginPosition), DCL_SECONDARY_KEYWORDS);
+        if (isDDLPrimary && !isDCLSecondary) {
+            return CLASSIFIED_RESULTS.get(SQLType.DDL);
+        }
+        if (isDCLPrimary && isDCLSecondary) {
+            return CLASSIFIED_RESULTS.get(SQLType.DCL);
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * Get SQL type.
+     * 
+     * <p>
+     * SQL type is classified by leading keywords at first, then judged by {@code SQLJudgeEngine} and memorized.
+     * </p>
+     * 
+     * @param sql SQL
+     * @return SQL type
+     */
+    public static SQLType getSQLType(final String sql) {
+        Optional<SQLType> result = classify(sql);
+        if (result.isPresent()) {
+            return result.get();
+        }
+        SQLType judgedSQLType = JUDGED_SQL_TYPES.getIfPresent(sql);
+        if (null == judgedSQLType) {
+            judgedSQLType = new SQLJudgeEngine(sql).judge().getType();
+            JUDGED_SQL_TYPES.put(sql, judgedSQLType);
+        }
+        return judgedSQLType;
+    }
+    
+    private static int skipIgnored(final String sql, final int position) {
+        int result = position;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            char next = result + 1 < sql.length() ? sql.charAt(result + 1) : (char) CharType.EOI;
+            if (CharType.isWhitespace(current)) {
+                result++;
+            } else if ('#' == current || '-' == current && '-' == next || '/' == current && '/' == next) {
+                result = skipSingleLineComment(sql, result);
+            } else if ('/' == current && '*' == next) {
+                result = skipMultipleLineComment(sql, result);
+            } else {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipSingleLineComment(final String sql, final int position) {
+        int result = sql.indexOf('\n', position);
+        return -1 == result ? sql.length() : result + 1;
+    }
+    
+    private static int skipMultipleLineComment(final String sql, final int position) {
+        int result = sql.indexOf("*/", position + 2);
+        return -1 == result ? sql.length() : result + 2;
+    }
+    
+    private static int getKeywordEndPosition(final String sql, final int position) {
+        int result = position;
+        while (result < sql.length() && isIdentifierChar(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierChar(final char ch) {
+        return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch || '#' == ch;
+    }
+    
+    private static boolean isKeyword(final String sql, final int beginPosition, final int endPosition, final String[] keywords) {
+        for (String each : keywords) {
+            if (endPosition - beginPosition == each.length() && sql.regionMatches(true, beginPosition, each, 0, each.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.antlr.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.antlr.parser.impl.SQLParserFactory;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DFA cache shared by ANTLR SQL parsers of the same dialect.
+ * 
+ * <p>
+ * If two stage parsing is enabled, SQL is parsed with {@code SLL} prediction mode at first, and parsed with {@code LL} prediction mode again only if syntax error found.
+ * If max DFA states size is set, DFA states size is checked periodically, and DFA cache of dialect is cleared when exceeded.
+ * </p>
+ * 
+ * <p>
+ * DFA of ANTLR parsers is static, so this cache and its configuration are shared by the whole JVM.
+ * If several sharding data sources or proxies are initialized in one JVM, the configuration initialized last takes effect.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserDFACache {
+    
+    private static final SQLParserDFACache INSTANCE = new SQLParserDFACache();
+    
+    private static final int CHECK_INTERVAL = 1024;
+    
+    private final AtomicLong parsedCount = new AtomicLong();
+    
+    private volatile boolean twoStageEnabled;
+    
+    private volatile int maxStatesSize;
+    
+    /**
+     * Get SQL parser DFA cache instance.
+     * 
+     * @return SQL parser DFA cache instance
+     */
+    public static SQLParserDFACache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Initialize SQL parser DFA cache.
+     * 
+     * <p>
+     * Configuration is JVM wide, it replaces configuration initialized before.
+     * </p>
+     * 
+     * @param twoStageEnabled enable two stage parsing or not
+     * @param maxStatesSize max DFA states size of each dialect, 0 means unbounded
+     */
+    public void init(final boolean twoStageEnabled, final int maxStatesSize) {
+        this.twoStageEnabled = twoStageEnabled;
+        this.maxStatesSize = maxStatesSize;
+    }
+    
+    /**
+     * Judge whether two stage parsing is enabled.
+     * 
+     * @return two stage parsing is enabled or not
+     */
+    public boolean isTwoStageEnabled() {
+        return twoStageEnabled;
+    }
+    
+    /**
+     * Check DFA states size after SQL parsed, and clear DFA cache if exceeded max states size.
+     * 
+     * @param interpreter ATN simulator of parser
+     */
+    public void checkStatesSize(final ParserATNSimulator interpreter) {
+        if (maxStatesSize <= 0 || 0 != parsedCount.incrementAndGet() % CHECK_INTERVAL) {
+            return;
+        }
+        if (getStatesSize(interpreter) > maxStatesSize) {
+            interpreter.clearDFA();
+        }
+    }
+    
+    /**
+     * Warm up DFA cache of dialect by parsing SQL statements.
+     * 
+     * @param databaseType database type
+     * @param sqls SQL statements
+     * @return count of SQL statements parsed without exception
+     */
+    public int warmUp(final DatabaseType databaseType, final Collection<String> sqls) {
+        int result = 0;
+        for (String each : sqls) {
+            try {
+                new SQLParserEngine(databaseType, each).parse();
+                result++;
+                // CHECKSTYLE:OFF
+            } catch (final Exception ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get DFA states size of dialect.
+     * 
+     * @param databaseType database type
+     * @return DFA states size
+     */
+    public int getStatesSize(final DatabaseType databaseType) {
+        return getStatesSize(SQLParserFactory.newInstance(databaseType, "").getInterpreter());
+    }
+    
+    private int getStatesSize(final ParserATNSimulator interpreter) {
+        int result = 0;
+        for (DFA each : interpreter.decisionToDFA) {
+            result += each.states.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Clear DFA cache of dialect.
+     * 
+     * @param databaseType database type
+     */
+    public void clear(final DatabaseType databaseType) {
+        SQLParserFactory.newInstance(databaseType, "").getInterpreter().clearDFA();
+    }
+}
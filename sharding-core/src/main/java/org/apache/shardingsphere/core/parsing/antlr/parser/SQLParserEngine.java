@@ -20,9 +20,12 @@ package org.apache.shardingsphere.core.parsing.antlr.parser;
 import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.antlr.parser.impl.SQLParser;
 import org.apache.shardingsphere.core.parsing.antlr.parser.impl.SQLParserFactory;
 import org.apache.shardingsphere.core.parsing.antlr.rule.registry.ParsingRuleRegistry;
 import org.apache.shardingsphere.core.parsing.antlr.rule.registry.statement.SQLStatementRule;
@@ -38,6 +41,8 @@ public final class SQLParserEngine {
     
     private final ParsingRuleRegistry parsingRuleRegistry = ParsingRuleRegistry.getInstance();
     
+    private final SQLParserDFACache dfaCache = SQLParserDFACache.getInstance();
+    
     private final DatabaseType databaseType;
     
     private final String sql;
@@ -48,14 +53,33 @@ public final class SQLParserEngine {
      * @return Abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        ParseTree parseTree = dfaCache.isTwoStageEnabled() ? parseWithTwoStage() : parse(PredictionMode.LL);
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingUnsupportedException(String.format("Unsupported SQL of `%s`", sql));
         }
-        Optional<SQLStatementRule> sqlStatementRule = parsingRuleRegistry.findSQLStatementRule(databaseType, parseTree.getClass().getSimpleName());
+        Optional<SQLStatementRule> sqlStatementRule = parsingRuleRegistry.findSQLStatementRule(databaseType, parseTree.getClass());
         if (!sqlStatementRule.isPresent()) {
             throw new SQLParsingUnsupportedException(String.format("Unsupported SQL of `%s`", sql));
         }
         return new SQLAST((ParserRuleContext) parseTree, sqlStatementRule.get());
     }
+    
+    private ParseTree parseWithTwoStage() {
+        try {
+            ParseTree result = parse(PredictionMode.SLL);
+            if (!(result instanceof ErrorNode)) {
+                return result;
+            }
+        } catch (final ParseCancellationException ignored) {
+            // SLL prediction may fail on SQL which LL prediction accepts, fall back to LL parsing below
+        }
+        return parse(PredictionMode.LL);
+    }
+    
+    private ParseTree parse(final PredictionMode predictionMode) {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, sql, predictionMode);
+        ParseTree result = sqlParser.execute().getChild(0);
+        dfaCache.checkStatesSize(sqlParser.getInterpreter());
+        return result;
+    }
 }
@@ -17,29 +17,43 @@
 
 package org.apache.shardingsphere.core.parsing.antlr.parser.advanced;
 
-import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.CommonToken;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.InputMismatchException;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.ATNState;
 import org.antlr.v4.runtime.misc.IntervalSet;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 /**
  * Advanced error strategy.
  * 
  * <p>Override sync method,when failed matching, try again with ID.</p>
  * 
+ * <p>If bail on error, parsing is cancelled by {@code ParseCancellationException} instead of recovering from syntax errors.</p>
+ * 
  * @author duhongjun
+ * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class AdvancedErrorStrategy extends DefaultErrorStrategy {
     
     private final int identifierTokenIndex;
     
+    private final boolean bailOnError;
+    
+    public AdvancedErrorStrategy(final int identifierTokenIndex) {
+        this(identifierTokenIndex, false);
+    }
+    
+    public AdvancedErrorStrategy(final int identifierTokenIndex, final boolean bailOnError) {
+        this.identifierTokenIndex = identifierTokenIndex;
+        this.bailOnError = bailOnError;
+    }
+    
     @Override
     public void sync(final Parser recognizer) throws RecognitionException {
         if (inErrorRecoveryMode(recognizer)) {
@@ -97,4 +111,48 @@ public final class AdvancedErrorStrategy extends DefaultErrorStrategy {
             throw cause;
         }
     }
+    
+    @Override
+    public void reportError(final Parser recognizer, final RecognitionException ex) {
+        if (!bailOnError) {
+            super.reportError(recognizer, ex);
+        }
+    }
+    
+    @Override
+    public void recover(final Parser recognizer, final RecognitionException ex) {
+        if (!bailOnError) {
+            super.recover(recognizer, ex);
+            return;
+        }
+        for (ParserRuleContext context = recognizer.getContext(); null != context; context = context.getParent()) {
+            context.exception = ex;
+        }
+        throw new ParseCancellationException(ex);
+    }
+    
+    @Override
+    public Token recoverInline(final Parser recognizer) throws RecognitionException {
+        if (!bailOnError) {
+            return super.recoverInline(recognizer);
+        }
+        InputMismatchException ex = new InputMismatchException(recognizer);
+        for (ParserRuleContext context = recognizer.getContext(); null != context; context = context.getParent()) {
+            context.exception = ex;
+        }
+        throw new ParseCancellationException(ex);
+    }
+    
+    @Override
+    protected void reportUnwantedToken(final Parser recognizer) {
+        if (bailOnError) {
+            throw new ParseCancellationException(new InputMismatchException(recognizer));
+        }
+        super.reportUnwantedToken(recognizer);
+    }
+    
+    @Override
+    protected Token singleTokenDeletion(final Parser recognizer) {
+        return bailOnError ? null : super.singleTokenDeletion(recognizer);
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.parsing.antlr.parser.impl;
 
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
 
 /**
  * SQL parser.
@@ -32,4 +33,11 @@ public interface SQLParser {
      * @return AST
      */
     ParserRuleContext execute();
+    
+    /**
+     * Get ATN simulator, which holds DFA shared by all parsers of the same dialect.
+     * 
+     * @return ATN simulator
+     */
+    ParserATNSimulator getInterpreter();
 }
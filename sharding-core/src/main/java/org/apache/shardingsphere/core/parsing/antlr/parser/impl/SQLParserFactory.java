@@ -23,12 +23,18 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.parsing.antlr.autogen.MySQLStatementLexer;
+import org.apache.shardingsphere.core.parsing.antlr.autogen.MySQLStatementParser;
 import org.apache.shardingsphere.core.parsing.antlr.autogen.OracleStatementLexer;
+import org.apache.shardingsphere.core.parsing.antlr.autogen.OracleStatementParser;
 import org.apache.shardingsphere.core.parsing.antlr.autogen.PostgreSQLStatementLexer;
+import org.apache.shardingsphere.core.parsing.antlr.autogen.PostgreSQLStatementParser;
 import org.apache.shardingsphere.core.parsing.antlr.autogen.SQLServerStatementLexer;
+import org.apache.shardingsphere.core.parsing.antlr.autogen.SQLServerStatementParser;
 import org.apache.shardingsphere.core.parsing.antlr.parser.impl.dialect.MySQLParser;
 import org.apache.shardingsphere.core.parsing.antlr.parser.impl.dialect.OracleParser;
 import org.apache.shardingsphere.core.parsing.antlr.parser.impl.dialect.PostgreSQLParser;
@@ -51,7 +57,43 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        return createSQLParser(databaseType, createLexer(databaseType, sql));
+        return newInstance(databaseType, sql, PredictionMode.LL);
+    }
+    
+    /** 
+     * New instance of SQL parser with prediction mode.
+     * 
+     * <p>Parser of {@code SLL} prediction mode bails out on first syntax error by {@code ParseCancellationException}.</p>
+     * 
+     * @param databaseType database type
+     * @param sql SQL
+     * @param predictionMode prediction mode
+     * @return SQL parser
+     */
+    public static SQLParser newInstance(final DatabaseType databaseType, final String sql, final PredictionMode predictionMode) {
+        return createSQLParser(databaseType, createLexer(databaseType, sql), predictionMode);
+    }
+    
+    /**
+     * Get class of generated SQL parser, parse tree classes are nested classes of it.
+     * 
+     * @param databaseType database type
+     * @return class of generated SQL parser
+     */
+    public static Class<? extends Parser> getParserClass(final DatabaseType databaseType) {
+        switch (databaseType) {
+            case H2:
+            case MySQL:
+                return MySQLStatementParser.class;
+            case PostgreSQL:
+                return PostgreSQLStatementParser.class;
+            case SQLServer:
+                return SQLServerStatementParser.class;
+            case Oracle:
+                return OracleStatementParser.class;
+            default:
+                throw new UnsupportedOperationException(String.format("Can not support database type [%s].", databaseType));
+        }
     }
     
     private static Lexer createLexer(final DatabaseType databaseType, final String sql) {
@@ -71,18 +113,18 @@ public final class SQLParserFactory {
         }
     }
     
-    private static SQLParser createSQLParser(final DatabaseType databaseType, final Lexer lexer) {
+    private static SQLParser createSQLParser(final DatabaseType databaseType, final Lexer lexer, final PredictionMode predictionMode) {
         TokenStream tokenStream = new CommonTokenStream(lexer);
         switch (databaseType) {
             case H2:
             case MySQL:
-                return new MySQLParser(tokenStream);
+                return new MySQLParser(tokenStream, predictionMode);
             case PostgreSQL:
-                return new PostgreSQLParser(tokenStream);
+                return new PostgreSQLParser(tokenStream, predictionMode);
             case SQLServer:
-                return new SQLServerParser(tokenStream);
+                return new SQLServerParser(tokenStream, predictionMode);
             case Oracle:
-                return new OracleParser(tokenStream);
+                return new OracleParser(tokenStream, predictionMode);
             default:
                 throw new UnsupportedOperationException(String.format("Can not support database type [%s].", databaseType));
         }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.parsing.antlr.parser.impl.dialect;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.apache.shardingsphere.core.parsing.antlr.autogen.PostgreSQLStatementParser;
 import org.apache.shardingsphere.core.parsing.antlr.parser.advanced.AdvancedErrorStrategy;
 import org.apache.shardingsphere.core.parsing.antlr.parser.advanced.AdvancedMatchHandler;
@@ -36,9 +37,14 @@ public final class PostgreSQLParser extends PostgreSQLStatementParser implements
     private final AdvancedMatchHandler advancedMatchHandler;
     
     public PostgreSQLParser(final TokenStream input) {
+        this(input, PredictionMode.LL);
+    }
+    
+    public PostgreSQLParser(final TokenStream input, final PredictionMode predictionMode) {
         super(input);
         _interp = new AdvancedParserATNSimulator(this, _ATN, _decisionToDFA, _sharedContextCache, ID);
-        _errHandler = new AdvancedErrorStrategy(ID);
+        _interp.setPredictionMode(predictionMode);
+        _errHandler = new AdvancedErrorStrategy(ID, PredictionMode.SLL == predictionMode);
         advancedMatchHandler = new AdvancedMatchHandler(this, ID);
     }
     
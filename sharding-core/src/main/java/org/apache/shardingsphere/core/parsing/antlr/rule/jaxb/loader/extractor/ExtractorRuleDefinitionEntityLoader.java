@@ -32,11 +32,18 @@ import java.io.InputStream;
  */
 public final class ExtractorRuleDefinitionEntityLoader implements RuleDefinitionEntityLoader {
     
+    private final JAXBContext jaxbContext;
+    
+    @SneakyThrows
+    public ExtractorRuleDefinitionEntityLoader() {
+        jaxbContext = JAXBContext.newInstance(ExtractorRuleDefinitionEntity.class);
+    }
+    
     @Override
     @SneakyThrows
     public ExtractorRuleDefinitionEntity load(final String extractorRuleDefinitionFile) {
         InputStream inputStream = ExtractorRuleDefinitionEntityLoader.class.getClassLoader().getResourceAsStream(extractorRuleDefinitionFile);
         Preconditions.checkNotNull(inputStream, "Cannot load extractor rule definition file :%s, ", extractorRuleDefinitionFile);
-        return (ExtractorRuleDefinitionEntity) JAXBContext.newInstance(ExtractorRuleDefinitionEntity.class).createUnmarshaller().unmarshal(inputStream);
+        return (ExtractorRuleDefinitionEntity) jaxbContext.createUnmarshaller().unmarshal(inputStream);
     }
 }
@@ -32,11 +32,18 @@ import java.io.InputStream;
  */
 public final class SQLStatementRuleDefinitionEntityLoader implements RuleDefinitionEntityLoader {
     
+    private final JAXBContext jaxbContext;
+    
+    @SneakyThrows
+    public SQLStatementRuleDefinitionEntityLoader() {
+        jaxbContext = JAXBContext.newInstance(SQLStatementRuleDefinitionEntity.class);
+    }
+    
     @Override
     @SneakyThrows
     public SQLStatementRuleDefinitionEntity load(final String sqlStatementRuleDefinitionFile) {
         InputStream inputStream = SQLStatementRuleDefinitionEntityLoader.class.getClassLoader().getResourceAsStream(sqlStatementRuleDefinitionFile);
         Preconditions.checkNotNull(inputStream, "Cannot load SQL statement rule definition file :%s, ", sqlStatementRuleDefinitionFile);
-        return (SQLStatementRuleDefinitionEntity) JAXBContext.newInstance(SQLStatementRuleDefinitionEntity.class).createUnmarshaller().unmarshal(inputStream);
+        return (SQLStatementRuleDefinitionEntity) jaxbContext.createUnmarshaller().unmarshal(inputStream);
     }
 }
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.core.parsing.antlr.rule.registry;
 
 import com.google.common.base.Optional;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import com.google.common.collect.Maps;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.parsing.antlr.filler.SQLStatementFiller;
+import org.apache.shardingsphere.core.parsing.antlr.parser.impl.SQLParserFactory;
+import org.apache.shardingsphere.core.parsing.antlr.rule.jaxb.entity.extractor.ExtractorRuleDefinitionEntity;
 import org.apache.shardingsphere.core.parsing.antlr.rule.jaxb.loader.RuleDefinitionFileConstant;
 import org.apache.shardingsphere.core.parsing.antlr.rule.jaxb.loader.extractor.ExtractorRuleDefinitionEntityLoader;
 import org.apache.shardingsphere.core.parsing.antlr.rule.jaxb.loader.filler.FillerRuleDefinitionEntityLoader;
@@ -32,28 +35,40 @@ import org.apache.shardingsphere.core.parsing.antlr.rule.registry.statement.SQLS
 import org.apache.shardingsphere.core.parsing.antlr.rule.registry.statement.SQLStatementRuleDefinition;
 import org.apache.shardingsphere.core.parsing.antlr.sql.segment.SQLSegment;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Parsing rule registry.
+ * 
+ * <p>
+ * Rules are loaded once when class is initialized, and looked up from immutable tables keyed by class of parse tree or SQL segment without lock.
+ * </p>
  *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ParsingRuleRegistry {
     
-    private static volatile ParsingRuleRegistry instance;
+    private static final ParsingRuleRegistry INSTANCE = new ParsingRuleRegistry();
     
-    private final SQLStatementRuleDefinitionEntityLoader statementRuleDefinitionLoader = new SQLStatementRuleDefinitionEntityLoader();
+    private final Map<DatabaseType, Map<Class<?>, SQLStatementRule>> statementRules;
     
-    private final ExtractorRuleDefinitionEntityLoader extractorRuleDefinitionLoader = new ExtractorRuleDefinitionEntityLoader();
+    private final Map<Class<? extends SQLSegment>, SQLStatementFiller> fillers;
     
-    private final FillerRuleDefinitionEntityLoader fillerRuleDefinitionLoader = new FillerRuleDefinitionEntityLoader();
+    @Getter
+    private final long loadTimeMillis;
     
-    private final Map<DatabaseType, SQLStatementRuleDefinition> statementRuleDefinitions = new HashMap<>(4, 1);
-    
-    private final FillerRuleDefinition fillerRuleDefinition = new FillerRuleDefinition();
+    private ParsingRuleRegistry() {
+        long startTime = System.currentTimeMillis();
+        statementRules = createSQLStatementRules(loadSQLStatementRuleDefinitions());
+        fillers = loadFillers();
+        loadTimeMillis = System.currentTimeMillis() - startTime;
+        log.info("Loaded parsing rule registry in {} ms.", loadTimeMillis);
+    }
     
     /**
      * Get singleton instance of parsing rule registry.
@@ -61,45 +76,72 @@ public final class ParsingRuleRegistry {
      * @return instance of parsing rule registry
      */
     public static ParsingRuleRegistry getInstance() {
-        if (null == instance) {
-            synchronized (ParsingRuleRegistry.class) {
-                if (null == instance) {
-                    instance = new ParsingRuleRegistry();
-                    instance.init();
-                }
-            }
-        }
-        return instance;
+        return INSTANCE;
     }
     
-    private synchronized void init() {
+    private Map<DatabaseType, SQLStatementRuleDefinition> loadSQLStatementRuleDefinitions() {
+        SQLStatementRuleDefinitionEntityLoader statementRuleDefinitionLoader = new SQLStatementRuleDefinitionEntityLoader();
+        ExtractorRuleDefinitionEntityLoader extractorRuleDefinitionLoader = new ExtractorRuleDefinitionEntityLoader();
+        ExtractorRuleDefinitionEntity commonExtractorRuleDefinitionEntity = extractorRuleDefinitionLoader.load(RuleDefinitionFileConstant.getCommonExtractorRuleDefinitionFileName());
+        Map<DatabaseType, SQLStatementRuleDefinition> result = new EnumMap<>(DatabaseType.class);
         for (DatabaseType each : DatabaseType.values()) {
             if (DatabaseType.H2 != each) {
-                statementRuleDefinitions.put(each, init(each));
+                ExtractorRuleDefinition extractorRuleDefinition = new ExtractorRuleDefinition();
+                extractorRuleDefinition.init(commonExtractorRuleDefinitionEntity, extractorRuleDefinitionLoader.load(RuleDefinitionFileConstant.getExtractorRuleDefinitionFileName(each)));
+                SQLStatementRuleDefinition statementRuleDefinition = new SQLStatementRuleDefinition();
+                statementRuleDefinition.init(statementRuleDefinitionLoader.load(RuleDefinitionFileConstant.getSQLStatementRuleDefinitionFileName(each)), extractorRuleDefinition);
+                result.put(each, statementRuleDefinition);
             }
         }
-        fillerRuleDefinition.init(fillerRuleDefinitionLoader.load(RuleDefinitionFileConstant.getFillerRuleDefinitionFileName()));
+        result.put(DatabaseType.H2, result.get(DatabaseType.MySQL));
+        return result;
     }
     
-    private SQLStatementRuleDefinition init(final DatabaseType databaseType) {
-        ExtractorRuleDefinition extractorRuleDefinition = new ExtractorRuleDefinition();
-        extractorRuleDefinition.init(
-                extractorRuleDefinitionLoader.load(RuleDefinitionFileConstant.getCommonExtractorRuleDefinitionFileName()), 
-                extractorRuleDefinitionLoader.load(RuleDefinitionFileConstant.getExtractorRuleDefinitionFileName(databaseType)));
-        SQLStatementRuleDefinition result = new SQLStatementRuleDefinition();
-        result.init(statementRuleDefinitionLoader.load(RuleDefinitionFileConstant.getSQLStatementRuleDefinitionFileName(databaseType)), extractorRuleDefinition);
-        return result;
+    private Map<DatabaseType, Map<Class<?>, SQLStatementRule>> createSQLStatementRules(final Map<DatabaseType, SQLStatementRuleDefinition> statementRuleDefinitions) {
+        Map<DatabaseType, Map<Class<?>, SQLStatementRule>> result = new EnumMap<>(DatabaseType.class);
+        for (Entry<DatabaseType, SQLStatementRuleDefinition> entry : statementRuleDefinitions.entrySet()) {
+            if (DatabaseType.H2 != entry.getKey()) {
+                result.put(entry.getKey(), createSQLStatementRules(SQLParserFactory.getParserClass(entry.getKey()), entry.getValue()));
+            }
+        }
+        result.put(DatabaseType.H2, result.get(DatabaseType.MySQL));
+        return Maps.immutableEnumMap(result);
+    }
+    
+    private Map<Class<?>, SQLStatementRule> createSQLStatementRules(final Class<?> parserClass, final SQLStatementRuleDefinition statementRuleDefinition) {
+        Map<Class<?>, SQLStatementRule> result = new IdentityHashMap<>(statementRuleDefinition.getRules().size());
+        for (Entry<String, SQLStatementRule> entry : statementRuleDefinition.getRules().entrySet()) {
+            Optional<Class<?>> contextClass = findContextClass(parserClass, entry.getKey());
+            if (contextClass.isPresent()) {
+                result.put(contextClass.get(), entry.getValue());
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Optional<Class<?>> findContextClass(final Class<?> parserClass, final String contextClassName) {
+        try {
+            return Optional.<Class<?>>of(Class.forName(parserClass.getName() + "$" + contextClassName, false, parserClass.getClassLoader()));
+        } catch (final ClassNotFoundException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private Map<Class<? extends SQLSegment>, SQLStatementFiller> loadFillers() {
+        FillerRuleDefinition fillerRuleDefinition = new FillerRuleDefinition();
+        fillerRuleDefinition.init(new FillerRuleDefinitionEntityLoader().load(RuleDefinitionFileConstant.getFillerRuleDefinitionFileName()));
+        return Collections.unmodifiableMap(new IdentityHashMap<Class<? extends SQLSegment>, SQLStatementFiller>(fillerRuleDefinition.getRules()));
     }
     
     /**
      * Find SQL statement rule.
-     * 
+     *
      * @param databaseType database type
-     * @param contextClassName context class name
+     * @param contextClass context class of parse tree
      * @return SQL statement rule
      */
-    public Optional<SQLStatementRule> findSQLStatementRule(final DatabaseType databaseType, final String contextClassName) {
-        return Optional.fromNullable(statementRuleDefinitions.get(DatabaseType.H2 == databaseType ? DatabaseType.MySQL : databaseType).getRules().get(contextClassName));
+    public Optional<SQLStatementRule> findSQLStatementRule(final DatabaseType databaseType, final Class<?> contextClass) {
+        return Optional.fromNullable(statementRules.get(databaseType).get(contextClass));
     }
     
     /**
@@ -109,6 +151,6 @@ public final class ParsingRuleRegistry {
      * @return SQL statement filler
      */
     public Optional<SQLStatementFiller> findSQLStatementFiller(final Class<? extends SQLSegment> sqlSegmentClass) {
-        return Optional.fromNullable(fillerRuleDefinition.getRules().get(sqlSegmentClass));
+        return Optional.fromNullable(fillers.get(sqlSegmentClass));
     }
 }
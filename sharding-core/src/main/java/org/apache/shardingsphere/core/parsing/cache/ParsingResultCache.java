@@ -17,25 +17,57 @@
 
 package org.apache.shardingsphere.core.parsing.cache;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 
-import java.lang.ref.SoftReference;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Parsing result cache.
+ * 
+ * <p>
+ * Parsing results are isolated by sharding rule and database type, each region is bounded by maximum size.
+ * </p>
  *
  * @author zhangliang
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ParsingResultCache {
     
     private static final ParsingResultCache INSTANCE = new ParsingResultCache();
     
-    private final Map<String, SoftReference<SQLStatement>> cache = new HashMap<>(65535, 1);
+    private static final int DEFAULT_MAXIMUM_SIZE = 65535;
+    
+    private static final Object DEFAULT_REGION_KEY = new Object();
+    
+    private final LoadingCache<Object, ConcurrentMap<DatabaseType, Cache<String, SQLStatement>>> regions = CacheBuilder.newBuilder().weakKeys().build(
+            new CacheLoader<Object, ConcurrentMap<DatabaseType, Cache<String, SQLStatement>>>() {
+                
+                @Override
+                public ConcurrentMap<DatabaseType, Cache<String, SQLStatement>> load(final Object key) {
+                    return new ConcurrentHashMap<>(DatabaseType.values().length, 1);
+                }
+            });
+    
+    private final Cache<SQLStatement, Boolean> cachedSQLStatements = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private volatile int maximumSize = DEFAULT_MAXIMUM_SIZE;
+    
+    private volatile ParsingResultCacheEvictionPolicy evictionPolicy = ParsingResultCacheEvictionPolicy.LRU;
     
     /**
      * Get parsing result cache instance.
@@ -47,30 +79,118 @@ public final class ParsingResultCache {
     }
     
     /**
-     * Put SQL and parsing result into cache.
+     * Initialize parsing result cache.
      * 
-     * @param sql SQL
-     * @param sqlStatement SQL statement
+     * <p>
+     * Cached parsing results will be cleared if maximum size or eviction policy changed.
+     * </p>
+     * 
+     * @param maximumSize maximum size of each cache region
+     * @param evictionPolicy eviction policy
      */
-    public void put(final String sql, final SQLStatement sqlStatement) {
-        cache.put(sql, new SoftReference<>(sqlStatement));
+    public synchronized void init(final int maximumSize, final ParsingResultCacheEvictionPolicy evictionPolicy) {
+        if (this.maximumSize == maximumSize && this.evictionPolicy == evictionPolicy) {
+            return;
+        }
+        this.maximumSize = maximumSize;
+        this.evictionPolicy = evictionPolicy;
+        regions.invalidateAll();
+        cachedSQLStatements.invalidateAll();
     }
     
     /**
-     * Get SQL statement.
+     * Get SQL statement, parse and cache it if absent.
      *
+     * @param databaseType database type
+     * @param shardingRule sharding rule
      * @param sql SQL
+     * @param parser parser to load SQL statement if absent
      * @return SQL statement
      */
-    public SQLStatement getSQLStatement(final String sql) {
-        SoftReference<SQLStatement> result = cache.get(sql);
-        return null == result ? null : result.get();
+    public SQLStatement getSQLStatement(final DatabaseType databaseType, final ShardingRule shardingRule, final String sql, final Callable<SQLStatement> parser) {
+        try {
+            return getRegion(databaseType, shardingRule).get(sql, new Callable<SQLStatement>() {
+                
+                @Override
+                public SQLStatement call() throws Exception {
+                    SQLStatement result = parser.call();
+                    cachedSQLStatements.put(result, Boolean.TRUE);
+                    return result;
+                }
+            });
+        } catch (final ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            throw Throwables.propagate(ex.getCause());
+        }
+    }
+    
+    private Cache<String, SQLStatement> getRegion(final DatabaseType databaseType, final ShardingRule shardingRule) {
+        ConcurrentMap<DatabaseType, Cache<String, SQLStatement>> databaseTypeRegions = regions.getUnchecked(null == shardingRule ? DEFAULT_REGION_KEY : shardingRule);
+        Cache<String, SQLStatement> result = databaseTypeRegions.get(databaseType);
+        if (null != result) {
+            return result;
+        }
+        Cache<String, SQLStatement> region = createRegion();
+        result = databaseTypeRegions.putIfAbsent(databaseType, region);
+        return null == result ? region : result;
+    }
+    
+    private Cache<String, SQLStatement> createRegion() {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        if (ParsingResultCacheEvictionPolicy.SOFT == evictionPolicy) {
+            builder.softValues();
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Judge is SQL statement loaded by parsing result cache or not.
+     * 
+     * <p>
+     * SQL statements are weak referenced, so parsed SQL statements which are evicted but still in use are also judged as cached.
+     * </p>
+     * 
+     * @param sqlStatement SQL statement
+     * @return SQL statement is loaded by parsing result cache or not
+     */
+    public boolean isCached(final SQLStatement sqlStatement) {
+        return null != cachedSQLStatements.getIfPresent(sqlStatement);
+    }
+    
+    /**
+     * Get cached SQL statements size.
+     * 
+     * @return cached SQL statements size
+     */
+    public long size() {
+        long result = 0L;
+        for (ConcurrentMap<DatabaseType, Cache<String, SQLStatement>> each : regions.asMap().values()) {
+            for (Cache<String, SQLStatement> region : each.values()) {
+                result += region.size();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get statistics of hit, miss, eviction and load time for all cache regions.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        CacheStats result = new CacheStats(0L, 0L, 0L, 0L, 0L, 0L);
+        for (ConcurrentMap<DatabaseType, Cache<String, SQLStatement>> each : regions.asMap().values()) {
+            for (Cache<String, SQLStatement> region : each.values()) {
+                result = result.plus(region.stats());
+            }
+        }
+        return result;
     }
     
     /**
      * Clear cache.
      */
     public synchronized void clear() {
-        cache.clear();
+        regions.invalidateAll();
+        cachedSQLStatements.invalidateAll();
     }
 }
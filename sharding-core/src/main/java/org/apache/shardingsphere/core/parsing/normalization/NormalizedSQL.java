@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.normalization;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+
+import java.util.List;
+
+/**
+ * Normalized SQL.
+ * 
+ * <p>
+ * Literals of logic SQL are replaced with parameter markers, and extracted as parameters in order.
+ * Only literals whose text can be formatted from their values exactly are extracted, so no original literal text needs to be kept.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class NormalizedSQL {
+    
+    @Getter
+    private final String sql;
+    
+    @Getter
+    private final List<Object> parameters;
+    
+    private final DatabaseType databaseType;
+    
+    /**
+     * Restore literals of rewritten SQL.
+     * 
+     * <p>
+     * Parameter markers are replaced with literals formatted from parameters, which are the same as original literals of extracted parameters.
+     * String parameters are quoted with single quotes and escaped, so parameters appended by rewriting, such as generated keys, are safe to be inlined.
+     * </p>
+     * 
+     * @param rewrittenSQL rewritten SQL of normalized SQL
+     * @param parameters parameters of rewritten SQL
+     * @return SQL with literals
+     */
+    public String restoreLiterals(final String rewrittenSQL, final List<Object> parameters) {
+        StringBuilder result = new StringBuilder(rewrittenSQL.length() + parameters.size() * 8);
+        int position = 0;
+        int parameterIndex = 0;
+        for (int markerPosition = rewrittenSQL.indexOf('?'); -1 != markerPosition; markerPosition = rewrittenSQL.indexOf('?', position)) {
+            result.append(rewrittenSQL, position, markerPosition).append(getLiterals(parameters.get(parameterIndex++)));
+            position = markerPosition + 1;
+        }
+        result.append(rewrittenSQL, position, rewrittenSQL.length());
+        return result.toString();
+    }
+    
+    private String getLiterals(final Object parameter) {
+        if (!(parameter instanceof String)) {
+            return String.valueOf(parameter);
+        }
+        String value = (String) parameter;
+        StringBuilder result = new StringBuilder(value.length() + 2).append('\'');
+        for (char each : value.toCharArray()) {
+            if ('\'' == each || '\\' == each && DatabaseType.MySQL == databaseType) {
+                result.append(each);
+            }
+            result.append(each);
+        }
+        return result.append('\'').toString();
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.normalization;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngine;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import org.apache.shardingsphere.core.parsing.lexer.analyzer.CharType;
+import org.apache.shardingsphere.core.parsing.lexer.token.Assist;
+import org.apache.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import org.apache.shardingsphere.core.parsing.lexer.token.Keyword;
+import org.apache.shardingsphere.core.parsing.lexer.token.Literals;
+import org.apache.shardingsphere.core.parsing.lexer.token.Symbol;
+import org.apache.shardingsphere.core.parsing.lexer.token.Token;
+import org.apache.shardingsphere.core.parsing.lexer.token.TokenType;
+import org.apache.shardingsphere.core.util.NumberUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * SQL normalization engine.
+ * 
+ * <p>
+ * Replace literals of conditions, limit and insert values with parameter markers, so SQL which only differ in literals can share one parsing result.
+ * Literals are replaced only if SQL without parameter markers and subquery, and they can be restored to the same text after rewriting.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SQLNormalizationEngine {
+    
+    private static final Collection<TokenType> STATEMENT_BEGIN_TYPES = Arrays.<TokenType>asList(DefaultKeyword.SELECT, DefaultKeyword.INSERT, DefaultKeyword.UPDATE, DefaultKeyword.DELETE);
+    
+    private static final Collection<TokenType> COMPARISON_OPERATORS = Arrays.<TokenType>asList(Symbol.EQ, Symbol.GT, Symbol.LT, Symbol.GT_EQ, Symbol.LT_EQ, Symbol.LT_GT, Symbol.BANG_EQ);
+    
+    private static final Collection<TokenType> CONDITION_END_TYPES = Arrays.<TokenType>asList(DefaultKeyword.AND, DefaultKeyword.OR, Symbol.RIGHT_PAREN, Symbol.SEMI, Assist.END);
+    
+    private static final Collection<String> CLAUSE_BEGIN_WORDS = Arrays.asList("GROUP", "ORDER", "HAVING", "FOR", "LIMIT", "OFFSET");
+    
+    private static final Collection<String> LIMIT_WORDS = Arrays.asList("LIMIT", "OFFSET");
+    
+    private static final Collection<String> FETCH_ALL_WORDS = Arrays.asList("GROUP", "DISTINCT", "DISTINCTROW");
+    
+    private static final Collection<String> AGGREGATION_WORDS = Arrays.asList("COUNT", "SUM", "MAX", "MIN", "AVG");
+    
+    private final DatabaseType databaseType;
+    
+    private final String sql;
+    
+    /**
+     * Normalize SQL.
+     * 
+     * @return normalized SQL, absent if no literal can be replaced
+     */
+    public Optional<NormalizedSQL> normalize() {
+        if (-1 != sql.indexOf('?')) {
+            return Optional.absent();
+        }
+        Optional<List<Token>> tokens = tokenize();
+        if (!tokens.isPresent() || !STATEMENT_BEGIN_TYPES.contains(tokens.get().get(0).getType())) {
+            return Optional.absent();
+        }
+        List<Integer> literalIndexes = findLiteralIndexes(tokens.get());
+        return literalIndexes.isEmpty() ? Optional.<NormalizedSQL>absent() : Optional.of(createNormalizedSQL(tokens.get(), literalIndexes));
+    }
+    
+    private Optional<List<Token>> tokenize() {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        List<Token> result = new ArrayList<>();
+        try {
+            do {
+                lexerEngine.nextToken();
+                result.add(lexerEngine.getCurrentToken());
+            } while (!lexerEngine.isEnd());
+        } catch (final ShardingException ex) {
+            return Optional.absent();
+        }
+        return Optional.of(result);
+    }
+    
+    private List<Integer> findLiteralIndexes(final List<Token> tokens) {
+        List<Integer> result = new LinkedList<>();
+        List<Integer> limitLiteralIndexes = new LinkedList<>();
+        boolean isInsert = DefaultKeyword.INSERT == tokens.get(0).getType();
+        boolean isSelect = DefaultKeyword.SELECT == tokens.get(0).getType();
+        boolean isWhere = false;
+        boolean isFetchAll = false;
+        int index = 1;
+        while (index < tokens.size()) {
+            Token token = tokens.get(index);
+            if (DefaultKeyword.SELECT == token.getType() || DefaultKeyword.UNION == token.getType()) {
+                return Collections.emptyList();
+            }
+            isFetchAll = isFetchAll || isWord(token, FETCH_ALL_WORDS) || isWord(token, AGGREGATION_WORDS) && Symbol.LEFT_PAREN == getToken(tokens, index + 1).getType();
+            if (isInsert && DefaultKeyword.VALUES == token.getType()) {
+                index = findInsertValuesLiteralIndexes(tokens, index + 1, result);
+                continue;
+            }
+            if (DefaultKeyword.WHERE == token.getType()) {
+                isWhere = true;
+            } else if (isWord(token, CLAUSE_BEGIN_WORDS)) {
+                isWhere = false;
+            }
+            if (isSelect && isWord(token, LIMIT_WORDS)) {
+                findLimitLiteralIndexes(tokens, index, limitLiteralIndexes);
+            }
+            index = isWhere ? findConditionLiteralIndexes(tokens, index, result) : index + 1;
+        }
+        if (!isFetchAll) {
+            result.addAll(limitLiteralIndexes);
+        }
+        return result;
+    }
+    
+    private int findInsertValuesLiteralIndexes(final List<Token> tokens, final int beginIndex, final List<Integer> literalIndexes) {
+        int result = beginIndex;
+        int depth = 0;
+        while (result < tokens.size()) {
+            TokenType tokenType = tokens.get(result).getType();
+            if (Symbol.LEFT_PAREN == tokenType) {
+                depth++;
+            } else if (Symbol.RIGHT_PAREN == tokenType) {
+                depth--;
+            } else if (0 == depth && Symbol.COMMA != tokenType) {
+                return result;
+            } else if (1 == depth && isNormalizableLiteral(tokens.get(result)) && isInsertValueBegin(tokens.get(result - 1)) && isInsertValueEnd(getToken(tokens, result + 1))) {
+                literalIndexes.add(result);
+            }
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isInsertValueBegin(final Token token) {
+        return Symbol.LEFT_PAREN == token.getType() || Symbol.COMMA == token.getType();
+    }
+    
+    private boolean isInsertValueEnd(final Token token) {
+        return Symbol.RIGHT_PAREN == token.getType() || Symbol.COMMA == token.getType();
+    }
+    
+    private void findLimitLiteralIndexes(final List<Token> tokens, final int index, final List<Integer> literalIndexes) {
+        if (DatabaseType.MySQL != databaseType && DatabaseType.PostgreSQL != databaseType && DatabaseType.H2 != databaseType) {
+            return;
+        }
+        if (Literals.INT == getToken(tokens, index + 1).getType() && isNormalizableLiteral(tokens.get(index + 1)) && isLimitValueEnd(getToken(tokens, index + 2))) {
+            literalIndexes.add(index + 1);
+        }
+        if (Symbol.COMMA == getToken(tokens, index + 2).getType() && Literals.INT == getToken(tokens, index + 3).getType()
+                && isNormalizableLiteral(tokens.get(index + 3)) && isStatementEnd(getToken(tokens, index + 4))) {
+            literalIndexes.add(index + 3);
+        }
+    }
+    
+    private boolean isLimitValueEnd(final Token token) {
+        return isStatementEnd(token) || Symbol.COMMA == token.getType() || isWord(token, LIMIT_WORDS);
+    }
+    
+    private boolean isStatementEnd(final Token token) {
+        return Assist.END == token.getType() || Symbol.SEMI == token.getType();
+    }
+    
+    private int findConditionLiteralIndexes(final List<Token> tokens, final int index, final List<Integer> literalIndexes) {
+        Token token = tokens.get(index);
+        if (DefaultKeyword.IN == token.getType() && isConditionColumn(tokens, index, true)) {
+            return findInLiteralIndexes(tokens, index, literalIndexes);
+        }
+        if (DefaultKeyword.BETWEEN == token.getType() && isConditionColumn(tokens, index, true)) {
+            return findBetweenLiteralIndexes(tokens, index, literalIndexes);
+        }
+        if (isNormalizableLiteral(token) && COMPARISON_OPERATORS.contains(tokens.get(index - 1).getType())
+                && isConditionColumn(tokens, index - 1, false) && isConditionEnd(getToken(tokens, index + 1))) {
+            literalIndexes.add(index);
+        }
+        return index + 1;
+    }
+    
+    private int findInLiteralIndexes(final List<Token> tokens, final int index, final List<Integer> literalIndexes) {
+        if (Symbol.LEFT_PAREN != getToken(tokens, index + 1).getType()) {
+            return index + 1;
+        }
+        List<Integer> inLiteralIndexes = new LinkedList<>();
+        int currentIndex = index + 2;
+        while (isNormalizableLiteral(getToken(tokens, currentIndex))) {
+            inLiteralIndexes.add(currentIndex);
+            TokenType nextTokenType = getToken(tokens, currentIndex + 1).getType();
+            if (Symbol.RIGHT_PAREN == nextTokenType && isConditionEnd(getToken(tokens, currentIndex + 2))) {
+                literalIndexes.addAll(inLiteralIndexes);
+                return currentIndex + 2;
+            }
+            if (Symbol.COMMA != nextTokenType) {
+                break;
+            }
+            currentIndex += 2;
+        }
+        return index + 1;
+    }
+    
+    private int findBetweenLiteralIndexes(final List<Token> tokens, final int index, final List<Integer> literalIndexes) {
+        if (isNormalizableLiteral(getToken(tokens, index + 1)) && DefaultKeyword.AND == getToken(tokens, index + 2).getType()
+                && isNormalizableLiteral(getToken(tokens, index + 3)) && isConditionEnd(getToken(tokens, index + 4))) {
+            literalIndexes.add(index + 1);
+            literalIndexes.add(index + 3);
+            return index + 4;
+        }
+        return index + 1;
+    }
+    
+    private boolean isConditionColumn(final List<Token> tokens, final int operatorIndex, final boolean isNotAllowed) {
+        Token token = tokens.get(operatorIndex - 1);
+        if (isNotAllowed && DefaultKeyword.NOT == token.getType()) {
+            token = tokens.get(operatorIndex - 2);
+        }
+        return Literals.IDENTIFIER == token.getType() || token.getType() instanceof Keyword && !(token.getType() instanceof Symbol);
+    }
+    
+    private boolean isConditionEnd(final Token token) {
+        return CONDITION_END_TYPES.contains(token.getType()) || isWord(token, CLAUSE_BEGIN_WORDS);
+    }
+    
+    private boolean isNormalizableLiteral(final Token token) {
+        String literals = token.getLiterals();
+        if (Literals.INT == token.getType()) {
+            return !literals.startsWith("-") && String.valueOf(NumberUtil.getExactlyNumber(literals, 10)).equals(literals);
+        }
+        if (Literals.CHARS == token.getType()) {
+            int beginPosition = getBeginPosition(token);
+            return '\'' == sql.charAt(beginPosition) && (0 == beginPosition || !isIdentifierChar(sql.charAt(beginPosition - 1))) && -1 == literals.indexOf('\'') && -1 == literals.indexOf('\\');
+        }
+        return false;
+    }
+    
+    private boolean isIdentifierChar(final char ch) {
+        return CharType.isAlphabet(ch) || CharType.isDigital(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isWord(final Token token, final Collection<String> words) {
+        return (!(token.getType() instanceof Literals) || Literals.IDENTIFIER == token.getType()) && words.contains(token.getLiterals().toUpperCase());
+    }
+    
+    private Token getToken(final List<Token> tokens, final int index) {
+        return index < tokens.size() ? tokens.get(index) : tokens.get(tokens.size() - 1);
+    }
+    
+    private int getBeginPosition(final Token token) {
+        return Literals.CHARS == token.getType() ? token.getEndPosition() - token.getLiterals().length() - 2 : token.getEndPosition() - token.getLiterals().length();
+    }
+    
+    private NormalizedSQL createNormalizedSQL(final List<Token> tokens, final List<Integer> literalIndexes) {
+        StringBuilder normalizedSQL = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>(literalIndexes.size());
+        int position = 0;
+        for (int each : literalIndexes) {
+            Token token = tokens.get(each);
+            int beginPosition = getBeginPosition(token);
+            Object parameter = Literals.INT == token.getType() ? NumberUtil.getExactlyNumber(token.getLiterals(), 10) : token.getLiterals();
+            normalizedSQL.append(sql, position, beginPosition).append(Symbol.QUESTION.getLiterals());
+            parameters.add(parameter);
+            position = token.getEndPosition();
+        }
+        normalizedSQL.append(sql, position, sql.length());
+        return new NormalizedSQL(normalizedSQL.toString(), parameters, databaseType);
+    }
+}
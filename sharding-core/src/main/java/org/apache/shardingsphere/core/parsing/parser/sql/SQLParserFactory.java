@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.core.parsing.parser.sql;
 
+import com.google.common.base.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.SQLType;
 import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.parsing.SQLStatementClassifier;
 import org.apache.shardingsphere.core.parsing.antlr.AntlrParsingEngine;
 import org.apache.shardingsphere.core.parsing.antlr.sql.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.core.parsing.antlr.sql.statement.ddl.DDLStatement;
@@ -66,6 +69,10 @@ public final class SQLParserFactory {
      */
     public static SQLParser newInstance(
             final DatabaseType dbType, final ShardingRule shardingRule, final LexerEngine lexerEngine, final ShardingTableMetaData shardingTableMetaData, final String sql) {
+        Optional<SQLType> sqlType = SQLStatementClassifier.classify(sql);
+        if (sqlType.isPresent() && isAntlrParsing(dbType, sqlType.get())) {
+            return new AntlrParsingEngine(dbType, sql, shardingRule, shardingTableMetaData);
+        }
         lexerEngine.nextToken();
         TokenType tokenType = lexerEngine.getCurrentToken().getType();
         if (DQLStatement.isDQL(tokenType)) {
@@ -103,6 +110,20 @@ public final class SQLParserFactory {
         throw new SQLParsingUnsupportedException(tokenType);
     }
     
+    private static boolean isAntlrParsing(final DatabaseType dbType, final SQLType sqlType) {
+        switch (sqlType) {
+            case DQL:
+            case DML:
+                return DatabaseType.MySQL == dbType || DatabaseType.H2 == dbType;
+            case DDL:
+            case DCL:
+            case TCL:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
     private static SQLParser getDQLParser(final DatabaseType dbType, final ShardingRule shardingRule, final LexerEngine lexerEngine, final ShardingTableMetaData shardingTableMetaData) {
         return SelectParserFactory.newInstance(dbType, shardingRule, lexerEngine, shardingTableMetaData);
     }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.streaming;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.AbstractIterator;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngine;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import org.apache.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import org.apache.shardingsphere.core.parsing.lexer.token.Symbol;
+
+/**
+ * Insert row group splitter.
+ * 
+ * <p>
+ * Split multi-rows insert statement into insert statements of row groups.
+ * Rows of values are tokenized incrementally when next row group is required, so only one row group is held in memory besides the original SQL.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class InsertRowGroupSplitter extends AbstractIterator<String> {
+    
+    private final String sql;
+    
+    private final int rowGroupSize;
+    
+    private final LexerEngine lexerEngine;
+    
+    private final int valuesEndPosition;
+    
+    private InsertRowGroupSplitter(final DatabaseType databaseType, final String sql, final int rowGroupSize) {
+        this.sql = sql;
+        this.rowGroupSize = rowGroupSize;
+        lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        valuesEndPosition = skipToValues(lexerEngine);
+    }
+    
+    /**
+     * Create insert row group splitter.
+     * 
+     * <p>
+     * SQL is tokenized once without holding tokens to make sure it can be split, before any row group is generated.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @param rowGroupSize max rows size of each row group
+     * @return insert row group splitter, absent if SQL is not an insert statement with more rows of values than row group size
+     */
+    public static Optional<InsertRowGroupSplitter> newInstance(final DatabaseType databaseType, final String sql, final int rowGroupSize) {
+        if (rowGroupSize < 1 || !isSplittable(databaseType, sql, rowGroupSize)) {
+            return Optional.absent();
+        }
+        return Optional.of(new InsertRowGroupSplitter(databaseType, sql, rowGroupSize));
+    }
+    
+    private static boolean isSplittable(final DatabaseType databaseType, final String sql, final int rowGroupSize) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, sql);
+        try {
+            if (-1 == skipToValues(lexerEngine)) {
+                return false;
+            }
+            int rowsCount = 0;
+            do {
+                if (-1 == skipRow(lexerEngine)) {
+                    return false;
+                }
+                rowsCount++;
+            } while (lexerEngine.skipIfEqual(Symbol.COMMA));
+            lexerEngine.skipIfEqual(Symbol.SEMI);
+            return lexerEngine.isEnd() && rowsCount > rowGroupSize;
+        } catch (final ShardingException ex) {
+            return false;
+        }
+    }
+    
+    private static int skipToValues(final LexerEngine lexerEngine) {
+        lexerEngine.nextToken();
+        if (!lexerEngine.equalAny(DefaultKeyword.INSERT)) {
+            return -1;
+        }
+        int depth = 0;
+        while (!lexerEngine.isEnd()) {
+            lexerEngine.nextToken();
+            if (lexerEngine.equalAny(Symbol.LEFT_PAREN)) {
+                depth++;
+            } else if (lexerEngine.equalAny(Symbol.RIGHT_PAREN)) {
+                depth--;
+            } else if (0 == depth && lexerEngine.equalAny(DefaultKeyword.VALUES)) {
+                int result = lexerEngine.getCurrentToken().getEndPosition();
+                lexerEngine.nextToken();
+                return result;
+            } else if (0 == depth && lexerEngine.equalAny(DefaultKeyword.SELECT, DefaultKeyword.SET)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+    
+    private static int skipRow(final LexerEngine lexerEngine) {
+        if (!lexerEngine.equalAny(Symbol.LEFT_PAREN)) {
+            return -1;
+        }
+        int depth = 0;
+        while (!lexerEngine.isEnd()) {
+            if (lexerEngine.equalAny(Symbol.LEFT_PAREN)) {
+                depth++;
+            } else if (lexerEngine.equalAny(Symbol.RIGHT_PAREN)) {
+                depth--;
+            }
+            if (0 == depth) {
+                int result = lexerEngine.getCurrentToken().getEndPosition();
+                lexerEngine.nextToken();
+                return result;
+            }
+            lexerEngine.nextToken();
+        }
+        return -1;
+    }
+    
+    @Override
+    protected String computeNext() {
+        lexerEngine.skipIfEqual(Symbol.COMMA);
+        if (!lexerEngine.equalAny(Symbol.LEFT_PAREN)) {
+            return endOfData();
+        }
+        StringBuilder result = new StringBuilder(sql.substring(0, valuesEndPosition));
+        int rowsCount = 0;
+        do {
+            int beginPosition = lexerEngine.getCurrentToken().getEndPosition() - Symbol.LEFT_PAREN.getLiterals().length();
+            result.append(0 == rowsCount ? " " : ", ").append(sql, beginPosition, skipRow(lexerEngine));
+            rowsCount++;
+        } while (rowsCount < rowGroupSize && lexerEngine.skipIfEqual(Symbol.COMMA));
+        return result.toString();
+    }
+}
@@ -64,6 +64,26 @@ public final class SQLBuilder {
         segments.add(currentSegment);
     }
     
+    private SQLBuilder(final List<Object> segments, final List<Object> parameters) {
+        this.segments = new ArrayList<>(segments.size() + 1);
+        this.segments.addAll(segments);
+        this.parameters = parameters;
+        currentSegment = new StringBuilder();
+        this.segments.add(currentSegment);
+    }
+    
+    /**
+     * Bind parameters to a copy of this SQL builder.
+     * 
+     * <p>Rewritten segments are shared with this SQL builder, literals appended to the copy will not affect this SQL builder.</p>
+     *
+     * @param parameters parameters
+     * @return SQL builder with new parameters
+     */
+    public SQLBuilder bind(final List<Object> parameters) {
+        return new SQLBuilder(segments, parameters);
+    }
+    
     /**
      * Append literals.
      *
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.routing;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.routing.pagination.KeysetCursorCache;
 import org.apache.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import org.apache.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
@@ -44,15 +45,26 @@ public final class PreparedStatementRoutingEngine {
     private SQLStatement sqlStatement;
     
     public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL) {
+        this(logicSQL, shardingRule, shardingMetaData, databaseType, showSQL, null);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                          final DatabaseType databaseType, final boolean showSQL, final KeysetCursorCache keysetCursorCache) {
+        this(logicSQL, shardingRule, shardingMetaData, databaseType, showSQL, keysetCursorCache, null);
+    }
+    
+    public PreparedStatementRoutingEngine(final String logicSQL, final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, 
+                                          final DatabaseType databaseType, final boolean showSQL, final KeysetCursorCache keysetCursorCache, final SQLStatement sqlStatement) {
         this.logicSQL = logicSQL;
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, showSQL);
+        this.sqlStatement = sqlStatement;
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, showSQL, keysetCursorCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
     }
     
     /**
      * SQL route.
      * 
-     * <p>First routing time will parse SQL, after second time will reuse first parsed result.</p>
+     * <p>First routing time will parse SQL if SQL statement is not parsed in advance, after second time will reuse first parsed result.</p>
      * 
      * @param parameters parameters of SQL placeholder
      * @return route result
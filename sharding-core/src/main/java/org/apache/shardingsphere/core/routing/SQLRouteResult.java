@@ -19,7 +19,9 @@ package org.apache.shardingsphere.core.routing;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
 import org.apache.shardingsphere.core.routing.router.sharding.GeneratedKey;
 
 import java.util.Collection;
@@ -42,6 +44,9 @@ public final class SQLRouteResult {
     
     private final Collection<RouteUnit> routeUnits = new LinkedHashSet<>();
     
+    @Setter
+    private PaginationContext paginationContext;
+    
     public SQLRouteResult(final SQLStatement sqlStatement) {
         this(sqlStatement, null);
     }
@@ -17,15 +17,23 @@
 
 package org.apache.shardingsphere.core.routing;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.parsing.normalization.NormalizedSQL;
+import org.apache.shardingsphere.core.parsing.normalization.SQLNormalizationEngine;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.routing.pagination.KeysetCursorCache;
 import org.apache.shardingsphere.core.routing.router.masterslave.ShardingMasterSlaveRouter;
 import org.apache.shardingsphere.core.routing.router.sharding.ShardingRouter;
 import org.apache.shardingsphere.core.routing.router.sharding.ShardingRouterFactory;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 
 /**
  * Statement routing engine.
@@ -39,9 +47,29 @@ public final class StatementRoutingEngine {
     
     private final ShardingMasterSlaveRouter masterSlaveRouter;
     
+    private final DatabaseType databaseType;
+    
+    private final KeysetCursorCache keysetCursorCache;
+    
+    private final boolean literalNormalizationEnabled;
+    
     public StatementRoutingEngine(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL) {
-        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, showSQL);
+        this(shardingRule, shardingMetaData, databaseType, showSQL, null);
+    }
+    
+    public StatementRoutingEngine(
+            final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL, final KeysetCursorCache keysetCursorCache) {
+        this(shardingRule, shardingMetaData, databaseType, showSQL, keysetCursorCache, false);
+    }
+    
+    public StatementRoutingEngine(
+            final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL,
+            final KeysetCursorCache keysetCursorCache, final boolean literalNormalizationEnabled) {
+        shardingRouter = ShardingRouterFactory.newInstance(shardingRule, shardingMetaData, databaseType, showSQL, keysetCursorCache);
         masterSlaveRouter = new ShardingMasterSlaveRouter(shardingRule.getMasterSlaveRules());
+        this.databaseType = databaseType;
+        this.keysetCursorCache = keysetCursorCache;
+        this.literalNormalizationEnabled = literalNormalizationEnabled;
     }
     
     /**
@@ -51,7 +79,32 @@ public final class StatementRoutingEngine {
      * @return route result
      */
     public SQLRouteResult route(final String logicSQL) {
+        if (literalNormalizationEnabled) {
+            Optional<NormalizedSQL> normalizedSQL = new SQLNormalizationEngine(databaseType, logicSQL).normalize();
+            if (normalizedSQL.isPresent()) {
+                Optional<SQLRouteResult> result = route(normalizedSQL.get());
+                if (result.isPresent()) {
+                    return result.get();
+                }
+            }
+        }
         SQLStatement sqlStatement = shardingRouter.parse(logicSQL, false);
         return masterSlaveRouter.route(shardingRouter.route(logicSQL, Collections.emptyList(), sqlStatement));
     }
+    
+    private Optional<SQLRouteResult> route(final NormalizedSQL normalizedSQL) {
+        SQLStatement sqlStatement = shardingRouter.parse(normalizedSQL.getSql(), true);
+        if (null != keysetCursorCache && sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
+            return Optional.absent();
+        }
+        SQLRouteResult result = masterSlaveRouter.route(shardingRouter.route(normalizedSQL.getSql(), new ArrayList<>(normalizedSQL.getParameters()), sqlStatement));
+        Collection<RouteUnit> routeUnits = new LinkedList<>();
+        for (RouteUnit each : result.getRouteUnits()) {
+            String sql = normalizedSQL.restoreLiterals(each.getSqlUnit().getSql(), each.getSqlUnit().getParameterSets().get(0));
+            routeUnits.add(new RouteUnit(each.getDataSourceName(), new SQLUnit(sql, new ArrayList<>(Collections.singleton(Collections.<Object>emptyList())))));
+        }
+        result.getRouteUnits().clear();
+        result.getRouteUnits().addAll(routeUnits);
+        return Optional.of(result);
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.pagination;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyset cursor cache.
+ * 
+ * <p>
+ * Remember the last order by key of each returned page, so the next page can start from the key instead of skipping offset rows.
+ * Each sharding runtime context owns one cache, so cursors of same SQL are never shared between different schemas.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class KeysetCursorCache {
+    
+    private final Cache<String, Comparable<?>> cache;
+    
+    public KeysetCursorCache(final int maximumSize, final int expireSeconds) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).expireAfterAccess(expireSeconds, TimeUnit.SECONDS).build();
+    }
+    
+    /**
+     * Get last key of page ends at offset.
+     * 
+     * @param cursorKey cursor key
+     * @param endOffset end offset of page
+     * @return last key of page
+     */
+    public Optional<Comparable<?>> get(final String cursorKey, final int endOffset) {
+        return Optional.<Comparable<?>>fromNullable(cache.getIfPresent(getCacheKey(cursorKey, endOffset)));
+    }
+    
+    /**
+     * Put last key of page ends at offset.
+     * 
+     * @param cursorKey cursor key
+     * @param endOffset end offset of page
+     * @param lastKey last key of page
+     */
+    public void put(final String cursorKey, final int endOffset, final Comparable<?> lastKey) {
+        cache.put(getCacheKey(cursorKey, endOffset), lastKey);
+    }
+    
+    private String getCacheKey(final String cursorKey, final int endOffset) {
+        return cursorKey + '#' + endOffset;
+    }
+    
+    /**
+     * Get cached cursors size.
+     * 
+     * @return cached cursors size
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.pagination;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngine;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import org.apache.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
+import org.apache.shardingsphere.core.parsing.lexer.token.Symbol;
+import org.apache.shardingsphere.core.parsing.lexer.token.Token;
+import org.apache.shardingsphere.core.parsing.lexer.token.TokenType;
+import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
+import org.apache.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import org.apache.shardingsphere.core.parsing.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.parsing.parser.token.OffsetToken;
+import org.apache.shardingsphere.core.parsing.parser.token.RowCountToken;
+import org.apache.shardingsphere.core.parsing.parser.token.SQLToken;
+import org.apache.shardingsphere.core.util.NumberUtil;
+import org.apache.shardingsphere.core.util.SQLUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyset pagination rewriter.
+ * 
+ * <p>
+ * Query ordered by single column primary key can seek from last key of previous page by {@code WHERE key > last_key LIMIT 0, count},
+ * so every shard returns count rows instead of offset + count rows.
+ * Predicate is only appended to a where clause without top level {@code OR}, subquery and union are not supported.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class KeysetPaginationRewriter {
+    
+    private final DatabaseType databaseType;
+    
+    private final String logicSQL;
+    
+    private final List<Object> parameters;
+    
+    private final SelectStatement selectStatement;
+    
+    private final ShardingTableMetaData shardingTableMetaData;
+    
+    /**
+     * Judge is keyset pagination supported or not.
+     * 
+     * @return keyset pagination is supported or not
+     */
+    public boolean isSupported() {
+        Limit limit = selectStatement.getLimit();
+        if (null == limit || null == limit.getOffset() || null == limit.getRowCount() || !limit.isNeedRewriteRowCount(databaseType)) {
+            return false;
+        }
+        if (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty() || selectStatement.getDistinctSelectItem().isPresent()) {
+            return false;
+        }
+        if (selectStatement.containsSubquery() || !selectStatement.getSubqueryStatements().isEmpty() || !selectStatement.getTables().isSingleTable()) {
+            return false;
+        }
+        return 1 == selectStatement.getOrderByItems().size() && isPrimaryKey(selectStatement.getOrderByItems().get(0));
+    }
+    
+    private boolean isPrimaryKey(final OrderItem orderItem) {
+        if (orderItem.isIndex() || !orderItem.getName().isPresent()) {
+            return false;
+        }
+        TableMetaData tableMetaData = shardingTableMetaData.get(selectStatement.getTables().getSingleTableName());
+        if (null == tableMetaData) {
+            return false;
+        }
+        String primaryKey = null;
+        for (ColumnMetaData each : tableMetaData.getColumns().values()) {
+            if (each.isPrimaryKey()) {
+                if (null != primaryKey) {
+                    return false;
+                }
+                primaryKey = each.getColumnName();
+            }
+        }
+        return null != primaryKey && primaryKey.equalsIgnoreCase(SQLUtil.getExactlyValue(orderItem.getName().get()));
+    }
+    
+    /**
+     * Get cursor key, which identifies query without limit offset and row count.
+     * 
+     * @return cursor key
+     */
+    public String getCursorKey() {
+        StringBuilder result = new StringBuilder(logicSQL);
+        for (int i = selectStatement.getSQLTokens().size() - 1; i >= 0; i--) {
+            SQLToken each = selectStatement.getSQLTokens().get(i);
+            if (each instanceof OffsetToken) {
+                result.replace(each.getBeginPosition(), each.getBeginPosition() + String.valueOf(((OffsetToken) each).getOffset()).length(), "?");
+            } else if (each instanceof RowCountToken) {
+                result.replace(each.getBeginPosition(), each.getBeginPosition() + String.valueOf(((RowCountToken) each).getRowCount()).length(), "?");
+            }
+        }
+        Limit limit = selectStatement.getLimit();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i != limit.getOffset().getIndex() && i != limit.getRowCount().getIndex()) {
+                result.append('|').append(parameters.get(i));
+            }
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Get offset value.
+     * 
+     * @return offset value
+     */
+    public int getOffsetValue() {
+        LimitValue offset = selectStatement.getLimit().getOffset();
+        return -1 == offset.getIndex() ? offset.getValue() : NumberUtil.roundHalfUp(parameters.get(offset.getIndex()));
+    }
+    
+    /**
+     * Rewrite to keyset pagination.
+     * 
+     * @param lastKey last key of previous page
+     * @return keyset pagination SQL, absent if SQL can not be rewritten
+     */
+    public Optional<KeysetPaginationSQL> rewrite(final Comparable<?> lastKey) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(databaseType, logicSQL);
+        int depth = 0;
+        int selectCount = 0;
+        int parameterCount = 0;
+        int whereEndPosition = -1;
+        int orderBeginPosition = -1;
+        int parameterIndex = -1;
+        lexerEngine.nextToken();
+        while (!lexerEngine.isEnd()) {
+            Token token = lexerEngine.getCurrentToken();
+            TokenType tokenType = token.getType();
+            if (DefaultKeyword.SELECT == tokenType) {
+                selectCount++;
+            }
+            if (selectCount > 1 || DefaultKeyword.UNION == tokenType) {
+                return Optional.absent();
+            }
+            if (Symbol.LEFT_PAREN == tokenType) {
+                depth++;
+            } else if (Symbol.RIGHT_PAREN == tokenType) {
+                depth--;
+            } else if (Symbol.QUESTION == tokenType) {
+                parameterCount++;
+            } else if (0 == depth && -1 == orderBeginPosition) {
+                if (DefaultKeyword.WHERE == tokenType) {
+                    whereEndPosition = token.getEndPosition();
+                } else if (DefaultKeyword.ORDER == tokenType) {
+                    orderBeginPosition = token.getEndPosition() - token.getLiterals().length();
+                    parameterIndex = parameterCount;
+                } else if (-1 != whereEndPosition && (DefaultKeyword.OR == tokenType || Symbol.DOUBLE_BAR == tokenType)) {
+                    return Optional.absent();
+                }
+            }
+            lexerEngine.nextToken();
+        }
+        if (-1 == orderBeginPosition || 0 == parameterCount && !(lastKey instanceof Number)) {
+            return Optional.absent();
+        }
+        List<Object> rewrittenParameters = new ArrayList<>(parameters);
+        StringBuilder rewrittenSQL = new StringBuilder(logicSQL);
+        rewriteOffset(rewrittenSQL, rewrittenParameters);
+        String keyLiterals = 0 == parameterCount ? getNumberLiterals((Number) lastKey) : Symbol.QUESTION.getLiterals();
+        if (0 != parameterCount) {
+            rewrittenParameters.add(parameterIndex, lastKey);
+        }
+        String predicate = getPredicate(-1 == whereEndPosition, keyLiterals);
+        rewrittenSQL.insert(orderBeginPosition, Character.isWhitespace(logicSQL.charAt(orderBeginPosition - 1)) ? predicate : " " + predicate);
+        return Optional.of(new KeysetPaginationSQL(rewrittenSQL.toString(), rewrittenParameters));
+    }
+    
+    private void rewriteOffset(final StringBuilder rewrittenSQL, final List<Object> rewrittenParameters) {
+        LimitValue offset = selectStatement.getLimit().getOffset();
+        if (-1 != offset.getIndex()) {
+            rewrittenParameters.set(offset.getIndex(), 0);
+            return;
+        }
+        for (SQLToken each : selectStatement.getSQLTokens()) {
+            if (each instanceof OffsetToken) {
+                rewrittenSQL.replace(each.getBeginPosition(), each.getBeginPosition() + String.valueOf(((OffsetToken) each).getOffset()).length(), "0");
+            }
+        }
+    }
+    
+    private String getNumberLiterals(final Number number) {
+        return number instanceof BigDecimal ? ((BigDecimal) number).toPlainString() : number.toString();
+    }
+    
+    private String getPredicate(final boolean isNewWhere, final String keyLiterals) {
+        OrderItem orderItem = selectStatement.getOrderByItems().get(0);
+        String operator = OrderDirection.ASC == orderItem.getOrderDirection() ? Symbol.GT.getLiterals() : Symbol.LT.getLiterals();
+        return String.format("%s %s %s %s ", isNewWhere ? DefaultKeyword.WHERE : DefaultKeyword.AND, orderItem.getQualifiedName().get(), operator, keyLiterals);
+    }
+}
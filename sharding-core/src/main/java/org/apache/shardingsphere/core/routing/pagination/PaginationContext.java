@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pagination context of one query.
+ * 
+ * <p>
+ * Requested rows are what shards would return for {@code LIMIT 0, offset + count}, merged rows are what merge really pulled from shards.
+ * Rows not pulled by merge may still be sent by databases and buffered by drivers, so the two counters do not tell saved rows of databases.
+ * Saved rows only count rows which keyset pagination rewrite excluded from {@code LIMIT} of every shard.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class PaginationContext {
+    
+    private final int shardCount;
+    
+    private final int offset;
+    
+    private final int rowCount;
+    
+    private final boolean keysetRewritten;
+    
+    private final String cursorKey;
+    
+    private final KeysetCursorCache cursorCache;
+    
+    private final AtomicLong mergedRowCount = new AtomicLong();
+    
+    /**
+     * Judge is keyset cursor recordable or not.
+     * 
+     * @return keyset cursor is recordable or not
+     */
+    public boolean isCursorRecordable() {
+        return null != cursorKey && null != cursorCache;
+    }
+    
+    /**
+     * Record one row merged.
+     */
+    public void recordMergedRow() {
+        mergedRowCount.incrementAndGet();
+    }
+    
+    /**
+     * Get requested rows size of all shards.
+     * 
+     * @return requested rows size
+     */
+    public long getRequestedRowCount() {
+        return (long) shardCount * (offset + rowCount);
+    }
+    
+    /**
+     * Get rows saved by keyset pagination rewrite.
+     * 
+     * <p>
+     * Keyset rewritten query asks every shard for {@code LIMIT 0, count} instead of {@code LIMIT 0, offset + count},
+     * so offset rows of every shard can not be returned by databases any more.
+     * </p>
+     * 
+     * @return saved rows size, {@code 0} if query is not rewritten to keyset pagination
+     */
+    public long getSavedRowCount() {
+        return keysetRewritten ? (long) shardCount * offset : 0L;
+    }
+}
@@ -20,7 +20,7 @@ package org.apache.shardingsphere.core.routing.router.masterslave;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.SQLType;
 import org.apache.shardingsphere.core.hint.HintManagerHolder;
-import org.apache.shardingsphere.core.parsing.SQLJudgeEngine;
+import org.apache.shardingsphere.core.parsing.SQLStatementClassifier;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.util.SQLLogger;
 
@@ -49,7 +49,7 @@ public final class MasterSlaveRouter {
      */
     // TODO for multiple masters may return more than one data source
     public Collection<String> route(final String sql) {
-        Collection<String> result = route(new SQLJudgeEngine(sql).judge().getType());
+        Collection<String> result = route(SQLStatementClassifier.getSQLType(sql));
         if (showSQL) {
             SQLLogger.logSQL(sql, result);
         }
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.core.routing.router.sharding;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.algorithm.sharding.ListShardingValue;
 import org.apache.shardingsphere.api.algorithm.sharding.ShardingValue;
 import org.apache.shardingsphere.core.constant.DatabaseType;
@@ -29,11 +28,13 @@ import org.apache.shardingsphere.core.optimizer.OptimizeEngineFactory;
 import org.apache.shardingsphere.core.optimizer.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimizer.condition.ShardingConditions;
 import org.apache.shardingsphere.core.parsing.SQLParsingEngine;
+import org.apache.shardingsphere.core.parsing.cache.ParsingResultCache;
 import org.apache.shardingsphere.core.parsing.parser.context.condition.AndCondition;
 import org.apache.shardingsphere.core.parsing.parser.context.condition.Column;
 import org.apache.shardingsphere.core.parsing.parser.context.condition.Condition;
 import org.apache.shardingsphere.core.parsing.parser.context.condition.Conditions;
 import org.apache.shardingsphere.core.parsing.parser.context.condition.GeneratedKeyCondition;
+import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
@@ -41,6 +42,10 @@ import org.apache.shardingsphere.core.rewrite.SQLBuilder;
 import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
 import org.apache.shardingsphere.core.routing.RouteUnit;
 import org.apache.shardingsphere.core.routing.SQLRouteResult;
+import org.apache.shardingsphere.core.routing.pagination.KeysetCursorCache;
+import org.apache.shardingsphere.core.routing.pagination.KeysetPaginationRewriter;
+import org.apache.shardingsphere.core.routing.pagination.KeysetPaginationSQL;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
 import org.apache.shardingsphere.core.routing.type.RoutingResult;
 import org.apache.shardingsphere.core.routing.type.TableUnit;
 import org.apache.shardingsphere.core.rule.BindingTableRule;
@@ -61,7 +66,6 @@ import java.util.List;
  * @author panjuan
  * @author zhangyonglun
  */
-@RequiredArgsConstructor
 public final class ParsingSQLRouter implements ShardingRouter {
     
     private final ShardingRule shardingRule;
@@ -72,10 +76,24 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     private final boolean showSQL;
     
+    private final KeysetCursorCache keysetCursorCache;
+    
     private final List<Comparable<?>> generatedKeys = new LinkedList<>();
     
     private final ParsingHook parsingHook = new SPIParsingHook();
     
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL) {
+        this(shardingRule, shardingMetaData, databaseType, showSQL, null);
+    }
+    
+    public ParsingSQLRouter(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL, final KeysetCursorCache keysetCursorCache) {
+        this.shardingRule = shardingRule;
+        this.shardingMetaData = shardingMetaData;
+        this.databaseType = databaseType;
+        this.showSQL = showSQL;
+        this.keysetCursorCache = keysetCursorCache;
+    }
+    
     @Override
     public SQLStatement parse(final String logicSQL, final boolean useCache) {
         parsingHook.start(logicSQL);
@@ -93,6 +111,32 @@ public final class ParsingSQLRouter implements ShardingRouter {
     
     @Override
     public SQLRouteResult route(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
+        if (null != keysetCursorCache && sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
+            return routeWithKeysetPagination(logicSQL, parameters, (SelectStatement) sqlStatement);
+        }
+        return doRoute(logicSQL, parameters, sqlStatement);
+    }
+    
+    private SQLRouteResult routeWithKeysetPagination(final String logicSQL, final List<Object> parameters, final SelectStatement selectStatement) {
+        KeysetPaginationRewriter keysetPaginationRewriter = new KeysetPaginationRewriter(databaseType, logicSQL, parameters, selectStatement, shardingMetaData.getTable());
+        if (!keysetPaginationRewriter.isSupported()) {
+            return doRoute(logicSQL, parameters, selectStatement);
+        }
+        String cursorKey = keysetPaginationRewriter.getCursorKey();
+        int offset = keysetPaginationRewriter.getOffsetValue();
+        Optional<Comparable<?>> lastKey = 0 == offset ? Optional.<Comparable<?>>absent() : keysetCursorCache.get(cursorKey, offset);
+        Optional<KeysetPaginationSQL> keysetPaginationSQL = lastKey.isPresent() ? keysetPaginationRewriter.rewrite(lastKey.get()) : Optional.<KeysetPaginationSQL>absent();
+        SQLRouteResult result = keysetPaginationSQL.isPresent()
+                ? doRoute(keysetPaginationSQL.get().getSql(), keysetPaginationSQL.get().getParameters(), parse(keysetPaginationSQL.get().getSql(), true))
+                : doRoute(logicSQL, parameters, selectStatement);
+        if (null != result.getPaginationContext()) {
+            PaginationContext paginationContext = result.getPaginationContext();
+            result.setPaginationContext(new PaginationContext(paginationContext.getShardCount(), offset, paginationContext.getRowCount(), keysetPaginationSQL.isPresent(), cursorKey, keysetCursorCache));
+        }
+        return result;
+    }
+    
+    private SQLRouteResult doRoute(final String logicSQL, final List<Object> parameters, final SQLStatement sqlStatement) {
         Optional<GeneratedKey> generatedKey = sqlStatement instanceof InsertStatement ? getGenerateKey(parameters, (InsertStatement) sqlStatement) : Optional.<GeneratedKey>absent();
         SQLRouteResult result = new SQLRouteResult(sqlStatement, generatedKey.orNull());
         ShardingConditions shardingConditions = OptimizeEngineFactory.newInstance(shardingRule, sqlStatement, parameters, generatedKey.orNull()).optimize();
@@ -109,16 +153,24 @@ public final class ParsingSQLRouter implements ShardingRouter {
         if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit()) {
             processLimit(parameters, (SelectStatement) sqlStatement, isSingleRouting);
         }
-        SQLBuilder sqlBuilder = rewriteEngine.rewrite(isSingleRouting);
+        SQLBuilder sqlBuilder = isRoutePlanAvailable(sqlStatement)
+                ? RoutePlanCache.getInstance().getRoutePlan(sqlStatement).getSQLBuilder(isSingleRouting, rewriteEngine, parameters) : rewriteEngine.rewrite(isSingleRouting);
         for (TableUnit each : routingResult.getTableUnits().getTableUnits()) {
             result.getRouteUnits().add(new RouteUnit(each.getDataSourceName(), rewriteEngine.generateSQL(each, sqlBuilder, shardingMetaData.getDataSource())));
         }
+        if (sqlStatement instanceof SelectStatement && null != ((SelectStatement) sqlStatement).getLimit() && !isSingleRouting) {
+            result.setPaginationContext(createPaginationContext((SelectStatement) sqlStatement, result.getRouteUnits().size()));
+        }
         if (showSQL) {
             SQLLogger.logSQL(logicSQL, sqlStatement, result.getRouteUnits());
         }
         return result;
     }
     
+    private boolean isRoutePlanAvailable(final SQLStatement sqlStatement) {
+        return RoutePlan.isCacheable(sqlStatement) && ParsingResultCache.getInstance().isCached(sqlStatement);
+    }
+    
     private Optional<GeneratedKey> getGenerateKey(final List<Object> parameters, final InsertStatement insertStatement) {
         GeneratedKey result = null;
         if (-1 != insertStatement.getGenerateKeyColumnIndex()) {
@@ -251,7 +303,18 @@ public final class ParsingSQLRouter implements ShardingRouter {
     }
     
     private void processLimit(final List<Object> parameters, final SelectStatement selectStatement, final boolean isSingleRouting) {
-        boolean isNeedFetchAll = (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) && !selectStatement.isSameGroupByAndOrderByItems();
-        selectStatement.getLimit().processParameters(parameters, isNeedFetchAll, databaseType, isSingleRouting);
+        selectStatement.getLimit().processParameters(parameters, isNeedFetchAll(selectStatement), databaseType, isSingleRouting);
+    }
+    
+    private boolean isNeedFetchAll(final SelectStatement selectStatement) {
+        return (!selectStatement.getGroupByItems().isEmpty() || !selectStatement.getAggregationSelectItems().isEmpty()) && !selectStatement.isSameGroupByAndOrderByItems();
+    }
+    
+    private PaginationContext createPaginationContext(final SelectStatement selectStatement, final int shardCount) {
+        Limit limit = selectStatement.getLimit();
+        if (isNeedFetchAll(selectStatement) || limit.getRowCountValue() < 0 || !limit.isNeedRewriteRowCount(databaseType)) {
+            return null;
+        }
+        return new PaginationContext(shardCount, limit.getOffsetValue(), limit.getRowCountValue(), false, null, null);
     }
 }
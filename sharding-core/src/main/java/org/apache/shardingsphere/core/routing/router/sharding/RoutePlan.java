@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.router.sharding;
+
+import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.rewrite.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Route plan.
+ * 
+ * <p>Hold parameter agnostic rewrite templates of SQL statement, 
+ * repeated routing only need to bind parameters to template instead of rewriting SQL again.</p>
+ *
+ * @author zhangliang
+ */
+public final class RoutePlan {
+    
+    private volatile SQLBuilder singleRoutingTemplate;
+    
+    private volatile SQLBuilder multipleRoutingTemplate;
+    
+    /**
+     * Judge is SQL statement can use route plan or not.
+     * 
+     * <p>Rewrite result of insert values and parameter marked limit depends on parameters, so can not use route plan.</p>
+     * 
+     * @param sqlStatement SQL statement
+     * @return SQL statement can use route plan or not
+     */
+    public static boolean isCacheable(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return false;
+        }
+        if (!(sqlStatement instanceof SelectStatement) || null == ((SelectStatement) sqlStatement).getLimit()) {
+            return true;
+        }
+        Limit limit = ((SelectStatement) sqlStatement).getLimit();
+        return (null == limit.getOffset() || -1 == limit.getOffset().getIndex()) && (null == limit.getRowCount() || -1 == limit.getRowCount().getIndex());
+    }
+    
+    /**
+     * Get SQL builder with parameters bound.
+     * 
+     * @param isSingleRouting is single routing or not
+     * @param rewriteEngine SQL rewrite engine, only used for first routing
+     * @param parameters parameters
+     * @return SQL builder
+     */
+    public SQLBuilder getSQLBuilder(final boolean isSingleRouting, final SQLRewriteEngine rewriteEngine, final List<Object> parameters) {
+        SQLBuilder template = isSingleRouting ? singleRoutingTemplate : multipleRoutingTemplate;
+        if (null == template) {
+            template = rewriteEngine.rewrite(isSingleRouting).bind(Collections.emptyList());
+            if (isSingleRouting) {
+                singleRoutingTemplate = template;
+            } else {
+                multipleRoutingTemplate = template;
+            }
+        }
+        return template.bind(parameters);
+    }
+}
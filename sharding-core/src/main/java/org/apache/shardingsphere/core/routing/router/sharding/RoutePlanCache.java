@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.router.sharding;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+
+/**
+ * Route plan cache.
+ * 
+ * <p>Route plans are weak referenced by SQL statement, so they have same lifecycle with parsing result cache.
+ * Only SQL statements loaded by parsing result cache should use route plan, uncached SQL statements are never routed twice.</p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RoutePlanCache {
+    
+    private static final RoutePlanCache INSTANCE = new RoutePlanCache();
+    
+    private final LoadingCache<SQLStatement, RoutePlan> cache = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<SQLStatement, RoutePlan>() {
+        
+        @Override
+        public RoutePlan load(final SQLStatement key) {
+            return new RoutePlan();
+        }
+    });
+    
+    /**
+     * Get route plan cache instance.
+     * 
+     * @return route plan cache instance
+     */
+    public static RoutePlanCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get route plan.
+     * 
+     * @param sqlStatement SQL statement
+     * @return route plan
+     */
+    public RoutePlan getRoutePlan(final SQLStatement sqlStatement) {
+        return cache.getUnchecked(sqlStatement);
+    }
+    
+    /**
+     * Get cached route plans size.
+     * 
+     * @return cached route plans size
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
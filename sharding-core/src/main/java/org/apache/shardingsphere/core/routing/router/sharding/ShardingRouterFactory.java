@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.hint.HintManagerHolder;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.routing.pagination.KeysetCursorCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 /**
@@ -43,6 +44,22 @@ public final class ShardingRouterFactory {
      * @return sharding router instance
      */
     public static ShardingRouter newInstance(final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL) {
-        return HintManagerHolder.isDatabaseShardingOnly() ? new DatabaseHintSQLRouter(shardingRule, showSQL) : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, showSQL);
+        return newInstance(shardingRule, shardingMetaData, databaseType, showSQL, null);
+    }
+    
+    /**
+     * Create new instance of sharding router.
+     * 
+     * @param shardingRule sharding rule
+     * @param shardingMetaData sharding meta data
+     * @param databaseType database type
+     * @param showSQL show SQL or not
+     * @param keysetCursorCache keyset cursor cache, null if keyset pagination rewrite is disabled
+     * @return sharding router instance
+     */
+    public static ShardingRouter newInstance(
+            final ShardingRule shardingRule, final ShardingMetaData shardingMetaData, final DatabaseType databaseType, final boolean showSQL, final KeysetCursorCache keysetCursorCache) {
+        return HintManagerHolder.isDatabaseShardingOnly()
+                ? new DatabaseHintSQLRouter(shardingRule, showSQL) : new ParsingSQLRouter(shardingRule, shardingMetaData, databaseType, showSQL, keysetCursorCache);
     }
 }
@@ -25,6 +25,8 @@ import org.apache.shardingsphere.api.algorithm.sharding.PreciseShardingValue;
 import org.apache.shardingsphere.api.algorithm.sharding.ShardingValue;
 import org.apache.shardingsphere.api.config.strategy.InlineShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.routing.strategy.ShardingStrategy;
+import org.apache.shardingsphere.core.util.InlineExpressionCompiler;
+import org.apache.shardingsphere.core.util.InlineExpressionEvaluator;
 import org.apache.shardingsphere.core.util.InlineExpressionParser;
 
 import java.util.ArrayList;
@@ -44,12 +46,15 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final Closure<?> closure;
     
+    private final InlineExpressionEvaluator evaluator;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        evaluator = InlineExpressionCompiler.compile(algorithmExpression, shardingColumn).orNull();
     }
     
     @Override
@@ -80,6 +85,9 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (null != evaluator && evaluator.isSupported(shardingValue.getValue())) {
+            return evaluator.evaluate(shardingValue.getValue());
+        }
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
@@ -62,6 +62,8 @@ public class ShardingRule {
     
     private final Collection<String> broadcastTables;
     
+    private final Collection<String> cacheableTables;
+    
     private final ShardingStrategy defaultDatabaseShardingStrategy;
     
     private final ShardingStrategy defaultTableShardingStrategy;
@@ -77,6 +79,7 @@ public class ShardingRule {
         tableRules = createTableRules(shardingRuleConfig);
         bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        cacheableTables = shardingRuleConfig.getCacheableTables();
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
@@ -283,6 +286,39 @@ public class ShardingRule {
         return false;
     }
     
+    /**
+     * Judge logic tables is all belong to cacheable tables.
+     *
+     * @param logicTableNames logic table names
+     * @return logic tables is all belong to cacheable tables or not
+     */
+    public boolean isAllCacheableTables(final Collection<String> logicTableNames) {
+        if (logicTableNames.isEmpty()) {
+            return false;
+        }
+        for (String each : logicTableNames) {
+            if (!isCacheableTable(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Judge logic table is belong to cacheable tables.
+     *
+     * @param logicTableName logic table name
+     * @return logic table is belong to cacheable tables or not
+     */
+    public boolean isCacheableTable(final String logicTableName) {
+        for (String each : cacheableTables) {
+            if (each.equalsIgnoreCase(logicTableName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Judge logic tables is all belong to default data source.
      *
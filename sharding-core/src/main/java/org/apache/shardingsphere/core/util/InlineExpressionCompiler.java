@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>Compile common inline expressions to java evaluators, unsupported expressions should fall back to groovy.</p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("^([a-zA-Z_][a-zA-Z0-9_]*)$");
+    
+    private static final Pattern MOD_PATTERN = Pattern.compile("^([a-zA-Z_][a-zA-Z0-9_]*)\\s*%\\s*([0-9]+)$");
+    
+    private static final Pattern INTDIV_PATTERN = Pattern.compile("^([a-zA-Z_][a-zA-Z0-9_]*)\\.intdiv\\(\\s*([0-9]+)\\s*\\)$");
+    
+    private static final Pattern HASH_MOD_PATTERN = Pattern.compile("^([a-zA-Z_][a-zA-Z0-9_]*)\\.hashCode\\(\\)\\s*%\\s*([0-9]+)$");
+    
+    private static final Pattern ABS_HASH_MOD_PATTERN = Pattern.compile("^Math\\.abs\\(\\s*([a-zA-Z_][a-zA-Z0-9_]*)\\.hashCode\\(\\)\\s*\\)\\s*%\\s*([0-9]+)$");
+    
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(-?[0-9]+)\\s*\\.\\.\\s*(-?[0-9]+)$");
+    
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("^-?[0-9]+$");
+    
+    private static final Pattern QUOTED_STRING_PATTERN = Pattern.compile("^'([^'\\\\$]*)'$");
+    
+    /**
+     * Compile inline expression which has only one variable to evaluator.
+     * 
+     * <p>Supported placeholders are {@code ${variable}}, {@code ${variable % n}}, {@code ${variable.intdiv(n)}}, 
+     * {@code ${variable.hashCode() % n}} and {@code ${Math.abs(variable.hashCode()) % n}}.</p>
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @param variableName variable name
+     * @return inline expression evaluator, absent if expression is unsupported
+     */
+    public static Optional<InlineExpressionEvaluator> compile(final String inlineExpression, final String variableName) {
+        Optional<InlineExpressionSegments> segments = split(inlineExpression);
+        if (!segments.isPresent()) {
+            return Optional.absent();
+        }
+        List<String> placeholders = segments.get().getPlaceholders();
+        InlineExpressionEvaluator.Operator[] operators = new InlineExpressionEvaluator.Operator[placeholders.size()];
+        int[] operands = new int[placeholders.size()];
+        for (int i = 0; i < placeholders.size(); i++) {
+            if (!compilePlaceholder(placeholders.get(i), variableName, operators, operands, i)) {
+                return Optional.absent();
+            }
+        }
+        return Optional.of(new InlineExpressionEvaluator(segments.get().getLiterals().toArray(new String[0]), operators, operands));
+    }
+    
+    private static boolean compilePlaceholder(final String placeholder, final String variableName, final InlineExpressionEvaluator.Operator[] operators, final int[] operands, final int index) {
+        Matcher matcher = VARIABLE_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            operators[index] = InlineExpressionEvaluator.Operator.IDENTITY;
+            return variableName.equals(matcher.group(1));
+        }
+        for (InlineExpressionEvaluator.Operator each : new InlineExpressionEvaluator.Operator[] {
+            InlineExpressionEvaluator.Operator.MOD, InlineExpressionEvaluator.Operator.INTDIV, InlineExpressionEvaluator.Operator.HASH_MOD, InlineExpressionEvaluator.Operator.ABS_HASH_MOD}) {
+            matcher = getPattern(each).matcher(placeholder);
+            if (matcher.matches()) {
+                if (!variableName.equals(matcher.group(1))) {
+                    return false;
+                }
+                Optional<Integer> operand = parseInt(matcher.group(2));
+                if (!operand.isPresent() || 0 == operand.get()) {
+                    return false;
+                }
+                operators[index] = each;
+                operands[index] = operand.get();
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static Pattern getPattern(final InlineExpressionEvaluator.Operator operator) {
+        switch (operator) {
+            case MOD:
+                return MOD_PATTERN;
+            case INTDIV:
+                return INTDIV_PATTERN;
+            case HASH_MOD:
+                return HASH_MOD_PATTERN;
+            default:
+                return ABS_HASH_MOD_PATTERN;
+        }
+    }
+    
+    /**
+     * Compile inline expression which has no variable to literals and placeholder values.
+     * 
+     * <p>Supported placeholders are integer range such as {@code ${0..15}}, integer, 
+     * single quoted string and list of them such as {@code ${[0, 2]}} or {@code ${['new', 'old']}}.</p>
+     * 
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled segments, absent if expression is unsupported
+     */
+    public static Optional<InlineExpressionSegments> compileConstant(final String inlineExpression) {
+        Optional<InlineExpressionSegments> segments = split(inlineExpression);
+        if (!segments.isPresent()) {
+            return Optional.absent();
+        }
+        for (String each : segments.get().getPlaceholders()) {
+            Optional<List<String>> values = compileConstantPlaceholder(each);
+            if (!values.isPresent()) {
+                return Optional.absent();
+            }
+            segments.get().getValues().add(values.get());
+        }
+        return segments;
+    }
+    
+    private static Optional<List<String>> compileConstantPlaceholder(final String placeholder) {
+        Matcher matcher = RANGE_PATTERN.matcher(placeholder);
+        if (matcher.matches()) {
+            Optional<Integer> from = parseInt(matcher.group(1));
+            Optional<Integer> to = parseInt(matcher.group(2));
+            if (!from.isPresent() || !to.isPresent() || from.get() > to.get()) {
+                return Optional.absent();
+            }
+            List<String> result = new ArrayList<>(to.get() - from.get() + 1);
+            for (int i = from.get(); i <= to.get(); i++) {
+                result.add(String.valueOf(i));
+            }
+            return Optional.of(result);
+        }
+        if (placeholder.startsWith("[") && placeholder.endsWith("]")) {
+            String elements = placeholder.substring(1, placeholder.length() - 1).trim();
+            if (elements.isEmpty()) {
+                return Optional.absent();
+            }
+            List<String> result = new ArrayList<>();
+            for (String each : elements.split(",")) {
+                Optional<String> value = compileConstantElement(each.trim());
+                if (!value.isPresent()) {
+                    return Optional.absent();
+                }
+                result.add(value.get());
+            }
+            return Optional.of(result);
+        }
+        Optional<String> value = compileConstantElement(placeholder);
+        return value.isPresent() ? Optional.of(Collections.singletonList(value.get())) : Optional.<List<String>>absent();
+    }
+    
+    private static Optional<String> compileConstantElement(final String element) {
+        if (NUMBER_PATTERN.matcher(element).matches()) {
+            Optional<Integer> result = parseInt(element);
+            return result.isPresent() ? Optional.of(String.valueOf(result.get())) : Optional.<String>absent();
+        }
+        Matcher matcher = QUOTED_STRING_PATTERN.matcher(element);
+        return matcher.matches() ? Optional.of(matcher.group(1)) : Optional.<String>absent();
+    }
+    
+    private static Optional<Integer> parseInt(final String value) {
+        try {
+            return Optional.of(Integer.parseInt(value));
+        } catch (final NumberFormatException ex) {
+            return Optional.absent();
+        }
+    }
+    
+    private static Optional<InlineExpressionSegments> split(final String inlineExpression) {
+        InlineExpressionSegments result = new InlineExpressionSegments();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < inlineExpression.length()) {
+            char each = inlineExpression.charAt(i);
+            if ('$' == each && i + 1 < inlineExpression.length() && '{' == inlineExpression.charAt(i + 1)) {
+                int end = inlineExpression.indexOf('}', i + 2);
+                if (-1 == end) {
+                    return Optional.absent();
+                }
+                String placeholder = inlineExpression.substring(i + 2, end);
+                if (placeholder.contains("{") || placeholder.contains("$") || placeholder.contains("\"")) {
+                    return Optional.absent();
+                }
+                result.getLiterals().add(literal.toString());
+                result.getPlaceholders().add(placeholder.trim());
+                literal.setLength(0);
+                i = end + 1;
+                continue;
+            }
+            if ('$' == each || '"' == each || '\\' == each || '{' == each || '}' == each) {
+                return Optional.absent();
+            }
+            literal.append(each);
+            i++;
+        }
+        result.getLiterals().add(literal.toString());
+        return Optional.of(result);
+    }
+}
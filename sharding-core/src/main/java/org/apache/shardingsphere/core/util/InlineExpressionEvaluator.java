@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Inline expression evaluator compiled by {@code InlineExpressionCompiler}.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class InlineExpressionEvaluator {
+    
+    private final String[] literals;
+    
+    private final Operator[] operators;
+    
+    private final int[] operands;
+    
+    /**
+     * Judge is value supported or not.
+     * 
+     * <p>Only integral numbers are supported by arithmetic operators, results of other types should be calculated by groovy.</p>
+     *
+     * @param value value of variable
+     * @return is value supported or not
+     */
+    public boolean isSupported(final Object value) {
+        if (null == value) {
+            return false;
+        }
+        boolean isIntegral = value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+        for (Operator each : operators) {
+            if (Operator.IDENTITY == each && !isIntegral && !(value instanceof String)) {
+                return false;
+            }
+            if ((Operator.MOD == each || Operator.INTDIV == each) && !isIntegral) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param value value of variable
+     * @return evaluated result
+     */
+    public String evaluate(final Object value) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < operators.length; i++) {
+            result.append(literals[i]);
+            switch (operators[i]) {
+                case IDENTITY:
+                    result.append(value);
+                    break;
+                case MOD:
+                    result.append(((Number) value).longValue() % operands[i]);
+                    break;
+                case INTDIV:
+                    result.append(((Number) value).longValue() / operands[i]);
+                    break;
+                case HASH_MOD:
+                    result.append(value.hashCode() % operands[i]);
+                    break;
+                default:
+                    result.append(Math.abs(value.hashCode()) % operands[i]);
+                    break;
+            }
+        }
+        result.append(literals[operators.length]);
+        return result.toString();
+    }
+    
+    enum Operator {
+        
+        IDENTITY, MOD, INTDIV, HASH_MOD, ABS_HASH_MOD
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
@@ -30,10 +31,10 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Inline expression parser.
@@ -46,7 +47,7 @@ public final class InlineExpressionParser {
     
     private static final char SPLITTER = ',';
     
-    private static final Map<String, Script> SCRIPTS = new HashMap<>();
+    private static final ConcurrentMap<String, Script> SCRIPTS = new ConcurrentHashMap<>();
     
     private static final GroovyShell SHELL = new GroovyShell();
     
@@ -86,6 +87,11 @@ public final class InlineExpressionParser {
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
+            Optional<InlineExpressionSegments> segments = InlineExpressionCompiler.compileConstant(handlePlaceHolder(each));
+            if (segments.isPresent()) {
+                result.add(segments.get());
+                continue;
+            }
             StringBuilder expression = new StringBuilder(handlePlaceHolder(each));
             if (!each.startsWith("\"")) {
                 expression.insert(0, "\"");
@@ -99,12 +105,13 @@ public final class InlineExpressionParser {
     }
     
     private Object evaluate(final String expression) {
-        Script script;
-        if (SCRIPTS.containsKey(expression)) {
-            script = SCRIPTS.get(expression);
-        } else {
+        Script script = SCRIPTS.get(expression);
+        if (null == script) {
             script = SHELL.parse(expression);
-            SCRIPTS.put(expression, script);
+            Script cachedScript = SCRIPTS.putIfAbsent(expression, script);
+            if (null != cachedScript) {
+                script = cachedScript;
+            }
         }
         return script.run();
     }
@@ -154,7 +161,10 @@ public final class InlineExpressionParser {
         List<String> result = new ArrayList<>();
         for (Object each : segments) {
             if (each instanceof GString) {
-                result.addAll(assemblyCartesianSegments((GString) each));
+                result.addAll(assemblyCartesianSegments(((GString) each).getStrings(), ((GString) each).getValues()));
+            } else if (each instanceof InlineExpressionSegments) {
+                InlineExpressionSegments compiledSegments = (InlineExpressionSegments) each;
+                result.addAll(assemblyCartesianSegments(compiledSegments.getLiterals().toArray(new String[0]), compiledSegments.getValues().toArray()));
             } else {
                 result.add(each.toString());
             }
@@ -162,19 +172,19 @@ public final class InlineExpressionParser {
         return result;
     }
     
-    private List<String> assemblyCartesianSegments(final GString segment) {
-        Set<List<String>> cartesianValues = getCartesianValues(segment);
+    private List<String> assemblyCartesianSegments(final String[] strings, final Object[] values) {
+        Set<List<String>> cartesianValues = getCartesianValues(values);
         List<String> result = new ArrayList<>(cartesianValues.size());
         for (List<String> each : cartesianValues) {
-            result.add(assemblySegment(each, segment));
+            result.add(assemblySegment(each, strings));
         }
         return result;
     }
     
     @SuppressWarnings("unchecked")
-    private Set<List<String>> getCartesianValues(final GString segment) {
-        List<Set<String>> result = new ArrayList<>(segment.getValues().length);
-        for (Object each : segment.getValues()) {
+    private Set<List<String>> getCartesianValues(final Object[] values) {
+        List<Set<String>> result = new ArrayList<>(values.length);
+        for (Object each : values) {
             if (null == each) {
                 continue;
             }
@@ -193,10 +203,10 @@ public final class InlineExpressionParser {
         return Sets.cartesianProduct(result);
     }
     
-    private String assemblySegment(final List<String> cartesianValue, final GString segment) {
+    private String assemblySegment(final List<String> cartesianValue, final String[] strings) {
         StringBuilder result = new StringBuilder();
-        for (int i = 0; i < segment.getStrings().length; i++) {
-            result.append(segment.getStrings()[i]);
+        for (int i = 0; i < strings.length; i++) {
+            result.append(strings[i]);
             if (i < cartesianValue.size()) {
                 result.append(cartesianValue.get(i));
             }
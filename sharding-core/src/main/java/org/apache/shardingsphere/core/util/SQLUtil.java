@@ -25,6 +25,9 @@ import org.apache.shardingsphere.core.parsing.lexer.dialect.mysql.MySQLKeyword;
 import org.apache.shardingsphere.core.parsing.lexer.token.DefaultKeyword;
 import org.apache.shardingsphere.core.parsing.lexer.token.Symbol;
 
+import java.util.LinkedList;
+import java.util.List;
+
 /**
  * SQL utility class.
  * 
@@ -94,4 +97,61 @@ public final class SQLUtil {
     public static String getNameWithoutSchema(final String value) {
         return value.contains(Symbol.DOT.getLiterals()) ? value.substring(value.lastIndexOf(Symbol.DOT.getLiterals()) + Symbol.DOT.getLiterals().length()) : value;
     }
+    
+    /**
+     * Split multi-statements SQL into statements.
+     * 
+     * <p>Semicolons in quoted strings, quoted identifiers and comments do not split statements, blank statements are ignored.</p>
+     * 
+     * @param sql multi-statements SQL
+     * @return trimmed statements
+     */
+    public static List<String> splitStatements(final String sql) {
+        List<String> result = new LinkedList<>();
+        int statementBeginIndex = 0;
+        int index = 0;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\'' == current || '"' == current || '`' == current) {
+                index = skipQuoted(sql, index, current);
+            } else if ('#' == current || sql.startsWith("-- ", index)) {
+                index = skipUntil(sql, index, "\n");
+            } else if (sql.startsWith("/*", index)) {
+                index = skipUntil(sql, index + 2, "*/");
+            } else {
+                if (';' == current) {
+                    addStatement(result, sql.substring(statementBeginIndex, index));
+                    statementBeginIndex = index + 1;
+                }
+                index++;
+            }
+        }
+        addStatement(result, sql.substring(statementBeginIndex));
+        return result;
+    }
+    
+    private static int skipQuoted(final String sql, final int beginIndex, final char quote) {
+        int result = beginIndex + 1;
+        while (result < sql.length()) {
+            char current = sql.charAt(result++);
+            if ('\\' == current && '`' != quote) {
+                result++;
+            } else if (quote == current) {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipUntil(final String sql, final int beginIndex, final String terminator) {
+        int result = sql.indexOf(terminator, beginIndex);
+        return -1 == result ? sql.length() : result + terminator.length();
+    }
+    
+    private static void addStatement(final List<String> statements, final String statement) {
+        String trimmedStatement = statement.trim();
+        if (!trimmedStatement.isEmpty()) {
+            statements.add(trimmedStatement);
+        }
+    }
 }
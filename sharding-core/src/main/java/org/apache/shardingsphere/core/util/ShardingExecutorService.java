@@ -19,35 +19,52 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apache.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Util class for creating ListeningExecutorService.
+ * 
+ * <p>
+ * Executor is bounded in both threads and queued tasks, task will be run in caller thread if executor is saturated.
+ * Task submitted after executor shutdown is rejected instead of being discarded silently.
+ * </p>
  *
  * @author wuxu
  * @author zhaojun
  */
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ShardingExecutorService {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final int DEFAULT_MAX_POOL_SIZE = Math.max(64, Runtime.getRuntime().availableProcessors() * 16);
+    
+    private static final int QUEUE_CAPACITY_PER_THREAD = 64;
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
+    private final ThreadPoolExecutor threadPoolExecutor;
+    
     @Getter
-    private ListeningExecutorService executorService;
+    private final ListeningExecutorService executorService;
     
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(0 == executorSize
-            ? Executors.newCachedThreadPool(ShardingThreadFactoryBuilder.build(nameFormat))
-            : Executors.newFixedThreadPool(executorSize, ShardingThreadFactoryBuilder.build(nameFormat)));
+        threadPoolExecutor = 0 == executorSize ? createCachedThreadPool(nameFormat) : createFixedThreadPool(executorSize, nameFormat);
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
@@ -55,6 +72,70 @@ public final class ShardingExecutorService {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    private ThreadPoolExecutor createCachedThreadPool(final String nameFormat) {
+        return new ThreadPoolExecutor(
+                0, DEFAULT_MAX_POOL_SIZE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), ShardingThreadFactoryBuilder.build(nameFormat), new ShutdownAwareCallerRunsPolicy());
+    }
+    
+    private ThreadPoolExecutor createFixedThreadPool(final int executorSize, final String nameFormat) {
+        return new ThreadPoolExecutor(
+                executorSize, executorSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(executorSize * QUEUE_CAPACITY_PER_THREAD), ShardingThreadFactoryBuilder.build(nameFormat), new ShutdownAwareCallerRunsPolicy());
+    }
+    
+    /**
+     * Get current pool size.
+     * 
+     * @return current pool size
+     */
+    public int getPoolSize() {
+        return threadPoolExecutor.getPoolSize();
+    }
+    
+    /**
+     * Get approximate count of threads which are executing tasks.
+     * 
+     * @return active count
+     */
+    public int getActiveCount() {
+        return threadPoolExecutor.getActiveCount();
+    }
+    
+    /**
+     * Get count of tasks waiting in queue.
+     * 
+     * @return queue size
+     */
+    public int getQueueSize() {
+        return threadPoolExecutor.getQueue().size();
+    }
+    
+    /**
+     * Get remaining capacity of queue.
+     * 
+     * @return queue remaining capacity
+     */
+    public int getQueueRemainingCapacity() {
+        return threadPoolExecutor.getQueue().remainingCapacity();
+    }
+    
+    /**
+     * Get count of tasks which were run in caller thread because executor is saturated.
+     * 
+     * @return caller runs count
+     */
+    public long getCallerRunsCount() {
+        return callerRunsCount.get();
+    }
+    
+    /**
+     * Get count of tasks which were rejected because executor has been shut down.
+     * 
+     * @return rejected count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+    
     /**
      * Close executor service.
      *
@@ -75,4 +156,17 @@ public final class ShardingExecutorService {
             }
         });
     }
+    
+    private final class ShutdownAwareCallerRunsPolicy implements RejectedExecutionHandler {
+        
+        @Override
+        public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                rejectedCount.incrementAndGet();
+                throw new RejectedExecutionException("Executor has been shut down, task is rejected.");
+            }
+            callerRunsCount.incrementAndGet();
+            runnable.run();
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Temporary file for objects spilled out of memory.
+ *
+ * <p>
+ * Objects are written sequentially, then read back once in the same order.
+ * The file is deleted when closed, so owners must close it after reading, and on early close or error.
+ * Only serializable objects can be written.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class SpillFile implements Closeable {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final File file;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    @Getter
+    private int size;
+    
+    private int readCount;
+    
+    public SpillFile(final String directory) throws IOException {
+        file = File.createTempFile("sharding-spill-", ".tmp", Strings.isNullOrEmpty(directory) ? null : new File(directory));
+        outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+    }
+    
+    /**
+     * Write object.
+     *
+     * @param obj object to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object obj) throws IOException {
+        outputStream.writeObject(obj);
+        if (0 == ++size % RESET_INTERVAL) {
+            outputStream.reset();
+        }
+    }
+    
+    /**
+     * Judge has next object to read or not.
+     *
+     * @return has next object to read or not
+     */
+    public boolean hasNext() {
+        return readCount < size;
+    }
+    
+    /**
+     * Read next object.
+     *
+     * <p>
+     * Writing is finished when first object read.
+     * </p>
+     *
+     * @return next object
+     * @throws IOException IO exception
+     */
+    public Object next() throws IOException {
+        if (null == inputStream) {
+            outputStream.close();
+            outputStream = null;
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        }
+        readCount++;
+        try {
+            return inputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+                outputStream = null;
+            }
+            if (null != inputStream) {
+                inputStream.close();
+                inputStream = null;
+            }
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -52,6 +52,8 @@ public class YamlShardingRuleConfiguration {
     
     private Collection<String> broadcastTables = new ArrayList<>();
     
+    private Collection<String> cacheableTables = new ArrayList<>();
+    
     private YamlShardingStrategyConfiguration defaultDatabaseStrategy;
     
     private YamlShardingStrategyConfiguration defaultTableStrategy;
@@ -67,6 +69,7 @@ public class YamlShardingRuleConfiguration {
         }
         bindingTables.addAll(shardingRuleConfiguration.getBindingTableGroups());
         bindingTables.addAll(shardingRuleConfiguration.getBroadcastTables());
+        cacheableTables.addAll(shardingRuleConfiguration.getCacheableTables());
         defaultDatabaseStrategy = new YamlShardingStrategyConfiguration(shardingRuleConfiguration.getDefaultDatabaseShardingStrategyConfig());
         defaultTableStrategy = new YamlShardingStrategyConfiguration(shardingRuleConfiguration.getDefaultTableShardingStrategyConfig());
         defaultKeyGenerator = null == shardingRuleConfiguration.getDefaultKeyGeneratorConfig() ? null : new YamlKeyGeneratorConfiguration(shardingRuleConfiguration.getDefaultKeyGeneratorConfig());
@@ -90,6 +93,7 @@ public class YamlShardingRuleConfiguration {
         }
         result.getBindingTableGroups().addAll(bindingTables);
         result.getBroadcastTables().addAll(broadcastTables);
+        result.getCacheableTables().addAll(cacheableTables);
         if (null != defaultDatabaseStrategy) {
             result.setDefaultDatabaseShardingStrategyConfig(defaultDatabaseStrategy.build());
         }
@@ -17,12 +17,21 @@
 
 package org.apache.shardingsphere.core.executor;
 
+import org.apache.shardingsphere.core.executor.sql.execute.result.ColumnarMemoryQueryResultTest;
+import org.apache.shardingsphere.core.executor.sql.prepare.ConnectionModePlannerTest;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatisticsTest;
 import org.apache.shardingsphere.core.executor.threadlocal.ExecutorExceptionHandlerTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses(ExecutorExceptionHandlerTest.class)
+@SuiteClasses({
+        ShardingExecuteEngineTest.class,
+        ExecutorExceptionHandlerTest.class,
+        ConnectionModePlannerTest.class,
+        ExecuteStatisticsTest.class,
+        ColumnarMemoryQueryResultTest.class
+    })
 public final class AllExecutorTests {
 }
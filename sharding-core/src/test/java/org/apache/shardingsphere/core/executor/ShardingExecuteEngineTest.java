@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.apache.shardingsphere.core.util.ShardingExecutorService;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class ShardingExecuteEngineTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(0);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertGroupExecute() throws SQLException {
+        assertThat(executeEngine.groupExecute(createInputGroups(), new DoubleCallback()), is(Arrays.asList(2, 4, 6, 8)));
+    }
+    
+    @Test
+    public void assertAsyncGroupExecute() throws InterruptedException, ExecutionException {
+        assertThat(executeEngine.asyncGroupExecute(createInputGroups(), new DoubleCallback()).get(), is(Arrays.asList(2, 4, 6, 8)));
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteInCompletionOrder() throws InterruptedException, ExecutionException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        List<ListenableFuture<Collection<Integer>>> actual = executeEngine.asyncGroupExecuteInCompletionOrder(createInputGroups(), new ShardingGroupExecuteCallback<Integer, Integer>() {
+            
+            @Override
+            public Collection<Integer> execute(final Collection<Integer> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                if (inputs.contains(1)) {
+                    awaitQuietly(latch);
+                }
+                return inputs;
+            }
+        });
+        assertThat(actual.get(0).get(), is((Collection<Integer>) Arrays.asList(3, 4)));
+        latch.countDown();
+        assertThat(actual.get(1).get(), is((Collection<Integer>) Arrays.asList(1, 2)));
+    }
+    
+    @Test
+    public void assertAsyncGroupExecuteFailure() throws InterruptedException {
+        try {
+            executeEngine.asyncGroupExecute(createInputGroups(), new ShardingGroupExecuteCallback<Integer, Integer>() {
+                
+                @Override
+                public Collection<Integer> execute(final Collection<Integer> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                    throw new SQLException("test");
+                }
+            }).get();
+            fail("Expected ExecutionException.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+    }
+    
+    @Test
+    public void assertExecutorStatistics() throws SQLException {
+        executeEngine.groupExecute(createInputGroups(), new DoubleCallback());
+        assertThat(executeEngine.getShardingExecutorService().getQueueSize(), is(0));
+        assertThat(executeEngine.getShardingExecutorService().getCallerRunsCount(), is(0L));
+        assertThat(executeEngine.getShardingExecutorService().getRejectedCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRunInCallerThreadWhenQueueIsFull() throws InterruptedException {
+        ShardingExecutorService shardingExecutorService = new ShardingExecutorService(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        try {
+            shardingExecutorService.getExecutorService().execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    awaitQuietly(latch);
+                }
+            });
+            int queueCapacity = shardingExecutorService.getQueueSize() + shardingExecutorService.getQueueRemainingCapacity();
+            for (int i = 0; i <= queueCapacity; i++) {
+                shardingExecutorService.getExecutorService().execute(new Runnable() {
+                    
+                    @Override
+                    public void run() {
+                    }
+                });
+            }
+            assertThat(shardingExecutorService.getQueueSize(), is(queueCapacity));
+            assertThat(shardingExecutorService.getCallerRunsCount(), is(1L));
+        } finally {
+            latch.countDown();
+            shardingExecutorService.close();
+        }
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertRejectAfterShutdown() throws SQLException {
+        ShardingExecuteEngine closedExecuteEngine = new ShardingExecuteEngine(0);
+        closedExecuteEngine.getShardingExecutorService().getExecutorService().shutdown();
+        try {
+            closedExecuteEngine.groupExecute(createInputGroups(), new DoubleCallback());
+        } finally {
+            assertThat(closedExecuteEngine.getShardingExecutorService().getRejectedCount(), is(1L));
+        }
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private Collection<ShardingExecuteGroup<Integer>> createInputGroups() {
+        Collection<ShardingExecuteGroup<Integer>> result = new LinkedList<>();
+        result.add(new ShardingExecuteGroup<>(Arrays.asList(1, 2)));
+        result.add(new ShardingExecuteGroup<>(Arrays.asList(3, 4)));
+        return result;
+    }
+    
+    private static final class DoubleCallback implements ShardingGroupExecuteCallback<Integer, Integer> {
+        
+        @Override
+        public Collection<Integer> execute(final Collection<Integer> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+            Collection<Integer> result = new LinkedList<>();
+            for (Integer each : inputs) {
+                result.add(each * 2);
+            }
+            return result;
+        }
+    }
+}
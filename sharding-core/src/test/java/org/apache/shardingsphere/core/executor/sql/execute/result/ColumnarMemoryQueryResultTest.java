@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.execute.result;
+
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ColumnarMemoryQueryResultTest {
+    
+    private static final String[] COLUMN_LABELS = {"order_id", "user_id", "status", "price", "create_time", "create_date", "amount", "mixed", "remark"};
+    
+    @Test
+    public void assertSameValuesAsMemoryQueryResult() throws SQLException {
+        List<Object[]> rows = createRows(1000);
+        ColumnarMemoryQueryResult actual = new ColumnarMemoryQueryResult(mockResultSet(rows), 0L, "");
+        MemoryQueryResult expected = new MemoryQueryResult(mockResultSet(rows));
+        assertThat(actual.getMemoryRowCount(), is(1000));
+        assertThat(expected.getRowCount(), is(1000));
+        assertSameValues(actual, expected, rows.size());
+    }
+    
+    @Test
+    public void assertSameValuesAsMemoryQueryResultWithSpill() throws SQLException {
+        List<Object[]> rows = createRows(1000);
+        ColumnarMemoryQueryResult actual = new ColumnarMemoryQueryResult(mockResultSet(rows), 1L, "");
+        assertThat(actual.getSpilledRowCount(), is(1000 - 256));
+        assertThat(actual.getMemoryRowCount(), is(256));
+        assertSameValues(actual, new MemoryQueryResult(mockResultSet(rows)), rows.size());
+    }
+    
+    @Test
+    public void assertUnserializableRowsStayInMemory() throws SQLException {
+        List<Object[]> rows = createRows(1000);
+        Object unserializable = new Object();
+        rows.get(500)[8] = unserializable;
+        ColumnarMemoryQueryResult actual = new ColumnarMemoryQueryResult(mockResultSet(rows), 1L, "");
+        assertThat(actual.getSpilledRowCount(), is(500 - 256));
+        assertThat(actual.getMemoryRowCount(), is(256 + 500));
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is((Object) i));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseDeletesSpillFile() throws SQLException, IOException {
+        File spillDirectory = Files.createTempDirectory("sharding-spill-test-").toFile();
+        try {
+            ColumnarMemoryQueryResult actual = new ColumnarMemoryQueryResult(mockResultSet(createRows(1000)), 1L, spillDirectory.getPath());
+            assertThat(spillDirectory.list().length, is(1));
+            assertTrue(actual.next());
+            actual.close();
+            assertThat(spillDirectory.list().length, is(0));
+        } finally {
+            spillDirectory.delete();
+        }
+    }
+    
+    @Test
+    public void assertGetValueByColumnLabel() throws SQLException {
+        QueryResult actual = new ColumnarMemoryQueryResult(mockResultSet(createRows(1)), 0L, "");
+        assertTrue(actual.next());
+        assertThat(actual.getColumnCount(), is(COLUMN_LABELS.length));
+        assertThat(actual.getColumnLabel(3), is("status"));
+        assertThat(actual.getValue("status", Object.class), is((Object) "status_0"));
+        assertFalse(actual.next());
+        assertTrue(actual.wasNull());
+    }
+    
+    private void assertSameValues(final QueryResult actual, final QueryResult expected, final int rowCount) throws SQLException {
+        for (int i = 0; i < rowCount; i++) {
+            assertTrue(actual.next());
+            assertTrue(expected.next());
+            for (int columnIndex = 1; columnIndex <= COLUMN_LABELS.length; columnIndex++) {
+                Object actualValue = actual.getValue(columnIndex, Object.class);
+                Object expectedValue = expected.getValue(columnIndex, Object.class);
+                assertThat(actualValue, is(expectedValue));
+                if (null != expectedValue) {
+                    assertThat(actualValue.getClass().getName(), is(expectedValue.getClass().getName()));
+                }
+            }
+        }
+        assertFalse(actual.next());
+        assertFalse(expected.next());
+    }
+    
+    private List<Object[]> createRows(final int rowCount) {
+        List<Object[]> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Timestamp createTime = new Timestamp(1500000000000L + i);
+            createTime.setNanos(123456789);
+            Object mixed = i < 300 ? (Object) i : (Object) (long) i;
+            result.add(new Object[] {i, (long) i * 10, 0 == i % 7 ? null : "status_" + i % 3, i / 3d, createTime, new Date(1500000000000L), new BigDecimal(i + ".50"), mixed, null});
+        }
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final List<Object[]> rows) throws SQLException {
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(COLUMN_LABELS.length);
+        for (int i = 0; i < COLUMN_LABELS.length; i++) {
+            when(resultSetMetaData.getColumnLabel(i + 1)).thenReturn(COLUMN_LABELS[i]);
+        }
+        ResultSet result = mock(ResultSet.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        final int[] cursor = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < rows.size();
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows.get(cursor[0])[(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.prepare;
+
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.executor.sql.statistics.DataSourceExecuteStatistics;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionModePlannerTest {
+    
+    private final ExecuteStatistics executeStatistics = new ExecuteStatistics();
+    
+    @Test
+    public void assertPlanWithoutAdaptive() {
+        assertPlan(new ConnectionModePlanner(1).plan("ds_0", 64), 1, ConnectionMode.CONNECTION_STRICTLY);
+        assertPlan(new ConnectionModePlanner(8).plan("ds_0", 4), 4, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Test
+    public void assertPlanWithoutStatistics() {
+        assertPlan(new ConnectionModePlanner(1, true, 64, executeStatistics).plan("ds_0", 64), 1, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    @Test
+    public void assertPlanForFastQueryOnIdleDataSource() {
+        executeStatistics.get("ds_0").start();
+        executeStatistics.get("ds_0").finish(TimeUnit.MILLISECONDS.toNanos(1L), true);
+        assertPlan(new ConnectionModePlanner(1, true, 64, executeStatistics).plan("ds_0", 64), 16, ConnectionMode.CONNECTION_STRICTLY);
+        assertPlan(new ConnectionModePlanner(1, true, 64, executeStatistics).plan("ds_0", 8), 8, ConnectionMode.MEMORY_STRICTLY);
+        DataSourceExecuteStatistics actual = executeStatistics.get("ds_0");
+        assertThat(actual.getConnectionStrictlyDecisionCount(), is(1L));
+        assertThat(actual.getMemoryStrictlyDecisionCount(), is(1L));
+        assertThat(actual.getLastConnectionSize(), is(8));
+    }
+    
+    @Test
+    public void assertPlanForSlowQueryOnIdleDataSource() {
+        executeStatistics.get("ds_0").start();
+        executeStatistics.get("ds_0").finish(TimeUnit.SECONDS.toNanos(1L), true);
+        assertPlan(new ConnectionModePlanner(2, true, 64, executeStatistics).plan("ds_0", 64), 2, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    @Test
+    public void assertPlanOnSaturatedDataSource() {
+        for (int i = 0; i < 4; i++) {
+            executeStatistics.get("ds_0").start();
+        }
+        assertPlan(new ConnectionModePlanner(8, true, 4, executeStatistics).plan("ds_0", 8), 1, ConnectionMode.CONNECTION_STRICTLY);
+        assertPlan(new ConnectionModePlanner(8, true, 4, executeStatistics).plan("ds_1", 8), 8, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Test
+    public void assertPlanWithMaxPoolSizeOfDataSource() {
+        executeStatistics.get("ds_0").setMaxPoolSize(4);
+        for (int i = 0; i < 4; i++) {
+            executeStatistics.get("ds_0").start();
+        }
+        assertPlan(new ConnectionModePlanner(8, true, 0, executeStatistics).plan("ds_0", 8), 1, ConnectionMode.CONNECTION_STRICTLY);
+        assertPlan(new ConnectionModePlanner(8, true, 64, executeStatistics).plan("ds_0", 8), 8, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Test
+    public void assertPlanWithStatisticsOfOtherSchema() {
+        ExecuteStatistics otherExecuteStatistics = new ExecuteStatistics();
+        for (int i = 0; i < 4; i++) {
+            otherExecuteStatistics.get("ds_0").start();
+        }
+        assertPlan(new ConnectionModePlanner(8, true, 4, executeStatistics).plan("ds_0", 8), 8, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    private void assertPlan(final ConnectionModePlan actual, final int expectedConnectionSize, final ConnectionMode expectedConnectionMode) {
+        assertThat(actual.getConnectionSize(), is(expectedConnectionSize));
+        assertThat(actual.getConnectionMode(), is(expectedConnectionMode));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.executor.sql.statistics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class ExecuteStatisticsTest {
+    
+    private final ExecuteStatistics executeStatistics = new ExecuteStatistics();
+    
+    @Test
+    public void assertRecordRowCountOfDataSource() {
+        DataSourceExecuteStatistics actual = executeStatistics.get("ds_0");
+        actual.recordRowCount(80L);
+        actual.recordRowCount(0L);
+        assertThat(actual.getAverageRowCount(), is(70L));
+        assertThat(actual.getTotalRowCount(), is(80L));
+    }
+    
+    @Test
+    public void assertFinishOfTable() {
+        TableExecuteStatistics actual = executeStatistics.getTable("T_ORDER");
+        actual.finish(TimeUnit.MILLISECONDS.toNanos(8L), 16L, true);
+        actual.finish(TimeUnit.MILLISECONDS.toNanos(80L), -1L, false);
+        assertThat(executeStatistics.getTable("t_order"), sameInstance(actual));
+        assertThat(actual.getLogicTableName(), is("t_order"));
+        assertThat(actual.getExecuteCount(), is(2L));
+        assertThat(actual.getFailureCount(), is(1L));
+        assertThat(actual.getAverageLatencyMillis(), is(8L));
+        assertThat(actual.getAverageRowCount(), is(16L));
+    }
+    
+    @Test
+    public void assertClear() {
+        executeStatistics.get("ds_0");
+        executeStatistics.getTable("t_order");
+        executeStatistics.clear();
+        assertThat(executeStatistics.getAll().size(), is(0));
+        assertThat(executeStatistics.getAllTables().size(), is(0));
+    }
+}
@@ -29,12 +29,14 @@ import org.apache.shardingsphere.core.merger.dql.common.MemoryQueryResultRowTest
 import org.apache.shardingsphere.core.merger.dql.common.StreamMergedResultTest;
 import org.apache.shardingsphere.core.merger.dql.groupby.GroupByMemoryMergedResultTest;
 import org.apache.shardingsphere.core.merger.dql.groupby.GroupByRowComparatorTest;
+import org.apache.shardingsphere.core.merger.dql.groupby.GroupBySpillMergedResultTest;
 import org.apache.shardingsphere.core.merger.dql.groupby.GroupByStreamMergedResultTest;
 import org.apache.shardingsphere.core.merger.dql.groupby.GroupByValueTest;
 import org.apache.shardingsphere.core.merger.dql.groupby.aggregation.AllAggregationTests;
 import org.apache.shardingsphere.core.merger.dql.iterator.IteratorStreamMergedResultTest;
 import org.apache.shardingsphere.core.merger.dql.orderby.CompareUtilTest;
 import org.apache.shardingsphere.core.merger.dql.orderby.OrderByStreamMergedResultTest;
+import org.apache.shardingsphere.core.merger.dql.orderby.LoserTreeTest;
 import org.apache.shardingsphere.core.merger.dql.orderby.OrderByValueTest;
 import org.apache.shardingsphere.core.merger.dql.pagination.LimitDecoratorMergedResultTest;
 import org.apache.shardingsphere.core.merger.dql.pagination.RowNumberDecoratorMergedResultTest;
@@ -52,12 +54,14 @@ import org.junit.runners.Suite.SuiteClasses;
         MemoryQueryResultRowTest.class, 
         IteratorStreamMergedResultTest.class, 
         OrderByValueTest.class, 
+        LoserTreeTest.class, 
         OrderByStreamMergedResultTest.class, 
         CompareUtilTest.class, 
         GroupByValueTest.class, 
         GroupByRowComparatorTest.class, 
         GroupByStreamMergedResultTest.class, 
         GroupByMemoryMergedResultTest.class, 
+        GroupBySpillMergedResultTest.class, 
         AllAggregationTests.class, 
         LimitDecoratorMergedResultTest.class,
         RowNumberDecoratorMergedResultTest.class,
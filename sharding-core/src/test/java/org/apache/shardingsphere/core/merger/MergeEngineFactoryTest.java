@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merger;
 
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.merger.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merger.dql.DQLMergeEngine;
 import org.apache.shardingsphere.core.merger.fixture.TestQueryResult;
@@ -34,6 +35,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -59,18 +61,18 @@ public final class MergeEngineFactoryTest {
     @Test
     public void assertNewInstanceWithSelectStatement() throws SQLException {
         SQLStatement selectStatement = new SelectStatement();
-        assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, null, selectStatement, null, queryResults), instanceOf(DQLMergeEngine.class));
+        assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, null, selectStatement, null, queryResults, new ShardingProperties(new Properties())), instanceOf(DQLMergeEngine.class));
     }
 
     @Test
     public void assertNewInstanceWithDALStatement() throws SQLException {
         SQLStatement dalStatement = new DALStatement();
-        assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, null, dalStatement, null, queryResults), instanceOf(DALMergeEngine.class));
+        assertThat(MergeEngineFactory.newInstance(DatabaseType.MySQL, null, dalStatement, null, queryResults, new ShardingProperties(new Properties())), instanceOf(DALMergeEngine.class));
     }
     
     @Test(expected = UnsupportedOperationException.class)
     public void assertNewInstanceWithOtherStatement() throws SQLException {
         SQLStatement insertStatement = new InsertStatement();
-        MergeEngineFactory.newInstance(DatabaseType.MySQL, null, insertStatement, null, queryResults);
+        MergeEngineFactory.newInstance(DatabaseType.MySQL, null, insertStatement, null, queryResults, new ShardingProperties(new Properties()));
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merger.dql.groupby;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.AggregationType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.merger.MergedResult;
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.core.merger.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.parsing.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parsing.parser.context.selectitem.AggregationSelectItem;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    private static final int SHARD_COUNT = 3;
+    
+    private static final int COLUMN_COUNT = 5;
+    
+    private final Map<String, Integer> labelAndIndexMap = new HashMap<>();
+    
+    private SelectStatement selectStatement;
+    
+    @Before
+    public void setUp() {
+        selectStatement = new SelectStatement();
+        AggregationSelectItem countSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", Optional.<String>absent());
+        countSelectItem.setIndex(1);
+        AggregationSelectItem avgSelectItem = new AggregationSelectItem(AggregationType.AVG, "(num)", Optional.<String>absent());
+        avgSelectItem.setIndex(2);
+        AggregationSelectItem derivedCountSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(num)", Optional.of("AVG_DERIVED_COUNT_0"));
+        derivedCountSelectItem.setIndex(4);
+        avgSelectItem.getDerivedAggregationSelectItems().add(derivedCountSelectItem);
+        AggregationSelectItem derivedSumSelectItem = new AggregationSelectItem(AggregationType.SUM, "(num)", Optional.of("AVG_DERIVED_SUM_0"));
+        derivedSumSelectItem.setIndex(5);
+        avgSelectItem.getDerivedAggregationSelectItems().add(derivedSumSelectItem);
+        selectStatement.getItems().add(countSelectItem);
+        selectStatement.getItems().add(avgSelectItem);
+        selectStatement.getGroupByItems().add(new OrderItem(3, OrderDirection.ASC, OrderDirection.ASC));
+        selectStatement.getOrderByItems().add(new OrderItem(3, OrderDirection.DESC, OrderDirection.ASC));
+    }
+    
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        GroupBySpillMergedResult actual = new GroupBySpillMergedResult(labelAndIndexMap, createQueryResults(), selectStatement, 4, "");
+        assertTrue(actual.getSpilledRunCount() > 0);
+        assertSameResult(actual, new GroupByMemoryMergedResult(labelAndIndexMap, createQueryResults(), selectStatement));
+    }
+    
+    @Test
+    public void assertNextWithoutSpill() throws SQLException {
+        GroupBySpillMergedResult actual = new GroupBySpillMergedResult(labelAndIndexMap, createQueryResults(), selectStatement, 1000, "");
+        assertThat(actual.getSpilledRunCount(), is(0));
+        assertSameResult(actual, new GroupByMemoryMergedResult(labelAndIndexMap, createQueryResults(), selectStatement));
+    }
+    
+    @Test
+    public void assertCloseDeletesSpilledRuns() throws SQLException, IOException {
+        File spillDirectory = Files.createTempDirectory("sharding-spill-test-").toFile();
+        try {
+            GroupBySpillMergedResult actual = new GroupBySpillMergedResult(labelAndIndexMap, createQueryResults(), selectStatement, 4, spillDirectory.getPath());
+            assertTrue(spillDirectory.list().length > 0);
+            assertTrue(actual.next());
+            actual.close();
+            assertThat(spillDirectory.list().length, is(0));
+            assertFalse(actual.next());
+        } finally {
+            spillDirectory.delete();
+        }
+    }
+    
+    @Test
+    public void assertDeleteSpilledRunsOnError() throws SQLException, IOException {
+        File spillDirectory = Files.createTempDirectory("sharding-spill-test-").toFile();
+        try {
+            List<QueryResult> queryResults = createQueryResults();
+            QueryResult failedQueryResult = mock(QueryResult.class);
+            when(failedQueryResult.getColumnCount()).thenReturn(COLUMN_COUNT);
+            when(failedQueryResult.next()).thenThrow(new SQLException("failed"));
+            queryResults.add(failedQueryResult);
+            try {
+                new GroupBySpillMergedResult(labelAndIndexMap, queryResults, selectStatement, 4, spillDirectory.getPath());
+                fail("Expected SQLException");
+            } catch (final SQLException ex) {
+                assertThat(ex.getMessage(), is("failed"));
+            }
+            assertThat(spillDirectory.list().length, is(0));
+        } finally {
+            spillDirectory.delete();
+        }
+    }
+    
+    private void assertSameResult(final MergedResult actual, final MergedResult expected) throws SQLException {
+        int rowCount = 0;
+        while (expected.next()) {
+            assertTrue(actual.next());
+            for (int columnIndex = 1; columnIndex <= COLUMN_COUNT; columnIndex++) {
+                assertThat(actual.getValue(columnIndex, Object.class), is(expected.getValue(columnIndex, Object.class)));
+            }
+            rowCount++;
+        }
+        assertFalse(actual.next());
+        assertThat(rowCount, is(50));
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        List<QueryResult> result = new ArrayList<>(SHARD_COUNT);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int id = shard; id < 50; id++) {
+                int count = id % 7 + shard;
+                rows.add(new Object[] {count, 0, id, count, count * (id + shard)});
+            }
+            result.add(new TestQueryResult(mockResultSet(rows)));
+        }
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final List<Object[]> rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        when(resultSetMetaData.getColumnCount()).thenReturn(COLUMN_COUNT);
+        final int[] cursor = {-1};
+        when(result.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return ++cursor[0] < rows.size();
+            }
+        });
+        when(result.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows.get(cursor[0])[(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+        return result;
+    }
+}
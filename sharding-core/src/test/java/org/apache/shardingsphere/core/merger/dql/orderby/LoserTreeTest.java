@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merger.dql.orderby;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LoserTreeTest {
+    
+    @Test
+    public void assertEmpty() {
+        assertTrue(new LoserTree<>(Collections.<Cursor>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertMergeSingleLeaf() {
+        assertThat(merge(Collections.singletonList(new Cursor(Arrays.asList(1, 2, 3)))), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertMergeWithDifferentLeafCounts() {
+        Random random = new Random(1L);
+        for (int leafCount = 2; leafCount <= 37; leafCount++) {
+            List<Cursor> cursors = new ArrayList<>(leafCount);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < leafCount; i++) {
+                List<Integer> values = new ArrayList<>();
+                int size = 1 + random.nextInt(20);
+                for (int j = 0; j < size; j++) {
+                    values.add(random.nextInt(100));
+                }
+                Collections.sort(values);
+                expected.addAll(values);
+                cursors.add(new Cursor(values));
+            }
+            Collections.sort(expected);
+            assertThat(merge(cursors), is(expected));
+        }
+    }
+    
+    private List<Integer> merge(final List<Cursor> cursors) {
+        LoserTree<Cursor> loserTree = new LoserTree<>(cursors);
+        List<Integer> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add(loserTree.peek().current);
+            loserTree.adjust(!loserTree.peek().next());
+        }
+        return result;
+    }
+    
+    private static final class Cursor implements Comparable<Cursor> {
+        
+        private final Iterator<Integer> values;
+        
+        private Integer current;
+        
+        private Cursor(final List<Integer> values) {
+            this.values = values.iterator();
+            next();
+        }
+        
+        private boolean next() {
+            if (values.hasNext()) {
+                current = values.next();
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        public int compareTo(final Cursor o) {
+            return current.compareTo(o.current);
+        }
+    }
+}
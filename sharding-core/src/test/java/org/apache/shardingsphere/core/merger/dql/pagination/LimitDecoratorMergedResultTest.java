@@ -26,6 +26,7 @@ import org.apache.shardingsphere.core.merger.fixture.TestQueryResult;
 import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
 import org.apache.shardingsphere.core.parsing.parser.context.limit.LimitValue;
 import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -35,7 +36,9 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -99,4 +102,22 @@ public final class LimitDecoratorMergedResultTest {
         assertTrue(actual.next());
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithPaginationContext() throws SQLException {
+        Limit limit = new Limit();
+        limit.setOffset(new LimitValue(2, -1, true));
+        limit.setRowCount(new LimitValue(2, -1, false));
+        selectStatement.setLimit(limit);
+        PaginationContext paginationContext = new PaginationContext(4, 2, 2, false, null, null);
+        mergeEngine = new DQLMergeEngine(DatabaseType.MySQL, selectStatement, queryResults, 0, "", paginationContext);
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertThat(paginationContext.getMergedRowCount().get(), is(4L));
+        assertThat(paginationContext.getRequestedRowCount(), is(16L));
+        assertThat(paginationContext.getSavedRowCount(), is(0L));
+        assertThat(new PaginationContext(4, 2, 2, true, null, null).getSavedRowCount(), is(8L));
+    }
 }
@@ -201,6 +201,10 @@ public final class TestQueryResult implements QueryResult {
         return resultSet.wasNull();
     }
     
+    @Override
+    public void close() {
+    }
+    
     @Override
     public int getColumnCount() throws SQLException {
         return resultSet.getMetaData().getColumnCount();
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.core.parsing;
 
+import org.apache.shardingsphere.core.parsing.cache.ParsingResultCacheTest;
 import org.apache.shardingsphere.core.parsing.integrate.AllParsingIntegrateTests;
 import org.apache.shardingsphere.core.parsing.lexer.AllLexerTests;
+import org.apache.shardingsphere.core.parsing.normalization.SQLNormalizationEngineTest;
 import org.apache.shardingsphere.core.parsing.parser.constant.AllConstantTests;
 import org.apache.shardingsphere.core.parsing.parser.context.AllContextTests;
 import org.apache.shardingsphere.core.parsing.parser.sql.AllSQLTests;
+import org.apache.shardingsphere.core.parsing.streaming.InsertRowGroupSplitterTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -31,6 +34,10 @@ import org.junit.runners.Suite.SuiteClasses;
         AllLexerTests.class, 
         AllSQLTests.class, 
         SQLJudgeEngineTest.class,
+        SQLStatementClassifierTest.class,
+        SQLNormalizationEngineTest.class,
+        InsertRowGroupSplitterTest.class,
+        ParsingResultCacheTest.class,
         AllContextTests.class,
         AllConstantTests.class, 
         AllParsingIntegrateTests.class
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing;
+
+import org.apache.shardingsphere.core.constant.SQLType;
+import org.apache.shardingsphere.core.parsing.parser.exception.SQLParsingException;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SQLStatementClassifierTest {
+    
+    @Test
+    public void assertClassifyForDQL() {
+        assertThat(SQLStatementClassifier.classify(" /*COMMENT*/  \t \n  \r \fsElecT\t\n  * from table  ").get(), is(SQLType.DQL));
+        assertThat(SQLStatementClassifier.classify("/*!40101 SELECT 1 */ SELECT * FROM t_order").get(), is(SQLType.DQL));
+    }
+    
+    @Test
+    public void assertClassifyForDML() {
+        assertThat(SQLStatementClassifier.classify("-- COMMENT\ninsert into t_order values (1)").get(), is(SQLType.DML));
+        assertThat(SQLStatementClassifier.classify("# COMMENT\nUPDATE t_order SET status = 'init'").get(), is(SQLType.DML));
+        assertThat(SQLStatementClassifier.classify("/*+ HINT SELECT * FROM TT*/ DELETE FROM t_order").get(), is(SQLType.DML));
+    }
+    
+    @Test
+    public void assertClassifyForTCL() {
+        assertThat(SQLStatementClassifier.classify("BEGIN").get(), is(SQLType.TCL));
+        assertThat(SQLStatementClassifier.classify("commit").get(), is(SQLType.TCL));
+    }
+    
+    @Test
+    public void assertClassifyForDAL() {
+        assertThat(SQLStatementClassifier.classify("SHOW TABLES").get(), is(SQLType.DAL));
+        assertThat(SQLStatementClassifier.classify("use sharding_db").get(), is(SQLType.DAL));
+    }
+    
+    @Test
+    public void assertClassifyForDDL() {
+        assertThat(SQLStatementClassifier.classify("CREATE TABLE t_order (order_id INT)").get(), is(SQLType.DDL));
+        assertThat(SQLStatementClassifier.classify("TRUNCATE TABLE t_order").get(), is(SQLType.DDL));
+    }
+    
+    @Test
+    public void assertClassifyForDCL() {
+        assertThat(SQLStatementClassifier.classify("GRANT SELECT ON t_order TO user1").get(), is(SQLType.DCL));
+        assertThat(SQLStatementClassifier.classify("CREATE /* COMMENT */ USER user1").get(), is(SQLType.DCL));
+        assertThat(SQLStatementClassifier.classify("RENAME USER user1 TO user2").get(), is(SQLType.DCL));
+    }
+    
+    @Test
+    public void assertClassifyForAbsent() {
+        assertFalse(SQLStatementClassifier.classify("SET autocommit = 1").isPresent());
+        assertFalse(SQLStatementClassifier.classify("RENAME TABLE t_order TO t_order_new").isPresent());
+        assertFalse(SQLStatementClassifier.classify("selection").isPresent());
+        assertFalse(SQLStatementClassifier.classify("/* unterminated comment").isPresent());
+        assertFalse(SQLStatementClassifier.classify("").isPresent());
+    }
+    
+    @Test
+    public void assertGetSQLTypeByClassifying() {
+        assertThat(SQLStatementClassifier.getSQLType("SELECT * FROM t_order"), is(SQLType.DQL));
+    }
+    
+    @Test
+    public void assertGetSQLTypeByJudging() {
+        assertThat(SQLStatementClassifier.getSQLType("SET autocommit = 1"), is(SQLType.TCL));
+        assertThat(SQLStatementClassifier.getSQLType(" - - COMMENT \n insert into table"), is(SQLType.DML));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertGetSQLTypeForUnsupportedSQL() {
+        SQLStatementClassifier.getSQLType("int1 ttt");
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.parsing.antlr;
 
 import org.apache.shardingsphere.core.parsing.antlr.ddl.IntegrateDDLParsingCompatibleTest;
+import org.apache.shardingsphere.core.parsing.antlr.parser.SQLParserDFACacheTest;
 import org.apache.shardingsphere.core.parsing.antlr.rule.AllRuleTests;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -27,7 +28,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         AllRuleTests.class,
         AntlrIntegrateParsingTest.class,
-        IntegrateDDLParsingCompatibleTest.class
+        IntegrateDDLParsingCompatibleTest.class,
+        SQLParserDFACacheTest.class
 })
 public final class AllAntlrParsingTests {
 }
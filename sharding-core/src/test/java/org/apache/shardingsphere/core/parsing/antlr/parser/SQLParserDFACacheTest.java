@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.antlr.parser;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.antlr.parser.impl.SQLParserFactory;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParserDFACacheTest {
+    
+    private static final String SQL = "SELECT i.* FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id WHERE o.user_id = ? AND o.status = 'init' ORDER BY i.item_id DESC LIMIT ?";
+    
+    @After
+    public void tearDown() {
+        SQLParserDFACache.getInstance().init(false, 0);
+    }
+    
+    @Test
+    public void assertParseWithTwoStage() {
+        SQLAST expected = new SQLParserEngine(DatabaseType.MySQL, SQL).parse();
+        SQLParserDFACache.getInstance().init(true, 0);
+        assertTrue(SQLParserDFACache.getInstance().isTwoStageEnabled());
+        SQLAST actual = new SQLParserEngine(DatabaseType.MySQL, SQL).parse();
+        assertThat(actual.getRule().getContextName(), is(expected.getRule().getContextName()));
+        assertThat(actual.getParserRuleContext().toStringTree(), is(expected.getParserRuleContext().toStringTree()));
+    }
+    
+    @Test
+    public void assertWarmUpAndClear() {
+        SQLParserDFACache.getInstance().clear(DatabaseType.MySQL);
+        assertThat(SQLParserDFACache.getInstance().getStatesSize(DatabaseType.MySQL), is(0));
+        assertThat(SQLParserDFACache.getInstance().warmUp(DatabaseType.MySQL, Arrays.asList(SQL, "SELECT * FROM t_order WHERE order_id = ?")), is(2));
+        assertTrue(SQLParserDFACache.getInstance().getStatesSize(DatabaseType.MySQL) > 0);
+        SQLParserDFACache.getInstance().clear(DatabaseType.MySQL);
+        assertThat(SQLParserDFACache.getInstance().getStatesSize(DatabaseType.MySQL), is(0));
+    }
+    
+    @Test
+    public void assertCheckStatesSizeWhenExceeded() {
+        SQLParserDFACache.getInstance().warmUp(DatabaseType.MySQL, Collections.singletonList(SQL));
+        SQLParserDFACache.getInstance().init(false, 1);
+        for (int i = 0; i < 1024; i++) {
+            SQLParserDFACache.getInstance().checkStatesSize(SQLParserFactory.newInstance(DatabaseType.MySQL, "").getInterpreter());
+        }
+        assertThat(SQLParserDFACache.getInstance().getStatesSize(DatabaseType.MySQL), is(0));
+    }
+    
+    @Test
+    public void assertCheckStatesSizeWhenUnbounded() {
+        SQLParserDFACache.getInstance().warmUp(DatabaseType.MySQL, Collections.singletonList(SQL));
+        for (int i = 0; i < 1024; i++) {
+            SQLParserDFACache.getInstance().checkStatesSize(SQLParserFactory.newInstance(DatabaseType.MySQL, "").getInterpreter());
+        }
+        assertFalse(0 == SQLParserDFACache.getInstance().getStatesSize(DatabaseType.MySQL));
+    }
+}
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.core.parsing.antlr.rule.registry;
 
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.antlr.autogen.MySQLStatementParser;
 import org.apache.shardingsphere.core.parsing.antlr.sql.segment.SQLSegment;
 import org.apache.shardingsphere.core.parsing.antlr.sql.segment.table.TableSegment;
 import org.junit.Test;
@@ -29,17 +31,18 @@ public final class ParsingRuleRegistryTest {
     
     @Test
     public void assertFindSQLStatementRule() {
-        assertTrue(ParsingRuleRegistry.getInstance().findSQLStatementRule(DatabaseType.MySQL, "CreateTableContext").isPresent());
+        assertTrue(ParsingRuleRegistry.getInstance().findSQLStatementRule(DatabaseType.MySQL, MySQLStatementParser.CreateTableContext.class).isPresent());
     }
     
     @Test
     public void assertNotFindSQLStatementRule() {
-        assertFalse(ParsingRuleRegistry.getInstance().findSQLStatementRule(DatabaseType.MySQL, "Invalid").isPresent());
+        assertFalse(ParsingRuleRegistry.getInstance().findSQLStatementRule(DatabaseType.MySQL, ParserRuleContext.class).isPresent());
+        assertFalse(ParsingRuleRegistry.getInstance().findSQLStatementRule(DatabaseType.PostgreSQL, MySQLStatementParser.CreateTableContext.class).isPresent());
     }
     
     @Test
     public void assertFindSQLStatementRuleWithH2() {
-        assertTrue(ParsingRuleRegistry.getInstance().findSQLStatementRule(DatabaseType.H2, "CreateTableContext").isPresent());
+        assertTrue(ParsingRuleRegistry.getInstance().findSQLStatementRule(DatabaseType.H2, MySQLStatementParser.CreateTableContext.class).isPresent());
     }
     
     @Test
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.cache;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ParsingResultCacheTest {
+    
+    private final AtomicInteger parsedCount = new AtomicInteger();
+    
+    private final Callable<SQLStatement> parser = new Callable<SQLStatement>() {
+        
+        @Override
+        public SQLStatement call() {
+            parsedCount.incrementAndGet();
+            return new DQLStatement();
+        }
+    };
+    
+    @Before
+    public void setUp() {
+        ParsingResultCache.getInstance().init(2, ParsingResultCacheEvictionPolicy.LRU);
+        ParsingResultCache.getInstance().clear();
+    }
+    
+    @After
+    public void tearDown() {
+        ParsingResultCache.getInstance().init(65535, ParsingResultCacheEvictionPolicy.LRU);
+        ParsingResultCache.getInstance().clear();
+    }
+    
+    @Test
+    public void assertGetSQLStatementFromCache() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        SQLStatement actual = ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, shardingRule, "SELECT 1", parser);
+        assertThat(ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, shardingRule, "SELECT 1", parser), sameInstance(actual));
+        assertThat(parsedCount.get(), is(1));
+        assertThat(ParsingResultCache.getInstance().getStats().hitCount(), is(1L));
+        assertThat(ParsingResultCache.getInstance().getStats().missCount(), is(1L));
+        assertThat(ParsingResultCache.getInstance().getStats().loadSuccessCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementIsolatedByShardingRuleAndDatabaseType() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        SQLStatement actual = ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, shardingRule, "SELECT 1", parser);
+        assertThat(ParsingResultCache.getInstance().getSQLStatement(DatabaseType.PostgreSQL, shardingRule, "SELECT 1", parser), not(sameInstance(actual)));
+        assertThat(ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, mock(ShardingRule.class), "SELECT 1", parser), not(sameInstance(actual)));
+        assertThat(ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, null, "SELECT 1", parser), not(sameInstance(actual)));
+        assertThat(parsedCount.get(), is(4));
+        assertThat(ParsingResultCache.getInstance().size(), is(4L));
+    }
+    
+    @Test
+    public void assertGetSQLStatementWithEviction() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, shardingRule, "SELECT 1", parser);
+        ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, shardingRule, "SELECT 2", parser);
+        ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, shardingRule, "SELECT 3", parser);
+        assertThat(ParsingResultCache.getInstance().size(), is(2L));
+        assertThat(ParsingResultCache.getInstance().getStats().evictionCount(), is(1L));
+    }
+    
+    @Test(expected = SQLParsingException.class)
+    public void assertGetSQLStatementWithParsingFailure() {
+        ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, null, "SELECT", new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                throw new SQLParsingException("Can not parse");
+            }
+        });
+    }
+    
+    @Test
+    public void assertIsCached() {
+        SQLStatement actual = ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, null, "SELECT 1", parser);
+        assertTrue(ParsingResultCache.getInstance().isCached(actual));
+        assertFalse(ParsingResultCache.getInstance().isCached(new DQLStatement()));
+    }
+    
+    @Test
+    public void assertClear() {
+        ParsingResultCache.getInstance().getSQLStatement(DatabaseType.MySQL, null, "SELECT 1", parser);
+        ParsingResultCache.getInstance().clear();
+        assertThat(ParsingResultCache.getInstance().size(), is(0L));
+    }
+}
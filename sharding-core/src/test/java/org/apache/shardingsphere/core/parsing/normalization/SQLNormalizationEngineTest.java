@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.normalization;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLNormalizationEngineTest {
+    
+    @Test
+    public void assertNormalizeConditions() {
+        Optional<NormalizedSQL> actual = new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = 1001 AND status = 'init'").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1001, "init")));
+    }
+    
+    @Test
+    public void assertNormalizeInAndBetweenConditions() {
+        Optional<NormalizedSQL> actual = new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT * FROM t_order o WHERE o.user_id IN (1, 2) AND o.order_id NOT BETWEEN 10 AND 20").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order o WHERE o.user_id IN (?, ?) AND o.order_id NOT BETWEEN ? AND ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 10, 20)));
+    }
+    
+    @Test
+    public void assertNormalizeLimit() {
+        Optional<NormalizedSQL> actual = new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE user_id = 1 ORDER BY order_id LIMIT 10, 20").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? ORDER BY order_id LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 10, 20)));
+    }
+    
+    @Test
+    public void assertNormalizeWithoutLimitForGroupBy() {
+        Optional<NormalizedSQL> actual = new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT user_id, COUNT(*) FROM t_order WHERE user_id = 1 GROUP BY user_id LIMIT 10").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT user_id, COUNT(*) FROM t_order WHERE user_id = ? GROUP BY user_id LIMIT 10"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertValues() {
+        Optional<NormalizedSQL> actual = new SQLNormalizationEngine(DatabaseType.MySQL, "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'init'), (2, 20, now())").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, now())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 10, "init", 2, 20)));
+    }
+    
+    @Test
+    public void assertNormalizeWithoutUpdateItems() {
+        Optional<NormalizedSQL> actual = new SQLNormalizationEngine(DatabaseType.MySQL, "UPDATE t_order SET status = 'init' WHERE order_id = 1").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = 'init' WHERE order_id = ?"));
+    }
+    
+    @Test
+    public void assertNormalizeWithUnsupportedSQL() {
+        assertFalse(new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").normalize().isPresent());
+        assertFalse(new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE order_id IN (SELECT order_id FROM t_order_item WHERE user_id = 1)").normalize().isPresent());
+        assertFalse(new SQLNormalizationEngine(DatabaseType.MySQL, "SHOW TABLES LIKE 't_order'").normalize().isPresent());
+    }
+    
+    @Test
+    public void assertNormalizeWithoutUnrestorableLiterals() {
+        assertFalse(new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE status = 'it''s' AND order_id = 007 AND user_id = -1").normalize().isPresent());
+        assertFalse(new SQLNormalizationEngine(DatabaseType.MySQL, "SELECT * FROM t_order WHERE DATE(create_time) = '2018-01-01' AND order_id = 1 + 1").normalize().isPresent());
+    }
+    
+    @Test
+    public void assertRestoreLiterals() {
+        Optional<NormalizedSQL> actual = new SQLNormalizationEngine(DatabaseType.MySQL, "INSERT INTO t_order (user_id, status) VALUES (10, 'init')").normalize();
+        assertTrue(actual.isPresent());
+        List<Object> parameters = Arrays.asList(actual.get().getParameters().get(0), actual.get().getParameters().get(1), "it's \\key");
+        assertThat(actual.get().restoreLiterals("INSERT INTO t_order_0 (user_id, status, order_id) VALUES (?, ?, ?)", parameters),
+                is("INSERT INTO t_order_0 (user_id, status, order_id) VALUES (10, 'init', 'it''s \\\\key')"));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parsing.streaming;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InsertRowGroupSplitterTest {
+    
+    @Test
+    public void assertSplitRows() {
+        Optional<InsertRowGroupSplitter> actual = InsertRowGroupSplitter.newInstance(
+                DatabaseType.MySQL, "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'a,b'), (2, 20, CONCAT('(', 'c')),(3, 30, ')');", 2);
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().hasNext());
+        assertThat(actual.get().next(), is("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'a,b'), (2, 20, CONCAT('(', 'c'))"));
+        assertTrue(actual.get().hasNext());
+        assertThat(actual.get().next(), is("INSERT INTO t_order (order_id, user_id, status) VALUES (3, 30, ')')"));
+        assertFalse(actual.get().hasNext());
+    }
+    
+    @Test
+    public void assertSplitRowsWithoutColumns() {
+        Optional<InsertRowGroupSplitter> actual = InsertRowGroupSplitter.newInstance(DatabaseType.PostgreSQL, "INSERT INTO t_order VALUES (1, 10), (2, 20)", 1);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().next(), is("INSERT INTO t_order VALUES (1, 10)"));
+        assertThat(actual.get().next(), is("INSERT INTO t_order VALUES (2, 20)"));
+        assertFalse(actual.get().hasNext());
+    }
+    
+    @Test
+    public void assertNotSplitIfRowsNotMoreThanRowGroupSize() {
+        assertFalse(InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, "INSERT INTO t_order (order_id, user_id) VALUES (1, 10), (2, 20)", 2).isPresent());
+        assertFalse(InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, "INSERT INTO t_order (order_id, user_id) VALUES (1, 10), (2, 20)", 0).isPresent());
+    }
+    
+    @Test
+    public void assertNotSplitUnsupportedSQL() {
+        assertFalse(InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, "INSERT INTO t_order (order_id) VALUES (1), (2) ON DUPLICATE KEY UPDATE order_id = VALUES(order_id)", 1).isPresent());
+        assertFalse(InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, "INSERT INTO t_order (order_id) SELECT order_id FROM t_order_item", 1).isPresent());
+        assertFalse(InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, "INSERT INTO t_order SET order_id = 1", 1).isPresent());
+        assertFalse(InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, "UPDATE t_order SET status = 'a' WHERE order_id = 1", 1).isPresent());
+        assertFalse(InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, "INSERT INTO t_order (order_id, status) VALUES (1, 'a'), (2, 'b", 1).isPresent());
+    }
+}
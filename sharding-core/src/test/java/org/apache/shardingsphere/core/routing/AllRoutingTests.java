@@ -17,12 +17,15 @@
 
 package org.apache.shardingsphere.core.routing;
 
+import org.apache.shardingsphere.core.routing.pagination.KeysetPaginationRewriterTest;
 import org.apache.shardingsphere.core.routing.router.DatabaseHintSQLRouterTest;
+import org.apache.shardingsphere.core.routing.router.RoutePlanTest;
 import org.apache.shardingsphere.core.routing.type.broadcast.DatabaseBroadcastRoutingEngineTest;
 import org.apache.shardingsphere.core.routing.type.broadcast.TableBroadcastRoutingEngineTest;
 import org.apache.shardingsphere.core.routing.type.defaultdb.DefaultDatabaseRoutingEngineTest;
 import org.apache.shardingsphere.core.routing.type.hint.DatabaseHintRoutingEngineTest;
 import org.apache.shardingsphere.core.routing.type.ignore.IgnoreRoutingEngineTest;
+import org.apache.shardingsphere.core.routing.type.standard.NormalizedSQLRouteTest;
 import org.apache.shardingsphere.core.routing.type.standard.SQLRouteTest;
 import org.apache.shardingsphere.core.routing.type.standard.StandardRoutingEngineTest;
 import org.apache.shardingsphere.core.routing.type.standard.SubqueryRouteTest;
@@ -34,6 +37,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
         DatabaseTest.class,
         DatabaseHintSQLRouterTest.class,
+        RoutePlanTest.class,
+        KeysetPaginationRewriterTest.class,
         DatabaseBroadcastRoutingEngineTest.class,
         TableBroadcastRoutingEngineTest.class,
         DefaultDatabaseRoutingEngineTest.class,
@@ -41,7 +46,8 @@ import org.junit.runners.Suite.SuiteClasses;
         IgnoreRoutingEngineTest.class,
         StandardRoutingEngineTest.class,
         SubqueryRouteTest.class,
-        SQLRouteTest.class
+        SQLRouteTest.class,
+        NormalizedSQLRouteTest.class
 })
 public final class AllRoutingTests {
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.pagination;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.metadata.table.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
+import org.apache.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import org.apache.shardingsphere.core.parsing.parser.context.orderby.OrderItem;
+import org.apache.shardingsphere.core.parsing.parser.context.table.Table;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.parsing.parser.token.OffsetToken;
+import org.apache.shardingsphere.core.parsing.parser.token.RowCountToken;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class KeysetPaginationRewriterTest {
+    
+    private static final String PARAMETERIZED_SQL = "SELECT * FROM t_order WHERE user_id = ? ORDER BY order_id LIMIT ?, ?";
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(createParameterizedRewriter("order_id", 100).isSupported());
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithoutPrimaryKeyOrder() {
+        assertFalse(createParameterizedRewriter("status", 100).isSupported());
+    }
+    
+    @Test
+    public void assertIsNotSupportedWithGroupBy() {
+        SelectStatement selectStatement = createSelectStatement("order_id", new LimitValue(100, 1, true), new LimitValue(20, 2, false));
+        selectStatement.getGroupByItems().add(new OrderItem("user_id", OrderDirection.ASC, OrderDirection.ASC));
+        assertFalse(new KeysetPaginationRewriter(DatabaseType.MySQL, PARAMETERIZED_SQL, Arrays.<Object>asList(10, 100, 20), selectStatement, createShardingTableMetaData()).isSupported());
+    }
+    
+    @Test
+    public void assertGetCursorKeyWithoutLimitParameters() {
+        assertThat(createParameterizedRewriter("order_id", 100).getCursorKey(), is(createParameterizedRewriter("order_id", 120).getCursorKey()));
+        assertThat(createParameterizedRewriter("order_id", 100).getCursorKey(), not(new KeysetPaginationRewriter(DatabaseType.MySQL, PARAMETERIZED_SQL, Arrays.<Object>asList(11, 100, 20), 
+                createSelectStatement("order_id", new LimitValue(100, 1, true), new LimitValue(20, 2, false)), createShardingTableMetaData()).getCursorKey()));
+    }
+    
+    @Test
+    public void assertGetCursorKeyWithoutLimitLiterals() {
+        assertThat(createLiteralRewriter(100).getCursorKey(), is(createLiteralRewriter(120).getCursorKey()));
+    }
+    
+    @Test
+    public void assertRewriteWithParameters() {
+        KeysetPaginationRewriter rewriter = createParameterizedRewriter("order_id", 100);
+        assertThat(rewriter.getOffsetValue(), is(100));
+        Optional<KeysetPaginationSQL> actual = rewriter.rewrite(1000L);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND order_id > ? ORDER BY order_id LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, 1000L, 0, 20)));
+    }
+    
+    @Test
+    public void assertRewriteWithLiterals() {
+        KeysetPaginationRewriter rewriter = createLiteralRewriter(100);
+        assertThat(rewriter.getOffsetValue(), is(100));
+        Optional<KeysetPaginationSQL> actual = rewriter.rewrite(1000);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id < 1000 ORDER BY order_id DESC LIMIT 0, 20"));
+        assertTrue(actual.get().getParameters().isEmpty());
+    }
+    
+    @Test
+    public void assertRewriteWithLiteralsForNotNumberKey() {
+        assertFalse(createLiteralRewriter(100).rewrite("1000").isPresent());
+    }
+    
+    @Test
+    public void assertRewriteWithTopLevelOr() {
+        String sql = "SELECT * FROM t_order WHERE user_id = ? OR status = ? ORDER BY order_id LIMIT ?, ?";
+        SelectStatement selectStatement = createSelectStatement("order_id", new LimitValue(100, 2, true), new LimitValue(20, 3, false));
+        KeysetPaginationRewriter rewriter = new KeysetPaginationRewriter(DatabaseType.MySQL, sql, Arrays.<Object>asList(10, "init", 100, 20), selectStatement, createShardingTableMetaData());
+        assertTrue(rewriter.isSupported());
+        assertFalse(rewriter.rewrite(1000L).isPresent());
+    }
+    
+    private KeysetPaginationRewriter createParameterizedRewriter(final String orderByColumn, final int offset) {
+        SelectStatement selectStatement = createSelectStatement(orderByColumn, new LimitValue(offset, 1, true), new LimitValue(20, 2, false));
+        return new KeysetPaginationRewriter(DatabaseType.MySQL, PARAMETERIZED_SQL, Arrays.<Object>asList(10, offset, 20), selectStatement, createShardingTableMetaData());
+    }
+    
+    private KeysetPaginationRewriter createLiteralRewriter(final int offset) {
+        String sql = String.format("SELECT * FROM t_order ORDER BY order_id DESC LIMIT %d, 20", offset);
+        SelectStatement selectStatement = createSelectStatement("order_id", new LimitValue(offset, -1, true), new LimitValue(20, -1, false));
+        selectStatement.getOrderByItems().set(0, new OrderItem("order_id", OrderDirection.DESC, OrderDirection.ASC));
+        selectStatement.addSQLToken(new OffsetToken(sql.indexOf(String.valueOf(offset)), offset));
+        selectStatement.addSQLToken(new RowCountToken(sql.lastIndexOf("20"), 20));
+        return new KeysetPaginationRewriter(DatabaseType.MySQL, sql, Collections.emptyList(), selectStatement, createShardingTableMetaData());
+    }
+    
+    private SelectStatement createSelectStatement(final String orderByColumn, final LimitValue offset, final LimitValue rowCount) {
+        SelectStatement result = new SelectStatement();
+        result.getTables().add(new Table("t_order", Optional.<String>absent()));
+        result.getOrderByItems().add(new OrderItem(orderByColumn, OrderDirection.ASC, OrderDirection.ASC));
+        Limit limit = new Limit();
+        limit.setOffset(offset);
+        limit.setRowCount(rowCount);
+        result.setLimit(limit);
+        return result;
+    }
+    
+    private ShardingTableMetaData createShardingTableMetaData() {
+        List<ColumnMetaData> columns = Arrays.asList(new ColumnMetaData("order_id", "bigint", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false));
+        Map<String, TableMetaData> tables = new HashMap<>(1, 1);
+        tables.put("t_order", new TableMetaData(columns));
+        return new ShardingTableMetaData(tables);
+    }
+}
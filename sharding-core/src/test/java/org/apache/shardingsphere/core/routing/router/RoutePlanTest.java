@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.router;
+
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.parser.context.limit.Limit;
+import org.apache.shardingsphere.core.parsing.parser.context.limit.LimitValue;
+import org.apache.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.rewrite.SQLBuilder;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.routing.router.sharding.RoutePlan;
+import org.apache.shardingsphere.core.routing.router.sharding.RoutePlanCache;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RoutePlanTest {
+    
+    @Test
+    public void assertIsCacheableForDQL() {
+        assertTrue(RoutePlan.isCacheable(new DQLStatement()));
+    }
+    
+    @Test
+    public void assertIsCacheableForInsert() {
+        assertFalse(RoutePlan.isCacheable(new InsertStatement()));
+    }
+    
+    @Test
+    public void assertIsCacheableForLiteralLimit() {
+        assertTrue(RoutePlan.isCacheable(createSelectStatement(new LimitValue(10, -1, true))));
+    }
+    
+    @Test
+    public void assertIsCacheableForParameterMarkerLimit() {
+        assertFalse(RoutePlan.isCacheable(createSelectStatement(new LimitValue(-1, 0, true))));
+    }
+    
+    private SelectStatement createSelectStatement(final LimitValue rowCount) {
+        SelectStatement result = new SelectStatement();
+        Limit limit = new Limit();
+        limit.setRowCount(rowCount);
+        result.setLimit(limit);
+        return result;
+    }
+    
+    @Test
+    public void assertGetSQLBuilderWithTemplate() {
+        DQLStatement sqlStatement = new DQLStatement();
+        RoutePlan routePlan = new RoutePlan();
+        List<Object> firstParameters = Collections.<Object>singletonList(1);
+        List<Object> secondParameters = Collections.<Object>singletonList(2);
+        SQLBuilder firstSQLBuilder = routePlan.getSQLBuilder(true, new SQLRewriteEngine(null, "SELECT ?", DatabaseType.MySQL, sqlStatement, null, firstParameters), firstParameters);
+        SQLBuilder secondSQLBuilder = routePlan.getSQLBuilder(true, new SQLRewriteEngine(null, "SELECT 'not rewrite'", DatabaseType.MySQL, sqlStatement, null, secondParameters), secondParameters);
+        assertThat(firstSQLBuilder.toSQL(null, Collections.<String, String>emptyMap(), null, null).getSql(), is("SELECT ?"));
+        assertThat(secondSQLBuilder.toSQL(null, Collections.<String, String>emptyMap(), null, null).getSql(), is("SELECT ?"));
+        assertThat(secondSQLBuilder.toSQL(null, Collections.<String, String>emptyMap(), null, null).getParameterSets().get(0), is(secondParameters));
+    }
+    
+    @Test
+    public void assertGetRoutePlanFromCache() {
+        DQLStatement sqlStatement = new DQLStatement();
+        assertThat(RoutePlanCache.getInstance().getRoutePlan(sqlStatement), sameInstance(RoutePlanCache.getInstance().getRoutePlan(sqlStatement)));
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.core.metadata.table.ShardingTableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.routing.PreparedStatementRoutingEngine;
 import org.apache.shardingsphere.core.routing.SQLRouteResult;
+import org.apache.shardingsphere.core.routing.StatementRoutingEngine;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 
 import java.util.Arrays;
@@ -51,6 +52,13 @@ public class AbstractSQLRouteTest {
         return result;
     }
     
+    protected SQLRouteResult routeStatement(final String sql, final boolean literalNormalizationEnabled) {
+        ShardingRule shardingRule = createShardingRule();
+        StatementRoutingEngine engine = new StatementRoutingEngine(
+                shardingRule, new ShardingMetaData(buildShardingDataSourceMetaData(), buildShardingTableMetaData()), DatabaseType.MySQL, false, null, literalNormalizationEnabled);
+        return engine.route(sql);
+    }
+    
     private ShardingDataSourceMetaData buildShardingDataSourceMetaData() {
         Map<String, String> shardingDataSourceURLs = new LinkedHashMap<>();
         shardingDataSourceURLs.put("ds_0", "jdbc:mysql://127.0.0.1:3306/actual_db");
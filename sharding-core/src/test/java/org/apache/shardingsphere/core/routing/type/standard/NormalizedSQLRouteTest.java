@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.routing.type.standard;
+
+import org.apache.shardingsphere.core.routing.SQLRouteResult;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class NormalizedSQLRouteTest extends AbstractSQLRouteTest {
+    
+    @Test
+    public void assertRouteSelectWithConditions() {
+        assertRouteWithNormalization("SELECT * FROM t_order WHERE user_id = 1 AND order_id IN (1, 2) AND status = 'init'");
+    }
+    
+    @Test
+    public void assertRouteSelectWithLimit() {
+        assertRouteWithNormalization("SELECT * FROM t_order WHERE order_id BETWEEN 1 AND 10 ORDER BY order_id LIMIT 2, 5");
+    }
+    
+    @Test
+    public void assertRouteInsertWithMultipleValues() {
+        assertRouteWithNormalization("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 1, 'init'), (2, 2, 'init')");
+    }
+    
+    @Test
+    public void assertRouteUpdate() {
+        assertRouteWithNormalization("UPDATE t_order SET status = 'finished' WHERE user_id = 1 AND order_id = 1");
+    }
+    
+    private void assertRouteWithNormalization(final String sql) {
+        SQLRouteResult expected = routeStatement(sql, false);
+        SQLRouteResult actual = routeStatement(sql, true);
+        assertThat(actual.getRouteUnits(), is(expected.getRouteUnits()));
+    }
+}
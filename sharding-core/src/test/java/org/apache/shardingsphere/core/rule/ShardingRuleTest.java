@@ -207,6 +207,17 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().isAllBroadcastTables(Arrays.asList("broadcast_table", "other_table")));
     }
     
+    @Test
+    public void assertIsAllCacheableTable() {
+        assertTrue(createMaximumShardingRule().isAllCacheableTables(Collections.singletonList("Broadcast_Table")));
+    }
+    
+    @Test
+    public void assertIsNotAllCacheableTable() {
+        assertFalse(createMaximumShardingRule().isAllCacheableTables(Arrays.asList("broadcast_table", "other_table")));
+        assertFalse(createMaximumShardingRule().isAllCacheableTables(Collections.<String>emptyList()));
+    }
+    
     @Test
     public void assertIsBroadcastTable() {
         assertTrue(createMaximumShardingRule().isBroadcastTable("Broadcast_Table"));
@@ -376,6 +387,7 @@ public final class ShardingRuleTest {
         shardingRuleConfiguration.getTableRuleConfigs().add(subTableRuleConfiguration);
         shardingRuleConfiguration.getBindingTableGroups().add(tableRuleConfiguration.getLogicTable() + "," + subTableRuleConfiguration.getLogicTable());
         shardingRuleConfiguration.getBroadcastTables().add("BROADCAST_TABLE");
+        shardingRuleConfiguration.getCacheableTables().add("BROADCAST_TABLE");
         shardingRuleConfiguration.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("id", "ds_%{id % 2}"));
         shardingRuleConfiguration.setDefaultTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("id", "table_%{id % 2}"));
         shardingRuleConfiguration.setDefaultKeyGeneratorConfig(getKeyGeneratorConfiguration());
@@ -26,6 +26,7 @@ import org.junit.runners.Suite.SuiteClasses;
         NumberUtilTest.class,
         StringUtilTest.class,
         InlineExpressionParserTest.class,
+        InlineExpressionCompilerTest.class,
         SQLUtilTest.class
     })
 public final class AllUtilTests {
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertCompileSameResultWithGroovy() {
+        for (String each : Arrays.asList("t_order_${order_id}", "t_order_${order_id % 16}", "ds_${order_id.intdiv(4)}", 
+                "t_order_${order_id.hashCode() % 4}", "t_order_${Math.abs(order_id.hashCode()) % 4}_${order_id % 2}")) {
+            InlineExpressionEvaluator evaluator = InlineExpressionCompiler.compile(each, "order_id").get();
+            Closure<?> closure = new InlineExpressionParser(each).evaluateClosure();
+            for (long i = -20L; i <= 20L; i++) {
+                assertThat(evaluator.evaluate(i), is(evaluateWithGroovy(closure, i)));
+                assertThat(evaluator.evaluate((int) i), is(evaluateWithGroovy(closure, (int) i)));
+            }
+        }
+    }
+    
+    private String evaluateWithGroovy(final Closure<?> closure, final Object value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty("order_id", value);
+        return result.call().toString();
+    }
+    
+    @Test
+    public void assertCompileForStringValue() {
+        InlineExpressionEvaluator evaluator = InlineExpressionCompiler.compile("t_order_${order_id}", "order_id").get();
+        assertTrue(evaluator.isSupported("xx"));
+        assertThat(evaluator.evaluate("xx"), is("t_order_xx"));
+    }
+    
+    @Test
+    public void assertCompileForUnsupportedValue() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2}", "order_id").get().isSupported("xx"));
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2}", "order_id").get().isSupported(1.5D));
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 2}", "order_id").get().isSupported(null));
+    }
+    
+    @Test
+    public void assertCompileForUnsupportedExpression() {
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id / 2}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${user_id % 2}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${order_id % 0}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("t_order_${[0, 1].get(order_id)}", "order_id").isPresent());
+        assertFalse(InlineExpressionCompiler.compile("\"t_order_${order_id % 2}\"", "order_id").isPresent());
+    }
+    
+    @Test
+    public void assertCompileConstant() {
+        InlineExpressionSegments actual = InlineExpressionCompiler.compileConstant("t_${['new', 'old']}_order_${0..2}_${[0, 2]}").get();
+        assertThat(actual.getLiterals(), is(Arrays.asList("t_", "_order_", "_", "")));
+        assertThat(actual.getValues().get(0), is(Arrays.asList("new", "old")));
+        assertThat(actual.getValues().get(1), is(Arrays.asList("0", "1", "2")));
+        assertThat(actual.getValues().get(2), is(Arrays.asList("0", "2")));
+    }
+    
+    @Test
+    public void assertCompileConstantForUnsupportedExpression() {
+        assertFalse(InlineExpressionCompiler.compileConstant("t_order_${0..<2}").isPresent());
+        assertFalse(InlineExpressionCompiler.compileConstant("t_order_${2..0}").isPresent());
+        assertFalse(InlineExpressionCompiler.compileConstant("t_order_${null}").isPresent());
+        assertFalse(InlineExpressionCompiler.compileConstant("t_${[\"new${1+2}\",'old']}").isPresent());
+    }
+}
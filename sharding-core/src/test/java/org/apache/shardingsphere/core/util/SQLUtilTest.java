@@ -20,6 +20,9 @@ package org.apache.shardingsphere.core.util;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -55,4 +58,20 @@ public class SQLUtilTest {
     public void assertGetOriginalValueForMySQLWithMySQLKeyword() {
         assertThat(SQLUtil.getOriginalValue("show", DatabaseType.MySQL), is("`show`"));
     }
+    
+    @Test
+    public void assertSplitStatements() {
+        assertThat(SQLUtil.splitStatements("INSERT INTO t_order VALUES (1); INSERT INTO t_order VALUES (2);"), is(Arrays.asList("INSERT INTO t_order VALUES (1)", "INSERT INTO t_order VALUES (2)")));
+    }
+    
+    @Test
+    public void assertSplitStatementsWithSemicolonInQuotesAndComments() {
+        String sql = "UPDATE t_order SET status = 'a;\\';b' WHERE `c;d` = \"e;f\" /* g;h */; -- i;j\nDELETE FROM t_order # k;l";
+        assertThat(SQLUtil.splitStatements(sql), is(Arrays.asList("UPDATE t_order SET status = 'a;\\';b' WHERE `c;d` = \"e;f\" /* g;h */", "-- i;j\nDELETE FROM t_order # k;l")));
+    }
+    
+    @Test
+    public void assertSplitSingleStatement() {
+        assertThat(SQLUtil.splitStatements(" SELECT 1 ; ; "), is(Collections.singletonList("SELECT 1")));
+    }
 }
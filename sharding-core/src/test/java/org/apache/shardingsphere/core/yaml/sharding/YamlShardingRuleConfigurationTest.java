@@ -61,6 +61,7 @@ public final class YamlShardingRuleConfigurationTest {
         result.getTables().put("t_order_item", new YamlTableRuleConfiguration());
         result.getBindingTables().add("t_order, t_order_item");
         result.getBroadcastTables().add("t_config");
+        result.getCacheableTables().add("t_config");
         YamlKeyGeneratorConfiguration keyGeneratorConfiguration = new YamlKeyGeneratorConfiguration();
         keyGeneratorConfiguration.setType("SNOWFLAKE");
         result.setDefaultKeyGenerator(keyGeneratorConfiguration);
@@ -97,6 +98,8 @@ public final class YamlShardingRuleConfigurationTest {
         assertThat(actual.getBindingTableGroups().iterator().next(), is("t_order, t_order_item"));
         assertThat(actual.getBroadcastTables().size(), is(1));
         assertThat(actual.getBroadcastTables().iterator().next(), is("t_config"));
+        assertThat(actual.getCacheableTables().size(), is(1));
+        assertThat(actual.getCacheableTables().iterator().next(), is("t_config"));
         assertThat(actual.getDefaultKeyGeneratorConfig().getKeyGenerator(), instanceOf(SnowflakeShardingKeyGenerator.class));
         assertMasterSlaveRuleConfig(actual.getMasterSlaveRuleConfigs().iterator().next());
     }
@@ -23,13 +23,17 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.executor.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.executor.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.executor.StatementExecuteUnit;
 import org.apache.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.executor.sql.execute.result.MemoryQueryResultFactory;
+import org.apache.shardingsphere.core.executor.sql.prepare.ConnectionModePlanner;
 import org.apache.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 
@@ -68,6 +72,8 @@ public class AbstractStatementExecutor {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final MemoryQueryResultFactory memoryQueryResultFactory;
+    
     private final Collection<Connection> connections = new LinkedList<>();
     
     @Getter
@@ -91,10 +97,15 @@ public class AbstractStatementExecutor {
         this.resultSetConcurrency = resultSetConcurrency;
         this.resultSetHoldability = resultSetHoldability;
         this.connection = shardingConnection;
-        int maxConnectionsSizePerQuery = connection.getShardingContext().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        ShardingProperties shardingProperties = connection.getShardingContext().getShardingProperties();
+        int maxConnectionsSizePerQuery = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        boolean isAdaptive = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CONNECTION_MODE_ADAPTIVE_ENABLED);
+        int maxConnectionsSizePerDataSource = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_DATA_SOURCE);
         ShardingExecuteEngine executeEngine = connection.getShardingContext().getExecuteEngine();
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
-        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
+        ExecuteStatistics executeStatistics = connection.getShardingContext().getExecuteStatistics();
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(new ConnectionModePlanner(maxConnectionsSizePerQuery, isAdaptive, maxConnectionsSizePerDataSource, executeStatistics));
+        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, executeStatistics);
+        memoryQueryResultFactory = new MemoryQueryResultFactory(shardingProperties);
     }
     
     protected final void cacheStatements() {
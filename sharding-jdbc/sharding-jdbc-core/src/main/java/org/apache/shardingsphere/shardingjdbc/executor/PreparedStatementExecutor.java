@@ -22,7 +22,6 @@ import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.executor.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.executor.StatementExecuteUnit;
 import org.apache.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
-import org.apache.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
 import org.apache.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
@@ -113,7 +112,8 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         PreparedStatement preparedStatement = (PreparedStatement) statementExecuteUnit.getStatement();
         ResultSet resultSet = preparedStatement.executeQuery();
         getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode() ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return ConnectionMode.MEMORY_STRICTLY == statementExecuteUnit.getConnectionMode()
+                ? new StreamQueryResult(resultSet) : getMemoryQueryResultFactory().newInstance(statementExecuteUnit.getRouteUnit().getDataSourceName(), resultSet);
     }
     
     /**
@@ -69,15 +69,21 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
-            
-            @Override
-            public void execute(final ResultSet resultSet) throws SQLException {
-                resultSet.close();
-            }
-        });
+        try {
+            forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
+                
+                @Override
+                public void execute(final ResultSet resultSet) throws SQLException {
+                    resultSet.close();
+                }
+            });
+        } finally {
+            closeMergedResult();
+        }
     }
     
+    protected abstract void closeMergedResult() throws SQLException;
+    
     @Override
     public final boolean isClosed() {
         return closed;
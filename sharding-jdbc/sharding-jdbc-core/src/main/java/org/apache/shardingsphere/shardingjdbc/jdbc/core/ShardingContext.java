@@ -17,13 +17,20 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.executor.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
+import org.apache.shardingsphere.core.parsing.antlr.parser.SQLParserDFACache;
+import org.apache.shardingsphere.core.parsing.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parsing.cache.ParsingResultCacheEvictionPolicy;
+import org.apache.shardingsphere.core.routing.pagination.KeysetCursorCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.core.util.ReflectiveUtil;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.metadata.CachedDatabaseMetaData;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
 
@@ -45,6 +52,8 @@ import java.util.Properties;
 @Getter
 public final class ShardingContext implements AutoCloseable {
     
+    private static final String[] MAX_POOL_SIZE_GETTERS = {"getMaximumPoolSize", "getMaxTotal", "getMaxActive", "getMaxPoolSize"};
+    
     private final DatabaseMetaData cachedDatabaseMetaData;
     
     private final ShardingRule shardingRule;
@@ -57,6 +66,10 @@ public final class ShardingContext implements AutoCloseable {
     
     private final ShardingMetaData metaData;
     
+    private final KeysetCursorCache keysetCursorCache;
+    
+    private final ExecuteStatistics executeStatistics = new ExecuteStatistics();
+    
     public ShardingContext(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType, final Properties props) throws SQLException {
         this.cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap);
         this.shardingRule = shardingRule;
@@ -65,9 +78,38 @@ public final class ShardingContext implements AutoCloseable {
         shardingProperties = new ShardingProperties(null == props ? new Properties() : props);
         int executorSize = shardingProperties.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE);
         executeEngine = new ShardingExecuteEngine(executorSize);
+        ParsingResultCache.getInstance().init(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE), 
+                ParsingResultCacheEvictionPolicy.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_EVICTION_POLICY)));
+        SQLParserDFACache.getInstance().init(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.PARSING_TWO_STAGE_ENABLED), 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_DFA_MAX_STATES_SIZE));
         metaData = new ShardingMetaData(getDataSourceURLs(dataSourceMap), shardingRule, databaseType, executeEngine, new JDBCTableMetaDataConnectionManager(dataSourceMap), 
                 shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY), 
                 shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
+        initMaxPoolSizes(dataSourceMap);
+        keysetCursorCache = new KeysetCursorCache(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.KEYSET_PAGINATION_CURSOR_CACHE_SIZE), 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.KEYSET_PAGINATION_CURSOR_EXPIRE_SECONDS));
+    }
+    
+    private void initMaxPoolSizes(final Map<String, DataSource> dataSourceMap) {
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            Optional<Integer> maxPoolSize = findMaxPoolSize(entry.getValue());
+            if (maxPoolSize.isPresent()) {
+                executeStatistics.get(entry.getKey()).setMaxPoolSize(maxPoolSize.get());
+            }
+        }
+    }
+    
+    private Optional<Integer> findMaxPoolSize(final DataSource dataSource) {
+        for (String each : MAX_POOL_SIZE_GETTERS) {
+            try {
+                Object result = ReflectiveUtil.findMethod(dataSource, each).invoke(dataSource);
+                if (result instanceof Integer && (Integer) result > 0) {
+                    return Optional.of((Integer) result);
+                }
+            } catch (final ReflectiveOperationException ignored) {
+            }
+        }
+        return Optional.absent();
     }
     
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap) throws SQLException {
@@ -28,8 +28,10 @@ import org.apache.shardingsphere.core.parsing.parser.sql.dal.DALStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dql.DQLStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.parsing.streaming.InsertRowGroupSplitter;
 import org.apache.shardingsphere.core.routing.SQLRouteResult;
 import org.apache.shardingsphere.core.routing.StatementRoutingEngine;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
 import org.apache.shardingsphere.core.routing.router.sharding.GeneratedKey;
 import org.apache.shardingsphere.shardingjdbc.executor.StatementExecutor;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
@@ -89,7 +91,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
             sqlRoute(sql);
             initStatementExecutor();
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), connection.getShardingContext().getShardingRule(), 
-                    routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery());
+                    routeResult, connection.getShardingContext().getMetaData().getTable(), statementExecutor.executeQuery(), 
+                    connection.getShardingContext().getShardingProperties());
             result = new ShardingResultSet(statementExecutor.getResultSets(), mergeEngine.merge(), this);
         } finally {
             currentResultSet = null;
@@ -101,6 +104,10 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     @Override
     public int executeUpdate(final String sql) throws SQLException {
         try {
+            Optional<InsertRowGroupSplitter> insertRowGroupSplitter = findInsertRowGroupSplitter(sql);
+            if (insertRowGroupSplitter.isPresent()) {
+                return executeUpdate(insertRowGroupSplitter.get());
+            }
             clearPrevious();
             sqlRoute(sql);
             initStatementExecutor();
@@ -111,6 +118,26 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
     }
     
+    private Optional<InsertRowGroupSplitter> findInsertRowGroupSplitter(final String sql) throws SQLException {
+        if (connection.getAutoCommit()) {
+            return Optional.absent();
+        }
+        ShardingContext shardingContext = connection.getShardingContext();
+        return InsertRowGroupSplitter.newInstance(
+                shardingContext.getDatabaseType(), sql, shardingContext.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.STREAMING_INSERT_ROW_GROUP_SIZE));
+    }
+    
+    private int executeUpdate(final InsertRowGroupSplitter insertRowGroupSplitter) throws SQLException {
+        int result = 0;
+        while (insertRowGroupSplitter.hasNext()) {
+            clearPrevious();
+            sqlRoute(insertRowGroupSplitter.next());
+            initStatementExecutor();
+            result += statementExecutor.executeUpdate();
+        }
+        return result;
+    }
+    
     @Override
     public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
         if (RETURN_GENERATED_KEYS == autoGeneratedKeys) {
@@ -224,7 +251,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         if (routeResult.getSqlStatement() instanceof SelectStatement || routeResult.getSqlStatement() instanceof DALStatement) {
             MergeEngine mergeEngine = MergeEngineFactory.newInstance(connection.getShardingContext().getDatabaseType(), 
-                    connection.getShardingContext().getShardingRule(), routeResult.getSqlStatement(), connection.getShardingContext().getMetaData().getTable(), queryResults);
+                    connection.getShardingContext().getShardingRule(), routeResult, connection.getShardingContext().getMetaData().getTable(), queryResults, 
+                    connection.getShardingContext().getShardingProperties());
             currentResultSet = new ShardingResultSet(resultSets, mergeEngine.merge(), this);
         }
         return currentResultSet;
@@ -244,7 +272,9 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     private void sqlRoute(final String sql) {
         ShardingContext shardingContext = connection.getShardingContext();
         routeResult = new StatementRoutingEngine(shardingContext.getShardingRule(), 
-                shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW)).route(sql);
+                shardingContext.getMetaData(), shardingContext.getDatabaseType(), shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), 
+                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.KEYSET_PAGINATION_ENABLED) ? shardingContext.getKeysetCursorCache() : null, 
+                shardingContext.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PARSING_LITERAL_NORMALIZATION_ENABLED)).route(sql);
     }
     
     private void clearPrevious() throws SQLException {
@@ -296,5 +326,14 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         }
         return Optional.absent();
     }
+    
+    /**
+     * Get pagination context of last executed query.
+     * 
+     * @return pagination context, absent if last executed query is not a paginated query across shards
+     */
+    public Optional<PaginationContext> getPaginationContext() {
+        return null == routeResult ? Optional.<PaginationContext>absent() : Optional.fromNullable(routeResult.getPaginationContext());
+    }
 }
 
@@ -74,23 +74,54 @@ public final class ShardingOrchestrationFacade implements AutoCloseable {
      */
     public void init(final Map<String, Map<String, DataSourceConfiguration>> dataSourceConfigurationMap,
                      final Map<String, RuleConfiguration> schemaRuleMap, final Authentication authentication, final Map<String, Object> configMap, final Properties props) {
+        init(dataSourceConfigurationMap, schemaRuleMap, authentication, configMap, props, true);
+    }
+    
+    /**
+     * Initialize for orchestration.
+     *
+     * @param dataSourceConfigurationMap schema data source configuration map
+     * @param schemaRuleMap schema rule map
+     * @param authentication authentication
+     * @param configMap config Map
+     * @param props properties
+     * @param isInstanceOnline persist instance online or not, instance can be persisted online later via {@code persistInstanceOnline}
+     */
+    public void init(final Map<String, Map<String, DataSourceConfiguration>> dataSourceConfigurationMap, final Map<String, RuleConfiguration> schemaRuleMap,
+                     final Authentication authentication, final Map<String, Object> configMap, final Properties props, final boolean isInstanceOnline) {
         for (Entry<String, Map<String, DataSourceConfiguration>> entry : dataSourceConfigurationMap.entrySet()) {
             configService.persistConfiguration(entry.getKey(), dataSourceConfigurationMap.get(entry.getKey()), schemaRuleMap.get(entry.getKey()), authentication, configMap, props, isOverwrite);
         }
-        stateService.persistInstanceOnline();
-        stateService.persistDataSourcesNode();
-        listenerManager.initListeners();
+        init(isInstanceOnline);
     }
     
     /**
      * Initialize for orchestration.
      */
     public void init() {
-        stateService.persistInstanceOnline();
+        init(true);
+    }
+    
+    /**
+     * Initialize for orchestration.
+     *
+     * @param isInstanceOnline persist instance online or not, instance can be persisted online later via {@code persistInstanceOnline}
+     */
+    public void init(final boolean isInstanceOnline) {
+        if (isInstanceOnline) {
+            stateService.persistInstanceOnline();
+        }
         stateService.persistDataSourcesNode();
         listenerManager.initListeners();
     }
     
+    /**
+     * Persist instance online.
+     */
+    public void persistInstanceOnline() {
+        stateService.persistInstanceOnline();
+    }
+    
     @Override
     public void close() {
         try {
@@ -40,6 +40,7 @@ import java.util.Properties;
 
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -91,6 +92,20 @@ public final class ShardingOrchestrationFacadeTest {
         verify(listenerManager).initListeners();
     }
     
+    @Test
+    public void assertInitWithoutInstanceOnline() {
+        shardingOrchestrationFacade.init(false);
+        verify(stateService, never()).persistInstanceOnline();
+        verify(stateService).persistDataSourcesNode();
+        verify(listenerManager).initListeners();
+    }
+    
+    @Test
+    public void assertPersistInstanceOnline() {
+        shardingOrchestrationFacade.persistInstanceOnline();
+        verify(stateService).persistInstanceOnline();
+    }
+    
     @Test
     public void assertCloseSuccess() throws Exception {
         shardingOrchestrationFacade.close();
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.shardingproxy.config.yaml.YamlProxyServerConfig
 import org.apache.shardingsphere.shardingproxy.frontend.ShardingProxy;
 import org.apache.shardingsphere.shardingproxy.listener.ProxyListenerRegister;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.apache.shardingsphere.shardingproxy.runtime.warmup.WarmUpEngine;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 
 import java.io.IOException;
@@ -89,6 +90,7 @@ public final class Bootstrap {
                                                    final Map<String, Object> configMap, final Properties prop, final int port) throws InterruptedException {
         GlobalRegistry.getInstance().init(getDataSourceParameterMap(ruleConfigs), getRuleConfiguration(ruleConfigs), authentication, configMap, prop);
         initOpenTracing();
+        new WarmUpEngine().warmUp();
         ShardingProxy.getInstance().start(port);
     }
     
@@ -100,6 +102,8 @@ public final class Bootstrap {
                     shardingOrchestrationFacade.getConfigService().loadAuthentication(), shardingOrchestrationFacade.getConfigService().loadConfigMap(),
                     shardingOrchestrationFacade.getConfigService().loadProperties(), true);
             initOpenTracing();
+            new WarmUpEngine().warmUp();
+            shardingOrchestrationFacade.persistInstanceOnline();
             ShardingProxy.getInstance().start(port);
         }
     }
@@ -127,10 +131,10 @@ public final class Bootstrap {
     private static void initShardingOrchestrationFacade(
             final YamlProxyServerConfiguration serverConfig, final Map<String, YamlProxyRuleConfiguration> ruleConfigs, final ShardingOrchestrationFacade shardingOrchestrationFacade) {
         if (ruleConfigs.isEmpty()) {
-            shardingOrchestrationFacade.init();
+            shardingOrchestrationFacade.init(false);
         } else {
             shardingOrchestrationFacade.init(getDataSourceConfigurationMap(ruleConfigs),
-                    getRuleConfiguration(ruleConfigs), serverConfig.getAuthentication(), serverConfig.getConfigMap(), serverConfig.getProps());
+                    getRuleConfiguration(ruleConfigs), serverConfig.getAuthentication(), serverConfig.getConfigMap(), serverConfig.getProps(), false);
         }
     }
     
@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.JDBCDatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrappe
 import org.apache.shardingsphere.shardingproxy.backend.communication.netty.NettyDatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
+import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.util.List;
 
@@ -55,6 +57,18 @@ public final class DatabaseCommunicationEngineFactory {
         return INSTANCE;
     }
     
+    /**
+     * Judge whether backend connection communicates with databases via Netty backend.
+     * 
+     * <p>Netty backend only supports LOCAL transaction, so XA and BASE transactions are always routed to JDBC backend even if NIO is enabled.</p>
+     *
+     * @param backendConnection backend connection
+     * @return communicates via Netty backend or not
+     */
+    public boolean isNettyBackend(final BackendConnection backendConnection) {
+        return GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO) && TransactionType.LOCAL == backendConnection.getTransactionType();
+    }
+    
     /**
      * Create new instance of text protocol backend handler.
      *
@@ -67,8 +81,8 @@ public final class DatabaseCommunicationEngineFactory {
      */
     public DatabaseCommunicationEngine newTextProtocolInstance(
             final LogicSchema logicSchema, final int sequenceId, final String sql, final BackendConnection backendConnection, final DatabaseType databaseType) {
-        return GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO)
-                ? new NettyDatabaseCommunicationEngine(logicSchema, backendConnection.getConnectionId(), sequenceId, sql, databaseType)
+        return isNettyBackend(backendConnection)
+                ? new NettyDatabaseCommunicationEngine(logicSchema, backendConnection, sequenceId, sql, new StatementExecutorWrapper(logicSchema), databaseType)
                 : new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new StatementExecutorWrapper(logicSchema)));
     }
     
@@ -85,8 +99,25 @@ public final class DatabaseCommunicationEngineFactory {
      */
     public DatabaseCommunicationEngine newBinaryProtocolInstance(
             final LogicSchema logicSchema, final int sequenceId, final String sql, final List<Object> parameters, final BackendConnection backendConnection, final DatabaseType databaseType) {
-        return GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO)
-                ? new NettyDatabaseCommunicationEngine(logicSchema, backendConnection.getConnectionId(), sequenceId, sql, databaseType)
-                : new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, parameters)));
+        return newBinaryProtocolInstance(logicSchema, sequenceId, sql, null, parameters, backendConnection, databaseType);
+    }
+    
+    /**
+     * Create new instance of binary protocol backend handler with SQL statement parsed in advance.
+     *
+     * @param logicSchema logic schema
+     * @param sequenceId sequence ID of SQL packet
+     * @param sql SQL to be executed
+     * @param sqlStatement SQL statement parsed in advance, parse SQL again if {@code null}
+     * @param parameters SQL parameters
+     * @param backendConnection backend connection
+     * @param databaseType database type
+     * @return instance of binary protocol backend handler
+     */
+    public DatabaseCommunicationEngine newBinaryProtocolInstance(final LogicSchema logicSchema, final int sequenceId, final String sql, final SQLStatement sqlStatement, 
+                                                                 final List<Object> parameters, final BackendConnection backendConnection, final DatabaseType databaseType) {
+        return isNettyBackend(backendConnection)
+                ? new NettyDatabaseCommunicationEngine(logicSchema, backendConnection, sequenceId, sql, new PreparedStatementExecutorWrapper(logicSchema, parameters, sqlStatement), databaseType)
+                : new JDBCDatabaseCommunicationEngine(logicSchema, sql, new JDBCExecuteEngine(backendConnection, new PreparedStatementExecutorWrapper(logicSchema, parameters, sqlStatement)));
     }
 }
@@ -17,25 +17,35 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.config.rule.ShardingRuleConfiguration;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.SQLType;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.merger.MergeEngineFactory;
 import org.apache.shardingsphere.core.merger.MergedResult;
 import org.apache.shardingsphere.core.merger.dal.show.ShowTablesMergedResult;
 import org.apache.shardingsphere.core.parsing.parser.constant.DerivedColumn;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.core.parsing.streaming.InsertRowGroupSplitter;
 import org.apache.shardingsphere.core.routing.SQLRouteResult;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.CachedQueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.CachedQueryResultBuilder;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCache;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCacheKey;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.JDBCExecuteEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.PaginationMetrics;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteQueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
@@ -52,6 +62,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Database access engine for JDBC.
@@ -64,6 +75,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicationEngine {
     
+    private static final QueryResultCache RESULT_CACHE = QueryResultCache.getInstance();
+    
     private final LogicSchema logicSchema;
     
     private final String sql;
@@ -76,9 +89,27 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private int currentSequenceId;
     
+    private QueryResultCacheKey cacheKey;
+    
+    private CachedQueryResult cachedQueryResult;
+    
+    private int cachedRowIndex;
+    
+    private CachedQueryResultBuilder cachedQueryResultBuilder;
+    
     @Override
     public CommandResponsePackets execute() {
         try {
+            Optional<CachedQueryResult> cachedResult = findCachedQueryResult();
+            if (cachedResult.isPresent()) {
+                cachedQueryResult = cachedResult.get();
+                currentSequenceId = cachedQueryResult.getQueryResponsePackets().getPackets().size();
+                return cachedQueryResult.getQueryResponsePackets();
+            }
+            Optional<InsertRowGroupSplitter> insertRowGroupSplitter = findInsertRowGroupSplitter();
+            if (insertRowGroupSplitter.isPresent()) {
+                return execute(insertRowGroupSplitter.get());
+            }
             return execute(executeEngine.getJdbcExecutorWrapper().route(sql, DatabaseType.MySQL));
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -87,6 +118,43 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         }
     }
     
+    private Optional<CachedQueryResult> findCachedQueryResult() {
+        if (!RESULT_CACHE.isEnabled() || !(logicSchema instanceof ShardingSchema) || isInTransaction() || !RESULT_CACHE.isCacheableSQL(sql)) {
+            return Optional.absent();
+        }
+        cacheKey = new QueryResultCacheKey(logicSchema.getName(), sql, executeEngine.getJdbcExecutorWrapper().getParameters());
+        return RESULT_CACHE.get(cacheKey);
+    }
+    
+    private boolean isInTransaction() {
+        return ConnectionStatus.TRANSACTION == executeEngine.getBackendConnection().getStateHandler().getStatus();
+    }
+    
+    private Optional<InsertRowGroupSplitter> findInsertRowGroupSplitter() {
+        if (!(logicSchema instanceof ShardingSchema) || !isInTransaction() || !executeEngine.getJdbcExecutorWrapper().getParameters().isEmpty()) {
+            return Optional.absent();
+        }
+        int rowGroupSize = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.STREAMING_INSERT_ROW_GROUP_SIZE);
+        return InsertRowGroupSplitter.newInstance(DatabaseType.MySQL, sql, rowGroupSize);
+    }
+    
+    private CommandResponsePackets execute(final InsertRowGroupSplitter insertRowGroupSplitter) throws SQLException {
+        long affectedRows = 0L;
+        long lastInsertId = 0L;
+        while (insertRowGroupSplitter.hasNext()) {
+            CommandResponsePackets packets = execute(executeEngine.getJdbcExecutorWrapper().route(insertRowGroupSplitter.next(), DatabaseType.MySQL));
+            if (!(packets.getHeadPacket() instanceof OKPacket)) {
+                return packets;
+            }
+            affectedRows += ((OKPacket) packets.getHeadPacket()).getAffectedRows();
+            if (0L == lastInsertId) {
+                lastInsertId = ((OKPacket) packets.getHeadPacket()).getLastInsertId();
+            }
+            executeEngine.getBackendConnection().closeStatementsAndResultSets();
+        }
+        return new CommandResponsePackets(new OKPacket(1, affectedRows, lastInsertId));
+    }
+    
     private CommandResponsePackets execute(final SQLRouteResult routeResult) throws SQLException {
         if (routeResult.getRouteUnits().isEmpty()) {
             return new CommandResponsePackets(new OKPacket(1));
@@ -96,11 +164,27 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return new CommandResponsePackets(new ErrPacket(1,
                     ServerErrorCode.ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE, sqlStatement.getTables().isSingleTable() ? sqlStatement.getTables().getSingleTableName() : "unknown_table"));
         }
+        Map<String, Long> cacheTableVersions = isCacheable(sqlStatement) ? RESULT_CACHE.getTableVersions(logicSchema.getName(), sqlStatement.getTables().getTableNames()) : null;
         executeResponse = executeEngine.execute(routeResult);
+        if (null != routeResult.getPaginationContext()) {
+            PaginationMetrics.getInstance().record(routeResult.getPaginationContext());
+        }
         if (logicSchema instanceof ShardingSchema) {
             logicSchema.refreshTableMetaData(routeResult.getSqlStatement());
+            RESULT_CACHE.invalidate((ShardingSchema) logicSchema, sqlStatement, executeEngine.getBackendConnection());
+        }
+        CommandResponsePackets result = merge(routeResult);
+        if (null != cacheTableVersions && result instanceof QueryResponsePackets) {
+            RESULT_CACHE.recordMiss();
+            QueryResponsePackets rowQueryResponsePackets = ((ExecuteQueryResponse) executeResponse).getQueryResponsePackets();
+            cachedQueryResultBuilder = new CachedQueryResultBuilder((QueryResponsePackets) result,
+                    rowQueryResponsePackets.getColumnCount(), rowQueryResponsePackets.getColumnTypes(), cacheTableVersions, RESULT_CACHE.getMaxBytes());
         }
-        return merge(sqlStatement);
+        return result;
+    }
+    
+    private boolean isCacheable(final SQLStatement sqlStatement) {
+        return null != cacheKey && sqlStatement instanceof SelectStatement && ((ShardingSchema) logicSchema).getShardingRule().isAllCacheableTables(sqlStatement.getTables().getTableNames());
     }
     
     private boolean isUnsupportedXA(final SQLType sqlType) {
@@ -108,7 +192,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
         return TransactionType.XA == connection.getTransactionType() && SQLType.DDL == sqlType && ConnectionStatus.TRANSACTION == connection.getStateHandler().getStatus();
     }
     
-    private CommandResponsePackets merge(final SQLStatement sqlStatement) throws SQLException {
+    private CommandResponsePackets merge(final SQLRouteResult routeResult) throws SQLException {
+        SQLStatement sqlStatement = routeResult.getSqlStatement();
         if (executeResponse instanceof ExecuteUpdateResponse) {
             if (logicSchema instanceof ShardingSchema && ((ShardingSchema) logicSchema).getShardingRule().isAllBroadcastTables(sqlStatement.getTables().getTableNames())) {
                 return new CommandResponsePackets(((ExecuteUpdateResponse) executeResponse).getPackets().get(0));
@@ -116,7 +201,9 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return ((ExecuteUpdateResponse) executeResponse).merge();
         }
         mergedResult = MergeEngineFactory.newInstance(
-                DatabaseType.MySQL, getShardingRule(), sqlStatement, logicSchema.getMetaData().getTable(), ((ExecuteQueryResponse) executeResponse).getQueryResults()).merge();
+                DatabaseType.MySQL, getShardingRule(), routeResult, logicSchema.getMetaData().getTable(), 
+                ((ExecuteQueryResponse) executeResponse).getQueryResults(), GlobalRegistry.getInstance().getShardingProperties()).merge();
+        executeEngine.getBackendConnection().add(mergedResult);
         if (mergedResult instanceof ShowTablesMergedResult) {
             ((ShowTablesMergedResult) mergedResult).resetColumnLabel(logicSchema.getName());
             setResponseColumnLabelForShowTablesMergedResult(((ExecuteQueryResponse) executeResponse).getQueryResponsePackets());
@@ -154,17 +241,31 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     @Override
     public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+        if (null != cachedQueryResult) {
+            return ++cachedRowIndex <= cachedQueryResult.getRows().size();
+        }
+        boolean result = null != mergedResult && mergedResult.next();
+        if (!result && null != cachedQueryResultBuilder) {
+            RESULT_CACHE.put(cacheKey, cachedQueryResultBuilder.build());
+            cachedQueryResultBuilder = null;
+        }
+        return result;
     }
     
     @Override
     public ResultPacket getResultValue() throws SQLException {
+        if (null != cachedQueryResult) {
+            return new ResultPacket(++currentSequenceId, cachedQueryResult.getRows().get(cachedRowIndex - 1), cachedQueryResult.getColumnCount(), cachedQueryResult.getColumnTypes());
+        }
         QueryResponsePackets queryResponsePackets = ((ExecuteQueryResponse) executeResponse).getQueryResponsePackets();
         int columnCount = queryResponsePackets.getColumnCount();
         List<Object> data = new ArrayList<>(columnCount);
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             data.add(mergedResult.getValue(columnIndex, Object.class));
         }
+        if (null != cachedQueryResultBuilder && !cachedQueryResultBuilder.add(data)) {
+            cachedQueryResultBuilder = null;
+        }
         return new ResultPacket(++currentSequenceId, data, columnCount, queryResponsePackets.getColumnTypes());
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.QueryResponsePackets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder of cached query result, collects rows while they are sent to client.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class CachedQueryResultBuilder {
+    
+    private static final int OBJECT_OVERHEAD_BYTES = 16;
+    
+    private static final int DEFAULT_VALUE_BYTES = 32;
+    
+    private final QueryResponsePackets queryResponsePackets;
+    
+    private final int columnCount;
+    
+    private final List<ColumnType> columnTypes;
+    
+    private final Map<String, Long> tableVersions;
+    
+    private final long maxBytes;
+    
+    private final List<List<Object>> rows = new ArrayList<>();
+    
+    private long estimatedBytes;
+    
+    /**
+     * Add row.
+     * 
+     * @param row row data
+     * @return {@code false} if estimated bytes exceed max bytes, result should not be cached
+     */
+    public boolean add(final List<Object> row) {
+        rows.add(row);
+        estimatedBytes += estimateBytes(row);
+        return estimatedBytes <= maxBytes;
+    }
+    
+    private long estimateBytes(final List<Object> row) {
+        long result = OBJECT_OVERHEAD_BYTES;
+        for (Object each : row) {
+            result += estimateBytes(each);
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_OVERHEAD_BYTES + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        return value instanceof Number ? OBJECT_OVERHEAD_BYTES : DEFAULT_VALUE_BYTES;
+    }
+    
+    /**
+     * Build cached query result.
+     * 
+     * @return cached query result
+     */
+    public CachedQueryResult build() {
+        return new CachedQueryResult(queryResponsePackets, columnCount, columnTypes, rows, tableVersions, estimatedBytes);
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import lombok.Getter;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.SQLType;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngine;
+import org.apache.shardingsphere.core.parsing.lexer.LexerEngineFactory;
+import org.apache.shardingsphere.core.parsing.lexer.token.Literals;
+import org.apache.shardingsphere.core.parsing.lexer.token.Symbol;
+import org.apache.shardingsphere.core.parsing.lexer.token.Token;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.apache.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Query result cache of Sharding-Proxy.
+ * 
+ * <p>
+ * Each cached result remembers versions of its tables when it is queried,
+ * and becomes stale once any of these tables is modified via proxy.
+ * Queries which call non-deterministic functions, use user variables or lock rows are never cached.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class QueryResultCache {
+    
+    private static final QueryResultCache INSTANCE = createInstance();
+    
+    private static final Collection<String> NON_DETERMINISTIC_FUNCTIONS = Arrays.asList(
+            "NOW", "SYSDATE", "CURDATE", "CURTIME", "UTC_DATE", "UTC_TIME", "UTC_TIMESTAMP", "UNIX_TIMESTAMP", "RAND", "UUID", "UUID_SHORT",
+            "CONNECTION_ID", "LAST_INSERT_ID", "FOUND_ROWS", "ROW_COUNT", "USER", "DATABASE", "SCHEMA", "SLEEP", "GET_LOCK", "RELEASE_LOCK", "IS_FREE_LOCK", "IS_USED_LOCK");
+    
+    private static final Collection<String> NON_DETERMINISTIC_WORDS = Arrays.asList(
+            "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "LOCALTIME", "LOCALTIMESTAMP", "CURRENT_USER", "SESSION_USER", "SYSTEM_USER");
+    
+    private static final Collection<String> LOCKING_READ_WORDS = Arrays.asList("UPDATE", "SHARE");
+    
+    @Getter
+    private final long maxBytes;
+    
+    private final Cache<QueryResultCacheKey, CachedQueryResult> cache;
+    
+    private final ConcurrentMap<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    QueryResultCache(final long maxBytes, final long ttlMilliseconds) {
+        this.maxBytes = maxBytes;
+        cache = maxBytes > 0 ? CacheBuilder.newBuilder().maximumWeight(maxBytes).weigher(new Weigher<QueryResultCacheKey, CachedQueryResult>() {
+            
+            @Override
+            public int weigh(final QueryResultCacheKey key, final CachedQueryResult value) {
+                return (int) Math.min(Integer.MAX_VALUE, value.getEstimatedBytes());
+            }
+        }).expireAfterWrite(ttlMilliseconds, TimeUnit.MILLISECONDS).<QueryResultCacheKey, CachedQueryResult>build() : null;
+    }
+    
+    private static QueryResultCache createInstance() {
+        ShardingProperties shardingProperties = GlobalRegistry.getInstance().getShardingProperties();
+        return new QueryResultCache(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PROXY_RESULT_CACHE_MAX_BYTES),
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PROXY_RESULT_CACHE_TTL_MILLISECONDS));
+    }
+    
+    /**
+     * Get instance of query result cache.
+     *
+     * @return instance of query result cache
+     */
+    public static QueryResultCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Judge query result cache is enabled or not.
+     * 
+     * @return query result cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return null != cache;
+    }
+    
+    /**
+     * Judge whether result of SQL can be cached.
+     * 
+     * <p>
+     * SQL is not cacheable if it calls non-deterministic functions such as {@code NOW()}, {@code RAND()} or {@code UUID()}, uses user variables,
+     * or locks rows with {@code FOR UPDATE}, {@code FOR SHARE} or {@code LOCK IN SHARE MODE}.
+     * </p>
+     * 
+     * @param sql SQL
+     * @return SQL is cacheable or not
+     */
+    public boolean isCacheableSQL(final String sql) {
+        LexerEngine lexerEngine = LexerEngineFactory.newInstance(DatabaseType.MySQL, sql);
+        Token previousToken = null;
+        try {
+            lexerEngine.nextToken();
+            while (!lexerEngine.isEnd()) {
+                Token token = lexerEngine.getCurrentToken();
+                lexerEngine.nextToken();
+                if (!isCacheableToken(previousToken, token, lexerEngine.getCurrentToken())) {
+                    return false;
+                }
+                previousToken = token;
+            }
+        } catch (final ShardingException ex) {
+            return false;
+        }
+        return true;
+    }
+    
+    private boolean isCacheableToken(final Token previousToken, final Token token, final Token nextToken) {
+        if (Literals.VARIABLE == token.getType()) {
+            return false;
+        }
+        if (isWord(token, NON_DETERMINISTIC_WORDS) || isWord(token, NON_DETERMINISTIC_FUNCTIONS) && Symbol.LEFT_PAREN == nextToken.getType()) {
+            return false;
+        }
+        return !(isWord(previousToken, Collections.singleton("FOR")) && isWord(token, LOCKING_READ_WORDS)
+                || isWord(previousToken, Collections.singleton("LOCK")) && isWord(token, Collections.singleton("IN")));
+    }
+    
+    private boolean isWord(final Token token, final Collection<String> words) {
+        return null != token && (!(token.getType() instanceof Literals) || Literals.IDENTIFIER == token.getType()) && words.contains(token.getLiterals().toUpperCase());
+    }
+    
+    /**
+     * Get fresh cached query result.
+     * 
+     * @param key cache key
+     * @return fresh cached query result
+     */
+    public Optional<CachedQueryResult> get(final QueryResultCacheKey key) {
+        if (!isEnabled()) {
+            return Optional.absent();
+        }
+        CachedQueryResult result = cache.getIfPresent(key);
+        if (null == result) {
+            return Optional.absent();
+        }
+        if (!isFresh(result.getTableVersions())) {
+            cache.invalidate(key);
+            return Optional.absent();
+        }
+        hitCount.incrementAndGet();
+        return Optional.of(result);
+    }
+    
+    /**
+     * Get current versions of tables.
+     * 
+     * @param schemaName schema name
+     * @param tableNames table names
+     * @return current versions of tables
+     */
+    public Map<String, Long> getTableVersions(final String schemaName, final Collection<String> tableNames) {
+        Map<String, Long> result = new HashMap<>(tableNames.size(), 1);
+        for (String each : tableNames) {
+            String tableKey = getTableKey(schemaName, each);
+            result.put(tableKey, getTableVersion(tableKey).get());
+        }
+        return result;
+    }
+    
+    /**
+     * Record a cacheable query is missed in cache and executed by backend databases.
+     */
+    public void recordMiss() {
+        missCount.incrementAndGet();
+    }
+    
+    /**
+     * Put query result into cache.
+     * 
+     * @param key cache key
+     * @param cachedQueryResult cached query result
+     */
+    public void put(final QueryResultCacheKey key, final CachedQueryResult cachedQueryResult) {
+        if (isEnabled() && cachedQueryResult.getEstimatedBytes() <= maxBytes && isFresh(cachedQueryResult.getTableVersions())) {
+            cache.put(key, cachedQueryResult);
+        }
+    }
+    
+    /**
+     * Invalidate cached results of tables.
+     * 
+     * @param schemaName schema name
+     * @param tableNames modified table names
+     */
+    public void invalidate(final String schemaName, final Collection<String> tableNames) {
+        for (String each : tableNames) {
+            getTableVersion(getTableKey(schemaName, each)).incrementAndGet();
+        }
+    }
+    
+    /**
+     * Invalidate cached results of cacheable tables modified by SQL statement.
+     * 
+     * <p>Modified tables are also remembered by backend connection in transaction, and invalidated again when transaction is committed.</p>
+     * 
+     * @param shardingSchema sharding schema
+     * @param sqlStatement executed SQL statement
+     * @param backendConnection backend connection
+     */
+    public void invalidate(final ShardingSchema shardingSchema, final SQLStatement sqlStatement, final BackendConnection backendConnection) {
+        if (!isEnabled() || SQLType.DML != sqlStatement.getType() && SQLType.DDL != sqlStatement.getType() || sqlStatement instanceof SelectStatement) {
+            return;
+        }
+        Collection<String> modifiedCacheableTables = new LinkedList<>();
+        for (String each : sqlStatement.getTables().getTableNames()) {
+            if (shardingSchema.getShardingRule().isCacheableTable(each)) {
+                modifiedCacheableTables.add(each);
+            }
+        }
+        invalidate(shardingSchema.getName(), modifiedCacheableTables);
+        if (ConnectionStatus.TRANSACTION == backendConnection.getStateHandler().getStatus()) {
+            backendConnection.getModifiedCacheableTables().addAll(modifiedCacheableTables);
+        }
+    }
+    
+    private boolean isFresh(final Map<String, Long> tableVersions) {
+        for (Entry<String, Long> entry : tableVersions.entrySet()) {
+            if (getTableVersion(entry.getKey()).get() != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String getTableKey(final String schemaName, final String tableName) {
+        return schemaName + "." + tableName.toLowerCase();
+    }
+    
+    private AtomicLong getTableVersion(final String tableKey) {
+        AtomicLong result = tableVersions.get(tableKey);
+        if (null == result) {
+            tableVersions.putIfAbsent(tableKey, new AtomicLong());
+            result = tableVersions.get(tableKey);
+        }
+        return result;
+    }
+    
+    /**
+     * Get hit count.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count of cacheable queries.
+     * 
+     * @return miss count of cacheable queries
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get hit ratio of cacheable queries.
+     * 
+     * @return hit ratio of cacheable queries
+     */
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return 0 == total ? 0D : (double) hits / total;
+    }
+}
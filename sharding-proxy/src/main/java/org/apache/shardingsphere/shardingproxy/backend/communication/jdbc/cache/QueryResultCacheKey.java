@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Key of query result cache.
+ * 
+ * <p>
+ * Whitespaces out of quoted literals and identifiers are normalized to single space.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+@EqualsAndHashCode
+public final class QueryResultCacheKey {
+    
+    private final String schemaName;
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    public QueryResultCacheKey(final String schemaName, final String sql, final List<Object> parameters) {
+        this.schemaName = schemaName;
+        this.sql = normalize(sql);
+        this.parameters = new ArrayList<>(parameters);
+    }
+    
+    private static String normalize(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean whitespace = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char each = sql.charAt(i);
+            if (0 != quote) {
+                result.append(each);
+                if ('\\' == each && i + 1 < sql.length()) {
+                    result.append(sql.charAt(++i));
+                } else if (quote == each) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (Character.isWhitespace(each)) {
+                whitespace = true;
+                continue;
+            }
+            if (whitespace && result.length() > 0) {
+                result.append(' ');
+            }
+            whitespace = false;
+            if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            }
+            result.append(each);
+        }
+        return result.toString();
+    }
+}
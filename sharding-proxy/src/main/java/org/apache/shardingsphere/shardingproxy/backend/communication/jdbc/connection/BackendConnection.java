@@ -26,6 +26,7 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merger.MergedResult;
 import org.apache.shardingsphere.core.routing.router.masterslave.MasterVisitedManager;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
@@ -37,6 +38,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -62,14 +64,21 @@ public final class BackendConnection implements AutoCloseable {
     @Setter
     private int connectionId;
     
+    @Setter
+    private boolean multiStatementsEnabled;
+    
     private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
     
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<MergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
+    private final Collection<String> modifiedCacheableTables = new HashSet<>();
+    
     private final ResourceSynchronizer resourceSynchronizer = new ResourceSynchronizer();
     
     private final ConnectionStateHandler stateHandler = new ConnectionStateHandler(resourceSynchronizer);
@@ -213,11 +222,33 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final MergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
     }
     
+    /**
+     * Close cached statements and result sets without releasing connections.
+     *
+     * @throws SQLException SQL exception
+     */
+    public synchronized void closeStatementsAndResultSets() throws SQLException {
+        Collection<SQLException> exceptions = new LinkedList<>();
+        exceptions.addAll(closeMergedResults());
+        exceptions.addAll(closeStatements());
+        exceptions.addAll(closeResultSets());
+        throwSQLExceptionIfNecessary(exceptions);
+    }
+    
     /**
      * Close cached connection.
      *
@@ -227,6 +258,7 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeStatements());
         exceptions.addAll(closeResultSets());
         if (!stateHandler.isInTransaction() || forceClose) {
@@ -236,6 +268,19 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (MergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
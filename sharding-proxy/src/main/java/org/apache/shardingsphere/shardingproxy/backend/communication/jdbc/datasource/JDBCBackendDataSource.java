@@ -38,6 +38,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Properties;
 
 /**
  * Backend data source for JDBC.
@@ -51,8 +52,12 @@ import java.util.Map.Entry;
 @NoArgsConstructor
 public final class JDBCBackendDataSource implements BackendDataSource, AutoCloseable {
     
+    private static final String[] DATA_SOURCE_PROPERTIES_GETTERS = {"getDataSourceProperties", "getXaProperties"};
+    
     private Map<String, DataSource> dataSources;
     
+    private Map<String, Properties> dataSourceProperties;
+    
     private JDBCBackendDataSourceFactory hikariDataSourceFactory = JDBCRawBackendDataSourceFactory.getInstance();
     
     public JDBCBackendDataSource(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
@@ -71,9 +76,42 @@ public final class JDBCBackendDataSource implements BackendDataSource, AutoClose
             }
         }
         this.dataSources = dataSourceMap;
+        this.dataSourceProperties = createDataSourcePropertiesMap(dataSourceMap);
         ShardingTransactionManagerEngine.init(DatabaseType.MySQL, dataSourceMap);
     }
     
+    private Map<String, Properties> createDataSourcePropertiesMap(final Map<String, DataSource> dataSourceMap) {
+        Map<String, Properties> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            result.put(entry.getKey(), findDataSourceProperties(entry.getValue()));
+        }
+        return result;
+    }
+    
+    private Properties findDataSourceProperties(final DataSource dataSource) {
+        for (String each : DATA_SOURCE_PROPERTIES_GETTERS) {
+            try {
+                Object result = ReflectiveUtil.findMethod(dataSource, each).invoke(dataSource);
+                if (result instanceof Properties) {
+                    return (Properties) result;
+                }
+            } catch (final ReflectiveOperationException ignored) {
+            }
+        }
+        return new Properties();
+    }
+    
+    /**
+     * Get driver properties of data source.
+     * 
+     * @param dataSourceName data source name
+     * @return driver properties of data source, empty if data source is absent or pool does not expose them
+     */
+    public Properties getDataSourceProperties(final String dataSourceName) {
+        Properties result = null == dataSourceProperties ? null : dataSourceProperties.get(dataSourceName);
+        return null == result ? new Properties() : result;
+    }
+    
     /**
      * Get connection.
      *
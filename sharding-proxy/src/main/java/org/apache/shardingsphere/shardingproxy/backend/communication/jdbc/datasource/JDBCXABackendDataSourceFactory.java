@@ -76,6 +76,7 @@ public final class JDBCXABackendDataSourceFactory implements JDBCBackendDataSour
         dataSourceBean.setUniqueResourceName(dataSourceName);
         Properties xaProperties = XAPropertiesFactory.createXAProperties(JDBCURLRecognizerEngine.getDatabaseType(dataSourceParameter.getUrl())).build(
                 new DatabaseAccessConfiguration(dataSourceParameter.getUrl(), dataSourceParameter.getUsername(), dataSourceParameter.getPassword()));
+        xaProperties.setProperty("continueBatchOnError", Boolean.FALSE.toString());
         PropertyUtils.setProperties(xaDataSource, xaProperties);
         dataSourceBean.setXaProperties(xaProperties);
         dataSourceBean.setXaDataSource(xaDataSource);
@@ -22,17 +22,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.executor.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.executor.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.executor.StatementExecuteUnit;
 import org.apache.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.executor.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.executor.sql.execute.result.ColumnarMemoryQueryResult;
 import org.apache.shardingsphere.core.executor.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.core.executor.sql.execute.result.MemoryQueryResultFactory;
 import org.apache.shardingsphere.core.executor.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.executor.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.executor.sql.prepare.ConnectionModePlanner;
 import org.apache.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareCallback;
 import org.apache.shardingsphere.core.executor.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
 import org.apache.shardingsphere.core.merger.QueryResult;
 import org.apache.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import org.apache.shardingsphere.core.routing.RouteUnit;
@@ -46,7 +51,9 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execut
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.unit.ExecuteResponseUnit;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.unit.ExecuteUpdateResponseUnit;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
@@ -62,6 +69,8 @@ import java.sql.Statement;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * SQL Execute engine for JDBC.
@@ -75,8 +84,6 @@ import java.util.List;
 @Setter
 public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
-    private static final Integer MEMORY_FETCH_ONE_ROW_A_TIME = Integer.MIN_VALUE;
-    
     private final List<QueryResult> queryResults = new LinkedList<>();
     
     private final BackendConnection backendConnection;
@@ -91,13 +98,31 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final MemoryQueryResultFactory memoryQueryResultFactory;
+    
+    private final int fetchSize;
+    
+    private final ExecuteStatistics executeStatistics;
+    
+    private final AtomicLong bufferedRows = new AtomicLong();
+    
+    private final AtomicLong executedRows = new AtomicLong();
+    
+    private volatile boolean streaming;
+    
     public JDBCExecuteEngine(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper) {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
-        int maxConnectionsSizePerQuery = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        ShardingProperties shardingProperties = GlobalRegistry.getInstance().getShardingProperties();
+        int maxConnectionsSizePerQuery = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        boolean isAdaptive = shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CONNECTION_MODE_ADAPTIVE_ENABLED);
+        int maxConnectionsSizePerDataSource = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_DATA_SOURCE);
         ShardingExecuteEngine executeEngine = BackendExecutorContext.getInstance().getExecuteEngine();
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
-        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine);
+        executeStatistics = null == backendConnection.getLogicSchema() ? null : backendConnection.getLogicSchema().getExecuteStatistics();
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(new ConnectionModePlanner(maxConnectionsSizePerQuery, isAdaptive, maxConnectionsSizePerDataSource, executeStatistics));
+        sqlExecuteTemplate = new SQLExecuteTemplate(executeEngine, executeStatistics);
+        memoryQueryResultFactory = new MemoryQueryResultFactory(shardingProperties);
+        fetchSize = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_QUERY_FETCH_SIZE);
     }
     
     @SuppressWarnings("unchecked")
@@ -105,15 +130,43 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
     public ExecuteResponse execute(final SQLRouteResult routeResult) throws SQLException {
         boolean isReturnGeneratedKeys = routeResult.getSqlStatement() instanceof InsertStatement;
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups =
-                sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(isReturnGeneratedKeys));
-        SQLExecuteCallback<ExecuteResponseUnit> firstProxySQLExecuteCallback = new FirstProxyJDBCExecuteCallback(isExceptionThrown, isReturnGeneratedKeys);
-        SQLExecuteCallback<ExecuteResponseUnit> proxySQLExecuteCallback = new ProxyJDBCExecuteCallback(isExceptionThrown, isReturnGeneratedKeys);
-        Collection<ExecuteResponseUnit> executeResponseUnits = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups,
-                firstProxySQLExecuteCallback, proxySQLExecuteCallback);
-        ExecuteResponseUnit firstExecuteResponseUnit = executeResponseUnits.iterator().next();
-        return firstExecuteResponseUnit instanceof ExecuteQueryResponseUnit
-                ? getExecuteQueryResponse(((ExecuteQueryResponseUnit) firstExecuteResponseUnit).getQueryResponsePackets(), executeResponseUnits) : new ExecuteUpdateResponse(executeResponseUnits);
+        bufferedRows.set(0L);
+        executedRows.set(0L);
+        streaming = false;
+        long startTime = System.nanoTime();
+        boolean isSuccess = false;
+        try {
+            Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups =
+                    sqlExecutePrepareTemplate.getExecuteUnitGroups(routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(isReturnGeneratedKeys));
+            SQLExecuteCallback<ExecuteResponseUnit> firstProxySQLExecuteCallback = new FirstProxyJDBCExecuteCallback(isExceptionThrown, isReturnGeneratedKeys);
+            SQLExecuteCallback<ExecuteResponseUnit> proxySQLExecuteCallback = new ProxyJDBCExecuteCallback(isExceptionThrown, isReturnGeneratedKeys);
+            Collection<ExecuteResponseUnit> executeResponseUnits = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups,
+                    firstProxySQLExecuteCallback, proxySQLExecuteCallback);
+            ExecuteResponseUnit firstExecuteResponseUnit = executeResponseUnits.iterator().next();
+            ExecuteResponse result = firstExecuteResponseUnit instanceof ExecuteQueryResponseUnit
+                    ? getExecuteQueryResponse(((ExecuteQueryResponseUnit) firstExecuteResponseUnit).getQueryResponsePackets(), executeResponseUnits) : new ExecuteUpdateResponse(executeResponseUnits);
+            isSuccess = true;
+            return result;
+        } finally {
+            recordTableStatistics(routeResult, System.nanoTime() - startTime, isSuccess);
+        }
+    }
+    
+    private void recordTableStatistics(final SQLRouteResult routeResult, final long latencyNanos, final boolean isSuccess) {
+        if (null == executeStatistics) {
+            return;
+        }
+        long rowCount = streaming ? -1L : executedRows.get();
+        for (String each : routeResult.getSqlStatement().getTables().getTableNames()) {
+            executeStatistics.getTable(each).finish(latencyNanos, rowCount, isSuccess);
+        }
+    }
+    
+    private void recordRowCount(final StatementExecuteUnit statementExecuteUnit, final long rowCount) {
+        executedRows.addAndGet(rowCount);
+        if (null != executeStatistics) {
+            executeStatistics.get(statementExecuteUnit.getRouteUnit().getDataSourceName()).recordRowCount(rowCount);
+        }
     }
     
     private ExecuteResponse getExecuteQueryResponse(final QueryResponsePackets queryResponsePackets, final Collection<ExecuteResponseUnit> executeResponseUnits) {
@@ -121,13 +174,17 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         for (ExecuteResponseUnit each : executeResponseUnits) {
             result.getQueryResults().add(((ExecuteQueryResponseUnit) each).getQueryResult());
         }
+        QueryBufferedRowsMetrics.getInstance().record(bufferedRows.get(), streaming);
         return result;
     }
     
-    private ExecuteResponseUnit executeWithMetadata(final Statement statement, final String sql, final ConnectionMode connectionMode, final boolean isReturnGeneratedKeys) throws SQLException {
+    private ExecuteResponseUnit executeWithMetadata(final StatementExecuteUnit statementExecuteUnit, final boolean isReturnGeneratedKeys) throws SQLException {
+        Statement statement = statementExecuteUnit.getStatement();
         backendConnection.add(statement);
-        if (!jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys)) {
-            return new ExecuteUpdateResponseUnit(new OKPacket(1, statement.getUpdateCount(), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
+        if (!jdbcExecutorWrapper.executeSQL(statement, statementExecuteUnit.getRouteUnit().getSqlUnit().getSql(), isReturnGeneratedKeys)) {
+            int updateCount = statement.getUpdateCount();
+            recordRowCount(statementExecuteUnit, Math.max(updateCount, 0));
+            return new ExecuteUpdateResponseUnit(new OKPacket(1, updateCount, isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
         }
         ResultSet resultSet = statement.getResultSet();
         backendConnection.add(resultSet);
@@ -135,17 +192,20 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         if (0 == resultSetMetaData.getColumnCount()) {
             return new ExecuteUpdateResponseUnit(new OKPacket(1));
         }
-        return new ExecuteQueryResponseUnit(getHeaderPackets(resultSetMetaData), createQueryResult(resultSet, connectionMode));
+        return new ExecuteQueryResponseUnit(getHeaderPackets(resultSetMetaData), createQueryResult(resultSet, statementExecuteUnit));
     }
     
-    private ExecuteResponseUnit executeWithoutMetadata(final Statement statement, final String sql, final ConnectionMode connectionMode, final boolean isReturnGeneratedKeys) throws SQLException {
+    private ExecuteResponseUnit executeWithoutMetadata(final StatementExecuteUnit statementExecuteUnit, final boolean isReturnGeneratedKeys) throws SQLException {
+        Statement statement = statementExecuteUnit.getStatement();
         backendConnection.add(statement);
-        if (!jdbcExecutorWrapper.executeSQL(statement, sql, isReturnGeneratedKeys)) {
-            return new ExecuteUpdateResponseUnit(new OKPacket(1, statement.getUpdateCount(), isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
+        if (!jdbcExecutorWrapper.executeSQL(statement, statementExecuteUnit.getRouteUnit().getSqlUnit().getSql(), isReturnGeneratedKeys)) {
+            int updateCount = statement.getUpdateCount();
+            recordRowCount(statementExecuteUnit, Math.max(updateCount, 0));
+            return new ExecuteUpdateResponseUnit(new OKPacket(1, updateCount, isReturnGeneratedKeys ? getGeneratedKey(statement) : 0));
         }
         ResultSet resultSet = statement.getResultSet();
         backendConnection.add(resultSet);
-        return new ExecuteQueryResponseUnit(null, createQueryResult(resultSet, connectionMode));
+        return new ExecuteQueryResponseUnit(null, createQueryResult(resultSet, statementExecuteUnit));
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -164,8 +224,38 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         return new QueryResponsePackets(fieldCountPacket, columnDefinition41Packets, new EofPacket(++currentSequenceId));
     }
     
-    private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+    private QueryResult createQueryResult(final ResultSet resultSet, final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+        if (statementExecuteUnit.getConnectionMode() == ConnectionMode.MEMORY_STRICTLY) {
+            streaming = true;
+            bufferedRows.addAndGet(StreamingFetchSizeUtil.getBufferedRows(statementExecuteUnit.getStatement().getFetchSize()));
+            return new StreamQueryResult(resultSet);
+        }
+        QueryResult result = memoryQueryResultFactory.newInstance(statementExecuteUnit.getRouteUnit().getDataSourceName(), resultSet);
+        int rowCount = getMemoryRowCount(result);
+        bufferedRows.addAndGet(rowCount);
+        recordRowCount(statementExecuteUnit, rowCount);
+        return result;
+    }
+    
+    private int getMemoryRowCount(final QueryResult queryResult) {
+        if (queryResult instanceof MemoryQueryResult) {
+            return ((MemoryQueryResult) queryResult).getRowCount();
+        }
+        return queryResult instanceof ColumnarMemoryQueryResult ? ((ColumnarMemoryQueryResult) queryResult).getMemoryRowCount() : 0;
+    }
+    
+    private String getDataSourceURL(final String dataSourceName) {
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        if (null == logicSchema) {
+            return null;
+        }
+        YamlDataSourceParameter dataSourceParameter = logicSchema.getDataSources().get(dataSourceName);
+        return null == dataSourceParameter ? null : dataSourceParameter.getUrl();
+    }
+    
+    private Properties getDataSourceProperties(final String dataSourceName) {
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        return null == logicSchema || null == logicSchema.getBackendDataSource() ? new Properties() : logicSchema.getBackendDataSource().getDataSourceProperties(dataSourceName);
     }
     
     @RequiredArgsConstructor
@@ -182,7 +272,11 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final RouteUnit routeUnit, final ConnectionMode connectionMode) throws SQLException {
             Statement statement = getJdbcExecutorWrapper().createStatement(connection, routeUnit.getSqlUnit(), isReturnGeneratedKeys);
             if (connectionMode.equals(ConnectionMode.MEMORY_STRICTLY)) {
-                statement.setFetchSize(MEMORY_FETCH_ONE_ROW_A_TIME);
+                int streamingFetchSize = StreamingFetchSizeUtil.getFetchSize(
+                        getDataSourceURL(routeUnit.getDataSourceName()), getDataSourceProperties(routeUnit.getDataSourceName()), fetchSize);
+                if (0 != streamingFetchSize) {
+                    statement.setFetchSize(streamingFetchSize);
+                }
             }
             return new StatementExecuteUnit(routeUnit, statement, connectionMode);
         }
@@ -202,12 +296,10 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         @Override
         public ExecuteResponseUnit executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
             if (hasMetaData) {
-                return executeWithoutMetadata(
-                        statementExecuteUnit.getStatement(), statementExecuteUnit.getRouteUnit().getSqlUnit().getSql(), statementExecuteUnit.getConnectionMode(), isReturnGeneratedKeys);
+                return executeWithoutMetadata(statementExecuteUnit, isReturnGeneratedKeys);
             } else {
                 hasMetaData = true;
-                return executeWithMetadata(
-                        statementExecuteUnit.getStatement(), statementExecuteUnit.getRouteUnit().getSqlUnit().getSql(), statementExecuteUnit.getConnectionMode(), isReturnGeneratedKeys);
+                return executeWithMetadata(statementExecuteUnit, isReturnGeneratedKeys);
             }
         }
     }
@@ -223,8 +315,7 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         
         @Override
         public ExecuteResponseUnit executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
-            return executeWithoutMetadata(
-                    statementExecuteUnit.getStatement(), statementExecuteUnit.getRouteUnit().getSqlUnit().getSql(), statementExecuteUnit.getConnectionMode(), isReturnGeneratedKeys);
+            return executeWithoutMetadata(statementExecuteUnit, isReturnGeneratedKeys);
         }
     }
 }
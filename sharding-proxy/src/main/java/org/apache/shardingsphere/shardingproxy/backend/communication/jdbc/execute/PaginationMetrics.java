@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of paginated queries routed to multiple shards.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PaginationMetrics {
+    
+    private static final PaginationMetrics INSTANCE = new PaginationMetrics();
+    
+    private final AtomicLong queryCount = new AtomicLong();
+    
+    private final AtomicLong keysetRewrittenQueryCount = new AtomicLong();
+    
+    private final AtomicLong savedRowCount = new AtomicLong();
+    
+    /**
+     * Get instance of pagination metrics.
+     *
+     * @return instance of pagination metrics
+     */
+    public static PaginationMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record paginated query.
+     * 
+     * @param paginationContext pagination context of query
+     */
+    public void record(final PaginationContext paginationContext) {
+        queryCount.incrementAndGet();
+        if (paginationContext.isKeysetRewritten()) {
+            keysetRewrittenQueryCount.incrementAndGet();
+            savedRowCount.addAndGet(paginationContext.getSavedRowCount());
+        }
+    }
+    
+    /**
+     * Get count of recorded paginated queries.
+     *
+     * @return count of recorded paginated queries
+     */
+    public long getQueryCount() {
+        return queryCount.get();
+    }
+    
+    /**
+     * Get count of recorded queries rewritten to keyset pagination.
+     *
+     * @return count of recorded queries rewritten to keyset pagination
+     */
+    public long getKeysetRewrittenQueryCount() {
+        return keysetRewrittenQueryCount.get();
+    }
+    
+    /**
+     * Get total rows saved by keyset pagination rewrite.
+     *
+     * @return total rows saved by keyset pagination rewrite
+     */
+    public long getSavedRowCount() {
+        return savedRowCount.get();
+    }
+}
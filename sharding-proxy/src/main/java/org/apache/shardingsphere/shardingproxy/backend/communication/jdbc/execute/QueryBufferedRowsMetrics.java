@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of rows buffered in memory by each query.
+ * 
+ * <p>
+ * Rows of memory query results are buffered by proxy,
+ * rows of streaming query results are estimated by fetch size of statements.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryBufferedRowsMetrics {
+    
+    private static final QueryBufferedRowsMetrics INSTANCE = new QueryBufferedRowsMetrics();
+    
+    private final AtomicLong queryCount = new AtomicLong();
+    
+    private final AtomicLong streamingQueryCount = new AtomicLong();
+    
+    private final AtomicLong totalBufferedRows = new AtomicLong();
+    
+    private final AtomicLong peakBufferedRows = new AtomicLong();
+    
+    /**
+     * Get instance of query buffered rows metrics.
+     *
+     * @return instance of query buffered rows metrics
+     */
+    public static QueryBufferedRowsMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record rows buffered by query.
+     * 
+     * @param bufferedRows rows buffered by query
+     * @param streaming query results are streamed or not
+     */
+    public void record(final long bufferedRows, final boolean streaming) {
+        queryCount.incrementAndGet();
+        if (streaming) {
+            streamingQueryCount.incrementAndGet();
+        }
+        totalBufferedRows.addAndGet(bufferedRows);
+        long currentPeak = peakBufferedRows.get();
+        while (bufferedRows > currentPeak && !peakBufferedRows.compareAndSet(currentPeak, bufferedRows)) {
+            currentPeak = peakBufferedRows.get();
+        }
+    }
+    
+    /**
+     * Get count of recorded queries.
+     *
+     * @return count of recorded queries
+     */
+    public long getQueryCount() {
+        return queryCount.get();
+    }
+    
+    /**
+     * Get count of recorded queries which stream results.
+     *
+     * @return count of recorded queries which stream results
+     */
+    public long getStreamingQueryCount() {
+        return streamingQueryCount.get();
+    }
+    
+    /**
+     * Get peak rows buffered by one query.
+     *
+     * @return peak rows buffered by one query
+     */
+    public long getPeakBufferedRows() {
+        return peakBufferedRows.get();
+    }
+    
+    /**
+     * Get average rows buffered by one query.
+     *
+     * @return average rows buffered by one query
+     */
+    public long getAverageBufferedRows() {
+        long count = queryCount.get();
+        return 0 == count ? 0L : totalBufferedRows.get() / count;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.recognizer.JDBCURLRecognizerEngine;
+
+import java.util.Properties;
+
+/**
+ * Fetch size utility for streaming query results.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StreamingFetchSizeUtil {
+    
+    /**
+     * Fetch size which lets MySQL driver stream rows one by one.
+     */
+    public static final int MYSQL_ROW_BY_ROW_FETCH_SIZE = Integer.MIN_VALUE;
+    
+    private static final String MYSQL_CURSOR_FETCH_PARAMETER = "useCursorFetch";
+    
+    /**
+     * Get fetch size for streaming query results of data source.
+     * 
+     * @param url JDBC URL of data source, {@code null} for default MySQL data source
+     * @param dataSourceProperties driver properties of data source
+     * @param fetchSize configured fetch size
+     * @return fetch size to be set to statement, {@code 0} means leaving fetch size of driver unchanged
+     */
+    public static int getFetchSize(final String url, final Properties dataSourceProperties, final int fetchSize) {
+        if (null == url || DatabaseType.MySQL == JDBCURLRecognizerEngine.getDatabaseType(url)) {
+            return fetchSize > 0 && isMySQLCursorFetch(url, dataSourceProperties) ? fetchSize : MYSQL_ROW_BY_ROW_FETCH_SIZE;
+        }
+        return Math.max(fetchSize, 0);
+    }
+    
+    private static boolean isMySQLCursorFetch(final String url, final Properties dataSourceProperties) {
+        Optional<String> result = null == url ? Optional.<String>absent() : findURLParameter(url, MYSQL_CURSOR_FETCH_PARAMETER);
+        if (!result.isPresent()) {
+            result = findProperty(dataSourceProperties, MYSQL_CURSOR_FETCH_PARAMETER);
+        }
+        return result.isPresent() && Boolean.parseBoolean(result.get().trim());
+    }
+    
+    private static Optional<String> findURLParameter(final String url, final String parameterName) {
+        int queryIndex = url.indexOf('?');
+        if (-1 == queryIndex) {
+            return Optional.absent();
+        }
+        for (String each : url.substring(queryIndex + 1).split("&")) {
+            int separatorIndex = each.indexOf('=');
+            String name = -1 == separatorIndex ? each : each.substring(0, separatorIndex);
+            if (parameterName.equalsIgnoreCase(name.trim())) {
+                return Optional.of(-1 == separatorIndex ? "" : each.substring(separatorIndex + 1));
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private static Optional<String> findProperty(final Properties properties, final String propertyName) {
+        if (null == properties) {
+            return Optional.absent();
+        }
+        for (String each : properties.stringPropertyNames()) {
+            if (propertyName.equalsIgnoreCase(each)) {
+                return Optional.of(properties.getProperty(each));
+            }
+        }
+        return Optional.absent();
+    }
+    
+    /**
+     * Get estimated rows buffered by driver for streaming query result.
+     * 
+     * @param fetchSize fetch size of statement
+     * @return estimated rows buffered by driver, {@code 0} if unknown
+     */
+    public static int getBufferedRows(final int fetchSize) {
+        return MYSQL_ROW_BY_ROW_FETCH_SIZE == fetchSize ? 1 : Math.max(fetchSize, 0);
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.core.routing.SQLUnit;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 /**
  * JDBC executor wrapper.
@@ -41,6 +42,13 @@ public interface JDBCExecutorWrapper {
      */
     SQLRouteResult route(String sql, DatabaseType databaseType);
     
+    /**
+     * Get parameters of SQL.
+     * 
+     * @return parameters of SQL
+     */
+    List<Object> getParameters();
+    
     /**
      * Create statement.
      * 
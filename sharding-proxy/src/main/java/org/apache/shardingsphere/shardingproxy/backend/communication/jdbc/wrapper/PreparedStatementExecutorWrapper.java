@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.parsing.SQLJudgeEngine;
@@ -48,15 +48,27 @@ import java.util.List;
  * @author zhangliang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapper {
     
     private static final GlobalRegistry GLOBAL_REGISTRY = GlobalRegistry.getInstance();
     
     private final LogicSchema logicSchema;
     
+    @Getter
     private final List<Object> parameters;
     
+    private final SQLStatement sqlStatement;
+    
+    public PreparedStatementExecutorWrapper(final LogicSchema logicSchema, final List<Object> parameters) {
+        this(logicSchema, parameters, null);
+    }
+    
+    public PreparedStatementExecutorWrapper(final LogicSchema logicSchema, final List<Object> parameters, final SQLStatement sqlStatement) {
+        this.logicSchema = logicSchema;
+        this.parameters = parameters;
+        this.sqlStatement = sqlStatement;
+    }
+    
     @Override
     public SQLRouteResult route(final String sql, final DatabaseType databaseType) {
         return logicSchema instanceof MasterSlaveSchema ? doMasterSlaveRoute(sql) : doShardingRoute(sql, databaseType);
@@ -74,8 +86,10 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        return new PreparedStatementRoutingEngine(sql, ((ShardingSchema) logicSchema).getShardingRule(), logicSchema.getMetaData(),
-                databaseType, GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW)).route(parameters);
+        ShardingSchema shardingSchema = (ShardingSchema) logicSchema;
+        return new PreparedStatementRoutingEngine(sql, shardingSchema.getShardingRule(), shardingSchema.getMetaData(),
+                databaseType, GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), 
+                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.KEYSET_PAGINATION_ENABLED) ? shardingSchema.getKeysetCursorCache() : null, sqlStatement).route(parameters);
     }
     
     @Override
@@ -68,11 +68,19 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     }
     
     private SQLRouteResult doShardingRoute(final String sql, final DatabaseType databaseType) {
-        StatementRoutingEngine routingEngine = new StatementRoutingEngine(((ShardingSchema) logicSchema).getShardingRule(), logicSchema.getMetaData(),
-                databaseType, GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
+        ShardingSchema shardingSchema = (ShardingSchema) logicSchema;
+        StatementRoutingEngine routingEngine = new StatementRoutingEngine(shardingSchema.getShardingRule(), shardingSchema.getMetaData(),
+                databaseType, GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW), 
+                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.KEYSET_PAGINATION_ENABLED) ? shardingSchema.getKeysetCursorCache() : null, 
+                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PARSING_LITERAL_NORMALIZATION_ENABLED));
         return routingEngine.route(sql);
     }
     
+    @Override
+    public List<Object> getParameters() {
+        return Collections.emptyList();
+    }
+    
     @Override
     public Statement createStatement(final Connection connection, final SQLUnit sqlUnit, final boolean isReturnGeneratedKeys) throws SQLException {
         return connection.createStatement();
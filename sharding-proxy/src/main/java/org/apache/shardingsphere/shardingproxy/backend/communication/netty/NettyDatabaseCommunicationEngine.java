@@ -18,43 +18,50 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
 
 import io.netty.channel.Channel;
-import io.netty.channel.pool.SimpleChannelPool;
-import lombok.Getter;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.ScheduledFuture;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.api.config.rule.ShardingRuleConfiguration;
 import org.apache.shardingsphere.core.constant.DatabaseType;
-import org.apache.shardingsphere.core.constant.SQLType;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.merger.MergeEngineFactory;
 import org.apache.shardingsphere.core.merger.MergedResult;
 import org.apache.shardingsphere.core.merger.QueryResult;
-import org.apache.shardingsphere.core.parsing.SQLJudgeEngine;
-import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.merger.dal.show.ShowTablesMergedResult;
+import org.apache.shardingsphere.core.parsing.parser.constant.DerivedColumn;
 import org.apache.shardingsphere.core.routing.RouteUnit;
 import org.apache.shardingsphere.core.routing.SQLRouteResult;
-import org.apache.shardingsphere.core.routing.StatementRoutingEngine;
-import org.apache.shardingsphere.core.routing.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.BackendCommand;
 import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.BackendNettyClientManager;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.TransactionChannelRegistry;
 import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql.MySQLQueryResult;
-import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.FutureRegistry;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql.MySQLResponseHandler;
 import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.SynchronizedFuture;
-import org.apache.shardingsphere.shardingproxy.runtime.ChannelRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
-import org.apache.shardingsphere.shardingproxy.runtime.schema.MasterSlaveSchema;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
 import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.QueryResponsePackets;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -65,13 +72,19 @@ import java.util.concurrent.TimeoutException;
 
 /**
  * Database access engine for Netty.
+ * 
+ * <p>SQL are routed as same as JDBC backend, and sent to backend channels with text protocol.
+ * Route units of same data source are pipelined on channels acquired for this query.
+ * Executor thread does not wait for headers of results, {@code PendingCommandResponsePackets} is returned instead and completed when they arrive,
+ * rows are streamed into query results by IO threads of backend channels and merged when they arrive.
+ * Only LOCAL transaction is supported, connections of XA and BASE transactions are always served by JDBC backend.</p>
  *
  * @author wangkai
  * @author linjiaqi
  * @author panjuan
+ * @author zhangliang
  */
 @RequiredArgsConstructor
-@Getter
 public final class NettyDatabaseCommunicationEngine implements DatabaseCommunicationEngine {
     
     private static final GlobalRegistry GLOBAL_REGISTRY = GlobalRegistry.getInstance();
@@ -80,146 +93,249 @@ public final class NettyDatabaseCommunicationEngine implements DatabaseCommunica
     
     private final LogicSchema logicSchema;
     
-    private final int connectionId;
+    private final BackendConnection backendConnection;
     
     private final int sequenceId;
     
     private final String sql;
     
+    private final JDBCExecutorWrapper executorWrapper;
+    
     private final DatabaseType databaseType;
     
-    private final Map<String, List<Channel>> channelMap = new HashMap<>();
+    private final Map<Channel, ChannelPool> acquiredChannels = new LinkedHashMap<>();
+    
+    private final Collection<Channel> writtenChannels = new LinkedList<>();
+    
+    private final int queryTimeoutSeconds = GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_QUERY_TIMEOUT_SECONDS);
+    
+    private SQLRouteResult routeResult;
     
-    private SynchronizedFuture synchronizedFuture;
+    private SynchronizedFuture future;
+    
+    private List<QueryResult> queryResults = Collections.emptyList();
+    
+    private MergedResult mergedResult;
     
     private int currentSequenceId;
     
     private int columnCount;
     
-    private MergedResult mergedResult;
+    private List<ColumnType> columnTypes;
     
     @Override
     public CommandResponsePackets execute() {
         try {
-            return logicSchema instanceof MasterSlaveSchema ? executeForMasterSlave() : executeForSharding();
+            routeResult = executorWrapper.route(sql, databaseType);
+            if (routeResult.getRouteUnits().isEmpty()) {
+                return new CommandResponsePackets(new OKPacket(1));
+            }
+            future = send(new ArrayList<>(routeResult.getRouteUnits()));
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
+            releaseChannels();
             return new CommandResponsePackets(ex);
         }
+        return future.isDone() ? complete() : new PendingCommandResponsePackets(this, future);
     }
     
-    private CommandResponsePackets executeForMasterSlave() throws InterruptedException, ExecutionException, TimeoutException {
-        String dataSourceName = new MasterSlaveRouter(((MasterSlaveSchema) logicSchema).getMasterSlaveRule(),
-                GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW)).route(sql).iterator().next();
-        synchronizedFuture = new SynchronizedFuture(1);
-        FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
-        executeSQL(dataSourceName, sql);
-        List<QueryResult> queryResults = synchronizedFuture.get(
-                GLOBAL_REGISTRY.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
-        List<CommandResponsePackets> packets = new LinkedList<>();
-        for (QueryResult each : queryResults) {
-            packets.add(((MySQLQueryResult) each).getCommandResponsePackets());
+    /**
+     * Complete command with responses of backend channels, wait for them if not all received.
+     * 
+     * @return result packets to be sent
+     */
+    CommandResponsePackets complete() {
+        try {
+            CommandResponsePackets result = merge(routeResult, awaitResponses());
+            if (logicSchema instanceof ShardingSchema) {
+                logicSchema.refreshTableMetaData(routeResult.getSqlStatement());
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            closeQueryResults();
+            return new CommandResponsePackets(ex);
+        } finally {
+            releaseChannels();
         }
-        return merge(new SQLJudgeEngine(sql).judge(), packets, queryResults);
     }
     
-    private CommandResponsePackets executeForSharding() throws InterruptedException, ExecutionException, TimeoutException {
-        StatementRoutingEngine routingEngine = new StatementRoutingEngine(((ShardingSchema) logicSchema).getShardingRule(), 
-                logicSchema.getMetaData(), databaseType, GLOBAL_REGISTRY.getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.SQL_SHOW));
-        SQLRouteResult routeResult = routingEngine.route(sql);
-        if (routeResult.getRouteUnits().isEmpty()) {
-            return new CommandResponsePackets(new OKPacket(1));
+    private SynchronizedFuture send(final List<RouteUnit> routeUnits) throws InterruptedException, ExecutionException, TimeoutException, SQLException {
+        int connectionTimeoutSeconds = GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS);
+        boolean isInTransaction = ConnectionStatus.TRANSACTION == backendConnection.getStateHandler().getStatus();
+        SynchronizedFuture result = new SynchronizedFuture(routeUnits.size());
+        for (Entry<String, List<Integer>> entry : getRouteUnitIndexes(routeUnits).entrySet()) {
+            ChannelPool pool = CLIENT_MANAGER.getBackendNettyClient(logicSchema.getName()).getPoolMap().get(entry.getKey());
+            List<Channel> channels = isInTransaction ? Collections.singletonList(getTransactionChannel(pool, connectionTimeoutSeconds)) : acquireChannels(pool, entry.getValue().size(), connectionTimeoutSeconds);
+            int count = 0;
+            for (int each : entry.getValue()) {
+                RouteUnit routeUnit = routeUnits.get(each);
+                Channel channel = channels.get(count++ % channels.size());
+                String actualSQL = SQLParameterInliner.inline(routeUnit.getSqlUnit().getSql(), getRoutedParameters(routeUnit), MySQLResponseHandler.isNoBackslashEscapes(channel));
+                channel.write(new BackendCommand(new ComQueryPacket(sequenceId, actualSQL), result, each));
+            }
+            for (Channel each : channels) {
+                each.flush();
+            }
+            writtenChannels.addAll(channels);
         }
-        synchronizedFuture = new SynchronizedFuture(routeResult.getRouteUnits().size());
-        FutureRegistry.getInstance().put(connectionId, synchronizedFuture);
-        for (RouteUnit each : routeResult.getRouteUnits()) {
-            executeSQL(each.getDataSourceName(), each.getSqlUnit().getSql());
+        if (queryTimeoutSeconds > 0) {
+            expireLater(result);
         }
-        List<QueryResult> queryResults = synchronizedFuture.get(
-                GLOBAL_REGISTRY.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), TimeUnit.SECONDS);
-        FutureRegistry.getInstance().delete(connectionId);
-        List<CommandResponsePackets> packets = new ArrayList<>(queryResults.size());
-        for (QueryResult each : queryResults) {
-            MySQLQueryResult queryResult = (MySQLQueryResult) each;
-            if (0 == currentSequenceId) {
-                currentSequenceId = queryResult.getCurrentSequenceId();
+        return result;
+    }
+    
+    private void expireLater(final SynchronizedFuture responseFuture) {
+        final ScheduledFuture<?> expiration = writtenChannels.iterator().next().eventLoop().schedule(new Runnable() {
+            
+            @Override
+            public void run() {
+                responseFuture.expire();
             }
-            if (0 == columnCount) {
-                columnCount = queryResult.getColumnCount();
+        }, queryTimeoutSeconds, TimeUnit.SECONDS);
+        responseFuture.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                expiration.cancel(false);
             }
-            packets.add(queryResult.getCommandResponsePackets());
+        });
+    }
+    
+    private List<QueryResult> awaitResponses() throws InterruptedException, TimeoutException {
+        try {
+            if (future.isExpired()) {
+                throw new TimeoutException(String.format("Backend responses are not received in %s %s.", queryTimeoutSeconds, TimeUnit.SECONDS));
+            }
+            queryResults = queryTimeoutSeconds > 0 ? future.get(queryTimeoutSeconds, TimeUnit.SECONDS) : future.get();
+            return queryResults;
+        } catch (final TimeoutException ex) {
+            for (Channel each : writtenChannels) {
+                each.close();
+            }
+            throw ex;
         }
-        SQLStatement sqlStatement = routeResult.getSqlStatement();
-        CommandResponsePackets result = merge(sqlStatement, packets, queryResults);
-        logicSchema.refreshTableMetaData(sqlStatement);
-        return result;
     }
     
-    private void executeSQL(final String dataSourceName, final String sql) throws InterruptedException, ExecutionException, TimeoutException {
-        if (!channelMap.containsKey(dataSourceName)) {
-            channelMap.put(dataSourceName, new ArrayList<Channel>());
+    private Map<String, List<Integer>> getRouteUnitIndexes(final List<RouteUnit> routeUnits) {
+        Map<String, List<Integer>> result = new LinkedHashMap<>();
+        for (int i = 0; i < routeUnits.size(); i++) {
+            String dataSourceName = routeUnits.get(i).getDataSourceName();
+            if (!result.containsKey(dataSourceName)) {
+                result.put(dataSourceName, new LinkedList<Integer>());
+            }
+            result.get(dataSourceName).add(i);
         }
-        SimpleChannelPool pool = CLIENT_MANAGER.getBackendNettyClient(logicSchema.getName()).getPoolMap().get(dataSourceName);
-        Channel channel = pool.acquire().get(GLOBAL_REGISTRY.getShardingProperties().<Long>getValue(ShardingPropertiesConstant.PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS), TimeUnit.SECONDS);
-        channelMap.get(dataSourceName).add(channel);
-        ChannelRegistry.getInstance().putConnectionId(channel.id().asShortText(), connectionId);
-        channel.writeAndFlush(new ComQueryPacket(sequenceId, sql));
+        return result;
     }
     
-    private CommandResponsePackets merge(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
-        CommandResponsePackets headPackets = new CommandResponsePackets();
-        for (CommandResponsePackets each : packets) {
-            headPackets.getPackets().add(each.getHeadPacket());
+    private List<Object> getRoutedParameters(final RouteUnit routeUnit) {
+        List<Object> result = new LinkedList<>();
+        for (List<Object> each : routeUnit.getSqlUnit().getParameterSets()) {
+            result.addAll(each);
         }
-        for (DatabasePacket each : headPackets.getPackets()) {
-            if (each instanceof ErrPacket) {
-                return new CommandResponsePackets(each);
+        return result;
+    }
+    
+    private Channel getTransactionChannel(final ChannelPool pool, final int timeoutSeconds) throws InterruptedException, ExecutionException, TimeoutException, SQLException {
+        Channel result = TransactionChannelRegistry.getInstance().getChannel(backendConnection.getConnectionId(), pool);
+        if (null != result) {
+            if (!result.isActive()) {
+                throw new SQLException("Backend connection of current transaction is closed, transaction is rolled back by database.");
             }
+            return result;
         }
-        if (SQLType.TCL == sqlStatement.getType()) {
-            channelRelease();
+        result = pool.acquire().get(timeoutSeconds, TimeUnit.SECONDS);
+        TransactionChannelRegistry.getInstance().bind(backendConnection.getConnectionId(), pool, result);
+        result.write(new BackendCommand(new ComQueryPacket(sequenceId, "BEGIN")));
+        return result;
+    }
+    
+    private List<Channel> acquireChannels(final ChannelPool pool, final int routeUnitSize, final int timeoutSeconds) throws InterruptedException, ExecutionException, TimeoutException {
+        int channelSize = Math.min(routeUnitSize, GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+        List<Channel> result = new ArrayList<>(channelSize);
+        for (int i = 0; i < channelSize; i++) {
+            Channel channel = pool.acquire().get(timeoutSeconds, TimeUnit.SECONDS);
+            acquiredChannels.put(channel, pool);
+            result.add(channel);
         }
-        if (SQLType.DML == sqlStatement.getType()) {
-            return mergeDML(headPackets);
+        return result;
+    }
+    
+    private CommandResponsePackets merge(final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        List<OKPacket> okPackets = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            DatabasePacket headPacket = ((MySQLQueryResult) each).getCommandResponsePackets().getHeadPacket();
+            if (headPacket instanceof ErrPacket) {
+                closeQueryResults();
+                return new CommandResponsePackets(headPacket);
+            }
+            if (headPacket instanceof OKPacket) {
+                okPackets.add((OKPacket) headPacket);
+            }
+        }
+        if (!okPackets.isEmpty()) {
+            closeQueryResults();
+            return mergeUpdate(routeResult, okPackets);
         }
-        if (SQLType.DQL == sqlStatement.getType() || SQLType.DAL == sqlStatement.getType()) {
-            return mergeDQLorDAL(sqlStatement, packets, queryResults);
+        mergedResult = MergeEngineFactory.newInstance(
+                DatabaseType.MySQL, getShardingRule(), routeResult, logicSchema.getMetaData().getTable(), queryResults, GLOBAL_REGISTRY.getShardingProperties()).merge();
+        backendConnection.add(mergedResult);
+        QueryResponsePackets result = getQueryResponsePacketsWithoutDerivedColumns(((MySQLQueryResult) queryResults.get(0)).getCommandResponsePackets());
+        if (mergedResult instanceof ShowTablesMergedResult) {
+            ((ShowTablesMergedResult) mergedResult).resetColumnLabel(logicSchema.getName());
+            setResponseColumnLabelForShowTablesMergedResult(result);
         }
-        return packets.get(0);
+        currentSequenceId = result.getPackets().size();
+        columnCount = result.getColumnCount();
+        columnTypes = result.getColumnTypes();
+        return result;
     }
     
-    private CommandResponsePackets mergeDML(final CommandResponsePackets firstPackets) {
+    private CommandResponsePackets mergeUpdate(final SQLRouteResult routeResult, final List<OKPacket> okPackets) {
+        if (logicSchema instanceof ShardingSchema && ((ShardingSchema) logicSchema).getShardingRule().isAllBroadcastTables(routeResult.getSqlStatement().getTables().getTableNames())) {
+            return new CommandResponsePackets(okPackets.get(0));
+        }
         int affectedRows = 0;
         long lastInsertId = 0;
-        for (DatabasePacket each : firstPackets.getPackets()) {
-            if (each instanceof OKPacket) {
-                OKPacket okPacket = (OKPacket) each;
-                affectedRows += okPacket.getAffectedRows();
-                lastInsertId = okPacket.getLastInsertId();
+        for (OKPacket each : okPackets) {
+            affectedRows += each.getAffectedRows();
+            if (each.getLastInsertId() > lastInsertId) {
+                lastInsertId = each.getLastInsertId();
             }
         }
         return new CommandResponsePackets(new OKPacket(1, affectedRows, lastInsertId));
     }
     
-    private CommandResponsePackets mergeDQLorDAL(final SQLStatement sqlStatement, final List<CommandResponsePackets> packets, final List<QueryResult> queryResults) {
-        try {
-            mergedResult = MergeEngineFactory.newInstance(
-                    DatabaseType.MySQL, ((ShardingSchema) logicSchema).getShardingRule(), sqlStatement, logicSchema.getMetaData().getTable(), queryResults).merge();
-        } catch (final SQLException ex) {
-            return new CommandResponsePackets(new ErrPacket(1, ex));
+    private ShardingRule getShardingRule() {
+        return logicSchema instanceof ShardingSchema ? ((ShardingSchema) logicSchema).getShardingRule() : new ShardingRule(new ShardingRuleConfiguration(), logicSchema.getDataSources().keySet());
+    }
+    
+    private QueryResponsePackets getQueryResponsePacketsWithoutDerivedColumns(final CommandResponsePackets commandResponsePackets) {
+        Collection<ColumnDefinition41Packet> columnDefinition41Packets = new LinkedList<>();
+        for (DatabasePacket each : commandResponsePackets.getPackets()) {
+            if (each instanceof ColumnDefinition41Packet && !DerivedColumn.isDerivedColumn(((ColumnDefinition41Packet) each).getName())) {
+                columnDefinition41Packets.add((ColumnDefinition41Packet) each);
+            }
+        }
+        int columnCount = columnDefinition41Packets.size();
+        return new QueryResponsePackets(new FieldCountPacket(1, columnCount), columnDefinition41Packets, new EofPacket(columnCount + 2));
+    }
+    
+    private void setResponseColumnLabelForShowTablesMergedResult(final QueryResponsePackets queryResponsePackets) {
+        for (ColumnDefinition41Packet each : queryResponsePackets.getColumnDefinition41Packets()) {
+            if (each.getName().startsWith("Tables_in_")) {
+                each.setName("Tables_in_" + logicSchema.getName());
+                break;
+            }
         }
-        return packets.get(0);
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (null == mergedResult || !mergedResult.next()) {
-            channelRelease();
-            return false;
-        }
-        return true;
+        return null != mergedResult && mergedResult.next();
     }
     
     @Override
@@ -228,14 +344,22 @@ public final class NettyDatabaseCommunicationEngine implements DatabaseCommunica
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
             data.add(mergedResult.getValue(columnIndex, Object.class));
         }
-        return new ResultPacket(++currentSequenceId, data, columnCount, Collections.<ColumnType>emptyList());
+        return new ResultPacket(++currentSequenceId, data, columnCount, columnTypes);
     }
     
-    private void channelRelease() {
-        for (Entry<String, List<Channel>> entry : channelMap.entrySet()) {
-            for (Channel each : entry.getValue()) {
-                CLIENT_MANAGER.getBackendNettyClient(logicSchema.getName()).getPoolMap().get(entry.getKey()).release(each);
+    private void closeQueryResults() {
+        for (QueryResult each : queryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
             }
         }
     }
+    
+    private void releaseChannels() {
+        for (Entry<Channel, ChannelPool> entry : acquiredChannels.entrySet()) {
+            entry.getValue().release(entry.getKey());
+        }
+        acquiredChannels.clear();
+    }
 }
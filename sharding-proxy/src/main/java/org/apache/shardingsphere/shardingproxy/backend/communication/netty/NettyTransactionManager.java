@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.TransactionManager;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.BackendCommand;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.TransactionChannelRegistry;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql.MySQLQueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.SynchronizedFuture;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transaction manager for Netty backend.
+ * 
+ * <p>Only LOCAL transaction is supported, connections of XA and BASE transactions use JDBC backend instead, see {@code DatabaseCommunicationEngineFactory.isNettyBackend}.
+ * Backend channels are bound to frontend connection when statements are executed in transaction,
+ * and COMMIT or ROLLBACK is sent to all bound channels when transaction finished.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class NettyTransactionManager implements TransactionManager {
+    
+    private static final GlobalRegistry GLOBAL_REGISTRY = GlobalRegistry.getInstance();
+    
+    private final BackendConnection connection;
+    
+    @Override
+    public void begin() throws SQLException {
+        if (TransactionType.LOCAL != connection.getTransactionType()) {
+            throw new SQLException(String.format("Transaction type `%s` is unsupported by Netty backend.", connection.getTransactionType()));
+        }
+        if (ConnectionStatus.TRANSACTION != connection.getStateHandler().getStatus()) {
+            connection.getStateHandler().getAndSetStatus(ConnectionStatus.TRANSACTION);
+        }
+    }
+    
+    @Override
+    public void commit() throws SQLException {
+        finishTransaction("COMMIT");
+    }
+    
+    @Override
+    public void rollback() throws SQLException {
+        finishTransaction("ROLLBACK");
+    }
+    
+    private void finishTransaction(final String sql) throws SQLException {
+        if (ConnectionStatus.TRANSACTION != connection.getStateHandler().getStatus()) {
+            return;
+        }
+        Map<ChannelPool, Channel> channels = TransactionChannelRegistry.getInstance().unbindAll(connection.getConnectionId());
+        try {
+            SynchronizedFuture future = new SynchronizedFuture(channels.size());
+            int index = 0;
+            for (Channel each : channels.values()) {
+                each.writeAndFlush(new BackendCommand(new ComQueryPacket(0, sql), future, index++));
+            }
+            int queryTimeoutSeconds = GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_QUERY_TIMEOUT_SECONDS);
+            for (QueryResult each : queryTimeoutSeconds > 0 ? future.get(queryTimeoutSeconds, TimeUnit.SECONDS) : future.get()) {
+                DatabasePacket headPacket = ((MySQLQueryResult) each).getCommandResponsePackets().getHeadPacket();
+                if (headPacket instanceof ErrPacket) {
+                    throw new SQLException(((ErrPacket) headPacket).getErrorMessage(), ((ErrPacket) headPacket).getSqlState(), ((ErrPacket) headPacket).getErrorCode());
+                }
+            }
+        } catch (final InterruptedException | TimeoutException ex) {
+            closeChannels(channels);
+            throw new SQLException(ex);
+        } finally {
+            releaseChannels(channels);
+            connection.getStateHandler().getAndSetStatus(ConnectionStatus.TERMINATED);
+        }
+    }
+    
+    /**
+     * Rollback transaction without waiting for responses, used when frontend connection is closed.
+     * 
+     * <p>Channels are released at once, commands of next acquirer are pipelined after ROLLBACK.</p>
+     */
+    public void abort() {
+        Map<ChannelPool, Channel> channels = TransactionChannelRegistry.getInstance().unbindAll(connection.getConnectionId());
+        for (Channel each : channels.values()) {
+            each.writeAndFlush(new BackendCommand(new ComQueryPacket(0, "ROLLBACK")));
+        }
+        releaseChannels(channels);
+    }
+    
+    private void closeChannels(final Map<ChannelPool, Channel> channels) {
+        for (Channel each : channels.values()) {
+            each.close();
+        }
+    }
+    
+    private void releaseChannels(final Map<ChannelPool, Channel> channels) {
+        for (Entry<ChannelPool, Channel> entry : channels.entrySet()) {
+            entry.getKey().release(entry.getValue());
+        }
+    }
+}
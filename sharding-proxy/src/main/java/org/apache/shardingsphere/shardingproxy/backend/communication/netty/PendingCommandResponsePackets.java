@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.SynchronizedFuture;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+
+/**
+ * Command response packets pending on responses of backend channels.
+ * 
+ * <p>Caller adds listener to be notified when responses are received, and completes it for actual response packets without waiting in a thread.
+ * Callers which need response packets at once complete it directly, which waits for responses in current thread.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class PendingCommandResponsePackets extends CommandResponsePackets {
+    
+    private final NettyDatabaseCommunicationEngine databaseCommunicationEngine;
+    
+    private final SynchronizedFuture future;
+    
+    /**
+     * Add listener to be run when responses of backend channels are received or query is timeout.
+     * 
+     * @param listener listener
+     */
+    public void addListener(final Runnable listener) {
+        future.addListener(listener);
+    }
+    
+    /**
+     * Complete with responses of backend channels.
+     * 
+     * @return actual command response packets
+     */
+    public CommandResponsePackets complete() {
+        return databaseCommunicationEngine.complete();
+    }
+    
+    /**
+     * Complete command response packets if they are pending.
+     * 
+     * @param commandResponsePackets command response packets
+     * @return actual command response packets
+     */
+    public static CommandResponsePackets completeIfPending(final CommandResponsePackets commandResponsePackets) {
+        return commandResponsePackets instanceof PendingCommandResponsePackets ? ((PendingCommandResponsePackets) commandResponsePackets).complete() : commandResponsePackets;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * SQL parameter inliner.
+ * 
+ * <p>Backend channel of Netty sends SQL with text protocol, so parameters of prepared statement are escaped and inlined into placeholders,
+ * as same as client side prepared statement of MySQL Connector/J. Placeholders in quoted literals, identifiers and comments are ignored.</p>
+ * 
+ * <p>Single quotes of string parameters are doubled, which works in any SQL mode. Backslashes are escaped only if backend session does not use
+ * {@code NO_BACKSLASH_ESCAPES} SQL mode, because they are plain characters of string literals in that mode.</p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParameterInliner {
+    
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    
+    /**
+     * Inline parameters into placeholders of SQL.
+     * 
+     * @param sql SQL with placeholders
+     * @param parameters parameters of placeholders
+     * @param noBackslashEscapes whether backend session uses {@code NO_BACKSLASH_ESCAPES} SQL mode
+     * @return SQL with parameters inlined
+     */
+    public static String inline(final String sql, final List<Object> parameters, final boolean noBackslashEscapes) {
+        if (parameters.isEmpty()) {
+            return sql;
+        }
+        StringBuilder result = new StringBuilder(sql.length() + parameters.size() * 16);
+        Iterator<Object> parameterIterator = parameters.iterator();
+        int length = sql.length();
+        int position = 0;
+        while (position < length) {
+            char current = sql.charAt(position);
+            int end;
+            if ('\'' == current || '"' == current || '`' == current) {
+                end = skipQuoted(sql, position, current, noBackslashEscapes);
+            } else if ('#' == current || isDoubleDashComment(sql, position)) {
+                end = skipLineComment(sql, position);
+            } else if ('/' == current && position + 1 < length && '*' == sql.charAt(position + 1)) {
+                end = skipBlockComment(sql, position);
+            } else if ('?' == current && parameterIterator.hasNext()) {
+                appendParameter(result, parameterIterator.next(), noBackslashEscapes);
+                position++;
+                continue;
+            } else {
+                end = position + 1;
+            }
+            result.append(sql, position, end);
+            position = end;
+        }
+        return result.toString();
+    }
+    
+    private static int skipQuoted(final String sql, final int start, final char quote, final boolean noBackslashEscapes) {
+        int position = start + 1;
+        while (position < sql.length()) {
+            char current = sql.charAt(position);
+            if ('\\' == current && '`' != quote && !noBackslashEscapes) {
+                position += 2;
+            } else if (quote == current && position + 1 < sql.length() && quote == sql.charAt(position + 1)) {
+                position += 2;
+            } else if (quote == current) {
+                return position + 1;
+            } else {
+                position++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static boolean isDoubleDashComment(final String sql, final int position) {
+        if ('-' != sql.charAt(position) || position + 1 >= sql.length() || '-' != sql.charAt(position + 1)) {
+            return false;
+        }
+        if (position + 2 == sql.length()) {
+            return true;
+        }
+        char next = sql.charAt(position + 2);
+        return Character.isWhitespace(next) || Character.isISOControl(next);
+    }
+    
+    private static int skipLineComment(final String sql, final int start) {
+        int result = sql.indexOf('\n', start);
+        return -1 == result ? sql.length() : result + 1;
+    }
+    
+    private static int skipBlockComment(final String sql, final int start) {
+        int result = sql.indexOf("*/", start + 2);
+        return -1 == result ? sql.length() : result + 2;
+    }
+    
+    private static void appendParameter(final StringBuilder builder, final Object parameter, final boolean noBackslashEscapes) {
+        if (null == parameter) {
+            builder.append("NULL");
+        } else if (parameter instanceof BigDecimal) {
+            builder.append(((BigDecimal) parameter).toPlainString());
+        } else if (parameter instanceof Number) {
+            builder.append(parameter);
+        } else if (parameter instanceof Boolean) {
+            builder.append((Boolean) parameter ? '1' : '0');
+        } else if (parameter instanceof byte[]) {
+            appendHex(builder, (byte[]) parameter);
+        } else if (parameter instanceof java.sql.Date || parameter instanceof java.sql.Time || parameter instanceof Timestamp) {
+            appendQuoted(builder, parameter.toString(), noBackslashEscapes);
+        } else if (parameter instanceof Date) {
+            appendQuoted(builder, new Timestamp(((Date) parameter).getTime()).toString(), noBackslashEscapes);
+        } else {
+            appendQuoted(builder, parameter.toString(), noBackslashEscapes);
+        }
+    }
+    
+    private static void appendHex(final StringBuilder builder, final byte[] value) {
+        builder.append("X'");
+        for (byte each : value) {
+            builder.append(HEX_DIGITS[(each >> 4) & 0x0f]).append(HEX_DIGITS[each & 0x0f]);
+        }
+        builder.append('\'');
+    }
+    
+    private static void appendQuoted(final StringBuilder builder, final String value, final boolean noBackslashEscapes) {
+        builder.append('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('\'' == each) {
+                builder.append("''");
+            } else if (noBackslashEscapes) {
+                builder.append(each);
+            } else {
+                appendBackslashEscaped(builder, each);
+            }
+        }
+        builder.append('\'');
+    }
+    
+    private static void appendBackslashEscaped(final StringBuilder builder, final char value) {
+        switch (value) {
+            case '\0':
+                builder.append("\\0");
+                break;
+            case '\n':
+                builder.append("\\n");
+                break;
+            case '\r':
+                builder.append("\\r");
+                break;
+            case '\032':
+                builder.append("\\Z");
+                break;
+            case '\\':
+                builder.append("\\\\");
+                break;
+            default:
+                builder.append(value);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.SynchronizedFuture;
+import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
+
+/**
+ * Command written to backend channel.
+ * 
+ * <p>Commands are queued by response handler in written order, so several commands can be pipelined on one backend channel 
+ * and responses are dispatched to futures of commands in same order.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+public final class BackendCommand {
+    
+    private final DatabasePacket packet;
+    
+    private final SynchronizedFuture future;
+    
+    private final int index;
+    
+    public BackendCommand(final DatabasePacket packet) {
+        this(packet, null, 0);
+    }
+    
+    /**
+     * Set response to future of command.
+     * 
+     * <p>Response is discarded if command do not care about it.</p>
+     * 
+     * @param response response of command
+     */
+    public void setResponse(final QueryResult response) {
+        if (null != future) {
+            future.setResponse(index, response);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of backend channels bound to frontend connections in transaction.
+ * 
+ * <p>Statements of one transaction must be executed on same backend channel of each data source,
+ * so channels are held by frontend connection until transaction is committed or rolled back.</p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransactionChannelRegistry {
+    
+    private static final TransactionChannelRegistry INSTANCE = new TransactionChannelRegistry();
+    
+    private final ConcurrentMap<Integer, Map<ChannelPool, Channel>> transactionChannels = new ConcurrentHashMap<>();
+    
+    /**
+     * Get instance of transaction channel registry.
+     *
+     * @return instance of transaction channel registry
+     */
+    public static TransactionChannelRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get channel bound to frontend connection.
+     * 
+     * @param connectionId frontend connection ID
+     * @param pool channel pool of data source
+     * @return bound channel, {@code null} if no channel bound
+     */
+    public Channel getChannel(final int connectionId, final ChannelPool pool) {
+        Map<ChannelPool, Channel> channels = transactionChannels.get(connectionId);
+        return null == channels ? null : channels.get(pool);
+    }
+    
+    /**
+     * Bind channel to frontend connection.
+     * 
+     * @param connectionId frontend connection ID
+     * @param pool channel pool of data source
+     * @param channel channel acquired from pool
+     */
+    public void bind(final int connectionId, final ChannelPool pool, final Channel channel) {
+        Map<ChannelPool, Channel> channels = transactionChannels.get(connectionId);
+        if (null == channels) {
+            channels = new LinkedHashMap<>();
+            transactionChannels.put(connectionId, channels);
+        }
+        channels.put(pool, channel);
+    }
+    
+    /**
+     * Unbind all channels of frontend connection.
+     * 
+     * @param connectionId frontend connection ID
+     * @return unbound channels and their pools
+     */
+    public Map<ChannelPool, Channel> unbindAll(final int connectionId) {
+        Map<ChannelPool, Channel> result = transactionChannels.remove(connectionId);
+        return null == result ? Collections.<ChannelPool, Channel>emptyMap() : result;
+    }
+}
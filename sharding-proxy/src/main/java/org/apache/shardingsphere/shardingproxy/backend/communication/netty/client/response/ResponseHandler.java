@@ -18,24 +18,67 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.BackendCommand;
+
+import java.util.LinkedList;
+import java.util.Queue;
 
 /**
  * SQL executed response handler.
+ * 
+ * <p>Commands written to channel are queued in written order, responses are dispatched to head of queue.
+ * Commands written before channel is ready are held and sent when channel becomes ready.</p>
  *
  * @author wangkai
  * @author linjiaqi
  */
-public abstract class ResponseHandler extends ChannelInboundHandlerAdapter {
+public abstract class ResponseHandler extends ChannelDuplexHandler {
+    
+    private final Queue<BackendCommand> pendingCommands = new LinkedList<>();
+    
+    private final Queue<ChannelPromise> unsentPromises = new LinkedList<>();
     
     private boolean authorized;
     
+    private boolean commandReady;
+    
+    @Override
+    public final void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) {
+        if (!(message instanceof BackendCommand)) {
+            context.write(message, promise);
+            return;
+        }
+        pendingCommands.offer((BackendCommand) message);
+        if (commandReady) {
+            context.write(((BackendCommand) message).getPacket(), promise);
+        } else {
+            unsentPromises.offer(promise);
+        }
+    }
+    
+    /**
+     * Set channel ready for commands, and send commands held before.
+     * 
+     * @param context channel handler context
+     */
+    protected final void setCommandReady(final ChannelHandlerContext context) {
+        commandReady = true;
+        if (pendingCommands.isEmpty()) {
+            return;
+        }
+        for (BackendCommand each : pendingCommands) {
+            context.write(each.getPacket(), unsentPromises.poll());
+        }
+        context.flush();
+    }
+    
     @Override
     public final void channelRead(final ChannelHandlerContext context, final Object message) {
         ByteBuf byteBuf = (ByteBuf) message;
         int header = getHeader(byteBuf);
-        
         if (!authorized) {
             auth(context, byteBuf);
             authorized = true;
@@ -50,9 +93,39 @@ public abstract class ResponseHandler extends ChannelInboundHandlerAdapter {
     
     protected abstract void executeCommand(ChannelHandlerContext context, ByteBuf byteBuf, int header);
     
+    /**
+     * Get command which current response belongs to.
+     * 
+     * @return current command, {@code null} if no command pending
+     */
+    protected final BackendCommand getCurrentCommand() {
+        return pendingCommands.peek();
+    }
+    
+    /**
+     * Judge whether other commands are pipelined behind current command.
+     * 
+     * @return other commands are pipelined or not
+     */
+    protected final boolean hasPipelinedCommands() {
+        return pendingCommands.size() > 1;
+    }
+    
+    /**
+     * Finish current command, next response belongs to next command.
+     */
+    protected final void finishCurrentCommand() {
+        pendingCommands.poll();
+    }
+    
     @Override
     public final void channelInactive(final ChannelHandlerContext context) throws Exception {
-        //TODO delete connection map
+        while (!pendingCommands.isEmpty()) {
+            abortCurrentCommand();
+            pendingCommands.poll();
+        }
         super.channelInactive(context);
     }
+    
+    protected abstract void abortCurrentCommand();
 }
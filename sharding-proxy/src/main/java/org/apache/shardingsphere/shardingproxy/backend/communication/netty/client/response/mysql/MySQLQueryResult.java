@@ -17,10 +17,11 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql;
 
-import com.google.common.collect.Lists;
+import io.netty.channel.Channel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
@@ -28,17 +29,31 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.qu
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
 
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * MySQL packet query result.
+ * 
+ * <p>Rows are streamed into query result by backend channel when they arrive, and taken by merge engine in another thread.
+ * Text values are converted with column types as same as {@code ResultSet.getObject} of JDBC, so merge and binary protocol work in same way with JDBC backend.
+ * ERR packet received in the middle of rows is thrown as {@code SQLException} when it is taken, so frontend responds ERR packet instead of truncated rows.
+ * Reading of backend channel is paused when queued rows reach high water mark, and resumed in event loop of channel when they are taken down to half of it.
+ * Rows arriving after query result is closed are discarded, so that backend channel is never paused by query result which is not consumed to the end.</p>
  *
  * @author wangkai
  * @author linjiaqi
@@ -51,40 +66,61 @@ public final class MySQLQueryResult implements QueryResult {
     
     private final int columnCount;
     
-    private final Map<Integer, String> columnIndexAndLabelMap;
-    
     private final Map<String, Integer> columnLabelAndIndexMap;
     
     private final List<ColumnDefinition41Packet> columnDefinitions;
     
+    @Getter
+    private final List<ColumnType> columnTypes;
+    
     private final BlockingQueue<MySQLPacket> resultSet;
     
+    private final Channel channel;
+    
+    private final int highWaterMark;
+    
+    private final int lowWaterMark;
+    
+    private final AtomicInteger queuedRowCount = new AtomicInteger();
+    
+    private boolean readPaused;
+    
+    private volatile boolean closed;
+    
     @Getter
     private int currentSequenceId;
     
     private TextResultSetRowPacket currentRow;
     
+    private boolean wasNull;
+    
     @Getter
     private boolean columnFinished;
     
     public MySQLQueryResult() {
         commandResponsePackets = new CommandResponsePackets();
         columnCount = 0;
-        columnIndexAndLabelMap = null;
         columnLabelAndIndexMap = null;
         columnDefinitions = null;
+        columnTypes = null;
         resultSet = null;
+        channel = null;
+        highWaterMark = 0;
+        lowWaterMark = 0;
     }
     
-    public MySQLQueryResult(final MySQLPacketPayload payload) {
+    public MySQLQueryResult(final MySQLPacketPayload payload, final Channel channel, final int highWaterMark) {
         FieldCountPacket fieldCountPacket = new FieldCountPacket(payload);
         commandResponsePackets = new CommandResponsePackets(fieldCountPacket);
         columnCount = fieldCountPacket.getColumnCount();
-        columnIndexAndLabelMap = new HashMap<>(fieldCountPacket.getColumnCount(), 1);
         columnLabelAndIndexMap = new HashMap<>(fieldCountPacket.getColumnCount(), 1);
-        columnDefinitions = Lists.newArrayListWithCapacity(fieldCountPacket.getColumnCount());
+        columnDefinitions = new ArrayList<>(fieldCountPacket.getColumnCount());
+        columnTypes = new ArrayList<>(fieldCountPacket.getColumnCount());
         currentSequenceId = fieldCountPacket.getSequenceId();
         resultSet = new LinkedBlockingQueue<>();
+        this.channel = channel;
+        this.highWaterMark = highWaterMark;
+        lowWaterMark = highWaterMark / 2;
     }
     
     /**
@@ -113,22 +149,35 @@ public final class MySQLQueryResult implements QueryResult {
     public void addColumnDefinition(final ColumnDefinition41Packet columnDefinition) {
         commandResponsePackets.getPackets().add(columnDefinition);
         columnDefinitions.add(columnDefinition);
-        columnIndexAndLabelMap.put(columnDefinitions.indexOf(columnDefinition) + 1, columnDefinition.getName());
-        columnLabelAndIndexMap.put(columnDefinition.getName(), columnDefinitions.indexOf(columnDefinition) + 1);
+        columnTypes.add(columnDefinition.getColumnType());
+        if (!columnLabelAndIndexMap.containsKey(columnDefinition.getName())) {
+            columnLabelAndIndexMap.put(columnDefinition.getName(), columnDefinitions.size());
+        }
         currentSequenceId++;
     }
     
     /**
-     * Add text result set row.
+     * Add text result set row, and pause reading of backend channel if queued rows reach high water mark.
+     * 
+     * <p>Must be called in event loop of backend channel.</p>
      * 
      * @param textResultSetRow text result set row
+     * @param readPausable whether reading of backend channel can be paused, it can not if other commands are pipelined behind
      */
-    public void addTextResultSetRow(final TextResultSetRowPacket textResultSetRow) {
-        put(textResultSetRow);
+    public void addTextResultSetRow(final TextResultSetRowPacket textResultSetRow, final boolean readPausable) {
+        if (closed) {
+            return;
+        }
+        resultSet.offer(textResultSetRow);
+        if (queuedRowCount.incrementAndGet() >= highWaterMark && highWaterMark > 0 && readPausable && !readPaused) {
+            readPaused = true;
+            channel.config().setAutoRead(false);
+        }
     }
     
     /**
      * Set column finished.
+     * 
      * @param eofPacket eof packet
      */
     public void setColumnFinished(final EofPacket eofPacket) {
@@ -139,25 +188,35 @@ public final class MySQLQueryResult implements QueryResult {
     
     /**
      * Set row finished.
+     * 
      * @param eofPacket eof packet
      */
     public void setRowFinished(final EofPacket eofPacket) {
-        put(eofPacket);
+        resultSet.offer(eofPacket);
     }
     
-    private void put(final MySQLPacket mysqlPacket) {
-        try {
-            resultSet.put(mysqlPacket);
-        } catch (final InterruptedException ex) {
-            log.error(ex.getMessage(), ex);
-        }
+    /**
+     * Set row failed.
+     * 
+     * @param errPacket ERR packet
+     */
+    public void setRowFailed(final ErrPacket errPacket) {
+        resultSet.offer(errPacket);
     }
     
     @Override
-    public boolean next() {
+    public boolean next() throws SQLException {
         try {
             MySQLPacket mysqlPacket = resultSet.take();
+            if (mysqlPacket instanceof ErrPacket) {
+                resultSet.offer(mysqlPacket);
+                ErrPacket errPacket = (ErrPacket) mysqlPacket;
+                throw new SQLException(errPacket.getErrorMessage(), errPacket.getSqlState(), errPacket.getErrorCode());
+            }
             currentRow = (mysqlPacket instanceof TextResultSetRowPacket) ? (TextResultSetRowPacket) mysqlPacket : null;
+            if (null != currentRow && lowWaterMark == queuedRowCount.decrementAndGet() && highWaterMark > 0) {
+                resumeReadLater();
+            }
             return null != currentRow;
         } catch (final InterruptedException ex) {
             log.error(ex.getMessage(), ex);
@@ -172,27 +231,29 @@ public final class MySQLQueryResult implements QueryResult {
     
     @Override
     public String getColumnLabel(final int columnIndex) {
-        return columnIndexAndLabelMap.get(columnIndex);
+        return columnDefinitions.get(columnIndex - 1).getName();
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.getData().get(columnIndex - 1);
+        Object value = currentRow.getData().get(columnIndex - 1);
+        wasNull = null == value;
+        return wasNull ? null : convertValue((String) value, columnTypes.get(columnIndex - 1));
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) {
-        return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return getValue(columnLabelAndIndexMap.get(columnLabel), type);
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getData().get(columnIndex - 1);
+        return getValue(columnIndex, type);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return getValue(columnLabel, type);
     }
     
     @Override
@@ -202,12 +263,72 @@ public final class MySQLQueryResult implements QueryResult {
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return (InputStream) currentRow.getData().get(columnLabelAndIndexMap.get(columnLabel));
+        return getInputStream(columnLabelAndIndexMap.get(columnLabel), type);
     }
     
-    // TODO
     @Override
     public boolean wasNull() {
-        return false;
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        if (null == resultSet) {
+            return;
+        }
+        closed = true;
+        resultSet.clear();
+        queuedRowCount.set(0);
+        resumeReadLater();
+    }
+    
+    private void resumeReadLater() {
+        if (null == channel) {
+            return;
+        }
+        channel.eventLoop().execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (readPaused && (closed || queuedRowCount.get() <= lowWaterMark)) {
+                    readPaused = false;
+                    channel.config().setAutoRead(true);
+                }
+            }
+        });
+    }
+    
+    private Object convertValue(final String value, final ColumnType columnType) {
+        try {
+            switch (columnType) {
+                case MYSQL_TYPE_TINY:
+                case MYSQL_TYPE_SHORT:
+                case MYSQL_TYPE_INT24:
+                case MYSQL_TYPE_YEAR:
+                case MYSQL_TYPE_LONG:
+                    long longValue = Long.parseLong(value);
+                    return longValue == (int) longValue ? Integer.valueOf((int) longValue) : Long.valueOf(longValue);
+                case MYSQL_TYPE_LONGLONG:
+                    return Long.valueOf(value);
+                case MYSQL_TYPE_DECIMAL:
+                case MYSQL_TYPE_NEWDECIMAL:
+                    return new BigDecimal(value);
+                case MYSQL_TYPE_FLOAT:
+                    return Float.valueOf(value);
+                case MYSQL_TYPE_DOUBLE:
+                    return Double.valueOf(value);
+                case MYSQL_TYPE_DATE:
+                    return Date.valueOf(value);
+                case MYSQL_TYPE_TIME:
+                    return Time.valueOf(value);
+                case MYSQL_TYPE_DATETIME:
+                case MYSQL_TYPE_TIMESTAMP:
+                    return Timestamp.valueOf(value);
+                default:
+                    return value;
+            }
+        } catch (final IllegalArgumentException ex) {
+            return value;
+        }
     }
 }
@@ -18,18 +18,21 @@
 package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetaData;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.BackendCommand;
 import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.ResponseHandler;
-import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.FutureRegistry;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
-import org.apache.shardingsphere.shardingproxy.runtime.ChannelRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.CapabilityFlag;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ServerInfo;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.StatusFlag;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
@@ -40,11 +43,13 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.HandshakeResponse41Packet;
 
 import java.security.MessageDigest;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Response handler for MySQL.
+ * 
+ * <p>Each backend channel owns one handler, packets of pipelined commands are parsed in order and dispatched to head of pending commands.
+ * Rows are streamed into query result once column definitions are received, without waiting for whole result set.
+ * Status flags of OK and EOF packets are kept in channel, so SQL mode of backend session is known when parameters are inlined.</p>
  *
  * @author wangkai
  * @author linjiaqi
@@ -55,16 +60,31 @@ public final class MySQLResponseHandler extends ResponseHandler {
     
     private static final GlobalRegistry GLOBAL_REGISTRY = GlobalRegistry.getInstance();
     
+    private static final int MIN_ROW_PACKET_LENGTH_WITH_EOF_HEADER = 10;
+    
+    private static final AttributeKey<Boolean> NO_BACKSLASH_ESCAPES = AttributeKey.valueOf(MySQLResponseHandler.class, "NO_BACKSLASH_ESCAPES");
+    
     private final YamlDataSourceParameter dataSourceParameter;
     
     private final DataSourceMetaData dataSourceMetaData;
     
-    private final Map<Integer, MySQLQueryResult> resultMap;
+    private boolean authenticated;
+    
+    private MySQLQueryResult currentResult;
     
     public MySQLResponseHandler(final String dataSourceName, final String schema) {
-        dataSourceParameter = GLOBAL_REGISTRY.getLogicSchema(schema).getDataSources().get(dataSourceName);
-        dataSourceMetaData = GLOBAL_REGISTRY.getLogicSchema(schema).getMetaData().getDataSource().getActualDataSourceMetaData(dataSourceName);
-        resultMap = new HashMap<>();
+        this(GLOBAL_REGISTRY.getLogicSchema(schema).getDataSources().get(dataSourceName),
+                GLOBAL_REGISTRY.getLogicSchema(schema).getMetaData().getDataSource().getActualDataSourceMetaData(dataSourceName));
+    }
+    
+    /**
+     * Judge whether backend session of channel uses {@code NO_BACKSLASH_ESCAPES} SQL mode.
+     * 
+     * @param channel backend channel
+     * @return whether backend session uses {@code NO_BACKSLASH_ESCAPES} SQL mode
+     */
+    public static boolean isNoBackslashEscapes(final Channel channel) {
+        return Boolean.TRUE.equals(channel.attr(NO_BACKSLASH_ESCAPES).get());
     }
     
     @Override
@@ -86,7 +106,6 @@ public final class MySQLResponseHandler extends ResponseHandler {
             HandshakeResponse41Packet handshakeResponse41Packet = new HandshakeResponse41Packet(
                     handshakePacket.getSequenceId() + 1, CapabilityFlag.calculateHandshakeCapabilityFlagsLower(), 16777215, ServerInfo.CHARSET,
                     dataSourceParameter.getUsername(), authResponse, dataSourceMetaData.getSchemaName());
-            ChannelRegistry.getInstance().putConnectionId(context.channel().id().asShortText(), handshakePacket.getConnectionId());
             context.writeAndFlush(handshakeResponse41Packet);
         }
     }
@@ -108,77 +127,96 @@ public final class MySQLResponseHandler extends ResponseHandler {
     
     @Override
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
-        switch (header) {
-            case EofPacket.HEADER:
-                eofPacket(context, byteBuf);
-                break;
-            case OKPacket.HEADER:
-                okPacket(context, byteBuf);
-                break;
-            case ErrPacket.HEADER:
-                errPacket(context, byteBuf);
-                break;
-            default:
-                commandPacket(context, byteBuf);
+        if (!authenticated) {
+            authResult(context, byteBuf, header);
+            return;
+        }
+        BackendCommand command = getCurrentCommand();
+        if (null == command) {
+            log.warn("Discard backend response without pending command. Channel ID: {}", context.channel().id().asShortText());
+            byteBuf.release();
+            return;
         }
-    }
-    
-    private void okPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
         try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
-            MySQLQueryResult mysqlQueryResult = new MySQLQueryResult();
-            mysqlQueryResult.setGenericResponse(new OKPacket(payload));
-            resultMap.put(connectionId, mysqlQueryResult);
-            setResponse(context);
-        } finally {
-            resultMap.remove(connectionId);
+            if (null == currentResult) {
+                genericOrFieldCountPacket(context, command, payload, header);
+            } else if (currentResult.needColumnDefinition()) {
+                currentResult.addColumnDefinition(new ColumnDefinition41Packet(payload));
+            } else if (!currentResult.isColumnFinished()) {
+                currentResult.setColumnFinished(new EofPacket(payload));
+                command.setResponse(currentResult);
+            } else {
+                rowPacket(context, payload, header);
+            }
         }
     }
     
-    private void errPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
+    private void authResult(final ChannelHandlerContext context, final ByteBuf byteBuf, final int header) {
         try (MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf)) {
-            MySQLQueryResult mysqlQueryResult = new MySQLQueryResult();
-            mysqlQueryResult.setGenericResponse(new ErrPacket(payload));
-            resultMap.put(connectionId, mysqlQueryResult);
-            setResponse(context);
-        } finally {
-            resultMap.remove(connectionId);
+            if (OKPacket.HEADER == header) {
+                updateStatusFlags(context, new OKPacket(payload).getStatusFlags());
+                authenticated = true;
+                setCommandReady(context);
+                return;
+            }
+            if (ErrPacket.HEADER == header) {
+                log.error("Authenticate to backend data source failed: {}", new ErrPacket(payload).getErrorMessage());
+            } else {
+                log.error("Authenticate method of backend data source is unsupported, header: {}", header);
+            }
+            context.close();
         }
     }
     
-    private void eofPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-        MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
-        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
-        if (mysqlQueryResult.isColumnFinished()) {
-            mysqlQueryResult.setRowFinished(new EofPacket(payload));
-            resultMap.remove(connectionId);
-            payload.close();
+    private void genericOrFieldCountPacket(final ChannelHandlerContext context, final BackendCommand command, final MySQLPacketPayload payload, final int header) {
+        if (OKPacket.HEADER == header || ErrPacket.HEADER == header) {
+            MySQLQueryResult genericResult = new MySQLQueryResult();
+            if (OKPacket.HEADER == header) {
+                OKPacket okPacket = new OKPacket(payload);
+                updateStatusFlags(context, okPacket.getStatusFlags());
+                genericResult.setGenericResponse(okPacket);
+            } else {
+                genericResult.setGenericResponse(new ErrPacket(payload));
+            }
+            command.setResponse(genericResult);
+            finishCurrentCommand();
         } else {
-            mysqlQueryResult.setColumnFinished(new EofPacket(payload));
-            setResponse(context);
+            currentResult = new MySQLQueryResult(payload, context.channel(), GLOBAL_REGISTRY.getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_QUERY_QUEUED_ROWS_HIGH_WATER_MARK));
         }
     }
     
-    private void setResponse(final ChannelHandlerContext context) {
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-        if (null != FutureRegistry.getInstance().get(connectionId)) {
-            FutureRegistry.getInstance().get(connectionId).setResponse(resultMap.get(connectionId));
+    private void rowPacket(final ChannelHandlerContext context, final MySQLPacketPayload payload, final int header) {
+        if (EofPacket.HEADER == header && payload.getByteBuf().readableBytes() < MIN_ROW_PACKET_LENGTH_WITH_EOF_HEADER) {
+            EofPacket eofPacket = new EofPacket(payload);
+            updateStatusFlags(context, eofPacket.getStatusFlags());
+            currentResult.setRowFinished(eofPacket);
+            finishResult();
+        } else if (ErrPacket.HEADER == header) {
+            currentResult.setRowFailed(new ErrPacket(payload));
+            finishResult();
+        } else {
+            currentResult.addTextResultSetRow(new TextResultSetRowPacket(payload, currentResult.getColumnCount()), !hasPipelinedCommands());
         }
     }
     
-    private void commandPacket(final ChannelHandlerContext context, final ByteBuf byteBuf) {
-        int connectionId = ChannelRegistry.getInstance().getConnectionId(context.channel().id().asShortText());
-        MySQLQueryResult mysqlQueryResult = resultMap.get(connectionId);
-        MySQLPacketPayload payload = new MySQLPacketPayload(byteBuf);
-        if (null == mysqlQueryResult) {
-            mysqlQueryResult = new MySQLQueryResult(payload);
-            resultMap.put(connectionId, mysqlQueryResult);
-        } else if (mysqlQueryResult.needColumnDefinition()) {
-            mysqlQueryResult.addColumnDefinition(new ColumnDefinition41Packet(payload));
+    private void updateStatusFlags(final ChannelHandlerContext context, final int statusFlags) {
+        context.channel().attr(NO_BACKSLASH_ESCAPES).set(0 != (statusFlags & StatusFlag.SERVER_STATUS_NO_BACKSLASH_ESCAPES.getValue()));
+    }
+    
+    private void finishResult() {
+        currentResult = null;
+        finishCurrentCommand();
+    }
+    
+    @Override
+    protected void abortCurrentCommand() {
+        if (null != currentResult && currentResult.isColumnFinished()) {
+            currentResult.setRowFailed(new ErrPacket("Backend connection is closed before command finished."));
         } else {
-            mysqlQueryResult.addTextResultSetRow(new TextResultSetRowPacket(payload, mysqlQueryResult.getColumnCount()));
+            MySQLQueryResult abortedResult = new MySQLQueryResult();
+            abortedResult.setGenericResponse(new ErrPacket("Backend connection is closed before command finished."));
+            getCurrentCommand().setResponse(abortedResult);
         }
+        currentResult = null;
     }
 }
@@ -17,33 +17,42 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.netty.future;
 
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.merger.QueryResult;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Synchronized future for get multiple netty returns.
+ * 
+ * <p>Responses are kept in order of commands, no matter which backend channel responds first.
+ * Listeners are run once when all responses are received or future is expired, so that caller need not wait in a thread.</p>
  *
  * @author wangkai
  * @author linjiaqi
  */
-@Slf4j
 public final class SynchronizedFuture implements Future<List<QueryResult>> {
     
     private final CountDownLatch latch;
     
-    private final List<QueryResult> responses;
+    private final AtomicReferenceArray<QueryResult> responses;
     
-    private boolean isDone;
+    private final Collection<Runnable> listeners = new LinkedList<>();
+    
+    private boolean listenersNotified;
+    
+    private volatile boolean expired;
     
     public SynchronizedFuture(final int resultSize) {
         latch = new CountDownLatch(resultSize);
-        responses = new ArrayList<>(resultSize);
+        responses = new AtomicReferenceArray<>(resultSize);
     }
     
     @Override
@@ -58,13 +67,13 @@ public final class SynchronizedFuture implements Future<List<QueryResult>> {
     
     @Override
     public boolean isDone() {
-        return isDone;
+        return 0 == latch.getCount();
     }
     
     @Override
     public List<QueryResult> get() throws InterruptedException {
         latch.await();
-        return responses;
+        return getResponses();
     }
     
     /**
@@ -73,25 +82,88 @@ public final class SynchronizedFuture implements Future<List<QueryResult>> {
      * @param timeout wait timeout
      * @param unit time unit
      * @return responses
+     * @throws InterruptedException interrupted exception
+     * @throws TimeoutException timeout exception
      */
     @Override
-    public List<QueryResult> get(final long timeout, final TimeUnit unit) {
-        try {
-            latch.await(timeout, unit);
-            isDone = true;
-        } catch (final InterruptedException ex) {
-            log.error(ex.getMessage(), ex);
+    public List<QueryResult> get(final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (!latch.await(timeout, unit)) {
+            throw new TimeoutException(String.format("Backend responses are not received in %s %s.", timeout, unit));
         }
-        return responses;
+        return getResponses();
+    }
+    
+    private List<QueryResult> getResponses() {
+        List<QueryResult> result = new ArrayList<>(responses.length());
+        for (int i = 0; i < responses.length(); i++) {
+            result.add(responses.get(i));
+        }
+        return result;
     }
     
     /**
      * Set response and count down.
      * 
+     * @param index index of command
      * @param response SQL command result
      */
-    public void setResponse(final QueryResult response) {
-        responses.add(response);
-        latch.countDown();
+    public void setResponse(final int index, final QueryResult response) {
+        if (responses.compareAndSet(index, null, response)) {
+            latch.countDown();
+            if (isDone()) {
+                notifyListeners();
+            }
+        }
+    }
+    
+    /**
+     * Add listener to be run when all responses are received or future is expired.
+     * 
+     * <p>Listener is run at once in current thread if future is already completed.</p>
+     * 
+     * @param listener listener
+     */
+    public void addListener(final Runnable listener) {
+        synchronized (listeners) {
+            if (!listenersNotified) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+    
+    /**
+     * Expire future if responses are not all received, and notify listeners.
+     */
+    public void expire() {
+        if (!isDone()) {
+            expired = true;
+            notifyListeners();
+        }
+    }
+    
+    /**
+     * Judge whether future is expired before all responses are received.
+     * 
+     * @return expired or not
+     */
+    public boolean isExpired() {
+        return expired && !isDone();
+    }
+    
+    private void notifyListeners() {
+        Collection<Runnable> notifiedListeners;
+        synchronized (listeners) {
+            if (listenersNotified) {
+                return;
+            }
+            listenersNotified = true;
+            notifiedListeners = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+        for (Runnable each : notifiedListeners) {
+            each.run();
+        }
     }
 }
@@ -18,11 +18,21 @@
 package org.apache.shardingsphere.shardingproxy.backend.sctl;
 
 import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.executor.sql.statistics.DataSourceExecuteStatistics;
+import org.apache.shardingsphere.core.executor.sql.statistics.TableExecuteStatistics;
 import org.apache.shardingsphere.core.merger.MergedResult;
 import org.apache.shardingsphere.core.merger.dal.show.ShowShardingCTLMergedResult;
+import org.apache.shardingsphere.core.util.ShardingExecutorService;
+import org.apache.shardingsphere.shardingproxy.backend.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCache;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.PaginationMetrics;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.QueryBufferedRowsMetrics;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.shardingproxy.frontend.common.ResultStreamingMetrics;
+import org.apache.shardingsphere.shardingproxy.frontend.common.executor.CommandStripeStatistics;
+import org.apache.shardingsphere.shardingproxy.frontend.common.executor.StripedCommandExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
@@ -73,11 +83,82 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "PEAK_BUFFERED_ROWS":
+                return createResponsePackets("PEAK_BUFFERED_ROWS", QueryBufferedRowsMetrics.getInstance().getPeakBufferedRows());
+            case "DATA_SOURCE_STATISTICS":
+                return createResponsePackets("DATA_SOURCE_STATISTICS", getDataSourceStatistics().toArray());
+            case "TABLE_STATISTICS":
+                return createResponsePackets("TABLE_STATISTICS", getTableStatistics().toArray());
+            case "EXECUTOR_STATISTICS":
+                return createResponsePackets("EXECUTOR_STATISTICS", getExecutorStatistics());
+            case "COMMAND_STRIPE_STATISTICS":
+                return createResponsePackets("COMMAND_STRIPE_STATISTICS", getCommandStripeStatistics().toArray());
+            case "XA_CARRIER_STATISTICS":
+                return createResponsePackets("XA_CARRIER_STATISTICS", getXACarrierStatistics());
+            case "PAGINATION_SAVED_ROWS":
+                return createResponsePackets("PAGINATION_SAVED_ROWS", PaginationMetrics.getInstance().getSavedRowCount());
+            case "KEYSET_PAGINATION_QUERIES":
+                return createResponsePackets("KEYSET_PAGINATION_QUERIES", PaginationMetrics.getInstance().getKeysetRewrittenQueryCount());
+            case "RESULT_CACHE_HIT_RATIO":
+                return createResponsePackets("RESULT_CACHE_HIT_RATIO", QueryResultCache.getInstance().getHitRatio());
+            case "PAUSED_STREAMS":
+                return createResponsePackets("PAUSED_STREAMS", ResultStreamingMetrics.getInstance().getPausedStreamCount());
+            case "TOTAL_PAUSED_STREAMS":
+                return createResponsePackets("TOTAL_PAUSED_STREAMS", ResultStreamingMetrics.getInstance().getTotalPausedCount());
+            case "PAUSED_BUFFERED_BYTES":
+                return createResponsePackets("PAUSED_BUFFERED_BYTES", ResultStreamingMetrics.getInstance().getPausedBufferedBytes());
             default:
                 return new CommandResponsePackets(new ErrPacket(String.format(" could not support this sctl grammar [%s].", sql)));
         }
     }
     
+    private Collection<String> getDataSourceStatistics() {
+        Collection<String> result = new LinkedList<>();
+        if (null == backendConnection.getLogicSchema()) {
+            return result;
+        }
+        for (DataSourceExecuteStatistics each : backendConnection.getLogicSchema().getExecuteStatistics().getAll()) {
+            result.add(String.format("%s: in_flight=%d, executes=%d, failures=%d, avg_latency_ms=%d, avg_rows=%d, total_rows=%d, max_pool_size=%d, "
+                    + "memory_strictly_decisions=%d, connection_strictly_decisions=%d, last_connection_size=%d",
+                    each.getDataSourceName(), each.getInFlightCount(), each.getExecuteCount(), each.getFailureCount(), each.getAverageLatencyMillis(), each.getAverageRowCount(),
+                    each.getTotalRowCount(), each.getMaxPoolSize(), each.getMemoryStrictlyDecisionCount(), each.getConnectionStrictlyDecisionCount(), each.getLastConnectionSize()));
+        }
+        return result;
+    }
+    
+    private Collection<String> getTableStatistics() {
+        Collection<String> result = new LinkedList<>();
+        if (null == backendConnection.getLogicSchema()) {
+            return result;
+        }
+        for (TableExecuteStatistics each : backendConnection.getLogicSchema().getExecuteStatistics().getAllTables()) {
+            result.add(String.format("%s: executes=%d, failures=%d, avg_latency_ms=%d, avg_rows=%d",
+                    each.getLogicTableName(), each.getExecuteCount(), each.getFailureCount(), each.getAverageLatencyMillis(), each.getAverageRowCount()));
+        }
+        return result;
+    }
+    
+    private String getExecutorStatistics() {
+        ShardingExecutorService shardingExecutorService = BackendExecutorContext.getInstance().getExecuteEngine().getShardingExecutorService();
+        return String.format("pool_size=%d, active_count=%d, queue_size=%d, caller_runs=%d, rejected=%d", shardingExecutorService.getPoolSize(),
+                shardingExecutorService.getActiveCount(), shardingExecutorService.getQueueSize(), shardingExecutorService.getCallerRunsCount(), shardingExecutorService.getRejectedCount());
+    }
+    
+    private Collection<String> getCommandStripeStatistics() {
+        Collection<String> result = new LinkedList<>();
+        for (CommandStripeStatistics each : StripedCommandExecutorGroup.getInstance().getStatistics()) {
+            result.add(String.format("stripe-%d: sessions=%d, queue_depth=%d, executed=%d, stolen=%d, avg_wait_us=%d, max_wait_us=%d", each.getIndex(), each.getSessionCount(),
+                    each.getQueueDepth(), each.getExecutedCount(), each.getStolenCount(), each.getAverageWaitNanos() / 1000L, each.getMaxWaitNanos() / 1000L));
+        }
+        return result;
+    }
+    
+    private String getXACarrierStatistics() {
+        StripedCommandExecutorGroup executorGroup = StripedCommandExecutorGroup.getInstance();
+        return String.format("carriers=%d, leased=%d, waiting_sessions=%d",
+                executorGroup.getPinnedCarrierCount(), executorGroup.getLeasedPinnedCarrierCount(), executorGroup.getPinnedCarrierWaitingCount());
+    }
+    
     private CommandResponsePackets createResponsePackets(final String columnName, final Object... values) {
         mergedResult = new ShowShardingCTLMergedResult(Arrays.asList(values));
         int sequenceId = 0;
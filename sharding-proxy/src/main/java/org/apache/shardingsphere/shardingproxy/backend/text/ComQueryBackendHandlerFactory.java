@@ -23,10 +23,12 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.core.constant.SQLType;
 import org.apache.shardingsphere.core.parsing.SQLJudgeEngine;
+import org.apache.shardingsphere.core.parsing.SQLStatementClassifier;
 import org.apache.shardingsphere.core.parsing.parser.dialect.mysql.statement.ShowDatabasesStatement;
 import org.apache.shardingsphere.core.parsing.parser.dialect.mysql.statement.UseStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dal.set.SetStatement;
+import org.apache.shardingsphere.core.util.SQLUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.sctl.ShardingCTLSetBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.sctl.ShardingCTLShowBackendHandler;
@@ -34,11 +36,14 @@ import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBacke
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.ShowDatabasesBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UnicastBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UseDatabaseBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.MultiStatementsBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.query.QueryBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SkipBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.TransactionBackendHandler;
 import org.apache.shardingsphere.transaction.core.TransactionOperationType;
 
+import java.util.List;
+
 /**
  * Com query backend handler factory.
  *
@@ -53,6 +58,8 @@ public final class ComQueryBackendHandlerFactory {
     
     private static final String SKIP_SQL = "SET AUTOCOMMIT=1";
     
+    private static final String STATEMENT_DELIMITER = ";";
+    
     /**
      * Create new text protocol backend handler instance.
      *
@@ -63,6 +70,12 @@ public final class ComQueryBackendHandlerFactory {
      * @return instance of text protocol backend handler
      */
     public static TextProtocolBackendHandler createTextProtocolBackendHandler(final int sequenceId, final String sql, final BackendConnection backendConnection, final DatabaseType databaseType) {
+        if (backendConnection.isMultiStatementsEnabled() && sql.contains(STATEMENT_DELIMITER)) {
+            List<String> sqls = SQLUtil.splitStatements(sql);
+            if (sqls.size() > 1) {
+                return new MultiStatementsBackendHandler(sqls, backendConnection);
+            }
+        }
         Optional<TransactionOperationType> transactionOperationType = TransactionOperationType.getOperationType(sql.toUpperCase());
         if (transactionOperationType.isPresent()) {
             return new TransactionBackendHandler(transactionOperationType.get(), backendConnection);
@@ -74,6 +87,10 @@ public final class ComQueryBackendHandlerFactory {
         } else if (sql.toUpperCase().contains(SKIP_SQL)) {
             return new SkipBackendHandler();
         }
+        Optional<SQLType> sqlType = SQLStatementClassifier.classify(sql);
+        if (sqlType.isPresent() && SQLType.DAL != sqlType.get()) {
+            return new QueryBackendHandler(sequenceId, sql, backendConnection, databaseType);
+        }
         SQLStatement sqlStatement = new SQLJudgeEngine(sql).judge();
         return SQLType.DAL == sqlStatement.getType()
                 ? createDALBackendHandler(sqlStatement, sequenceId, sql, backendConnection, databaseType) : new QueryBackendHandler(sequenceId, sql, backendConnection, databaseType);
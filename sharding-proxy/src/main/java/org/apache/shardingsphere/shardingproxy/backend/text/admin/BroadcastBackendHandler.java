@@ -22,6 +22,7 @@ import org.apache.shardingsphere.core.constant.DatabaseType;
 import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.PendingCommandResponsePackets;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
@@ -55,8 +56,8 @@ public final class BroadcastBackendHandler implements TextProtocolBackendHandler
     public CommandResponsePackets execute() {
         List<DatabasePacket> packets = new LinkedList<>();
         for (String each : GlobalRegistry.getInstance().getSchemaNames()) {
-            packets.addAll(databaseCommunicationEngineFactory.newTextProtocolInstance(
-                    GlobalRegistry.getInstance().getLogicSchema(each), sequenceId, sql, backendConnection, databaseType).execute().getPackets());
+            packets.addAll(PendingCommandResponsePackets.completeIfPending(databaseCommunicationEngineFactory.newTextProtocolInstance(
+                    GlobalRegistry.getInstance().getLogicSchema(each), sequenceId, sql, backendConnection, databaseType).execute()).getPackets());
         }
         for (DatabasePacket each : packets) {
             if (each instanceof ErrPacket) {
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.query;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.SQLType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.executor.ShardingExecuteDataMap;
+import org.apache.shardingsphere.core.executor.StatementExecuteUnit;
+import org.apache.shardingsphere.core.executor.sql.execute.SQLExecuteCallback;
+import org.apache.shardingsphere.core.parsing.SQLStatementClassifier;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.routing.RouteUnit;
+import org.apache.shardingsphere.core.routing.SQLRouteResult;
+import org.apache.shardingsphere.core.routing.SQLUnit;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCache;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.StatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.PendingCommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.backend.text.ComQueryBackendHandlerFactory;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.apache.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Executor of statements from multi-statements or pipelined COM_QUERY commands.
+ * 
+ * <p>
+ * Consecutive DML statements routed to the same single data source are executed in one JDBC batch,
+ * other statements are executed one by one by text protocol backend handlers.
+ * Statements after the first failed one are not executed, backend data sources are configured with {@code continueBatchOnError=false} for this.
+ * Batch is executed with SQL execution hook as same as single statement, SQL of batch statements are joined by semicolon for the hook.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class BatchedStatementsExecutor {
+    
+    private final List<String> sqls;
+    
+    private final BackendConnection backendConnection;
+    
+    private final int maxBatchSize;
+    
+    private final List<RouteUnit> batchedRouteUnits = new LinkedList<>();
+    
+    private final List<SQLStatement> batchedStatements = new LinkedList<>();
+    
+    private int batchRespondedCount;
+    
+    public BatchedStatementsExecutor(final List<String> sqls, final BackendConnection backendConnection) {
+        this.sqls = sqls;
+        this.backendConnection = backendConnection;
+        maxBatchSize = isBatchEnabled() ? GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_BATCH_MAX_SIZE) : 1;
+    }
+    
+    /**
+     * Judge JDBC batch is enabled or not.
+     * 
+     * @return JDBC batch is enabled or not
+     */
+    public static boolean isBatchEnabled() {
+        ShardingProperties shardingProperties = GlobalRegistry.getInstance().getShardingProperties();
+        return shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_BACKEND_BATCH_MAX_SIZE) > 1 
+                && !shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.PROXY_BACKEND_USE_NIO);
+    }
+    
+    /**
+     * Judge SQL is a single DML statement which can be batched or not.
+     * 
+     * @param sql SQL
+     * @return SQL can be batched or not
+     */
+    public static boolean isBatchable(final String sql) {
+        if (-1 != sql.indexOf(';')) {
+            return false;
+        }
+        try {
+            return SQLType.DML == SQLStatementClassifier.getSQLType(sql);
+        } catch (final ShardingException ex) {
+            return false;
+        }
+    }
+    
+    /**
+     * Execute statements.
+     * 
+     * <p>
+     * Every statement sent to backend has exactly one response packet, statements of a failed batch which have no update count are responded by the error.
+     * Statements after the failed one are never sent, so they can be executed again as following commands.
+     * </p>
+     * 
+     * @return response packets of sent statements in order, sequence ID of every packet is 1
+     */
+    public List<DatabasePacket> execute() {
+        List<DatabasePacket> result = new ArrayList<>(sqls.size());
+        for (String each : sqls) {
+            Optional<SQLRouteResult> routeResult = routeBatchableStatement(each);
+            if (routeResult.isPresent()) {
+                RouteUnit routeUnit = routeResult.get().getRouteUnits().iterator().next();
+                if (!isSameBatch(routeUnit) && !executeBatch(result)) {
+                    return result;
+                }
+                batchedRouteUnits.add(routeUnit);
+                batchedStatements.add(routeResult.get().getSqlStatement());
+            } else {
+                if (!executeBatch(result)) {
+                    return result;
+                }
+                DatabasePacket responsePacket = executeStatement(each);
+                result.add(responsePacket);
+                if (responsePacket instanceof ErrPacket) {
+                    return result;
+                }
+            }
+        }
+        executeBatch(result);
+        return result;
+    }
+    
+    private Optional<SQLRouteResult> routeBatchableStatement(final String sql) {
+        if (maxBatchSize < 2 || null == backendConnection.getLogicSchema() || !isBatchable(sql)) {
+            return Optional.absent();
+        }
+        try {
+            SQLRouteResult result = new StatementExecutorWrapper(backendConnection.getLogicSchema()).route(sql, DatabaseType.MySQL);
+            return 1 == result.getRouteUnits().size() ? Optional.of(result) : Optional.<SQLRouteResult>absent();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return Optional.absent();
+        }
+    }
+    
+    private boolean isSameBatch(final RouteUnit routeUnit) {
+        return batchedRouteUnits.isEmpty() || batchedRouteUnits.size() < maxBatchSize && batchedRouteUnits.get(0).getDataSourceName().equals(routeUnit.getDataSourceName());
+    }
+    
+    private boolean executeBatch(final List<DatabasePacket> responsePackets) {
+        if (batchedRouteUnits.isEmpty()) {
+            return true;
+        }
+        try {
+            addBatchResponsePackets(responsePackets, executeBatchStatement());
+            return true;
+        } catch (final BatchUpdateException ex) {
+            addBatchResponsePackets(responsePackets, null == ex.getUpdateCounts() ? new int[0] : ex.getUpdateCounts());
+            addErrorResponsePackets(responsePackets, new ErrPacket(1, ex));
+            return false;
+        } catch (final SQLException ex) {
+            addErrorResponsePackets(responsePackets, new ErrPacket(1, ex));
+            return false;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            addErrorResponsePackets(responsePackets, new CommandResponsePackets(ex).getHeadPacket());
+            return false;
+        } finally {
+            invalidateCachedQueryResults();
+            batchRespondedCount = 0;
+            batchedRouteUnits.clear();
+            batchedStatements.clear();
+        }
+    }
+    
+    private int[] executeBatchStatement() throws SQLException {
+        String dataSourceName = batchedRouteUnits.get(0).getDataSourceName();
+        Connection connection = backendConnection.getConnections(ConnectionMode.CONNECTION_STRICTLY, dataSourceName, 1).get(0);
+        Statement statement = connection.createStatement();
+        backendConnection.add(statement);
+        List<String> batchedSQLs = new ArrayList<>(batchedRouteUnits.size());
+        for (RouteUnit each : batchedRouteUnits) {
+            statement.addBatch(each.getSqlUnit().getSql());
+            batchedSQLs.add(each.getSqlUnit().getSql());
+        }
+        RouteUnit routeUnit = new RouteUnit(dataSourceName, new SQLUnit(Joiner.on("; ").join(batchedSQLs), Collections.<List<Object>>emptyList()));
+        return new BatchExecuteCallback().execute(new StatementExecuteUnit(routeUnit, statement, ConnectionMode.CONNECTION_STRICTLY), true, ShardingExecuteDataMap.getDataMap());
+    }
+    
+    private void addBatchResponsePackets(final List<DatabasePacket> responsePackets, final int[] updateCounts) {
+        for (int i = 0; i < updateCounts.length && i < batchedRouteUnits.size() && Statement.EXECUTE_FAILED != updateCounts[i]; i++) {
+            responsePackets.add(new OKPacket(1, Math.max(updateCounts[i], 0), 0L));
+            batchRespondedCount++;
+        }
+    }
+    
+    private void addErrorResponsePackets(final List<DatabasePacket> responsePackets, final DatabasePacket errorPacket) {
+        while (batchRespondedCount < batchedRouteUnits.size()) {
+            responsePackets.add(errorPacket);
+            batchRespondedCount++;
+        }
+    }
+    
+    private void invalidateCachedQueryResults() {
+        if (backendConnection.getLogicSchema() instanceof ShardingSchema) {
+            for (SQLStatement each : batchedStatements) {
+                QueryResultCache.getInstance().invalidate((ShardingSchema) backendConnection.getLogicSchema(), each, backendConnection);
+            }
+        }
+    }
+    
+    private DatabasePacket executeStatement(final String sql) {
+        DatabasePacket result;
+        try {
+            result = PendingCommandResponsePackets.completeIfPending(ComQueryBackendHandlerFactory.createTextProtocolBackendHandler(1, sql, backendConnection, DatabaseType.MySQL).execute()).getHeadPacket();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            return new CommandResponsePackets(ex).getHeadPacket();
+        }
+        return result instanceof OKPacket || result instanceof ErrPacket ? result : new ErrPacket(1, ServerErrorCode.ER_UNSUPPORTED_RESULT_SET_IN_MULTI_STATEMENTS, sql);
+    }
+    
+    private static final class BatchExecuteCallback extends SQLExecuteCallback<int[]> {
+        
+        private BatchExecuteCallback() {
+            super(DatabaseType.MySQL, true);
+        }
+        
+        @Override
+        protected int[] executeSQL(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+            return statementExecuteUnit.getStatement().executeBatch();
+        }
+    }
+}
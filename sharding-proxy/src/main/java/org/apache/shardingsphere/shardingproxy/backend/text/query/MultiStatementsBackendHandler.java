@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.query;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.StatusFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Backend handler for multi-statements COM_QUERY.
+ * 
+ * <p>
+ * Every executed statement responds an OK packet with more results flag except the last one, and execution stops at the first ERR packet.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class MultiStatementsBackendHandler implements TextProtocolBackendHandler {
+    
+    private final List<String> sqls;
+    
+    private final BackendConnection backendConnection;
+    
+    @Override
+    public CommandResponsePackets execute() {
+        CommandResponsePackets result = new CommandResponsePackets();
+        int currentSequenceId = 0;
+        Iterator<DatabasePacket> responsePackets = new BatchedStatementsExecutor(sqls, backendConnection).execute().iterator();
+        while (responsePackets.hasNext()) {
+            DatabasePacket each = responsePackets.next();
+            if (each instanceof ErrPacket) {
+                ErrPacket errPacket = (ErrPacket) each;
+                result.getPackets().add(new ErrPacket(++currentSequenceId, errPacket.getErrorCode(), errPacket.getSqlState(), errPacket.getErrorMessage()));
+                break;
+            }
+            OKPacket okPacket = (OKPacket) each;
+            int statusFlags = responsePackets.hasNext() ? okPacket.getStatusFlags() | StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue() : okPacket.getStatusFlags();
+            result.getPackets().add(new OKPacket(++currentSequenceId, okPacket.getAffectedRows(), okPacket.getLastInsertId(), statusFlags, okPacket.getWarnings(), okPacket.getInfo()));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        return false;
+    }
+    
+    @Override
+    public ResultPacket getResultValue() {
+        return null;
+    }
+}
@@ -18,8 +18,12 @@
 package org.apache.shardingsphere.shardingproxy.backend.text.transaction;
 
 import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCache;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendTransactionManager;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.TransactionManager;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.NettyTransactionManager;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
@@ -34,11 +38,15 @@ public final class TransactionBackendHandler implements TextProtocolBackendHandl
     
     private final TransactionOperationType operationType;
     
-    private final BackendTransactionManager backendTransactionManager;
+    private final BackendConnection backendConnection;
+    
+    private final TransactionManager backendTransactionManager;
     
     public TransactionBackendHandler(final TransactionOperationType operationType, final BackendConnection backendConnection) {
         this.operationType = operationType;
-        backendTransactionManager = new BackendTransactionManager(backendConnection);
+        this.backendConnection = backendConnection;
+        backendTransactionManager = DatabaseCommunicationEngineFactory.getInstance().isNettyBackend(backendConnection)
+                ? new NettyTransactionManager(backendConnection) : new BackendTransactionManager(backendConnection);
     }
     
     @Override
@@ -59,9 +67,12 @@ public final class TransactionBackendHandler implements TextProtocolBackendHandl
                 break;
             case COMMIT:
                 backendTransactionManager.commit();
+                QueryResultCache.getInstance().invalidate(backendConnection.getSchemaName(), backendConnection.getModifiedCacheableTables());
+                backendConnection.getModifiedCacheableTables().clear();
                 break;
             case ROLLBACK:
                 backendTransactionManager.rollback();
+                backendConnection.getModifiedCacheableTables().clear();
                 break;
             default:
                 throw new UnsupportedOperationException(operationType.name());
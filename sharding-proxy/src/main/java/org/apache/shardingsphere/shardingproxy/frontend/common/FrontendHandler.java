@@ -22,13 +22,26 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
-import org.apache.shardingsphere.shardingproxy.frontend.common.executor.ChannelThreadExecutorGroup;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.NettyTransactionManager;
+import org.apache.shardingsphere.shardingproxy.frontend.common.executor.StripedCommandExecutorGroup;
+import org.apache.shardingsphere.shardingproxy.frontend.common.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Frontend handler.
  * 
+ * <p>
+ * Commands of one channel are submitted one by one, next command is held until previous one finished,
+ * so that a command paused by non-blocking streaming or waiting for responses of NIO backend is never overtaken by commands pipelined behind it.
+ * </p>
+ * 
  * @author zhangliang 
  */
 public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
@@ -37,10 +50,16 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     @Getter
     private volatile BackendConnection backendConnection = new BackendConnection(GlobalRegistry.getInstance().getTransactionType());
+    
+    private final AtomicReference<Runnable> pausedStreaming = new AtomicReference<>();
+    
+    private final Queue<Runnable> heldCommands = new LinkedList<>();
+    
+    private boolean commandInFlight;
 
     @Override
     public final void channelActive(final ChannelHandlerContext context) {
-        ChannelThreadExecutorGroup.getInstance().register(context.channel().id());
+        StripedCommandExecutorGroup.getInstance().register(context.channel().id(), backendConnection.getStateHandler());
         handshake(context);
     }
     
@@ -60,11 +79,96 @@ public abstract class FrontendHandler extends ChannelInboundHandlerAdapter {
     
     protected abstract void executeCommand(ChannelHandlerContext context, ByteBuf message);
     
+    protected abstract void closePreparedStatements();
+    
     @Override
     @SneakyThrows
     public final void channelInactive(final ChannelHandlerContext context) {
         context.fireChannelInactive();
+        if (DatabaseCommunicationEngineFactory.getInstance().isNettyBackend(backendConnection)) {
+            new NettyTransactionManager(backendConnection).abort();
+        }
         backendConnection.close(true);
-        ChannelThreadExecutorGroup.getInstance().unregister(context.channel().id());
+        closePreparedStatements();
+        resumeStreaming(context);
+        StripedCommandExecutorGroup.getInstance().unregister(context.channel().id());
+    }
+    
+    /**
+     * Submit command to executor, or hold it if previous command of channel is not finished.
+     * 
+     * @param context channel handler context
+     * @param command command to be submitted
+     */
+    protected final void submitCommand(final ChannelHandlerContext context, final Runnable command) {
+        synchronized (heldCommands) {
+            if (commandInFlight) {
+                heldCommands.offer(command);
+                return;
+            }
+            commandInFlight = true;
+        }
+        getExecutor(context).execute(command);
+    }
+    
+    /**
+     * Finish command and submit next held command if present.
+     * 
+     * @param context channel handler context
+     */
+    public final void finishCommand(final ChannelHandlerContext context) {
+        Runnable next;
+        synchronized (heldCommands) {
+            next = heldCommands.poll();
+            if (null == next) {
+                commandInFlight = false;
+                return;
+            }
+        }
+        getExecutor(context).execute(next);
+    }
+    
+    /**
+     * Resume command which is paused to wait for responses of backend.
+     * 
+     * <p>
+     * Command of channel is still in flight while waiting, so commands pipelined behind it are held until it finished.
+     * </p>
+     * 
+     * @param context channel handler context
+     * @param command command to be resumed
+     */
+    public final void resumeCommand(final ChannelHandlerContext context, final Runnable command) {
+        getExecutor(context).execute(command);
+    }
+    
+    private Executor getExecutor(final ChannelHandlerContext context) {
+        return CommandExecutorSelector.getExecutor(backendConnection.getTransactionType(), context.channel().id());
+    }
+    
+    /**
+     * Pause streaming of query results until channel becomes writable.
+     * 
+     * <p>
+     * Command of channel is still in flight while paused, so commands pipelined behind it are held and resumed streaming is run before them.
+     * </p>
+     * 
+     * @param context channel handler context
+     * @param streaming streaming task to be resumed
+     */
+    public final void pauseStreaming(final ChannelHandlerContext context, final Runnable streaming) {
+        pausedStreaming.set(streaming);
+        ResultStreamingMetrics.getInstance().paused(context.channel());
+        if (context.channel().isWritable() || !context.channel().isActive()) {
+            resumeStreaming(context);
+        }
+    }
+    
+    protected final void resumeStreaming(final ChannelHandlerContext context) {
+        Runnable streaming = pausedStreaming.getAndSet(null);
+        if (null != streaming) {
+            ResultStreamingMetrics.getInstance().resumed(context.channel());
+            getExecutor(context).execute(streaming);
+        }
     }
 }
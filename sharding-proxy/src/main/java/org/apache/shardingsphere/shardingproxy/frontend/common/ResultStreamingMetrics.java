@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.common;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of result streaming paused by unwritable frontend channels.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResultStreamingMetrics {
+    
+    private static final ResultStreamingMetrics INSTANCE = new ResultStreamingMetrics();
+    
+    private final ConcurrentMap<String, Channel> pausedChannels = new ConcurrentHashMap<>();
+    
+    private final AtomicLong totalPausedCount = new AtomicLong();
+    
+    /**
+     * Get instance of result streaming metrics.
+     *
+     * @return instance of result streaming metrics
+     */
+    public static ResultStreamingMetrics getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Record streaming of channel is paused.
+     *
+     * @param channel frontend channel
+     */
+    public void paused(final Channel channel) {
+        totalPausedCount.incrementAndGet();
+        pausedChannels.put(channel.id().asShortText(), channel);
+    }
+    
+    /**
+     * Record streaming of channel is resumed.
+     *
+     * @param channel frontend channel
+     */
+    public void resumed(final Channel channel) {
+        pausedChannels.remove(channel.id().asShortText());
+    }
+    
+    /**
+     * Get count of currently paused streams.
+     *
+     * @return count of currently paused streams
+     */
+    public int getPausedStreamCount() {
+        return pausedChannels.size();
+    }
+    
+    /**
+     * Get total count of pauses since startup.
+     *
+     * @return total count of pauses
+     */
+    public long getTotalPausedCount() {
+        return totalPausedCount.get();
+    }
+    
+    /**
+     * Get total bytes buffered and waiting to be written of all paused channels.
+     *
+     * @return total buffered bytes
+     */
+    public long getPausedBufferedBytes() {
+        long result = 0L;
+        for (Channel each : pausedChannels.values()) {
+            result += getBufferedBytes(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Get bytes buffered and waiting to be written of channel.
+     *
+     * @param channel channel
+     * @return buffered bytes
+     */
+    public long getBufferedBytes(final Channel channel) {
+        ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+        return null == outboundBuffer ? 0L : outboundBuffer.totalPendingWriteBytes();
+    }
+}
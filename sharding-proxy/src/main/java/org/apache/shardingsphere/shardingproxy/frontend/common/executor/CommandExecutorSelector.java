@@ -17,11 +17,12 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.common.executor;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import io.netty.channel.ChannelId;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 /**
  * Executor group.
@@ -33,13 +34,19 @@ import java.util.concurrent.ExecutorService;
 public final class CommandExecutorSelector {
     
     /**
-     * Get executor service.
+     * Get executor.
+     * 
+     * <p>
+     * XA transaction requires commands of same channel to be run by same thread.
+     * Commands of unregistered channel are run by current thread.
+     * </p>
      *
      * @param transactionType transaction type
      * @param channelId channel id
-     * @return executor service
+     * @return executor
      */
-    public static ExecutorService getExecutor(final TransactionType transactionType, final ChannelId channelId) {
-        return TransactionType.XA == transactionType ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
+    public static Executor getExecutor(final TransactionType transactionType, final ChannelId channelId) {
+        CommandSession session = StripedCommandExecutorGroup.getInstance().get(channelId);
+        return null == session ? MoreExecutors.directExecutor() : session.getExecutor(TransactionType.XA == transactionType);
     }
 }
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.common.executor;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Command session.
+ * 
+ * <p>
+ * Commands of one session are run one by one in submitted order.
+ * Commands which require thread affinity are run by pinned carrier leased from bounded pool, carrier is kept by session until XA transaction ends,
+ * this ensure XA transaction framework processed by same thread, and XA session waiting for locks never blocks carrier thread of stripe.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class CommandSession {
+    
+    private static final int MAX_COMMANDS_PER_RUN = 16;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final CommandStripe homeStripe;
+    
+    private final PinnedCarrierPool pinnedCarrierPool;
+    
+    private final ConnectionStateHandler stateHandler;
+    
+    private final Queue<QueuedCommand> commands = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private final Executor pinnedExecutor = new SessionExecutor(true);
+    
+    private final Executor stealableExecutor = new SessionExecutor(false);
+    
+    private final Runnable pinnedRunner = new Runnable() {
+        
+        @Override
+        public void run() {
+            CommandSession.this.run(null);
+        }
+    };
+    
+    private volatile ExecutorService pinnedCarrier;
+    
+    private volatile boolean closed;
+    
+    CommandSession(final CommandStripe homeStripe, final PinnedCarrierPool pinnedCarrierPool, final ConnectionStateHandler stateHandler) {
+        this.homeStripe = homeStripe;
+        this.pinnedCarrierPool = pinnedCarrierPool;
+        this.stateHandler = stateHandler;
+    }
+    
+    /**
+     * Get executor of session.
+     * 
+     * @param threadAffinity commands require to be run by same thread or not
+     * @return executor of session
+     */
+    public Executor getExecutor(final boolean threadAffinity) {
+        return threadAffinity ? pinnedExecutor : stealableExecutor;
+    }
+    
+    private void execute(final Runnable command, final boolean pinned) {
+        commands.offer(new QueuedCommand(command, pinned, System.nanoTime()));
+        homeStripe.getQueueDepth().incrementAndGet();
+        scheduleIfNecessary();
+    }
+    
+    private void scheduleIfNecessary() {
+        QueuedCommand next = commands.peek();
+        if (null == next || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        if (!next.pinned) {
+            homeStripe.schedule(this);
+            return;
+        }
+        try {
+            if (null == pinnedCarrier) {
+                pinnedCarrier = pinnedCarrierPool.acquire(this);
+            }
+            if (null != pinnedCarrier) {
+                pinnedCarrier.execute(pinnedRunner);
+            }
+        } catch (final RejectedExecutionException ex) {
+            log.warn("Discard commands of closed session.");
+            pinnedCarrier = null;
+            discardCommands();
+        }
+    }
+    
+    /**
+     * Assign pinned carrier released by other session, this session is waiting for it.
+     * 
+     * @param carrier pinned carrier
+     */
+    void assignPinnedCarrier(final ExecutorService carrier) {
+        pinnedCarrier = carrier;
+        if (closed) {
+            releasePinnedCarrier();
+            discardCommands();
+            return;
+        }
+        try {
+            carrier.execute(pinnedRunner);
+        } catch (final RejectedExecutionException ex) {
+            log.warn("Discard commands of closed session.");
+            pinnedCarrier = null;
+            discardCommands();
+        }
+    }
+    
+    private void discardCommands() {
+        while (null != commands.poll()) {
+            homeStripe.getQueueDepth().decrementAndGet();
+        }
+        scheduled.set(false);
+    }
+    
+    /**
+     * Run queued commands by carrier stripe, or by pinned carrier of session if carrier stripe is null.
+     * 
+     * <p>
+     * Carrier stripe only runs commands without thread affinity, pinned carrier only runs commands with thread affinity.
+     * </p>
+     * 
+     * @param carrier carrier stripe
+     */
+    void run(final CommandStripe carrier) {
+        boolean pinned = null == carrier;
+        try {
+            for (int i = 0; pinned || i < MAX_COMMANDS_PER_RUN; i++) {
+                QueuedCommand next = commands.peek();
+                if (null == next || next.pinned != pinned) {
+                    return;
+                }
+                commands.poll();
+                homeStripe.getQueueDepth().decrementAndGet();
+                if (!pinned) {
+                    carrier.recordExecution(System.nanoTime() - next.submittedNanos);
+                }
+                runCommand(next.command);
+            }
+        } finally {
+            if (pinned) {
+                releasePinnedCarrierIfNecessary();
+            }
+            scheduled.set(false);
+            scheduleIfNecessary();
+        }
+    }
+    
+    private void runCommand(final Runnable command) {
+        try {
+            command.run();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.error("Run command failed.", ex);
+        }
+    }
+    
+    private void releasePinnedCarrierIfNecessary() {
+        QueuedCommand next = commands.peek();
+        if (!closed && (null != next && next.pinned || isInTransaction())) {
+            return;
+        }
+        releasePinnedCarrier();
+    }
+    
+    private boolean isInTransaction() {
+        return null != stateHandler && ConnectionStatus.TRANSACTION == stateHandler.getStatus();
+    }
+    
+    private void releasePinnedCarrier() {
+        ExecutorService carrier = pinnedCarrier;
+        pinnedCarrier = null;
+        pinnedCarrierPool.release(carrier);
+    }
+    
+    /**
+     * Close session.
+     * 
+     * <p>
+     * Commands already scheduled are still run, pinned carrier of session is released after them.
+     * </p>
+     */
+    void close() {
+        closed = true;
+        if (null != pinnedCarrier && scheduled.compareAndSet(false, true)) {
+            if (null != pinnedCarrier) {
+                releasePinnedCarrier();
+            }
+            scheduled.set(false);
+            scheduleIfNecessary();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class QueuedCommand {
+        
+        private final Runnable command;
+        
+        private final boolean pinned;
+        
+        private final long submittedNanos;
+    }
+    
+    @RequiredArgsConstructor
+    private final class SessionExecutor implements Executor {
+        
+        private final boolean pinned;
+        
+        @Override
+        public void execute(final Runnable command) {
+            CommandSession.this.execute(command, pinned);
+        }
+    }
+}
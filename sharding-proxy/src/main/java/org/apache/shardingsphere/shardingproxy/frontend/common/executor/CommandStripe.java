@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.common.executor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Command stripe.
+ * 
+ * <p>
+ * One carrier thread runs sessions scheduled on this stripe, and sessions can be stolen by idle stripes.
+ * Commands which require thread affinity are never scheduled on stripes, they are run by dedicated thread of session.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class CommandStripe implements Runnable {
+    
+    private static final long IDLE_WAIT_MILLISECONDS = 50L;
+    
+    @Getter
+    private final int index;
+    
+    private final CommandStripe[] stripes;
+    
+    private final Queue<CommandSession> stealableSessions = new ConcurrentLinkedQueue<>();
+    
+    private final Semaphore signal = new Semaphore(0);
+    
+    @Getter
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    
+    @Getter
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    
+    private final AtomicLong executedCount = new AtomicLong();
+    
+    private final AtomicLong stolenCount = new AtomicLong();
+    
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    
+    private volatile boolean idle;
+    
+    private volatile boolean closed;
+    
+    /**
+     * Schedule session to run on this stripe.
+     * 
+     * @param session command session
+     */
+    void schedule(final CommandSession session) {
+        stealableSessions.offer(session);
+        signal.release();
+        if (!idle) {
+            wakeUpIdleStripe();
+        }
+    }
+    
+    private void wakeUpIdleStripe() {
+        for (CommandStripe each : stripes) {
+            if (each.idle) {
+                each.signal.release();
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Record command is taken from queue and will be run.
+     * 
+     * @param waitNanos nanoseconds waited in queue
+     */
+    void recordExecution(final long waitNanos) {
+        executedCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        long currentMax = maxWaitNanos.get();
+        while (waitNanos > currentMax && !maxWaitNanos.compareAndSet(currentMax, waitNanos)) {
+            currentMax = maxWaitNanos.get();
+        }
+    }
+    
+    @Override
+    public void run() {
+        while (!closed) {
+            CommandSession session = nextSession();
+            if (null != session) {
+                session.run(this);
+                continue;
+            }
+            idle = true;
+            try {
+                signal.tryAcquire(IDLE_WAIT_MILLISECONDS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                idle = false;
+            }
+        }
+    }
+    
+    private CommandSession nextSession() {
+        CommandSession result = stealableSessions.poll();
+        return null == result ? steal() : result;
+    }
+    
+    private CommandSession steal() {
+        for (int i = 1; i < stripes.length; i++) {
+            CommandSession result = stripes[(index + i) % stripes.length].stealableSessions.poll();
+            if (null != result) {
+                stolenCount.incrementAndGet();
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Get statistics of this stripe.
+     * 
+     * @return statistics of this stripe
+     */
+    CommandStripeStatistics getStatistics() {
+        long executed = executedCount.get();
+        return new CommandStripeStatistics(index, sessionCount.get(), queueDepth.get(), executed, stolenCount.get(), 0 == executed ? 0L : totalWaitNanos.get() / executed, maxWaitNanos.get());
+    }
+    
+    /**
+     * Close this stripe.
+     */
+    void close() {
+        closed = true;
+        signal.release();
+    }
+}
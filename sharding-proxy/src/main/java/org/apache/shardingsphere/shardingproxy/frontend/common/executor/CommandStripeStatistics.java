@@ -17,28 +17,31 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.common.executor;
 
-import io.netty.channel.ChannelId;
-import org.junit.Test;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertNull;
-import static org.mockito.Mockito.mock;
-
-public final class ChannelThreadExecutorGroupTest {
+/**
+ * Statistics of command stripe.
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class CommandStripeStatistics {
+    
+    private final int index;
+    
+    private final int sessionCount;
+    
+    private final int queueDepth;
+    
+    private final long executedCount;
+    
+    private final long stolenCount;
     
-    @Test
-    public void assertRegister() {
-        ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertNotNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
-        ChannelThreadExecutorGroup.getInstance().unregister(channelId);
-    }
+    private final long averageWaitNanos;
     
-    @Test
-    public void assertUnregister() {
-        ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        ChannelThreadExecutorGroup.getInstance().unregister(channelId);
-        assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
-    }
+    private final long maxWaitNanos;
 }
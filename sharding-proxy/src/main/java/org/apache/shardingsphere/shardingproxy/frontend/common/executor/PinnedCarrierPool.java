@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingproxy.frontend.common.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Pool of pinned carriers.
+ * 
+ * <p>
+ * Pinned carrier is a single thread which runs commands with thread affinity requirement.
+ * Carrier is leased by one session exclusively until its XA transaction ends, then it is reused by other sessions.
+ * Count of carriers is bounded, sessions wait in order if all carriers are leased.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class PinnedCarrierPool {
+    
+    private static final ThreadFactory THREAD_FACTORY = ShardingThreadFactoryBuilder.build("Command-XA-%d");
+    
+    private final int maxSize;
+    
+    private final Collection<ExecutorService> carriers = new LinkedList<>();
+    
+    private final Deque<ExecutorService> idleCarriers = new LinkedList<>();
+    
+    private final Queue<CommandSession> waitingSessions = new LinkedList<>();
+    
+    private boolean closed;
+    
+    /**
+     * Acquire carrier for session.
+     * 
+     * <p>
+     * If all carriers are leased, session waits and carrier will be assigned to it when released by other session.
+     * </p>
+     * 
+     * @param session command session
+     * @return carrier, or null if session waits for carrier
+     * @throws RejectedExecutionException if pool is closed
+     */
+    synchronized ExecutorService acquire(final CommandSession session) {
+        if (closed) {
+            throw new RejectedExecutionException("Pinned carrier pool has been closed.");
+        }
+        if (!idleCarriers.isEmpty()) {
+            return idleCarriers.pop();
+        }
+        if (carriers.size() < maxSize) {
+            ExecutorService result = Executors.newSingleThreadExecutor(THREAD_FACTORY);
+            carriers.add(result);
+            return result;
+        }
+        waitingSessions.offer(session);
+        return null;
+    }
+    
+    /**
+     * Release carrier, carrier is assigned to first waiting session if present.
+     * 
+     * @param carrier carrier to be released
+     */
+    void release(final ExecutorService carrier) {
+        CommandSession waitingSession;
+        synchronized (this) {
+            waitingSession = waitingSessions.poll();
+            if (null == waitingSession) {
+                idleCarriers.push(carrier);
+                return;
+            }
+        }
+        waitingSession.assignPinnedCarrier(carrier);
+    }
+    
+    /**
+     * Get count of created carriers.
+     * 
+     * @return count of created carriers
+     */
+    synchronized int getCarrierCount() {
+        return carriers.size();
+    }
+    
+    /**
+     * Get count of carriers leased by sessions.
+     * 
+     * @return count of leased carriers
+     */
+    synchronized int getLeasedCount() {
+        return carriers.size() - idleCarriers.size();
+    }
+    
+    /**
+     * Get count of sessions waiting for carrier.
+     * 
+     * @return count of waiting sessions
+     */
+    synchronized int getWaitingSessionCount() {
+        return waitingSessions.size();
+    }
+    
+    /**
+     * Close pool, commands already submitted to carriers are still run.
+     */
+    synchronized void close() {
+        closed = true;
+        for (ExecutorService each : carriers) {
+            each.shutdown();
+        }
+    }
+}
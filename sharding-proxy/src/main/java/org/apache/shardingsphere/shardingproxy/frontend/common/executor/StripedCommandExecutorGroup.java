@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.common.executor;
+
+import io.netty.channel.ChannelId;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Striped command executor group.
+ * 
+ * <p>
+ * Commands of all channels are run by bounded carrier threads, one thread for each stripe.
+ * Each channel is bound to the stripe with least sessions when registered.
+ * Commands of same channel are run in order, and idle stripes steal channels from busy stripes.
+ * Commands with thread affinity requirement are run by bounded pinned carriers instead of stripes, carrier is leased by channel until XA transaction ends.
+ * </p>
+ *
+ * @author zhaojun
+ * @author zhangliang
+ */
+public final class StripedCommandExecutorGroup implements AutoCloseable {
+    
+    private static final String NAME_FORMAT = "Command-%d";
+    
+    private static final StripedCommandExecutorGroup INSTANCE = new StripedCommandExecutorGroup(GlobalRegistry.getInstance().getShardingProperties());
+    
+    private final CommandStripe[] stripes;
+    
+    private final PinnedCarrierPool pinnedCarrierPool;
+    
+    private final Map<ChannelId, CommandSession> sessions = new ConcurrentHashMap<>();
+    
+    private StripedCommandExecutorGroup(final ShardingProperties shardingProperties) {
+        this(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.ACCEPTOR_SIZE), shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_XA_CARRIER_MAX_SIZE));
+    }
+    
+    StripedCommandExecutorGroup(final int stripeSize, final int pinnedCarrierMaxSize) {
+        pinnedCarrierPool = new PinnedCarrierPool(pinnedCarrierMaxSize);
+        stripes = new CommandStripe[stripeSize];
+        for (int i = 0; i < stripeSize; i++) {
+            stripes[i] = new CommandStripe(i, stripes);
+        }
+        ThreadFactory threadFactory = ShardingThreadFactoryBuilder.build(NAME_FORMAT);
+        for (CommandStripe each : stripes) {
+            threadFactory.newThread(each).start();
+        }
+    }
+    
+    /**
+     * Get instance of striped command executor group.
+     *
+     * @return instance of striped command executor group
+     */
+    public static StripedCommandExecutorGroup getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register channel.
+     *
+     * @param channelId channel id
+     */
+    public void register(final ChannelId channelId) {
+        register(channelId, null);
+    }
+    
+    /**
+     * Register channel.
+     * 
+     * <p>
+     * Pinned carrier leased by channel is released when connection is not in transaction.
+     * </p>
+     *
+     * @param channelId channel id
+     * @param stateHandler state handler of backend connection
+     */
+    public void register(final ChannelId channelId, final ConnectionStateHandler stateHandler) {
+        CommandStripe homeStripe = getLeastBusyStripe();
+        homeStripe.getSessionCount().incrementAndGet();
+        sessions.put(channelId, new CommandSession(homeStripe, pinnedCarrierPool, stateHandler));
+    }
+    
+    private CommandStripe getLeastBusyStripe() {
+        CommandStripe result = stripes[0];
+        for (CommandStripe each : stripes) {
+            if (each.getSessionCount().get() < result.getSessionCount().get()) {
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Get command session of channel.
+     *
+     * @param channelId channel id
+     * @return command session of channel
+     */
+    public CommandSession get(final ChannelId channelId) {
+        return sessions.get(channelId);
+    }
+    
+    /**
+     * Unregister channel.
+     * 
+     * <p>
+     * Commands already submitted are still run.
+     * </p>
+     *
+     * @param channelId channel id
+     */
+    public void unregister(final ChannelId channelId) {
+        CommandSession session = sessions.remove(channelId);
+        if (null != session) {
+            session.getHomeStripe().getSessionCount().decrementAndGet();
+            session.close();
+        }
+    }
+    
+    /**
+     * Get statistics of each stripe.
+     * 
+     * @return statistics of each stripe
+     */
+    public List<CommandStripeStatistics> getStatistics() {
+        List<CommandStripeStatistics> result = new ArrayList<>(stripes.length);
+        for (CommandStripe each : stripes) {
+            result.add(each.getStatistics());
+        }
+        return result;
+    }
+    
+    /**
+     * Get count of created pinned carriers.
+     * 
+     * @return count of created pinned carriers
+     */
+    public int getPinnedCarrierCount() {
+        return pinnedCarrierPool.getCarrierCount();
+    }
+    
+    /**
+     * Get count of pinned carriers leased by channels.
+     * 
+     * @return count of leased pinned carriers
+     */
+    public int getLeasedPinnedCarrierCount() {
+        return pinnedCarrierPool.getLeasedCount();
+    }
+    
+    /**
+     * Get count of channels waiting for pinned carrier.
+     * 
+     * @return count of waiting channels
+     */
+    public int getPinnedCarrierWaitingCount() {
+        return pinnedCarrierPool.getWaitingSessionCount();
+    }
+    
+    @Override
+    public void close() {
+        for (CommandStripe each : stripes) {
+            each.close();
+        }
+        pinnedCarrierPool.close();
+    }
+}
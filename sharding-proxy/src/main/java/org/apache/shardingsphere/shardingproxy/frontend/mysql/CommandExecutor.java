@@ -23,6 +23,8 @@ import io.netty.channel.ChannelHandlerContext;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.PendingCommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.BatchedStatementsExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.common.FrontendHandler;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
@@ -30,6 +32,7 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ServerEr
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandPacketFactory;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandPacketType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.QueryCommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
@@ -38,10 +41,22 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OK
 import org.apache.shardingsphere.spi.root.RootInvokeHook;
 import org.apache.shardingsphere.spi.root.SPIRootInvokeHook;
 
+import java.nio.charset.Charset;
 import java.sql.SQLException;
+import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Command executor.
+ * 
+ * <p>
+ * Commands decoded from one read of channel are executed in order, consecutive COM_QUERY commands of DML are executed in JDBC batches if enabled.
+ * In non-blocking streaming mode, writing query results is paused when channel is not writable,
+ * and this executor is resumed by frontend handler when channel becomes writable again.
+ * Commands of NIO backend do not wait for responses of backend in executor thread,
+ * this executor is paused and resumed by listener of pending response packets when responses are received.
+ * Next command of channel is not submitted until this executor finished, even while it is paused.
+ * </p>
  *
  * @author zhangyonglun
  * @author zhaojun
@@ -51,42 +66,162 @@ public final class CommandExecutor implements Runnable {
     
     private final ChannelHandlerContext context;
     
-    private final ByteBuf message;
+    private final List<ByteBuf> messages;
     
     private final FrontendHandler frontendHandler;
     
+    private int messageIndex;
+    
     private int currentSequenceId;
     
     private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
     
+    private final int proxyFrontendFlushThreshold = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
+    
+    private final boolean isNonBlockingStreaming = GlobalRegistry.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_NON_BLOCKING_STREAMING_ENABLED);
+    
+    private QueryCommandPacket streamingQueryCommandPacket;
+    
+    private CommandPacket pendingCommandPacket;
+    
+    private PendingCommandResponsePackets pendingResponsePackets;
+    
     @Override
     public void run() {
-        rootInvokeHook.start();
+        boolean isPaused = false;
+        try {
+            do {
+                isPaused = !runCommand();
+            } while (!isPaused && messageIndex < messages.size());
+        } finally {
+            if (!isPaused) {
+                frontendHandler.finishCommand(context);
+            }
+        }
+    }
+    
+    private boolean runCommand() {
+        boolean isPaused = false;
+        boolean isFailed = false;
         int connectionSize = 0;
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(message);
-             BackendConnection backendConnection = frontendHandler.getBackendConnection()) {
+        try {
+            isPaused = !resumeCommand();
+            connectionSize = frontendHandler.getBackendConnection().getConnectionSize();
+        } catch (final SQLException ex) {
+            isFailed = true;
+            context.write(new ErrPacket(++currentSequenceId, ex));
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            isFailed = true;
+            context.write(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
+        } finally {
+            if (isPaused) {
+                pause();
+            } else {
+                finish(isFailed, connectionSize);
+            }
+        }
+        return !isPaused;
+    }
+    
+    private boolean resumeCommand() throws SQLException, InterruptedException {
+        if (null != pendingResponsePackets) {
+            CommandResponsePackets responsePackets = pendingResponsePackets.complete();
+            pendingResponsePackets = null;
+            return writeResponsePackets(pendingCommandPacket, responsePackets);
+        }
+        return null == streamingQueryCommandPacket ? executeCommand() : writeMoreResults();
+    }
+    
+    private void pause() {
+        if (null == pendingResponsePackets) {
+            frontendHandler.pauseStreaming(context, this);
+            return;
+        }
+        pendingResponsePackets.addListener(new Runnable() {
+            
+            @Override
+            public void run() {
+                frontendHandler.resumeCommand(context, CommandExecutor.this);
+            }
+        });
+    }
+    
+    private boolean executeCommand() throws SQLException, InterruptedException {
+        rootInvokeHook.start();
+        currentSequenceId = 0;
+        BackendConnection backendConnection = frontendHandler.getBackendConnection();
+        List<String> batchedSQLs = getBatchedSQLs();
+        if (batchedSQLs.size() > 1) {
+            executeBatchedCommands(batchedSQLs, backendConnection);
+            return true;
+        }
+        try (MySQLPacketPayload payload = new MySQLPacketPayload(messages.get(messageIndex++))) {
             backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
             CommandPacket commandPacket = getCommandPacket(payload, backendConnection, frontendHandler);
             Optional<CommandResponsePackets> responsePackets = commandPacket.execute();
             if (!responsePackets.isPresent()) {
-                return;
+                return true;
             }
-            for (DatabasePacket each : responsePackets.get().getPackets()) {
-                context.write(each);
+            if (responsePackets.get() instanceof PendingCommandResponsePackets) {
+                pendingCommandPacket = commandPacket;
+                pendingResponsePackets = (PendingCommandResponsePackets) responsePackets.get();
+                return false;
             }
-            if (commandPacket instanceof QueryCommandPacket && !(responsePackets.get().getHeadPacket() instanceof OKPacket) && !(responsePackets.get().getHeadPacket() instanceof ErrPacket)) {
-                writeMoreResults((QueryCommandPacket) commandPacket, responsePackets.get().getPackets().size());
+            return writeResponsePackets(commandPacket, responsePackets.get());
+        }
+    }
+    
+    private boolean writeResponsePackets(final CommandPacket commandPacket, final CommandResponsePackets responsePackets) throws SQLException {
+        pendingCommandPacket = null;
+        for (DatabasePacket each : responsePackets.getPackets()) {
+            context.write(each);
+        }
+        if (commandPacket instanceof QueryCommandPacket && !(responsePackets.getHeadPacket() instanceof OKPacket) && !(responsePackets.getHeadPacket() instanceof ErrPacket)) {
+            streamingQueryCommandPacket = (QueryCommandPacket) commandPacket;
+            currentSequenceId = responsePackets.getPackets().size();
+            return writeMoreResults();
+        }
+        return true;
+    }
+    
+    private List<String> getBatchedSQLs() {
+        List<String> result = new LinkedList<>();
+        if (!BatchedStatementsExecutor.isBatchEnabled() || GlobalRegistry.getInstance().isCircuitBreak()) {
+            return result;
+        }
+        for (int i = messageIndex; i < messages.size(); i++) {
+            Optional<String> sql = getComQuerySQL(messages.get(i));
+            if (!sql.isPresent() || !BatchedStatementsExecutor.isBatchable(sql.get())) {
+                break;
+            }
+            result.add(sql.get());
+        }
+        return result;
+    }
+    
+    private Optional<String> getComQuerySQL(final ByteBuf message) {
+        int readerIndex = message.readerIndex();
+        if (message.readableBytes() < 2 || CommandPacketType.COM_QUERY.getValue() != message.getUnsignedByte(readerIndex + 1)) {
+            return Optional.absent();
+        }
+        return Optional.of(message.toString(readerIndex + 2, message.readableBytes() - 2, Charset.defaultCharset()));
+    }
+    
+    private void executeBatchedCommands(final List<String> sqls, final BackendConnection backendConnection) throws InterruptedException {
+        int sentCount = 1;
+        try {
+            backendConnection.getStateHandler().waitUntilConnectionReleasedIfNecessary();
+            List<DatabasePacket> responsePackets = new BatchedStatementsExecutor(sqls, backendConnection).execute();
+            sentCount = responsePackets.size();
+            for (DatabasePacket each : responsePackets) {
+                context.write(each);
             }
-            connectionSize = backendConnection.getConnectionSize();
-        } catch (final SQLException ex) {
-            context.write(new ErrPacket(++currentSequenceId, ex));
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            context.write(new ErrPacket(1, ServerErrorCode.ER_STD_UNKNOWN_EXCEPTION, ex.getMessage()));
         } finally {
-            context.flush();
-            rootInvokeHook.finish(connectionSize);
+            for (int i = 0; i < sentCount; i++) {
+                messages.get(messageIndex++).release();
+            }
         }
     }
     
@@ -95,32 +230,52 @@ public final class CommandExecutor implements Runnable {
         return CommandPacketFactory.newInstance(sequenceId, payload, backendConnection);
     }
     
-    private void writeMoreResults(final QueryCommandPacket queryCommandPacket, final int headPacketsCount) throws SQLException {
-        if (!context.channel().isActive()) {
-            return;
-        }
-        currentSequenceId = headPacketsCount;
+    private boolean writeMoreResults() throws SQLException {
         int count = 0;
-        int proxyFrontendFlushThreshold = GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandPacket.next()) {
-            count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
+        while (context.channel().isActive()) {
+            if (!context.channel().isWritable()) {
                 context.flush();
-                synchronized (frontendHandler) {
-                    try {
-                        frontendHandler.wait();
-                    } catch (final InterruptedException ignored) {
-                    }
+                if (isNonBlockingStreaming) {
+                    return false;
                 }
+                waitUntilWritable();
+                continue;
             }
-            DatabasePacket resultValue = queryCommandPacket.getResultValue();
+            if (!streamingQueryCommandPacket.next()) {
+                context.write(new EofPacket(++currentSequenceId));
+                return true;
+            }
+            DatabasePacket resultValue = streamingQueryCommandPacket.getResultValue();
             currentSequenceId = resultValue.getSequenceId();
             context.write(resultValue);
-            if (proxyFrontendFlushThreshold == count) {
+            if (proxyFrontendFlushThreshold == ++count) {
                 context.flush();
                 count = 0;
             }
         }
-        context.write(new EofPacket(++currentSequenceId));
+        return true;
+    }
+    
+    private void waitUntilWritable() {
+        synchronized (frontendHandler) {
+            try {
+                frontendHandler.wait();
+            } catch (final InterruptedException ignored) {
+            }
+        }
+    }
+    
+    private void finish(final boolean isFailed, final int connectionSize) {
+        try {
+            frontendHandler.getBackendConnection().close();
+        } catch (final SQLException ex) {
+            if (!isFailed) {
+                context.write(new ErrPacket(++currentSequenceId, ex));
+            }
+        } finally {
+            streamingQueryCommandPacket = null;
+            context.flush();
+            rootInvokeHook.finish(connectionSize);
+        }
     }
 }
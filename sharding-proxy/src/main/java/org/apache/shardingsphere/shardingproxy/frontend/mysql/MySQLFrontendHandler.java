@@ -22,11 +22,12 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.frontend.common.FrontendHandler;
-import org.apache.shardingsphere.shardingproxy.frontend.common.executor.CommandExecutorSelector;
 import org.apache.shardingsphere.shardingproxy.runtime.ChannelRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.CapabilityFlag;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.AuthenticationHandler;
@@ -34,6 +35,9 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.HandshakePacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.HandshakeResponse41Packet;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * MySQL frontend handler.
  *
@@ -47,6 +51,8 @@ public final class MySQLFrontendHandler extends FrontendHandler {
     
     private final AuthenticationHandler authenticationHandler = new AuthenticationHandler();
     
+    private final List<ByteBuf> pendingMessages = new ArrayList<>();
+    
     @Override
     protected void handshake(final ChannelHandlerContext context) {
         int connectionId = ConnectionIdGenerator.getInstance().nextId();
@@ -65,6 +71,7 @@ public final class MySQLFrontendHandler extends FrontendHandler {
                     return;
                 }
                 getBackendConnection().setCurrentSchema(response41.getDatabase());
+                getBackendConnection().setMultiStatementsEnabled(0 != (response41.getCapabilityFlags() & CapabilityFlag.CLIENT_MULTI_STATEMENTS.getValue()));
                 context.writeAndFlush(new OKPacket(response41.getSequenceId() + 1));
             } else {
                 // TODO localhost should replace to real ip address
@@ -76,12 +83,28 @@ public final class MySQLFrontendHandler extends FrontendHandler {
     
     @Override
     protected void executeCommand(final ChannelHandlerContext context, final ByteBuf message) {
-        CommandExecutorSelector.getExecutor(getBackendConnection().getTransactionType(), context.channel().id()).execute(new CommandExecutor(context, message, this));
+        pendingMessages.add(message);
+    }
+    
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext context) {
+        if (!pendingMessages.isEmpty()) {
+            List<ByteBuf> messages = new ArrayList<>(pendingMessages);
+            pendingMessages.clear();
+            submitCommand(context, new CommandExecutor(context, messages, this));
+        }
+        context.fireChannelReadComplete();
+    }
+    
+    @Override
+    protected void closePreparedStatements() {
+        BinaryStatementRegistry.getInstance().closeAll(getBackendConnection().getConnectionId());
     }
     
     @Override
     public void channelWritabilityChanged(final ChannelHandlerContext context) {
         if (context.channel().isWritable()) {
+            resumeStreaming(context);
             synchronized (this) {
                 this.notifyAll();
             }
@@ -29,6 +29,9 @@ import org.apache.shardingsphere.api.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.api.config.rule.ShardingRuleConfiguration;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.parsing.antlr.parser.SQLParserDFACache;
+import org.apache.shardingsphere.core.parsing.cache.ParsingResultCache;
+import org.apache.shardingsphere.core.parsing.cache.ParsingResultCacheEvictionPolicy;
 import org.apache.shardingsphere.core.rule.Authentication;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.AuthenticationChangedEvent;
@@ -122,6 +125,7 @@ public final class GlobalRegistry {
         if (null != props) {
             shardingProperties = new ShardingProperties(props);
         }
+        initParsingResultCache();
         this.authentication = authentication;
         initSchema(schemaDataSources, schemaRules, isUsingRegistry);
     }
@@ -141,6 +145,13 @@ public final class GlobalRegistry {
                 : new MasterSlaveSchema(schemaName, schemaDataSources.get(schemaName), (MasterSlaveRuleConfiguration) ruleConfiguration, isUsingRegistry);
     }
     
+    private void initParsingResultCache() {
+        ParsingResultCache.getInstance().init(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_SIZE), 
+                ParsingResultCacheEvictionPolicy.valueOf(shardingProperties.<String>getValue(ShardingPropertiesConstant.PARSING_RESULT_CACHE_EVICTION_POLICY)));
+        SQLParserDFACache.getInstance().init(shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.PARSING_TWO_STAGE_ENABLED), 
+                shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PARSING_DFA_MAX_STATES_SIZE));
+    }
+    
     /**
      * Get transaction type.
      *
@@ -187,6 +198,7 @@ public final class GlobalRegistry {
     @Subscribe
     public synchronized void renew(final PropertiesChangedEvent propertiesChangedEvent) {
         shardingProperties = new ShardingProperties(propertiesChangedEvent.getProps());
+        initParsingResultCache();
     }
     
     /**
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.eventbus.EventBus;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
+import org.apache.shardingsphere.core.executor.sql.statistics.ExecuteStatistics;
 import org.apache.shardingsphere.core.metadata.ShardingMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetaDataFactory;
@@ -52,6 +53,8 @@ public abstract class LogicSchema {
     
     private final EventBus eventBus = ShardingOrchestrationEventBus.getInstance();
     
+    private final ExecuteStatistics executeStatistics = new ExecuteStatistics();
+    
     private JDBCBackendDataSource backendDataSource;
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
@@ -59,9 +62,16 @@ public abstract class LogicSchema {
         // TODO :jiaqi only use JDBC need connect db via JDBC, netty style should use SQL packet to get metadata
         this.dataSources = dataSources;
         backendDataSource = new JDBCBackendDataSource(dataSources);
+        initMaxPoolSizes();
         eventBus.register(this);
     }
     
+    private void initMaxPoolSizes() {
+        for (Entry<String, YamlDataSourceParameter> entry : dataSources.entrySet()) {
+            executeStatistics.get(entry.getKey()).setMaxPoolSize(entry.getValue().getMaxPoolSize());
+        }
+    }
+    
     protected final Map<String, String> getDataSourceURLs(final Map<String, YamlDataSourceParameter> dataSourceParameters) {
         Map<String, String> result = new LinkedHashMap<>(dataSourceParameters.size(), 1);
         for (Entry<String, YamlDataSourceParameter> entry : dataSourceParameters.entrySet()) {
@@ -92,6 +102,8 @@ public abstract class LogicSchema {
         dataSources.clear();
         dataSources.putAll(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
         backendDataSource = new JDBCBackendDataSource(dataSources);
+        executeStatistics.clear();
+        initMaxPoolSizes();
     }
     
     /**
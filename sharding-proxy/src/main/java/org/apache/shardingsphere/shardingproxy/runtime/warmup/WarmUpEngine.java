@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.runtime.warmup;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.executor.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.core.parsing.SQLParsingEngine;
+import org.apache.shardingsphere.core.parsing.antlr.rule.registry.ParsingRuleRegistry;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
+import org.apache.shardingsphere.core.util.SQLUtil;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.PreparedStatementExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
+import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Warm up engine of Sharding-Proxy, which runs before Sharding-Proxy is online.
+ *
+ * <p>
+ * Parsing rules are loaded, connections of backend data sources are opened in parallel, and SQL statements of warm up SQL file are parsed into parsing result cache.
+ * Recorded SQL statements are saved into a separate file beside warm up SQL file, so warm up SQL file maintained by operators is never overwritten.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class WarmUpEngine {
+    
+    private static final int MAX_THREAD_SIZE = 32;
+    
+    private static final String RECORDED_SQL_FILE_SUFFIX = ".recorded";
+    
+    private static final GlobalRegistry GLOBAL_REGISTRY = GlobalRegistry.getInstance();
+    
+    /**
+     * Warm up Sharding-Proxy with properties of global registry.
+     */
+    public void warmUp() {
+        ParsingRuleRegistry.getInstance();
+        ShardingProperties shardingProperties = GLOBAL_REGISTRY.getShardingProperties();
+        Collection<LogicSchema> logicSchemas = getLogicSchemas();
+        int connectionsSize = shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_WARM_UP_CONNECTIONS_SIZE);
+        if (connectionsSize > 0) {
+            long startTime = System.currentTimeMillis();
+            int actualSize = warmUpConnections(logicSchemas, connectionsSize);
+            log.info("Warmed up {} backend connections in {} ms.", actualSize, System.currentTimeMillis() - startTime);
+        }
+        final String sqlFile = shardingProperties.getValue(ShardingPropertiesConstant.PROXY_WARM_UP_SQL_FILE);
+        if (Strings.isNullOrEmpty(sqlFile)) {
+            return;
+        }
+        final File recordedSQLFile = getRecordedSQLFile(new File(sqlFile));
+        Collection<String> sqls = new LinkedHashSet<>(loadSQLs(new File(sqlFile)));
+        sqls.addAll(loadSQLs(recordedSQLFile));
+        long startTime = System.currentTimeMillis();
+        int actualCount = warmUpParsingResultCache(logicSchemas, sqls);
+        log.info("Warmed up {} parsing results in {} ms.", actualCount, System.currentTimeMillis() - startTime);
+        WarmUpSQLRecorder.getInstance().init(shardingProperties.<Integer>getValue(ShardingPropertiesConstant.PROXY_WARM_UP_SQL_MAX_COUNT));
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                saveRecordedSQLs(recordedSQLFile);
+            }
+        }, "ShardingSphere-WarmUp-SQL-Saver"));
+    }
+    
+    private Collection<LogicSchema> getLogicSchemas() {
+        Collection<LogicSchema> result = new LinkedList<>();
+        for (String each : GLOBAL_REGISTRY.getSchemaNames()) {
+            result.add(GLOBAL_REGISTRY.getLogicSchema(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Open connections for each data source of logic schemas in parallel, and return them to pools.
+     *
+     * @param logicSchemas logic schemas
+     * @param connectionsSize size of connections for each data source, limited by max pool size of data source
+     * @return size of opened connections
+     */
+    public int warmUpConnections(final Collection<LogicSchema> logicSchemas, final int connectionsSize) {
+        List<Callable<Connection>> tasks = new LinkedList<>();
+        for (final LogicSchema each : logicSchemas) {
+            for (Entry<String, YamlDataSourceParameter> entry : each.getDataSources().entrySet()) {
+                final String dataSourceName = entry.getKey();
+                for (int i = 0; i < Math.min(connectionsSize, entry.getValue().getMaxPoolSize()); i++) {
+                    tasks.add(new Callable<Connection>() {
+                        
+                        @Override
+                        public Connection call() throws SQLException {
+                            return each.getBackendDataSource().getConnection(dataSourceName);
+                        }
+                    });
+                }
+            }
+        }
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(tasks.size(), MAX_THREAD_SIZE), ShardingThreadFactoryBuilder.build("WarmUp-%d"));
+        try {
+            return closeConnections(executorService.invokeAll(tasks));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private int closeConnections(final Collection<Future<Connection>> futures) throws InterruptedException {
+        int result = 0;
+        for (Future<Connection> each : futures) {
+            try {
+                each.get().close();
+                result++;
+            } catch (final ExecutionException | SQLException ex) {
+                log.warn("Warm up backend connection failure: {}", ex.getMessage());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL statements into parsing result cache for each sharding schema, and route statements without parameters.
+     * 
+     * <p>
+     * Routing primes route plan cache with rewrite templates of parsed SQL statements.
+     * Statements with parameter markers are only parsed, because sharding conditions and generated keys are read from parameter values,
+     * which are unknown at startup and can not be faked without routing to wrong data nodes. Their route plans are created on first execution.
+     * </p>
+     *
+     * @param logicSchemas logic schemas
+     * @param sqls SQL statements
+     * @return count of parsed SQL statements
+     */
+    public int warmUpParsingResultCache(final Collection<LogicSchema> logicSchemas, final Collection<String> sqls) {
+        int result = 0;
+        for (LogicSchema each : logicSchemas) {
+            if (!(each instanceof ShardingSchema)) {
+                continue;
+            }
+            for (String sql : sqls) {
+                if (warmUpParsingResultCache((ShardingSchema) each, sql)) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private boolean warmUpParsingResultCache(final ShardingSchema shardingSchema, final String sql) {
+        try {
+            SQLStatement sqlStatement = new SQLParsingEngine(DatabaseType.MySQL, sql, shardingSchema.getShardingRule(), shardingSchema.getMetaData().getTable()).parse(true);
+            if (0 == sqlStatement.getParametersIndex()) {
+                new PreparedStatementExecutorWrapper(shardingSchema, Collections.emptyList(), sqlStatement).route(sql, DatabaseType.MySQL);
+            }
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.debug("Warm up SQL `{}` failure for schema `{}`: {}", sql, shardingSchema.getName(), ex.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Load SQL statements separated by semicolon from file.
+     *
+     * @param sqlFile SQL file
+     * @return SQL statements, empty if file does not exist or can not be read
+     */
+    public List<String> loadSQLs(final File sqlFile) {
+        if (!sqlFile.isFile()) {
+            return Collections.emptyList();
+        }
+        try {
+            return SQLUtil.splitStatements(Files.toString(sqlFile, Charsets.UTF_8));
+        } catch (final IOException ex) {
+            log.warn("Load warm up SQL file `{}` failure: {}", sqlFile, ex.getMessage());
+            return Collections.emptyList();
+        }
+    }
+    
+    /**
+     * Get file of recorded SQL statements for warm up SQL file.
+     *
+     * @param sqlFile warm up SQL file
+     * @return file of recorded SQL statements
+     */
+    public File getRecordedSQLFile(final File sqlFile) {
+        return new File(sqlFile.getPath() + RECORDED_SQL_FILE_SUFFIX);
+    }
+    
+    /**
+     * Save the most frequently recorded SQL statements into file, file is kept if nothing recorded.
+     *
+     * @param sqlFile SQL file
+     */
+    public void saveRecordedSQLs(final File sqlFile) {
+        List<String> sqls = WarmUpSQLRecorder.getInstance().getMostFrequentSQLs();
+        if (sqls.isEmpty()) {
+            return;
+        }
+        StringBuilder content = new StringBuilder();
+        for (String each : sqls) {
+            content.append(each).append(';').append(System.lineSeparator());
+        }
+        try {
+            Files.write(content, sqlFile, Charsets.UTF_8);
+        } catch (final IOException ex) {
+            log.warn("Save warm up SQL file `{}` failure: {}", sqlFile, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.runtime.warmup;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recorder of prepared SQL statements for warming up Sharding-Proxy on next startup.
+ *
+ * <p>
+ * At most twice max count of distinct SQL statements are counted.
+ * If a new statement arrives when full, the least frequent statement is evicted and the new one inherits its count,
+ * so statements which become frequent later can still be recorded.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WarmUpSQLRecorder {
+    
+    private static final WarmUpSQLRecorder INSTANCE = new WarmUpSQLRecorder();
+    
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    
+    private volatile int maxCount;
+    
+    /**
+     * Get instance of warm up SQL recorder.
+     *
+     * @return instance of warm up SQL recorder
+     */
+    public static WarmUpSQLRecorder getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Initialize warm up SQL recorder.
+     *
+     * @param maxCount max count of recorded SQL statements, 0 means disable recording
+     */
+    public synchronized void init(final int maxCount) {
+        this.maxCount = maxCount;
+        counters.clear();
+    }
+    
+    /**
+     * Judge whether recording is enabled.
+     *
+     * @return recording is enabled or not
+     */
+    public boolean isEnabled() {
+        return maxCount > 0;
+    }
+    
+    /**
+     * Record SQL.
+     *
+     * @param sql SQL
+     */
+    public void record(final String sql) {
+        if (!isEnabled()) {
+            return;
+        }
+        AtomicLong counter = counters.get(sql);
+        if (null == counter) {
+            counter = createCounter(sql);
+        }
+        counter.incrementAndGet();
+    }
+    
+    private synchronized AtomicLong createCounter(final String sql) {
+        AtomicLong result = counters.get(sql);
+        if (null != result) {
+            return result;
+        }
+        result = new AtomicLong(counters.size() >= maxCount * 2 ? evictLeastFrequent() : 0L);
+        counters.put(sql, result);
+        return result;
+    }
+    
+    private long evictLeastFrequent() {
+        Entry<String, AtomicLong> leastFrequent = null;
+        for (Entry<String, AtomicLong> entry : counters.entrySet()) {
+            if (null == leastFrequent || entry.getValue().get() < leastFrequent.getValue().get()) {
+                leastFrequent = entry;
+            }
+        }
+        counters.remove(leastFrequent.getKey());
+        return leastFrequent.getValue().get();
+    }
+    
+    /**
+     * Get the most frequently recorded SQL statements, in descending order of recorded times.
+     *
+     * @return the most frequently recorded SQL statements
+     */
+    public List<String> getMostFrequentSQLs() {
+        List<Entry<String, Long>> entries = new ArrayList<>(counters.size());
+        for (Entry<String, AtomicLong> entry : counters.entrySet()) {
+            entries.add(new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().get()));
+        }
+        Collections.sort(entries, new Comparator<Entry<String, Long>>() {
+            
+            @Override
+            public int compare(final Entry<String, Long> o1, final Entry<String, Long> o2) {
+                return o2.getValue().compareTo(o1.getValue());
+            }
+        });
+        List<String> result = new ArrayList<>(Math.min(maxCount, entries.size()));
+        for (Entry<String, Long> each : entries.subList(0, Math.min(maxCount, entries.size()))) {
+            result.add(each.getKey());
+        }
+        return result;
+    }
+}
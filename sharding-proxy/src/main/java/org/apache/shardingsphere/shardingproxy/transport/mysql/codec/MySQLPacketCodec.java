@@ -28,10 +28,25 @@ import java.util.List;
 /**
  * MySQL packet codec.
  * 
+ * <p>
+ * Packet payload is written into outbound buffer directly after reserved header, and payload length is backfilled into header.
+ * Payload which is not less than 16MB is split into multiple packets, and sequence IDs of following packets in same response are shifted.
+ * The shift is reset when next command packet, whose sequence ID is 0, is decoded.
+ * </p>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodec extends PacketCodec<MySQLPacket> {
     
+    /**
+     * Max payload length of one packet, 16MB - 1.
+     */
+    public static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private static final int HEADER_LENGTH = MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
+    
+    private int sequenceIdOffset;
+    
     @Override
     protected boolean isValidHeader(final int readableBytes) {
         return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -45,16 +60,50 @@ public final class MySQLPacketCodec extends PacketCodec<MySQLPacket> {
             in.resetReaderIndex();
             return;
         }
+        if (0 == in.getUnsignedByte(in.readerIndex())) {
+            sequenceIdOffset = 0;
+        }
         out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
     }
     
     @Override
     protected void doEncode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int sequenceId = message.getSequenceId() + sequenceIdOffset;
+        int headerIndex = out.writerIndex();
+        out.writeZero(HEADER_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength < MAX_PAYLOAD_LENGTH) {
+            setHeader(out, headerIndex, payloadLength, sequenceId);
+            return;
+        }
+        sequenceIdOffset += splitPayload(context, out, headerIndex, payloadLength, sequenceId);
+    }
+    
+    private void setHeader(final ByteBuf out, final int headerIndex, final int payloadLength, final int sequenceId) {
+        out.setMediumLE(headerIndex, payloadLength);
+        out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+    }
+    
+    private int splitPayload(final ChannelHandlerContext context, final ByteBuf out, final int headerIndex, final int payloadLength, final int sequenceId) {
+        setHeader(out, headerIndex, MAX_PAYLOAD_LENGTH, sequenceId);
+        int remainIndex = headerIndex + HEADER_LENGTH + MAX_PAYLOAD_LENGTH;
+        ByteBuf remain = context.alloc().buffer(payloadLength - MAX_PAYLOAD_LENGTH);
+        try {
+            out.getBytes(remainIndex, remain, payloadLength - MAX_PAYLOAD_LENGTH);
+            out.writerIndex(remainIndex);
+            int result = 0;
+            int length;
+            do {
+                length = Math.min(remain.readableBytes(), MAX_PAYLOAD_LENGTH);
+                result++;
+                out.writeMediumLE(length);
+                out.writeByte(sequenceId + result);
+                out.writeBytes(remain, length);
+            } while (MAX_PAYLOAD_LENGTH == length);
+            return result;
+        } finally {
+            remain.release();
         }
     }
 }
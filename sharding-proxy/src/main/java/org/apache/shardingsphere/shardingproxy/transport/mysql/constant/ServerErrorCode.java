@@ -37,6 +37,10 @@ public enum ServerErrorCode {
     
     ER_BAD_DB_ERROR(1049, "42000", "Unknown database '%s'"),
     
+    ER_UNKNOWN_STMT_HANDLER(1243, "HY000", "Unknown prepared statement handler (%s) given to %s"),
+    
+    ER_MAX_PREPARED_STMT_COUNT_REACHED(1461, "42000", "Can't create more than max_prepared_stmt_count statements (current value: %s)"),
+    
     ER_ERROR_ON_MODIFYING_GTID_EXECUTED_TABLE(3176, "HY000", 
             "Please do not modify the %s table with an XA transaction. "
                     + "This is an internal system table used to store GTIDs for committed transactions. "
@@ -44,6 +48,8 @@ public enum ServerErrorCode {
     
     ER_STD_UNKNOWN_EXCEPTION(3054, "HY000", "Unknown exception: %s"),
     
+    ER_UNSUPPORTED_RESULT_SET_IN_MULTI_STATEMENTS(9997, "X9997", "Statement returning result set is unsupported in multi-statements: '%s'"),
+    
     ER_CIRCUIT_BREAK_MODE(9998, "X9998", "Circuit break mode is ON"),
     
     ER_UNSUPPORTED_COMMAND(9999, "X9999", "Unsupported command packet: '%s'");
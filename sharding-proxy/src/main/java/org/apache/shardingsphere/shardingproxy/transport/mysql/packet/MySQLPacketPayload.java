@@ -236,6 +236,21 @@ public final class MySQLPacketPayload implements AutoCloseable {
         return new String(result);
     }
     
+    /**
+     * Read NULL of text protocol row value if present.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+     * 
+     * @return whether NULL present
+     */
+    public boolean readNullIfPresent() {
+        if (0xfb != byteBuf.getUnsignedByte(byteBuf.readerIndex())) {
+            return false;
+        }
+        byteBuf.skipBytes(1);
+        return true;
+    }
+    
     /**
      * Read lenenc string from byte buffers for bytes.
      *
@@ -262,8 +277,9 @@ public final class MySQLPacketPayload implements AutoCloseable {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
     }
     
     /**
@@ -69,7 +69,7 @@ public final class CommandPacketFactory {
             case COM_STMT_EXECUTE:
                 return new ComStmtExecutePacket(sequenceId, payload, backendConnection);
             case COM_STMT_CLOSE:
-                return new ComStmtClosePacket(sequenceId, payload);
+                return new ComStmtClosePacket(sequenceId, payload, backendConnection);
             case COM_PING:
                 return new ComPingPacket(sequenceId);
             default:
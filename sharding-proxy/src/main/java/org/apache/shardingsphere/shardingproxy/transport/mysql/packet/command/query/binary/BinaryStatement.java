@@ -20,11 +20,14 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 
 import java.util.List;
 
 /**
  * Binary prepared statement.
+ * 
+ * <p>SQL statement is parsed when preparing, so executing only need to bind parameters and reuse route plan of the SQL statement.</p>
  *
  * @author zhangyonglun
  */
@@ -37,5 +40,9 @@ public final class BinaryStatement {
     
     private final int parametersCount;
     
+    private final String schemaName;
+    
+    private final SQLStatement sqlStatement;
+    
     private List<BinaryStatementParameterType> parameterTypes;
 }
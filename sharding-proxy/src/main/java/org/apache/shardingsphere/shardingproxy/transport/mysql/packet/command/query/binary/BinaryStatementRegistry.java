@@ -17,29 +17,34 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
 
+import com.google.common.base.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Binary prepared statement registry.
+ * 
+ * <p>Statement IDs are assigned for each frontend connection, statements are removed when closed by client or when connection closed.
+ * Total statements count of all connections is limited by {@code proxy.prepared.statement.max.count}.</p>
  *
  * @author zhangliang
  * @author zhangyonglun
  */
-@NoArgsConstructor(access = AccessLevel.NONE)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class BinaryStatementRegistry {
     
     private static final BinaryStatementRegistry INSTANCE = new BinaryStatementRegistry();
     
-    private final ConcurrentMap<String, Integer> statementIdAssigner = new ConcurrentHashMap<>(65535, 1);
+    private final ConcurrentMap<Integer, ConnectionBinaryStatements> connectionBinaryStatements = new ConcurrentHashMap<>();
     
-    private final ConcurrentMap<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>(65535, 1);
-    
-    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicInteger statementsCount = new AtomicInteger();
     
     /**
      * Get prepared statement registry instance.
@@ -51,30 +56,95 @@ public final class BinaryStatementRegistry {
     }
     
     /**
-     * Register SQL.
+     * Register binary statement for connection.
      * 
-     * @param sql SQL
-     * @param parametersCount parameters count
-     * @return statement ID
+     * @param connectionId connection ID
+     * @param binaryStatement binary statement
+     * @return statement ID, absent if max count of prepared statements reached or statements of connection are closed concurrently
      */
-    public int register(final String sql, final int parametersCount) {
-        Integer result = statementIdAssigner.get(sql);
-        if (null != result) {
-            return result;
+    public Optional<Integer> register(final int connectionId, final BinaryStatement binaryStatement) {
+        if (statementsCount.incrementAndGet() > getMaxStatementsCount()) {
+            statementsCount.decrementAndGet();
+            return Optional.absent();
+        }
+        ConnectionBinaryStatements statements = connectionBinaryStatements.get(connectionId);
+        if (null == statements) {
+            ConnectionBinaryStatements newStatements = new ConnectionBinaryStatements();
+            statements = connectionBinaryStatements.putIfAbsent(connectionId, newStatements);
+            if (null == statements) {
+                statements = newStatements;
+            }
         }
-        result = sequence.incrementAndGet();
-        statementIdAssigner.putIfAbsent(sql, result);
-        binaryStatements.putIfAbsent(result, new BinaryStatement(sql, parametersCount));
-        return result;
+        int result = statements.sequence.incrementAndGet();
+        statements.binaryStatements.put(result, binaryStatement);
+        if (statements != connectionBinaryStatements.get(connectionId)) {
+            if (null != statements.binaryStatements.remove(result)) {
+                statementsCount.decrementAndGet();
+            }
+            return Optional.absent();
+        }
+        return Optional.of(result);
+    }
+    
+    private int getMaxStatementsCount() {
+        return GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_PREPARED_STATEMENT_MAX_COUNT);
     }
     
     /**
      * Get binary prepared statement.
      *
+     * @param connectionId connection ID
      * @param statementId statement ID
-     * @return binary prepared statement
+     * @return binary prepared statement, {@code null} if absent
+     */
+    public BinaryStatement getBinaryStatement(final int connectionId, final int statementId) {
+        ConnectionBinaryStatements statements = connectionBinaryStatements.get(connectionId);
+        return null == statements ? null : statements.binaryStatements.get(statementId);
+    }
+    
+    /**
+     * Close binary prepared statement.
+     *
+     * @param connectionId connection ID
+     * @param statementId statement ID
+     */
+    public void close(final int connectionId, final int statementId) {
+        ConnectionBinaryStatements statements = connectionBinaryStatements.get(connectionId);
+        if (null != statements && null != statements.binaryStatements.remove(statementId)) {
+            statementsCount.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Close all binary prepared statements of connection.
+     *
+     * @param connectionId connection ID
      */
-    public BinaryStatement getBinaryStatement(final int statementId) {
-        return binaryStatements.get(statementId);
+    public void closeAll(final int connectionId) {
+        ConnectionBinaryStatements statements = connectionBinaryStatements.remove(connectionId);
+        if (null == statements) {
+            return;
+        }
+        for (Integer each : statements.binaryStatements.keySet()) {
+            if (null != statements.binaryStatements.remove(each)) {
+                statementsCount.decrementAndGet();
+            }
+        }
+    }
+    
+    /**
+     * Get count of binary prepared statements of all connections.
+     *
+     * @return count of binary prepared statements
+     */
+    public int getStatementsCount() {
+        return statementsCount.get();
+    }
+    
+    private static final class ConnectionBinaryStatements {
+        
+        private final Map<Integer, BinaryStatement> binaryStatements = new ConcurrentHashMap<>();
+        
+        private final AtomicInteger sequence = new AtomicInteger();
     }
 }
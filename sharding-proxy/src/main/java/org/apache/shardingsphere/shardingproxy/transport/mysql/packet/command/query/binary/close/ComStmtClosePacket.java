@@ -20,9 +20,11 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 import com.google.common.base.Optional;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 
 /**
  * COM_STMT_CLOSE command packet.
@@ -37,10 +39,13 @@ public final class ComStmtClosePacket implements CommandPacket {
     @Getter
     private final int sequenceId;
     
+    private final int connectionId;
+    
     private final int statementId;
     
-    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload) {
+    public ComStmtClosePacket(final int sequenceId, final MySQLPacketPayload payload, final BackendConnection backendConnection) {
         this.sequenceId = sequenceId;
+        connectionId = backendConnection.getConnectionId();
         statementId = payload.readInt4();
     }
     
@@ -51,7 +56,7 @@ public final class ComStmtClosePacket implements CommandPacket {
     @Override
     public Optional<CommandResponsePackets> execute() {
         log.debug("COM_STMT_CLOSE received for Sharding-Proxy: {}", statementId);
-        // TODO :yonglun need to clean PreparedStatementRegistry?
+        BinaryStatementRegistry.getInstance().close(connectionId, statementId);
         return Optional.absent();
     }
 }
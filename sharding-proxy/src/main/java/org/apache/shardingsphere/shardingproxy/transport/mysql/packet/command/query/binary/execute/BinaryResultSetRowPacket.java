@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.BinaryProtocolValue;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.BinaryProtocolValueFactory;
 
 import java.util.List;
@@ -29,9 +30,13 @@ import java.util.List;
 /**
  * Binary result set row packet.
  * 
+ * <p>Binary protocol values of columns are resolved once for each result set and shared by rows, 
+ * null bitmap and values are written into payload directly.</p>
+ * 
  * @see <a href="https://dev.mysql.com/doc/internals/en/binary-protocol-resultset-row.html">Binary Protocol Resultset Row</a>
  *
  * @author zhangyonglun
+ * @author zhangliang
  */
 @RequiredArgsConstructor
 public final class BinaryResultSetRowPacket implements MySQLPacket {
@@ -43,12 +48,14 @@ public final class BinaryResultSetRowPacket implements MySQLPacket {
     @Getter
     private final int sequenceId;
     
-    private final int columnsCount;
-    
     @Getter
     private final List<Object> data;
     
-    private final List<ColumnType> columnTypes;
+    private final BinaryProtocolValue[] binaryProtocolValues;
+    
+    public BinaryResultSetRowPacket(final int sequenceId, final int columnsCount, final List<Object> data, final List<ColumnType> columnTypes) {
+        this(sequenceId, data, BinaryProtocolValueFactory.getBinaryProtocolValues(columnTypes.subList(0, columnsCount)));
+    }
     
     @Override
     public void write(final MySQLPacketPayload payload) {
@@ -58,26 +65,25 @@ public final class BinaryResultSetRowPacket implements MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private NullBitmap getNullBitmap() {
-        NullBitmap result = new NullBitmap(columnsCount, NULL_BITMAP_OFFSET);
-        for (int columnIndex = 0; columnIndex < columnsCount; columnIndex++) {
-            if (null == data.get(columnIndex)) {
-                result.setNullBit(columnIndex);
+        int columnsCount = binaryProtocolValues.length;
+        int nullBitmapLength = (columnsCount + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int byteIndex = 0; byteIndex < nullBitmapLength; byteIndex++) {
+            int nullBits = 0;
+            for (int bitIndex = 0; bitIndex < 8; bitIndex++) {
+                int columnIndex = byteIndex * 8 + bitIndex - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < columnsCount && null == data.get(columnIndex)) {
+                    nullBits |= 1 << bitIndex;
+                }
             }
+            payload.writeInt1(nullBits);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (int i = 0; i < columnsCount; i++) {
+        for (int i = 0; i < binaryProtocolValues.length; i++) {
             Object value = data.get(i);
             if (null != value) {
-                BinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(i)).write(payload, value);
+                binaryProtocolValues[i].write(payload, value);
             }
         }
     }
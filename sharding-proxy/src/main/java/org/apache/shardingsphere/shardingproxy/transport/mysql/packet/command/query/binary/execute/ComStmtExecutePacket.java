@@ -17,11 +17,13 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
@@ -76,10 +78,16 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     
     private final DatabaseCommunicationEngine databaseCommunicationEngine;
     
+    private BinaryProtocolValue[] columnBinaryProtocolValues;
+    
     public ComStmtExecutePacket(final int sequenceId, final MySQLPacketPayload payload, final BackendConnection backendConnection) throws SQLException {
         this.sequenceId = sequenceId;
         statementId = payload.readInt4();
-        binaryStatement = BinaryStatementRegistry.getInstance().getBinaryStatement(statementId);
+        binaryStatement = BinaryStatementRegistry.getInstance().getBinaryStatement(backendConnection.getConnectionId(), statementId);
+        if (null == binaryStatement) {
+            throw new SQLException(String.format(ServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorMessage(), statementId, "mysqld_stmt_execute"),
+                    ServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getSqlState(), ServerErrorCode.ER_UNKNOWN_STMT_HANDLER.getErrorCode());
+        }
         flags = payload.readInt1();
         Preconditions.checkArgument(ITERATION_COUNT == payload.readInt4());
         int parametersCount = binaryStatement.getParametersCount();
@@ -93,7 +101,11 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
         }
         parameters = getParameters(payload, parametersCount);
         databaseCommunicationEngine = DatabaseCommunicationEngineFactory.getInstance().newBinaryProtocolInstance(
-                backendConnection.getLogicSchema(), sequenceId, binaryStatement.getSql(), parameters, backendConnection, DatabaseType.MySQL);
+                backendConnection.getLogicSchema(), sequenceId, binaryStatement.getSql(), getPreparedSQLStatement(backendConnection), parameters, backendConnection, DatabaseType.MySQL);
+    }
+    
+    private SQLStatement getPreparedSQLStatement(final BackendConnection backendConnection) {
+        return Objects.equal(binaryStatement.getSchemaName(), backendConnection.getSchemaName()) ? binaryStatement.getSqlStatement() : null;
     }
     
     private List<BinaryStatementParameterType> getParameterTypes(final MySQLPacketPayload payload, final int parametersCount) {
@@ -151,6 +163,9 @@ public final class ComStmtExecutePacket implements QueryCommandPacket {
     @Override
     public DatabasePacket getResultValue() throws SQLException {
         ResultPacket resultPacket = databaseCommunicationEngine.getResultValue();
-        return new BinaryResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getColumnCount(), resultPacket.getData(), resultPacket.getColumnTypes());
+        if (null == columnBinaryProtocolValues) {
+            columnBinaryProtocolValues = BinaryProtocolValueFactory.getBinaryProtocolValues(resultPacket.getColumnTypes().subList(0, resultPacket.getColumnCount()));
+        }
+        return new BinaryResultSetRowPacket(resultPacket.getSequenceId(), resultPacket.getData(), columnBinaryProtocolValues);
     }
 }
@@ -23,6 +23,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -118,4 +119,19 @@ public final class BinaryProtocolValueFactory {
         Preconditions.checkArgument(BINARY_PROTOCOL_VALUES.containsKey(columnType), "Cannot find MySQL type '%s' in column type when process binary protocol value", columnType);
         return BINARY_PROTOCOL_VALUES.get(columnType);
     }
+    
+    /**
+     * Get binary protocol values of columns.
+     * 
+     * @param columnTypes column types
+     * @return binary protocol values in order of columns
+     */
+    public static BinaryProtocolValue[] getBinaryProtocolValues(final List<ColumnType> columnTypes) {
+        BinaryProtocolValue[] result = new BinaryProtocolValue[columnTypes.size()];
+        int index = 0;
+        for (ColumnType each : columnTypes) {
+            result[index++] = getBinaryProtocolValue(each);
+        }
+        return result;
+    }
 }
@@ -23,6 +23,7 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Date;
 
 /**
  * Binary protocol value for date.
@@ -32,6 +33,14 @@ import java.util.Calendar;
  */
 public final class DateBinaryProtocolValue implements BinaryProtocolValue {
     
+    private static final ThreadLocal<Calendar> WRITE_CALENDAR = new ThreadLocal<Calendar>() {
+        
+        @Override
+        protected Calendar initialValue() {
+            return Calendar.getInstance();
+        }
+    };
+    
     @Override
     public Object read(final MySQLPacketPayload payload) throws SQLException {
         int length = payload.readInt1();
@@ -67,16 +76,15 @@ public final class DateBinaryProtocolValue implements BinaryProtocolValue {
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        Timestamp timestamp = (Timestamp) value;
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(timestamp);
+        Calendar calendar = WRITE_CALENDAR.get();
+        calendar.setTimeInMillis(((Date) value).getTime());
         int year = calendar.get(Calendar.YEAR);
         int month = calendar.get(Calendar.MONTH) + 1;
         int dayOfMonth = calendar.get(Calendar.DAY_OF_MONTH);
         int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
         int minutes = calendar.get(Calendar.MINUTE);
         int seconds = calendar.get(Calendar.SECOND);
-        int nanos = timestamp.getNanos();
+        int nanos = value instanceof Timestamp ? ((Timestamp) value).getNanos() : 0;
         boolean isTimeAbsent = 0 == hourOfDay && 0 == minutes && 0 == seconds;
         boolean isNanosAbsent = 0 == nanos;
         if (isTimeAbsent && isNanosAbsent) {
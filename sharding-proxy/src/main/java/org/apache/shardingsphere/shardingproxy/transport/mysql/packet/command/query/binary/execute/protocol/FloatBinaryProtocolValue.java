@@ -34,6 +34,6 @@ public final class FloatBinaryProtocolValue implements BinaryProtocolValue {
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        payload.getByteBuf().writeFloatLE(Float.parseFloat(value.toString()));
+        payload.getByteBuf().writeFloatLE(value instanceof Number ? ((Number) value).floatValue() : Float.parseFloat(value.toString()));
     }
 }
@@ -34,6 +34,6 @@ public final class Int2BinaryProtocolValue implements BinaryProtocolValue {
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        payload.writeInt2((Integer) value);
+        payload.writeInt2(((Number) value).intValue());
     }
 }
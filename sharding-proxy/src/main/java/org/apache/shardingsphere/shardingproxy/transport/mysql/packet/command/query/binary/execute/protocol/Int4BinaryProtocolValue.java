@@ -34,6 +34,6 @@ public final class Int4BinaryProtocolValue implements BinaryProtocolValue {
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        payload.writeInt4((Integer) value);
+        payload.writeInt4(((Number) value).intValue());
     }
 }
@@ -19,9 +19,9 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 
-import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.Date;
 
 /**
  * Binary protocol value for time.
@@ -31,6 +31,14 @@ import java.util.Calendar;
  */
 public final class TimeBinaryProtocolValue implements BinaryProtocolValue {
     
+    private static final ThreadLocal<Calendar> WRITE_CALENDAR = new ThreadLocal<Calendar>() {
+        
+        @Override
+        protected Calendar initialValue() {
+            return Calendar.getInstance();
+        }
+    };
+    
     @Override
     public Object read(final MySQLPacketPayload payload) {
         int length = payload.readInt1();
@@ -60,12 +68,12 @@ public final class TimeBinaryProtocolValue implements BinaryProtocolValue {
     
     @Override
     public void write(final MySQLPacketPayload payload, final Object value) {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTimeInMillis(((Time) value).getTime());
+        Calendar calendar = WRITE_CALENDAR.get();
+        calendar.setTimeInMillis(((Date) value).getTime());
         int hourOfDay = calendar.get(Calendar.HOUR_OF_DAY);
         int minutes = calendar.get(Calendar.MINUTE);
         int seconds = calendar.get(Calendar.SECOND);
-        int nanos = new Timestamp(calendar.getTimeInMillis()).getNanos();
+        int nanos = calendar.get(Calendar.MILLISECOND) * 1000000;
         boolean isTimeAbsent = 0 == hourOfDay && 0 == minutes && 0 == seconds;
         boolean isNanosAbsent = 0 == nanos;
         if (isTimeAbsent && isNanosAbsent) {
@@ -22,21 +22,27 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.api.config.rule.ShardingRuleConfiguration;
 import org.apache.shardingsphere.core.constant.DatabaseType;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.parsing.SQLParsingEngine;
 import org.apache.shardingsphere.core.parsing.parser.sql.SQLStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dml.insert.InsertStatement;
 import org.apache.shardingsphere.core.parsing.parser.sql.dql.select.SelectStatement;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.runtime.schema.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.runtime.warmup.WarmUpSQLRecorder;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatement;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
 
 /**
  * COM_STMT_PREPARE command packet.
@@ -53,8 +59,12 @@ public final class ComStmtPreparePacket implements CommandPacket {
     @Getter
     private final int sequenceId;
     
+    private final int connectionId;
+    
     private final String schemaName;
     
+    private final boolean isShardingSchema;
+    
     private final String sql;
     
     private final SQLParsingEngine sqlParsingEngine;
@@ -62,8 +72,10 @@ public final class ComStmtPreparePacket implements CommandPacket {
     public ComStmtPreparePacket(final int sequenceId, final BackendConnection backendConnection, final MySQLPacketPayload payload) {
         this.sequenceId = sequenceId;
         sql = payload.readStringEOF();
+        connectionId = backendConnection.getConnectionId();
         schemaName = backendConnection.getSchemaName();
         LogicSchema logicSchema = backendConnection.getLogicSchema();
+        isShardingSchema = logicSchema instanceof ShardingSchema;
         sqlParsingEngine = new SQLParsingEngine(DatabaseType.MySQL, sql, getShardingRule(logicSchema), logicSchema.getMetaData().getTable());
     }
     
@@ -81,9 +93,15 @@ public final class ComStmtPreparePacket implements CommandPacket {
         log.debug("COM_STMT_PREPARE received for Sharding-Proxy: {}", sql);
         int currentSequenceId = 0;
         SQLStatement sqlStatement = sqlParsingEngine.parse(true);
+        WarmUpSQLRecorder.getInstance().record(sql);
         int parametersIndex = sqlStatement.getParametersIndex();
+        Optional<Integer> statementId = PREPARED_STATEMENT_REGISTRY.register(connectionId, new BinaryStatement(sql, parametersIndex, schemaName, isShardingSchema ? sqlStatement : null));
+        if (!statementId.isPresent()) {
+            return Optional.of(new CommandResponsePackets(new ErrPacket(++currentSequenceId, ServerErrorCode.ER_MAX_PREPARED_STMT_COUNT_REACHED, 
+                    GlobalRegistry.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_PREPARED_STATEMENT_MAX_COUNT))));
+        }
         CommandResponsePackets result = new CommandResponsePackets(
-                new ComStmtPrepareOKPacket(++currentSequenceId, PREPARED_STATEMENT_REGISTRY.register(sql, parametersIndex), getNumColumns(sqlStatement), parametersIndex, 0));
+                new ComStmtPrepareOKPacket(++currentSequenceId, statementId.get(), getNumColumns(sqlStatement), parametersIndex, 0));
         for (int i = 0; i < parametersIndex; i++) {
             // TODO add column name
             result.getPackets().add(new ColumnDefinition41Packet(++currentSequenceId, schemaName,
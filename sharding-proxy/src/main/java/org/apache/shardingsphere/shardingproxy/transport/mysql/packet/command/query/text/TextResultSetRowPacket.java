@@ -46,7 +46,7 @@ public final class TextResultSetRowPacket implements MySQLPacket {
         sequenceId = payload.readInt1();
         data = new ArrayList<>(columnCount);
         for (int i = 0; i < columnCount; i++) {
-            data.add(payload.readStringLenenc());
+            data.add(payload.readNullIfPresent() ? null : payload.readStringLenenc());
         }
     }
     
@@ -49,20 +49,22 @@ public final class OKPacket implements MySQLPacket {
     
     private final long lastInsertId;
     
+    private final int statusFlags;
+    
     private final int warnings;
     
     private final String info;
     
     public OKPacket(final int sequenceId) {
-        this(sequenceId, 0L, 0L, 0, "");
+        this(sequenceId, 0L, 0L, STATUS_FLAG, 0, "");
     }
     
     public OKPacket(final String info) {
-        this(1, 0L, 0L, 0, info);
+        this(1, 0L, 0L, STATUS_FLAG, 0, info);
     }
     
     public OKPacket(final int sequenceId, final long affectedRows, final long lastInsertId) {
-        this(sequenceId, affectedRows, lastInsertId, 0, "");
+        this(sequenceId, affectedRows, lastInsertId, STATUS_FLAG, 0, "");
     }
     
     public OKPacket(final MySQLPacketPayload payload) {
@@ -70,7 +72,7 @@ public final class OKPacket implements MySQLPacket {
         Preconditions.checkArgument(HEADER == payload.readInt1());
         affectedRows = payload.readIntLenenc();
         lastInsertId = payload.readIntLenenc();
-        payload.readInt2();
+        statusFlags = payload.readInt2();
         warnings = payload.readInt2();
         info = payload.readStringEOF();
     }
@@ -80,7 +82,7 @@ public final class OKPacket implements MySQLPacket {
         payload.writeInt1(HEADER);
         payload.writeIntLenenc(affectedRows);
         payload.writeIntLenenc(lastInsertId);
-        payload.writeInt2(STATUS_FLAG);
+        payload.writeInt2(statusFlags);
         payload.writeInt2(warnings);
         payload.writeStringEOF(info);
     }
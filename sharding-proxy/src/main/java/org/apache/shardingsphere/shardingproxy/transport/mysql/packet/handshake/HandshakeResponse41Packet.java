@@ -37,6 +37,7 @@ public final class HandshakeResponse41Packet implements MySQLPacket {
     @Getter
     private final int sequenceId;
     
+    @Getter
     private final int capabilityFlags;
     
     private final int maxPacketSize;
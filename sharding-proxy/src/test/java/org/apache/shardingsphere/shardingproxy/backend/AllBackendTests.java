@@ -17,18 +17,28 @@
 
 package org.apache.shardingsphere.shardingproxy.backend;
 
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCacheKeyTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCacheTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnectionTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendTransactionManagerTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSourceTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCXABackendDataSourceFactoryTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.PaginationMetricsTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.QueryBufferedRowsMetricsTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.StreamingFetchSizeUtilTest;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.recognizer.AllRecognizerTests;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.SQLParameterInlinerTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql.MySQLQueryResultTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql.MySQLResponseHandlerTest;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.SynchronizedFutureTest;
 import org.apache.shardingsphere.shardingproxy.backend.sctl.ShardingCTLSetBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.sctl.ShardingCTLShowBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.ShowDatabasesBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UnicastBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UseDatabaseBackendHandlerTest;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.MultiStatementsBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SkipBackendHandlerTest;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.TransactionBackendHandlerTest;
 import org.junit.runner.RunWith;
@@ -44,6 +54,7 @@ import org.junit.runners.Suite.SuiteClasses;
         TransactionBackendHandlerTest.class, 
         UnicastBackendHandlerTest.class, 
         UseDatabaseBackendHandlerTest.class, 
+        MultiStatementsBackendHandlerTest.class, 
         ShardingCTLSetBackendHandlerTest.class,
         ShardingCTLShowBackendHandlerTest.class,
         JDBCXABackendDataSourceFactoryTest.class,
@@ -51,7 +62,16 @@ import org.junit.runners.Suite.SuiteClasses;
         BackendConnectionTest.class,
         BackendTransactionManagerTest.class,
         ConnectionStateHandlerTest.class,
-        AllRecognizerTests.class
+        AllRecognizerTests.class,
+        StreamingFetchSizeUtilTest.class,
+        QueryBufferedRowsMetricsTest.class,
+        PaginationMetricsTest.class,
+        QueryResultCacheKeyTest.class,
+        QueryResultCacheTest.class,
+        SQLParameterInlinerTest.class,
+        MySQLResponseHandlerTest.class,
+        MySQLQueryResultTest.class,
+        SynchronizedFutureTest.class
 })
 public final class AllBackendTests {
 }
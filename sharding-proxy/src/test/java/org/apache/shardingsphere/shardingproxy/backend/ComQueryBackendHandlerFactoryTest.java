@@ -25,6 +25,7 @@ import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendH
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.BroadcastBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.ShowDatabasesBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.admin.UseDatabaseBackendHandler;
+import org.apache.shardingsphere.shardingproxy.backend.text.query.MultiStatementsBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.query.QueryBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.SkipBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.transaction.TransactionBackendHandler;
@@ -35,6 +36,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class ComQueryBackendHandlerFactoryTest {
@@ -90,4 +92,19 @@ public final class ComQueryBackendHandlerFactoryTest {
         TextProtocolBackendHandler actual = ComQueryBackendHandlerFactory.createTextProtocolBackendHandler(1, sql, backendConnection, DatabaseType.MySQL);
         assertThat(actual, instanceOf(QueryBackendHandler.class));
     }
+    
+    @Test
+    public void assertCreateMultiStatementsBackendHandler() {
+        when(backendConnection.isMultiStatementsEnabled()).thenReturn(true);
+        String sql = "insert into t_order values (1); insert into t_order values (2);";
+        TextProtocolBackendHandler actual = ComQueryBackendHandlerFactory.createTextProtocolBackendHandler(1, sql, backendConnection, DatabaseType.MySQL);
+        assertThat(actual, instanceOf(MultiStatementsBackendHandler.class));
+    }
+    
+    @Test
+    public void assertCreateDefaultBackendHandlerWithoutMultiStatementsEnabled() {
+        String sql = "insert into t_order values (1); insert into t_order values (2);";
+        TextProtocolBackendHandler actual = ComQueryBackendHandlerFactory.createTextProtocolBackendHandler(1, sql, backendConnection, DatabaseType.MySQL);
+        assertThat(actual, instanceOf(QueryBackendHandler.class));
+    }
 }
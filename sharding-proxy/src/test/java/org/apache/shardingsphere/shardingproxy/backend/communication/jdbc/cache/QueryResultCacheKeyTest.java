@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class QueryResultCacheKeyTest {
+    
+    @Test
+    public void assertNormalizeWhitespaces() {
+        QueryResultCacheKey actual = new QueryResultCacheKey("schema", "  SELECT *\n\tFROM  t_config WHERE name = 'a  b' ", Collections.emptyList());
+        assertThat(actual.getSql(), is("SELECT * FROM t_config WHERE name = 'a  b'"));
+    }
+    
+    @Test
+    public void assertNormalizeWithEscapedQuote() {
+        QueryResultCacheKey actual = new QueryResultCacheKey("schema", "SELECT 'it\\'s  ok',  `a  b`", Collections.emptyList());
+        assertThat(actual.getSql(), is("SELECT 'it\\'s  ok', `a  b`"));
+    }
+    
+    @Test
+    public void assertEquals() {
+        QueryResultCacheKey expected = new QueryResultCacheKey("schema", "SELECT * FROM t_config WHERE id = ?", Collections.<Object>singletonList(1));
+        assertThat(new QueryResultCacheKey("schema", "SELECT *  FROM t_config WHERE id = ?", Collections.<Object>singletonList(1)), is(expected));
+        assertThat(new QueryResultCacheKey("schema", "SELECT * FROM t_config WHERE id = ?", Collections.<Object>singletonList(2)), not(expected));
+        assertThat(new QueryResultCacheKey("other_schema", "SELECT * FROM t_config WHERE id = ?", Arrays.<Object>asList(1)), not(expected));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache;
+
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.QueryResponsePackets;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class QueryResultCacheTest {
+    
+    private final QueryResultCacheKey key = new QueryResultCacheKey("schema", "SELECT * FROM t_config", Collections.emptyList());
+    
+    @Test
+    public void assertDisabled() {
+        QueryResultCache cache = new QueryResultCache(0L, 1000L);
+        assertFalse(cache.isEnabled());
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    @Test
+    public void assertPutAndGet() {
+        QueryResultCache cache = new QueryResultCache(1024L * 1024L, 60000L);
+        cache.recordMiss();
+        cache.put(key, createCachedQueryResult(cache, 1024L * 1024L));
+        assertTrue(cache.get(key).isPresent());
+        assertThat(cache.get(key).get().getRows().size(), is(1));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitRatio(), is(2D / 3));
+    }
+    
+    @Test
+    public void assertGetAfterInvalidated() {
+        QueryResultCache cache = new QueryResultCache(1024L * 1024L, 60000L);
+        cache.put(key, createCachedQueryResult(cache, 1024L * 1024L));
+        cache.invalidate("schema", Collections.singletonList("T_CONFIG"));
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    @Test
+    public void assertPutWhenInvalidatedDuringQuery() {
+        QueryResultCache cache = new QueryResultCache(1024L * 1024L, 60000L);
+        CachedQueryResult cachedQueryResult = createCachedQueryResult(cache, 1024L * 1024L);
+        cache.invalidate("schema", Collections.singletonList("t_config"));
+        cache.put(key, cachedQueryResult);
+        assertFalse(cache.get(key).isPresent());
+    }
+    
+    @Test
+    public void assertBuildWhenExceedMaxBytes() {
+        QueryResultCache cache = new QueryResultCache(1024L * 1024L, 60000L);
+        CachedQueryResultBuilder builder = new CachedQueryResultBuilder(
+                mock(QueryResponsePackets.class), 1, Collections.singletonList(ColumnType.MYSQL_TYPE_VARCHAR), cache.getTableVersions("schema", Collections.singletonList("t_config")), 16L);
+        assertFalse(builder.add(Collections.<Object>singletonList("value")));
+    }
+    
+    @Test
+    public void assertIsCacheableSQL() {
+        QueryResultCache cache = new QueryResultCache(1024L * 1024L, 60000L);
+        assertTrue(cache.isCacheableSQL("SELECT * FROM t_config WHERE user = 'now()' AND uuid = 1"));
+        assertFalse(cache.isCacheableSQL("SELECT * FROM t_config WHERE create_time < NOW()"));
+        assertFalse(cache.isCacheableSQL("SELECT * FROM t_config ORDER BY rand()"));
+        assertFalse(cache.isCacheableSQL("SELECT UUID(), id FROM t_config"));
+        assertFalse(cache.isCacheableSQL("SELECT * FROM t_config WHERE create_time < CURRENT_TIMESTAMP"));
+        assertFalse(cache.isCacheableSQL("SELECT * FROM t_config WHERE id = @id"));
+        assertFalse(cache.isCacheableSQL("SELECT * FROM t_config WHERE id = 1 FOR UPDATE"));
+        assertFalse(cache.isCacheableSQL("SELECT * FROM t_config WHERE id = 1 LOCK IN SHARE MODE"));
+    }
+    
+    private CachedQueryResult createCachedQueryResult(final QueryResultCache cache, final long maxBytes) {
+        Map<String, Long> tableVersions = cache.getTableVersions("schema", Collections.singletonList("t_config"));
+        CachedQueryResultBuilder builder = new CachedQueryResultBuilder(
+                mock(QueryResponsePackets.class), 2, Arrays.asList(ColumnType.MYSQL_TYPE_LONG, ColumnType.MYSQL_TYPE_VARCHAR), tableVersions, maxBytes);
+        assertTrue(builder.add(Arrays.<Object>asList(1, "value")));
+        return builder.build();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import org.apache.shardingsphere.core.routing.pagination.PaginationContext;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class PaginationMetricsTest {
+    
+    @Test
+    public void assertRecord() {
+        PaginationMetrics metrics = PaginationMetrics.getInstance();
+        long queryCount = metrics.getQueryCount();
+        long keysetRewrittenQueryCount = metrics.getKeysetRewrittenQueryCount();
+        long savedRowCount = metrics.getSavedRowCount();
+        metrics.record(new PaginationContext(4, 100, 20, false, null, null));
+        metrics.record(new PaginationContext(4, 100, 20, true, null, null));
+        assertThat(metrics.getQueryCount(), is(queryCount + 2));
+        assertThat(metrics.getKeysetRewrittenQueryCount(), is(keysetRewrittenQueryCount + 1));
+        assertThat(metrics.getSavedRowCount(), is(savedRowCount + 400));
+    }
+}
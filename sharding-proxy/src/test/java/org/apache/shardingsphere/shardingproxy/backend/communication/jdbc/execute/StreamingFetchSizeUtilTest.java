@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
+
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class StreamingFetchSizeUtilTest {
+    
+    @Test
+    public void assertGetFetchSizeWithoutURL() {
+        assertThat(StreamingFetchSizeUtil.getFetchSize(null, new Properties(), 100), is(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    public void assertGetFetchSizeForMySQL() {
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:mysql://127.0.0.1:3306/ds_0", new Properties(), 100), is(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    public void assertGetFetchSizeForMySQLWithCursorFetch() {
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:mysql://127.0.0.1:3306/ds_0?useCursorFetch=true", new Properties(), 100), is(100));
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:mysql://127.0.0.1:3306/ds_0?useCursorFetch=true", new Properties(), 0), is(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    public void assertGetFetchSizeForMySQLWithCaseInsensitiveCursorFetch() {
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:mysql://127.0.0.1:3306/ds_0?useSSL=false&USECURSORFETCH=True", new Properties(), 100), is(100));
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:mysql://127.0.0.1:3306/ds_0?useCursorFetch=false&foo=useCursorFetch=true", new Properties(), 100), is(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    public void assertGetFetchSizeForMySQLWithCursorFetchProperty() {
+        Properties dataSourceProperties = new Properties();
+        dataSourceProperties.setProperty("usecursorfetch", "true");
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:mysql://127.0.0.1:3306/ds_0", dataSourceProperties, 100), is(100));
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:mysql://127.0.0.1:3306/ds_0?useCursorFetch=false", dataSourceProperties, 100), is(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    public void assertGetFetchSizeForPostgreSQL() {
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:postgresql://127.0.0.1:5432/ds_0", new Properties(), 100), is(100));
+        assertThat(StreamingFetchSizeUtil.getFetchSize("jdbc:postgresql://127.0.0.1:5432/ds_0", new Properties(), -1), is(0));
+    }
+    
+    @Test
+    public void assertGetBufferedRows() {
+        assertThat(StreamingFetchSizeUtil.getBufferedRows(Integer.MIN_VALUE), is(1));
+        assertThat(StreamingFetchSizeUtil.getBufferedRows(100), is(100));
+        assertThat(StreamingFetchSizeUtil.getBufferedRows(0), is(0));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParameterInlinerTest {
+    
+    @Test
+    public void assertInlineWithoutParameters() {
+        assertThat(SQLParameterInliner.inline("SELECT * FROM t_order WHERE order_id = ?", Collections.emptyList(), false), is("SELECT * FROM t_order WHERE order_id = ?"));
+    }
+    
+    @Test
+    public void assertInlineParameters() {
+        assertThat(SQLParameterInliner.inline("INSERT INTO t_order VALUES (?, ?, ?, ?, ?, ?, ?)",
+                Arrays.<Object>asList(1, null, new BigDecimal("1E+3"), true, new byte[]{0x0f, (byte) 0xa0}, Timestamp.valueOf("2018-01-01 10:00:00"), "it's \\ \"ok\"\n"), false),
+                is("INSERT INTO t_order VALUES (1, NULL, 1000, 1, X'0FA0', '2018-01-01 10:00:00.0', 'it''s \\\\ \"ok\"\\n')"));
+    }
+    
+    @Test
+    public void assertInlineStringParameterWithBackslashEscapes() {
+        assertThat(SQLParameterInliner.inline("SELECT * FROM t_order WHERE status = ?", Collections.<Object>singletonList("\\' OR 1=1 -- "), false),
+                is("SELECT * FROM t_order WHERE status = '\\\\'' OR 1=1 -- '"));
+    }
+    
+    @Test
+    public void assertInlineStringParameterWithNoBackslashEscapes() {
+        assertThat(SQLParameterInliner.inline("SELECT * FROM t_order WHERE status = ?", Collections.<Object>singletonList("\\' OR 1=1 -- \n"), true),
+                is("SELECT * FROM t_order WHERE status = '\\'' OR 1=1 -- \n'"));
+    }
+    
+    @Test
+    public void assertInlineIgnoreQuotedAndCommentedPlaceholders() {
+        assertThat(SQLParameterInliner.inline("SELECT '?', \"a\\\"?\", `?` /* ? */ FROM t_order WHERE status = 'it''s ?' AND order_id = ? -- ?\nAND user_id = ? # ?",
+                Arrays.<Object>asList(1, 2), false),
+                is("SELECT '?', \"a\\\"?\", `?` /* ? */ FROM t_order WHERE status = 'it''s ?' AND order_id = 1 -- ?\nAND user_id = 2 # ?"));
+    }
+    
+    @Test
+    public void assertInlineDoubleDashWithoutWhitespace() {
+        assertThat(SQLParameterInliner.inline("SELECT order_id--? FROM t_order WHERE user_id = ?--\tcomment ?", Arrays.<Object>asList(1, 2), false),
+                is("SELECT order_id--1 FROM t_order WHERE user_id = 2--\tcomment ?"));
+    }
+    
+    @Test
+    public void assertInlineDoubleDashAtEnd() {
+        assertThat(SQLParameterInliner.inline("SELECT ? FROM t_order --", Collections.<Object>singletonList(1), false), is("SELECT 1 FROM t_order --"));
+    }
+    
+    @Test
+    public void assertInlineHashAndBlockComments() {
+        assertThat(SQLParameterInliner.inline("SELECT /* ? */ ? FROM t_order #?\nWHERE order_id = ?/*?*/", Arrays.<Object>asList(1, 2), false),
+                is("SELECT /* ? */ 1 FROM t_order #?\nWHERE order_id = 2/*?*/"));
+    }
+    
+    @Test
+    public void assertInlineQuotedPlaceholdersWithNoBackslashEscapes() {
+        assertThat(SQLParameterInliner.inline("SELECT 'a\\', ?, '?' FROM t_order", Collections.<Object>singletonList(1), true), is("SELECT 'a\\', 1, '?' FROM t_order"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLQueryResultTest {
+    
+    private EmbeddedChannel channel;
+    
+    private MySQLQueryResult queryResult;
+    
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel();
+        queryResult = new MySQLQueryResult(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {1, 1})), channel, 4);
+    }
+    
+    @After
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertPauseAndResumeReadByQueuedRows() throws SQLException {
+        addRows(3, true);
+        assertTrue(channel.config().isAutoRead());
+        addRows(1, true);
+        assertFalse(channel.config().isAutoRead());
+        assertTrue(queryResult.next());
+        channel.runPendingTasks();
+        assertFalse(channel.config().isAutoRead());
+        assertTrue(queryResult.next());
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertNotPauseReadWithPipelinedCommands() {
+        addRows(8, false);
+        assertTrue(channel.config().isAutoRead());
+    }
+    
+    @Test
+    public void assertResumeReadAndDiscardRowsWhenClosed() throws SQLException {
+        addRows(4, true);
+        assertFalse(channel.config().isAutoRead());
+        queryResult.close();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+        addRows(1, true);
+        queryResult.setRowFinished(new EofPacket(3));
+        assertFalse(queryResult.next());
+    }
+    
+    private void addRows(final int count, final boolean readPausable) {
+        for (int i = 0; i < count; i++) {
+            queryResult.addTextResultSetRow(new TextResultSetRowPacket(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[] {2, 1, 'a'})), 1), readPausable);
+        }
+    }
+}
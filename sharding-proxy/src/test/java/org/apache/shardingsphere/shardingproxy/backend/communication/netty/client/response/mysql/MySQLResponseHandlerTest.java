@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.response.mysql;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetaData;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.client.BackendCommand;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.fixture.MySQLStubServer;
+import org.apache.shardingsphere.shardingproxy.backend.communication.netty.future.SynchronizedFuture;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.query.ComQueryPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLResponseHandlerTest {
+    
+    private final MySQLStubServer stubServer = new MySQLStubServer();
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+    
+    private Channel channel;
+    
+    @Before
+    public void setUp() throws InterruptedException {
+        int port = stubServer.start();
+        final YamlDataSourceParameter dataSourceParameter = new YamlDataSourceParameter();
+        dataSourceParameter.setUsername("root");
+        final DataSourceMetaData dataSourceMetaData = mock(DataSourceMetaData.class);
+        when(dataSourceMetaData.getSchemaName()).thenReturn("stub_db");
+        channel = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class).handler(new ChannelInitializer<Channel>() {
+            
+            @Override
+            protected void initChannel(final Channel channel) {
+                channel.pipeline().addLast(new MySQLPacketCodec(), new MySQLResponseHandler(dataSourceParameter, dataSourceMetaData));
+            }
+        }).connect("127.0.0.1", port).sync().channel();
+    }
+    
+    @After
+    public void tearDown() {
+        channel.close();
+        eventLoopGroup.shutdownGracefully();
+        stubServer.stop();
+    }
+    
+    @Test
+    public void assertPipelinedCommands() throws InterruptedException, TimeoutException, SQLException {
+        SynchronizedFuture future = new SynchronizedFuture(3);
+        channel.write(new BackendCommand(new ComQueryPacket(0, "SELECT name, id FROM t_stub"), future, 0));
+        channel.write(new BackendCommand(new ComQueryPacket(0, "UPDATE t_stub SET name = 'foo'"), future, 1));
+        channel.writeAndFlush(new BackendCommand(new ComQueryPacket(0, "SELECT name, id FROM t_stub"), future, 2));
+        List<QueryResult> actual = future.get(5, TimeUnit.SECONDS);
+        assertQueryResult((MySQLQueryResult) actual.get(0));
+        assertThat(((MySQLQueryResult) actual.get(1)).getCommandResponsePackets().getHeadPacket(), instanceOf(OKPacket.class));
+        assertQueryResult((MySQLQueryResult) actual.get(2));
+        assertThat(stubServer.getReceivedSQLs(), is(Arrays.asList("SELECT name, id FROM t_stub", "UPDATE t_stub SET name = 'foo'", "SELECT name, id FROM t_stub")));
+    }
+    
+    private void assertQueryResult(final MySQLQueryResult actual) throws SQLException {
+        assertThat(actual.getColumnCount(), is(2));
+        assertThat(actual.getColumnLabel(1), is("name"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is((Object) ""));
+        assertThat(actual.getValue("id", Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue("name", Object.class), is((Object) "foo"));
+        assertThat(actual.getValue(2, Object.class), nullValue());
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertAbortPendingCommandsWhenChannelClosed() throws InterruptedException, TimeoutException {
+        SynchronizedFuture future = new SynchronizedFuture(2);
+        channel.write(new BackendCommand(new ComQueryPacket(0, "DO SLEEP(60)"), future, 0));
+        channel.writeAndFlush(new BackendCommand(new ComQueryPacket(0, "UPDATE t_stub SET name = 'foo'"), future, 1));
+        channel.close().sync();
+        List<QueryResult> actual = future.get(5, TimeUnit.SECONDS);
+        assertThat(((MySQLQueryResult) actual.get(0)).getCommandResponsePackets().getHeadPacket(), instanceOf(ErrPacket.class));
+        assertThat(((MySQLQueryResult) actual.get(1)).getCommandResponsePackets().getHeadPacket(), instanceOf(ErrPacket.class));
+    }
+    
+    @Test
+    public void assertErrPacketInRows() throws InterruptedException, TimeoutException, SQLException {
+        SynchronizedFuture future = new SynchronizedFuture(1);
+        channel.writeAndFlush(new BackendCommand(new ComQueryPacket(0, "SELECT name, id FROM t_stub FAIL"), future, 0));
+        MySQLQueryResult actual = (MySQLQueryResult) future.get(5, TimeUnit.SECONDS).get(0);
+        assertTrue(actual.next());
+        try {
+            actual.next();
+            fail("SQLException is expected.");
+        } catch (final SQLException ex) {
+            assertThat(ex.getErrorCode(), is(1317));
+            assertThat(ex.getSQLState(), is("70100"));
+        }
+    }
+    
+    @Test
+    public void assertNoBackslashEscapesByStatusFlags() throws InterruptedException, TimeoutException {
+        SynchronizedFuture future = new SynchronizedFuture(1);
+        channel.writeAndFlush(new BackendCommand(new ComQueryPacket(0, "UPDATE t_stub SET name = 'foo'"), future, 0));
+        future.get(5, TimeUnit.SECONDS);
+        assertFalse(MySQLResponseHandler.isNoBackslashEscapes(channel));
+        future = new SynchronizedFuture(1);
+        channel.writeAndFlush(new BackendCommand(new ComQueryPacket(0, "SET sql_mode = 'NO_BACKSLASH_ESCAPES'"), future, 0));
+        future.get(5, TimeUnit.SECONDS);
+        assertTrue(MySQLResponseHandler.isNoBackslashEscapes(channel));
+    }
+}
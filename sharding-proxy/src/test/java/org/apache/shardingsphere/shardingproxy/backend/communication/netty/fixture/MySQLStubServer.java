@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.fixture;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import lombok.Getter;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.codec.MySQLPacketCodec;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.StatusFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.ColumnDefinition41Packet;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.text.TextResultSetRowPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.EofPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.AuthPluginData;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.handshake.HandshakePacket;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stub server of MySQL protocol.
+ * 
+ * <p>Any authentication is accepted. {@code SELECT} responds result set of columns {@code name} and {@code id} with two rows,
+ * or ERR packet after first row if SQL ends with {@code FAIL}. {@code DO SLEEP} never responds and blocks following SQL of connection,
+ * {@code SET sql_mode} responds OK packet with status flag of {@code NO_BACKSLASH_ESCAPES}, and other SQL responds OK packet.</p>
+ */
+public final class MySQLStubServer {
+    
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+    
+    @Getter
+    private final List<String> receivedSQLs = new CopyOnWriteArrayList<>();
+    
+    private Channel serverChannel;
+    
+    /**
+     * Start stub server.
+     * 
+     * @return listening port
+     * @throws InterruptedException interrupted exception
+     */
+    public int start() throws InterruptedException {
+        serverChannel = new ServerBootstrap().group(eventLoopGroup).channel(NioServerSocketChannel.class).childHandler(new ChannelInitializer<Channel>() {
+            
+            @Override
+            protected void initChannel(final Channel channel) {
+                channel.pipeline().addLast(new MySQLPacketCodec(), new StubHandler());
+            }
+        }).bind("127.0.0.1", 0).sync().channel();
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+    
+    /**
+     * Stop stub server.
+     */
+    public void stop() {
+        serverChannel.close();
+        eventLoopGroup.shutdownGracefully();
+    }
+    
+    private final class StubHandler extends ChannelInboundHandlerAdapter {
+        
+        private boolean authorized;
+        
+        private boolean sleeping;
+        
+        @Override
+        public void channelActive(final ChannelHandlerContext context) {
+            context.writeAndFlush(new HandshakePacket(1, new AuthPluginData()));
+        }
+        
+        @Override
+        public void channelRead(final ChannelHandlerContext context, final Object message) {
+            try (MySQLPacketPayload payload = new MySQLPacketPayload((ByteBuf) message)) {
+                if (!authorized) {
+                    authorized = true;
+                    context.writeAndFlush(new OKPacket(2));
+                    return;
+                }
+                payload.readInt1();
+                payload.readInt1();
+                String sql = payload.readStringEOF();
+                receivedSQLs.add(sql);
+                sleeping = sleeping || sql.startsWith("DO SLEEP");
+                if (sleeping) {
+                    return;
+                }
+                if (sql.startsWith("SELECT")) {
+                    writeResultSet(context, sql.endsWith("FAIL"));
+                } else if (sql.startsWith("SET sql_mode")) {
+                    context.writeAndFlush(new OKPacket(1, 0L, 0L, StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | StatusFlag.SERVER_STATUS_NO_BACKSLASH_ESCAPES.getValue(), 0, ""));
+                } else {
+                    context.writeAndFlush(new OKPacket(1, 1L, 0L));
+                }
+            }
+        }
+        
+        private void writeResultSet(final ChannelHandlerContext context, final boolean failed) {
+            context.write(new FieldCountPacket(1, 2));
+            context.write(new ColumnDefinition41Packet(2, "stub_db", "t_stub", "t_stub", "name", "name", 10, ColumnType.MYSQL_TYPE_VAR_STRING, 0));
+            context.write(new ColumnDefinition41Packet(3, "stub_db", "t_stub", "t_stub", "id", "id", 11, ColumnType.MYSQL_TYPE_LONG, 0));
+            context.write(new EofPacket(4));
+            context.write(new TextResultSetRowPacket(5, Arrays.<Object>asList("", 1)));
+            if (failed) {
+                context.writeAndFlush(new ErrPacket(6, 1317, "70100", "Query execution was interrupted"));
+                return;
+            }
+            context.write(new TextResultSetRowPacket(6, Arrays.<Object>asList("foo", null)));
+            context.writeAndFlush(new EofPacket(7));
+        }
+    }
+}
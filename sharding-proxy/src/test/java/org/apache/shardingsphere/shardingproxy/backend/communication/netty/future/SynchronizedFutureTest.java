@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.communication.netty.future;
+
+import org.apache.shardingsphere.core.merger.QueryResult;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SynchronizedFutureTest {
+    
+    @Test
+    public void assertNotifyListenersWhenAllResponsesReceived() throws InterruptedException {
+        SynchronizedFuture future = new SynchronizedFuture(2);
+        AtomicInteger notifiedCount = new AtomicInteger();
+        future.addListener(new CountingListener(notifiedCount));
+        future.setResponse(1, mock(QueryResult.class));
+        assertThat(notifiedCount.get(), is(0));
+        future.setResponse(0, mock(QueryResult.class));
+        assertThat(notifiedCount.get(), is(1));
+        future.setResponse(0, mock(QueryResult.class));
+        assertThat(notifiedCount.get(), is(1));
+        assertThat(future.get().size(), is(2));
+    }
+    
+    @Test
+    public void assertRunListenerAtOnceWhenCompleted() {
+        SynchronizedFuture future = new SynchronizedFuture(1);
+        future.setResponse(0, mock(QueryResult.class));
+        AtomicInteger notifiedCount = new AtomicInteger();
+        future.addListener(new CountingListener(notifiedCount));
+        assertThat(notifiedCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertExpire() {
+        SynchronizedFuture future = new SynchronizedFuture(1);
+        AtomicInteger notifiedCount = new AtomicInteger();
+        future.addListener(new CountingListener(notifiedCount));
+        future.expire();
+        assertTrue(future.isExpired());
+        assertThat(notifiedCount.get(), is(1));
+        future.setResponse(0, mock(QueryResult.class));
+        assertFalse(future.isExpired());
+        assertThat(notifiedCount.get(), is(1));
+    }
+    
+    @Test
+    public void assertNotExpireWhenCompleted() {
+        SynchronizedFuture future = new SynchronizedFuture(1);
+        future.setResponse(0, mock(QueryResult.class));
+        future.expire();
+        assertFalse(future.isExpired());
+    }
+    
+    private static final class CountingListener implements Runnable {
+        
+        private final AtomicInteger notifiedCount;
+        
+        CountingListener(final AtomicInteger notifiedCount) {
+            this.notifiedCount = notifiedCount;
+        }
+        
+        @Override
+        public void run() {
+            notifiedCount.incrementAndGet();
+        }
+    }
+}
@@ -18,7 +18,12 @@
 package org.apache.shardingsphere.shardingproxy.backend.sctl;
 
 import org.apache.shardingsphere.shardingproxy.backend.ResultPacket;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.cache.QueryResultCache;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.PaginationMetrics;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.QueryBufferedRowsMetrics;
+import org.apache.shardingsphere.shardingproxy.frontend.common.ResultStreamingMetrics;
+import org.apache.shardingsphere.shardingproxy.frontend.common.executor.StripedCommandExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.FieldCountPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.QueryResponsePackets;
@@ -32,6 +37,7 @@ import java.sql.SQLException;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class ShardingCTLShowBackendHandlerTest {
@@ -64,6 +70,102 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(resultPacket.getData().iterator().next(), CoreMatchers.<Object>is(0));
     }
     
+    @Test
+    public void assertShowPeakBufferedRows() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show peak_buffered_rows", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        backendHandler.next();
+        ResultPacket resultPacket = backendHandler.getResultValue();
+        assertThat(resultPacket.getData().iterator().next(), CoreMatchers.<Object>is(QueryBufferedRowsMetrics.getInstance().getPeakBufferedRows()));
+    }
+    
+    @Test
+    public void assertShowDataSourceStatisticsWithoutLogicSchema() throws SQLException {
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show data_source_statistics", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        assertFalse(backendHandler.next());
+    }
+    
+    @Test
+    public void assertShowTableStatisticsWithoutLogicSchema() throws SQLException {
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show table_statistics", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        assertFalse(backendHandler.next());
+    }
+    
+    @Test
+    public void assertShowExecutorStatistics() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show executor_statistics", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        backendHandler.next();
+        ResultPacket resultPacket = backendHandler.getResultValue();
+        assertThat(resultPacket.getData().iterator().next().toString(), containsString("queue_size="));
+        assertFalse(backendHandler.next());
+    }
+    
+    @Test
+    public void assertShowCommandStripeStatistics() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show command_stripe_statistics", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        int stripeCount = 0;
+        while (backendHandler.next()) {
+            assertThat(backendHandler.getResultValue().getData().iterator().next().toString(), containsString("stripe-" + stripeCount++));
+        }
+        assertThat(stripeCount, is(StripedCommandExecutorGroup.getInstance().getStatistics().size()));
+    }
+    
+    @Test
+    public void assertShowXACarrierStatistics() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show xa_carrier_statistics", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        backendHandler.next();
+        ResultPacket resultPacket = backendHandler.getResultValue();
+        assertThat(resultPacket.getData().iterator().next().toString(), containsString("waiting_sessions="));
+    }
+    
+    @Test
+    public void assertShowPaginationSavedRows() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show pagination_saved_rows", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        backendHandler.next();
+        ResultPacket resultPacket = backendHandler.getResultValue();
+        assertThat(resultPacket.getData().iterator().next(), CoreMatchers.<Object>is(PaginationMetrics.getInstance().getSavedRowCount()));
+    }
+    
+    @Test
+    public void assertShowResultCacheHitRatio() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show result_cache_hit_ratio", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        backendHandler.next();
+        ResultPacket resultPacket = backendHandler.getResultValue();
+        assertThat(resultPacket.getData().iterator().next(), CoreMatchers.<Object>is(QueryResultCache.getInstance().getHitRatio()));
+    }
+    
+    @Test
+    public void assertShowTotalPausedStreams() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show total_paused_streams", backendConnection);
+        CommandResponsePackets actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponsePackets.class));
+        backendHandler.next();
+        ResultPacket resultPacket = backendHandler.getResultValue();
+        assertThat(resultPacket.getData().iterator().next(), CoreMatchers.<Object>is(ResultStreamingMetrics.getInstance().getTotalPausedCount()));
+    }
+    
     @Test
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.backend.text.query;
+
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabasePacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ServerErrorCode;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.StatusFlag;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MultiStatementsBackendHandlerTest {
+    
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Test
+    public void assertExecuteWithMoreResults() {
+        MultiStatementsBackendHandler multiStatementsBackendHandler = new MultiStatementsBackendHandler(Arrays.asList("SET AUTOCOMMIT=1", "SET AUTOCOMMIT=1"), backendConnection);
+        List<DatabasePacket> actual = new ArrayList<>(multiStatementsBackendHandler.execute().getPackets());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getSequenceId(), is(1));
+        assertThat(((OKPacket) actual.get(0)).getStatusFlags(), is(StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue()));
+        assertThat(actual.get(1).getSequenceId(), is(2));
+        assertThat(((OKPacket) actual.get(1)).getStatusFlags(), is(StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
+        assertFalse(multiStatementsBackendHandler.next());
+    }
+    
+    @Test
+    public void assertExecuteStopAtFirstError() {
+        MultiStatementsBackendHandler multiStatementsBackendHandler = new MultiStatementsBackendHandler(
+                Arrays.asList("SET AUTOCOMMIT=1", "INSERT INTO t_order VALUES (1)", "SET AUTOCOMMIT=1"), backendConnection);
+        List<DatabasePacket> actual = new ArrayList<>(multiStatementsBackendHandler.execute().getPackets());
+        assertThat(actual.size(), is(2));
+        assertThat(((OKPacket) actual.get(0)).getStatusFlags(), is(StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue() | StatusFlag.SERVER_MORE_RESULTS_EXISTS.getValue()));
+        assertThat(actual.get(1).getSequenceId(), is(2));
+        assertThat(((ErrPacket) actual.get(1)).getErrorCode(), is(ServerErrorCode.ER_NO_DB_ERROR.getErrorCode()));
+    }
+}
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.shardingproxy.frontend;
 
 import org.apache.shardingsphere.shardingproxy.frontend.common.FrontendHandlerFactoryTest;
-import org.apache.shardingsphere.shardingproxy.frontend.common.executor.ChannelThreadExecutorGroupTest;
+import org.apache.shardingsphere.shardingproxy.frontend.common.FrontendHandlerTest;
+import org.apache.shardingsphere.shardingproxy.frontend.common.ResultStreamingMetricsTest;
+import org.apache.shardingsphere.shardingproxy.frontend.common.executor.StripedCommandExecutorGroupTest;
 import org.apache.shardingsphere.shardingproxy.frontend.common.executor.ExecutorGroupTest;
 import org.apache.shardingsphere.shardingproxy.frontend.mysql.MySQLFrontendHandlerTest;
 import org.junit.runner.RunWith;
@@ -28,9 +30,11 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         FrontendHandlerFactoryTest.class,
+        FrontendHandlerTest.class, 
         MySQLFrontendHandlerTest.class, 
         ExecutorGroupTest.class, 
-        ChannelThreadExecutorGroupTest.class
+        StripedCommandExecutorGroupTest.class, 
+        ResultStreamingMetricsTest.class
 })
 public final class AllFrontendTests {
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.shardingproxy.frontend.common;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelId;
+import lombok.RequiredArgsConstructor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FrontendHandlerTest {
+    
+    private final FrontendHandler frontendHandler = new FixtureFrontendHandler();
+    
+    private final ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+    
+    private final Channel channel = mock(Channel.class);
+    
+    private final List<String> actual = new LinkedList<>();
+    
+    @Before
+    public void setUp() {
+        ChannelId channelId = mock(ChannelId.class);
+        when(channelId.asShortText()).thenReturn("1");
+        when(channel.id()).thenReturn(channelId);
+        when(channel.isActive()).thenReturn(true);
+        when(context.channel()).thenReturn(channel);
+    }
+    
+    @Test
+    public void assertHoldCommandUntilPreviousFinished() {
+        frontendHandler.submitCommand(context, new RecordingCommand(actual, "first"));
+        frontendHandler.submitCommand(context, new RecordingCommand(actual, "second"));
+        assertThat(actual, is(Collections.singletonList("first")));
+        frontendHandler.finishCommand(context);
+        assertThat(actual, is(Arrays.asList("first", "second")));
+    }
+    
+    @Test
+    public void assertResumeStreamingBeforeHeldCommand() {
+        frontendHandler.submitCommand(context, new RecordingCommand(actual, "paused"));
+        when(channel.isWritable()).thenReturn(false);
+        frontendHandler.pauseStreaming(context, new RecordingCommand(actual, "resumed"));
+        frontendHandler.submitCommand(context, new RecordingCommand(actual, "pipelined"));
+        assertThat(actual, is(Collections.singletonList("paused")));
+        when(channel.isWritable()).thenReturn(true);
+        frontendHandler.resumeStreaming(context);
+        assertThat(actual, is(Arrays.asList("paused", "resumed")));
+        frontendHandler.finishCommand(context);
+        assertThat(actual, is(Arrays.asList("paused", "resumed", "pipelined")));
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RecordingCommand implements Runnable {
+        
+        private final List<String> records;
+        
+        private final String name;
+        
+        @Override
+        public void run() {
+            records.add(name);
+        }
+    }
+    
+    private static final class FixtureFrontendHandler extends FrontendHandler {
+        
+        @Override
+        protected void handshake(final ChannelHandlerContext context) {
+        }
+        
+        @Override
+        protected void auth(final ChannelHandlerContext context, final ByteBuf message) {
+        }
+        
+        @Override
+        protected void executeCommand(final ChannelHandlerContext context, final ByteBuf message) {
+        }
+        
+        @Override
+        protected void closePreparedStatements() {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.common;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ResultStreamingMetricsTest {
+    
+    private EmbeddedChannel channel;
+    
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel();
+    }
+    
+    @After
+    public void tearDown() {
+        ResultStreamingMetrics.getInstance().resumed(channel);
+        channel.finishAndReleaseAll();
+    }
+    
+    @Test
+    public void assertPausedAndResumed() {
+        long totalPausedCount = ResultStreamingMetrics.getInstance().getTotalPausedCount();
+        ResultStreamingMetrics.getInstance().paused(channel);
+        assertThat(ResultStreamingMetrics.getInstance().getPausedStreamCount(), is(1));
+        assertThat(ResultStreamingMetrics.getInstance().getTotalPausedCount(), is(totalPausedCount + 1));
+        ResultStreamingMetrics.getInstance().resumed(channel);
+        assertThat(ResultStreamingMetrics.getInstance().getPausedStreamCount(), is(0));
+        assertThat(ResultStreamingMetrics.getInstance().getTotalPausedCount(), is(totalPausedCount + 1));
+    }
+    
+    @Test
+    public void assertGetBufferedBytes() {
+        channel.write(Unpooled.wrappedBuffer(new byte[10]));
+        ResultStreamingMetrics.getInstance().paused(channel);
+        assertThat(ResultStreamingMetrics.getInstance().getBufferedBytes(channel), is(10L));
+        assertThat(ResultStreamingMetrics.getInstance().getPausedBufferedBytes(), is(10L));
+        channel.flush();
+        assertThat(ResultStreamingMetrics.getInstance().getBufferedBytes(channel), is(0L));
+    }
+}
@@ -21,7 +21,7 @@ import io.netty.channel.ChannelId;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Test;
 
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -32,13 +32,21 @@ public final class ExecutorGroupTest {
     @Test
     public void assertGetExecutorServiceWithLocal() {
         ChannelId channelId = mock(ChannelId.class);
-        assertThat(CommandExecutorSelector.getExecutor(TransactionType.LOCAL, channelId), instanceOf(ExecutorService.class));
+        StripedCommandExecutorGroup.getInstance().register(channelId);
+        assertThat(CommandExecutorSelector.getExecutor(TransactionType.LOCAL, channelId), instanceOf(Executor.class));
+        StripedCommandExecutorGroup.getInstance().unregister(channelId);
     }
     
     @Test
     public void assertGetExecutorServiceWithXA() {
         ChannelId channelId = mock(ChannelId.class);
-        ChannelThreadExecutorGroup.getInstance().register(channelId);
-        assertThat(CommandExecutorSelector.getExecutor(TransactionType.XA, channelId), instanceOf(ExecutorService.class));
+        StripedCommandExecutorGroup.getInstance().register(channelId);
+        assertThat(CommandExecutorSelector.getExecutor(TransactionType.XA, channelId), instanceOf(Executor.class));
+        StripedCommandExecutorGroup.getInstance().unregister(channelId);
+    }
+    
+    @Test
+    public void assertGetExecutorServiceWithUnregisteredChannel() {
+        assertThat(CommandExecutorSelector.getExecutor(TransactionType.LOCAL, mock(ChannelId.class)), instanceOf(Executor.class));
     }
 }
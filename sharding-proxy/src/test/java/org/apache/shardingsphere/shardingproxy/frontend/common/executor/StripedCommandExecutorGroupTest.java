@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.common.executor;
+
+import io.netty.channel.ChannelId;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStateHandler;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ConnectionStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StripedCommandExecutorGroupTest {
+    
+    private StripedCommandExecutorGroup executorGroup;
+    
+    @Before
+    public void setUp() {
+        executorGroup = new StripedCommandExecutorGroup(2, 4);
+    }
+    
+    @After
+    public void tearDown() {
+        executorGroup.close();
+    }
+    
+    @Test
+    public void assertRegister() {
+        ChannelId channelId = mock(ChannelId.class);
+        executorGroup.register(channelId);
+        assertNotNull(executorGroup.get(channelId));
+        assertThat(executorGroup.getStatistics().get(0).getSessionCount(), is(1));
+    }
+    
+    @Test
+    public void assertRegisterToLeastBusyStripe() {
+        executorGroup.register(mock(ChannelId.class));
+        executorGroup.register(mock(ChannelId.class));
+        assertThat(executorGroup.getStatistics().get(0).getSessionCount(), is(1));
+        assertThat(executorGroup.getStatistics().get(1).getSessionCount(), is(1));
+    }
+    
+    @Test
+    public void assertUnregister() {
+        ChannelId channelId = mock(ChannelId.class);
+        executorGroup.register(channelId);
+        executorGroup.unregister(channelId);
+        assertNull(executorGroup.get(channelId));
+        assertThat(executorGroup.getStatistics().get(0).getSessionCount(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteInSubmittedOrder() throws InterruptedException {
+        ChannelId channelId = mock(ChannelId.class);
+        executorGroup.register(channelId);
+        final List<Integer> actual = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            executorGroup.get(channelId).getExecutor(0 == i % 2).execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    actual.add(index);
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+        assertThat(executorGroup.getStatistics().get(0).getQueueDepth(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteWithThreadAffinity() throws InterruptedException {
+        ChannelId channelId = mock(ChannelId.class);
+        executorGroup.register(channelId);
+        final List<Thread> actual = new CopyOnWriteArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            executorGroup.get(channelId).getExecutor(true).execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    actual.add(Thread.currentThread());
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (Thread each : actual) {
+            assertThat(each, is(actual.get(0)));
+        }
+    }
+    
+    @Test
+    public void assertStealFromBusyStripe() throws InterruptedException {
+        ChannelId busyChannelId = mock(ChannelId.class);
+        ChannelId otherChannelId = mock(ChannelId.class);
+        ChannelId stolenChannelId = mock(ChannelId.class);
+        executorGroup.register(busyChannelId);
+        executorGroup.register(otherChannelId);
+        executorGroup.register(stolenChannelId);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        executorGroup.get(busyChannelId).getExecutor(false).execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    blocking.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        final CountDownLatch stolen = new CountDownLatch(1);
+        final List<Thread> actual = new CopyOnWriteArrayList<>();
+        executorGroup.get(stolenChannelId).getExecutor(false).execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                actual.add(Thread.currentThread());
+                stolen.countDown();
+            }
+        });
+        try {
+            assertTrue(stolen.await(5, TimeUnit.SECONDS));
+        } finally {
+            blocking.countDown();
+        }
+        assertThat(executorGroup.getStatistics().get(1).getStolenCount(), is(1L));
+        assertThat(executorGroup.getStatistics().get(0).getExecutedCount(), not(0L));
+    }
+    
+    @Test
+    public void assertBlockedPinnedSessionNotBlockStripe() throws InterruptedException {
+        StripedCommandExecutorGroup singleStripeGroup = new StripedCommandExecutorGroup(1, 1);
+        ChannelId pinnedChannelId = mock(ChannelId.class);
+        ChannelId otherChannelId = mock(ChannelId.class);
+        singleStripeGroup.register(pinnedChannelId);
+        singleStripeGroup.register(otherChannelId);
+        final CountDownLatch blocking = new CountDownLatch(1);
+        final CountDownLatch executed = new CountDownLatch(1);
+        try {
+            singleStripeGroup.get(pinnedChannelId).getExecutor(true).execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    try {
+                        blocking.await(10, TimeUnit.SECONDS);
+                    } catch (final InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            singleStripeGroup.get(otherChannelId).getExecutor(false).execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    executed.countDown();
+                }
+            });
+            assertTrue(executed.await(5, TimeUnit.SECONDS));
+        } finally {
+            blocking.countDown();
+            singleStripeGroup.close();
+        }
+    }
+    
+    @Test
+    public void assertReusePinnedCarrierAfterTransaction() throws InterruptedException {
+        StripedCommandExecutorGroup singleCarrierGroup = new StripedCommandExecutorGroup(1, 1);
+        ChannelId firstChannelId = mock(ChannelId.class);
+        ChannelId secondChannelId = mock(ChannelId.class);
+        singleCarrierGroup.register(firstChannelId);
+        singleCarrierGroup.register(secondChannelId);
+        List<Thread> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        try {
+            singleCarrierGroup.get(firstChannelId).getExecutor(true).execute(new ThreadRecorder(actual, latch));
+            singleCarrierGroup.get(secondChannelId).getExecutor(true).execute(new ThreadRecorder(actual, latch));
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertThat(actual.get(1), is(actual.get(0)));
+            assertThat(singleCarrierGroup.getPinnedCarrierCount(), is(1));
+        } finally {
+            singleCarrierGroup.close();
+        }
+    }
+    
+    @Test
+    public void assertKeepPinnedCarrierInTransaction() throws InterruptedException {
+        StripedCommandExecutorGroup singleCarrierGroup = new StripedCommandExecutorGroup(1, 1);
+        ChannelId transactionChannelId = mock(ChannelId.class);
+        ChannelId waitingChannelId = mock(ChannelId.class);
+        ConnectionStateHandler stateHandler = mock(ConnectionStateHandler.class);
+        when(stateHandler.getStatus()).thenReturn(ConnectionStatus.TRANSACTION);
+        singleCarrierGroup.register(transactionChannelId, stateHandler);
+        singleCarrierGroup.register(waitingChannelId);
+        List<Thread> actual = new CopyOnWriteArrayList<>();
+        CountDownLatch transactionLatch = new CountDownLatch(1);
+        CountDownLatch waitingLatch = new CountDownLatch(1);
+        try {
+            singleCarrierGroup.get(transactionChannelId).getExecutor(true).execute(new ThreadRecorder(actual, transactionLatch));
+            assertTrue(transactionLatch.await(5, TimeUnit.SECONDS));
+            singleCarrierGroup.get(waitingChannelId).getExecutor(true).execute(new ThreadRecorder(actual, waitingLatch));
+            assertFalse(waitingLatch.await(200, TimeUnit.MILLISECONDS));
+            assertThat(singleCarrierGroup.getPinnedCarrierWaitingCount(), is(1));
+            when(stateHandler.getStatus()).thenReturn(ConnectionStatus.TERMINATED);
+            singleCarrierGroup.get(transactionChannelId).getExecutor(true).execute(new ThreadRecorder(actual, new CountDownLatch(1)));
+            assertTrue(waitingLatch.await(5, TimeUnit.SECONDS));
+            assertThat(actual.get(2), is(actual.get(0)));
+            assertThat(singleCarrierGroup.getPinnedCarrierWaitingCount(), is(0));
+        } finally {
+            singleCarrierGroup.close();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ThreadRecorder implements Runnable {
+        
+        private final List<Thread> threads;
+        
+        private final CountDownLatch latch;
+        
+        @Override
+        public void run() {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        }
+    }
+}
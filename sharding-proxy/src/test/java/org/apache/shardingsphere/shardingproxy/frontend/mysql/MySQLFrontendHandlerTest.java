@@ -24,6 +24,7 @@ import io.netty.channel.ChannelId;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.rule.Authentication;
+import org.apache.shardingsphere.shardingproxy.frontend.common.executor.StripedCommandExecutorGroup;
 import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.ErrPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.generic.OKPacket;
@@ -98,7 +99,11 @@ public final class MySQLFrontendHandlerTest {
         when(channel.id()).thenReturn(channelId);
         when(context.channel()).thenReturn(channel);
         setTransactionType();
+        StripedCommandExecutorGroup.getInstance().register(channelId);
         mysqlFrontendHandler.executeCommand(context, mock(ByteBuf.class));
+        mysqlFrontendHandler.channelReadComplete(context);
+        verify(context).fireChannelReadComplete();
+        StripedCommandExecutorGroup.getInstance().unregister(channelId);
     }
     
     private void setAuthentication(final Object value) throws ReflectiveOperationException {
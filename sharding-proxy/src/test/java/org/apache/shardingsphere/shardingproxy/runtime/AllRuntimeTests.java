@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.shardingproxy.runtime;
 
 import org.apache.shardingsphere.shardingproxy.runtime.metadata.ProxyTableMetaDataConnectionManagerTest;
+import org.apache.shardingsphere.shardingproxy.runtime.warmup.WarmUpEngineTest;
+import org.apache.shardingsphere.shardingproxy.runtime.warmup.WarmUpSQLRecorderTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
@@ -25,7 +27,9 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
         ProxyTableMetaDataConnectionManagerTest.class, 
-        ChannelRegistryTest.class
+        ChannelRegistryTest.class, 
+        WarmUpSQLRecorderTest.class, 
+        WarmUpEngineTest.class
 })
 public final class AllRuntimeTests {
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.runtime.warmup;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.runtime.schema.LogicSchema;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class WarmUpEngineTest {
+    
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    
+    @After
+    public void tearDown() {
+        WarmUpSQLRecorder.getInstance().init(0);
+    }
+    
+    @Test
+    public void assertWarmUpConnections() throws SQLException {
+        Map<String, YamlDataSourceParameter> dataSources = new LinkedHashMap<>(2, 1);
+        dataSources.put("ds_0", createDataSourceParameter(10));
+        dataSources.put("ds_1", createDataSourceParameter(2));
+        LogicSchema logicSchema = mock(LogicSchema.class);
+        when(logicSchema.getDataSources()).thenReturn(dataSources);
+        JDBCBackendDataSource backendDataSource = mock(JDBCBackendDataSource.class);
+        when(logicSchema.getBackendDataSource()).thenReturn(backendDataSource);
+        Connection connection = mock(Connection.class);
+        when(backendDataSource.getConnection("ds_0")).thenReturn(connection);
+        when(backendDataSource.getConnection("ds_1")).thenThrow(new SQLException("failure"));
+        assertThat(new WarmUpEngine().warmUpConnections(Collections.singletonList(logicSchema), 4), is(4));
+        verify(backendDataSource, times(4)).getConnection("ds_0");
+        verify(backendDataSource, times(2)).getConnection("ds_1");
+        verify(connection, times(4)).close();
+    }
+    
+    @Test
+    public void assertWarmUpConnectionsWithoutDataSource() {
+        LogicSchema logicSchema = mock(LogicSchema.class);
+        when(logicSchema.getDataSources()).thenReturn(Collections.<String, YamlDataSourceParameter>emptyMap());
+        assertThat(new WarmUpEngine().warmUpConnections(Collections.singletonList(logicSchema), 4), is(0));
+    }
+    
+    private YamlDataSourceParameter createDataSourceParameter(final int maxPoolSize) {
+        YamlDataSourceParameter result = new YamlDataSourceParameter();
+        result.setMaxPoolSize(maxPoolSize);
+        return result;
+    }
+    
+    @Test
+    public void assertWarmUpParsingResultCacheWithoutShardingSchema() {
+        assertThat(new WarmUpEngine().warmUpParsingResultCache(Collections.singletonList(mock(LogicSchema.class)), Collections.singletonList("SELECT 1")), is(0));
+    }
+    
+    @Test
+    public void assertLoadSQLsWhenFileNotExisted() {
+        assertTrue(new WarmUpEngine().loadSQLs(new File(temporaryFolder.getRoot(), "not_existed.sql")).isEmpty());
+    }
+    
+    @Test
+    public void assertSaveAndLoadRecordedSQLs() throws IOException {
+        WarmUpSQLRecorder.getInstance().init(10);
+        WarmUpSQLRecorder.getInstance().record("SELECT * FROM t_order WHERE order_id = ?");
+        WarmUpSQLRecorder.getInstance().record("SELECT * FROM t_order WHERE order_id = ?");
+        WarmUpSQLRecorder.getInstance().record("INSERT INTO t_order VALUES (?, ';')");
+        File sqlFile = temporaryFolder.newFile("warm_up.sql");
+        Files.write("SELECT * FROM t_user;", sqlFile, Charsets.UTF_8);
+        WarmUpEngine warmUpEngine = new WarmUpEngine();
+        File recordedSQLFile = warmUpEngine.getRecordedSQLFile(sqlFile);
+        warmUpEngine.saveRecordedSQLs(recordedSQLFile);
+        assertThat(warmUpEngine.loadSQLs(sqlFile), is(Collections.singletonList("SELECT * FROM t_user")));
+        assertThat(warmUpEngine.loadSQLs(recordedSQLFile), is(Arrays.asList("SELECT * FROM t_order WHERE order_id = ?", "INSERT INTO t_order VALUES (?, ';')")));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.runtime.warmup;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class WarmUpSQLRecorderTest {
+    
+    @After
+    public void tearDown() {
+        WarmUpSQLRecorder.getInstance().init(0);
+    }
+    
+    @Test
+    public void assertRecordWhenDisabled() {
+        WarmUpSQLRecorder.getInstance().init(0);
+        WarmUpSQLRecorder.getInstance().record("SELECT 1");
+        assertFalse(WarmUpSQLRecorder.getInstance().isEnabled());
+        assertTrue(WarmUpSQLRecorder.getInstance().getMostFrequentSQLs().isEmpty());
+    }
+    
+    @Test
+    public void assertGetMostFrequentSQLs() {
+        WarmUpSQLRecorder.getInstance().init(2);
+        WarmUpSQLRecorder.getInstance().record("SELECT 1");
+        WarmUpSQLRecorder.getInstance().record("SELECT 2");
+        WarmUpSQLRecorder.getInstance().record("SELECT 2");
+        WarmUpSQLRecorder.getInstance().record("SELECT 3");
+        WarmUpSQLRecorder.getInstance().record("SELECT 3");
+        WarmUpSQLRecorder.getInstance().record("SELECT 3");
+        assertThat(WarmUpSQLRecorder.getInstance().getMostFrequentSQLs(), is(Arrays.asList("SELECT 3", "SELECT 2")));
+    }
+    
+    @Test
+    public void assertRecordBeyondMaxDistinctCount() {
+        WarmUpSQLRecorder.getInstance().init(1);
+        WarmUpSQLRecorder.getInstance().record("SELECT 1");
+        WarmUpSQLRecorder.getInstance().record("SELECT 2");
+        WarmUpSQLRecorder.getInstance().record("SELECT 3");
+        WarmUpSQLRecorder.getInstance().record("SELECT 3");
+        assertThat(WarmUpSQLRecorder.getInstance().getMostFrequentSQLs(), is(Collections.singletonList("SELECT 3")));
+    }
+}
@@ -18,13 +18,15 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -35,8 +37,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -79,17 +79,71 @@ public final class MySQLPacketCodecTest {
     
     @Test
     public void assertDoEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodec().doEncode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodec().doEncode(context, new FixedLengthPacket(1, 50), out);
+        assertThat(out.readableBytes(), is(54));
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+    }
+    
+    @Test
+    public void assertDoEncodeWithLargePayload() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodec packetCodec = new MySQLPacketCodec();
+        ByteBuf out = Unpooled.buffer();
+        packetCodec.doEncode(context, new FixedLengthPacket(1, MySQLPacketCodec.MAX_PAYLOAD_LENGTH + 10), out);
+        packetCodec.doEncode(context, new FixedLengthPacket(2, 5), out);
+        assertThat(out.readableBytes(), is(MySQLPacketCodec.MAX_PAYLOAD_LENGTH + 10 + 5 + 12));
+        assertThat(out.readMediumLE(), is(MySQLPacketCodec.MAX_PAYLOAD_LENGTH));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        out.skipBytes(MySQLPacketCodec.MAX_PAYLOAD_LENGTH);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+        out.skipBytes(10);
+        assertThat(out.readMediumLE(), is(5));
+        assertThat(out.readUnsignedByte(), is((short) 3));
+    }
+    
+    @Test
+    public void assertDoEncodeAfterCommandPacketDecoded() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        MySQLPacketCodec packetCodec = new MySQLPacketCodec();
+        ByteBuf out = Unpooled.buffer();
+        packetCodec.doEncode(context, new FixedLengthPacket(1, MySQLPacketCodec.MAX_PAYLOAD_LENGTH + 10), out);
+        ByteBuf commandPacket = Unpooled.buffer().writeMediumLE(1).writeByte(0).writeByte(0x0e);
+        List<Object> decoded = new LinkedList<>();
+        packetCodec.doDecode(context, commandPacket, decoded, commandPacket.readableBytes());
+        out.clear();
+        packetCodec.doEncode(context, new FixedLengthPacket(1, 5), out);
+        assertThat(decoded.size(), is(1));
+        assertThat(out.readMediumLE(), is(5));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+    }
+    
+    @Test
+    public void assertDoEncodeWithMaxPayloadLength() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodec().doEncode(context, new FixedLengthPacket(1, MySQLPacketCodec.MAX_PAYLOAD_LENGTH), out);
+        assertThat(out.readableBytes(), is(MySQLPacketCodec.MAX_PAYLOAD_LENGTH + 8));
+        assertThat(out.readMediumLE(), is(MySQLPacketCodec.MAX_PAYLOAD_LENGTH));
+        assertThat(out.readUnsignedByte(), is((short) 1));
+        out.skipBytes(MySQLPacketCodec.MAX_PAYLOAD_LENGTH);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readUnsignedByte(), is((short) 2));
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class FixedLengthPacket implements MySQLPacket {
+        
+        private final int sequenceId;
+        
+        private final int length;
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            payload.getByteBuf().writeZero(length);
+        }
     }
 }
@@ -31,6 +31,6 @@ public final class CapabilityFlagTest {
     
     @Test
     public void assertCalculateHandshakeCapabilityFlagsUpper() {
-        assertThat(CapabilityFlag.calculateHandshakeCapabilityFlagsUpper(), is(0));
+        assertThat(CapabilityFlag.calculateHandshakeCapabilityFlagsUpper(), is(3));
     }
 }
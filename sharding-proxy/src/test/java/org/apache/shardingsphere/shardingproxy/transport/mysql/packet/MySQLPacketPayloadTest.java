@@ -24,7 +24,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -171,6 +173,21 @@ public final class MySQLPacketPayloadTest {
         assertThat(new MySQLPacketPayload(byteBuf).readStringLenenc(), is(""));
     }
     
+    @Test
+    public void assertReadNullIfPresent() {
+        when(byteBuf.readerIndex()).thenReturn(0);
+        when(byteBuf.getUnsignedByte(0)).thenReturn((short) 0xfb);
+        assertTrue(new MySQLPacketPayload(byteBuf).readNullIfPresent());
+        verify(byteBuf).skipBytes(1);
+    }
+    
+    @Test
+    public void assertReadNullIfAbsent() {
+        when(byteBuf.readerIndex()).thenReturn(0);
+        when(byteBuf.getUnsignedByte(0)).thenReturn((short) 0);
+        assertFalse(new MySQLPacketPayload(byteBuf).readNullIfPresent());
+    }
+    
     @Test
     public void assertReadStringLenencByBytes() {
         when(byteBuf.readByte()).thenReturn((byte) 0);
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.ad
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.admin.initdb.ComInitDbPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.admin.ping.ComPingPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.admin.quit.ComQuitPacket;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatement;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close.ComStmtClosePacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.ComStmtExecutePacket;
@@ -124,8 +125,8 @@ public final class CommandPacketFactoryTest {
     @Test
     public void assertNewInstanceWithComStmtExecutePacket() throws SQLException {
         when(payload.readInt1()).thenReturn(CommandPacketType.COM_STMT_EXECUTE.getValue(), NewParametersBoundFlag.PARAMETER_TYPE_EXIST.getValue());
-        when(payload.readInt4()).thenReturn(1);
-        BinaryStatementRegistry.getInstance().register("SELECT * FROM t_order", 1);
+        int statementId = BinaryStatementRegistry.getInstance().register(backendConnection.getConnectionId(), new BinaryStatement("SELECT * FROM t_order", 1, null, null)).get();
+        when(payload.readInt4()).thenReturn(statementId, 1);
         assertThat(CommandPacketFactory.newInstance(1, payload, backendConnection), instanceOf(ComStmtExecutePacket.class));
     }
     
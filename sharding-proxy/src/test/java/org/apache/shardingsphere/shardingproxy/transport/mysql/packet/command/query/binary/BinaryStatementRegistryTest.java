@@ -17,12 +17,21 @@
 
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary;
 
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.shardingproxy.runtime.GlobalRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.util.Properties;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class BinaryStatementRegistryTest {
@@ -33,22 +42,67 @@ public final class BinaryStatementRegistryTest {
     @After
     public void reset() {
         BinaryStatementRegistryUtil.reset();
+        setShardingProperties(new Properties());
+    }
+    
+    @SneakyThrows
+    private void setShardingProperties(final Properties props) {
+        Field field = GlobalRegistry.class.getDeclaredField("shardingProperties");
+        field.setAccessible(true);
+        field.set(GlobalRegistry.getInstance(), new ShardingProperties(props));
     }
     
     @Test
-    public void assertRegisterIfAbsent() {
-        assertThat(BinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        BinaryStatement actual = BinaryStatementRegistry.getInstance().getBinaryStatement(1);
+    public void assertRegister() {
+        assertThat(BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null)).get(), is(1));
+        BinaryStatement actual = BinaryStatementRegistry.getInstance().getBinaryStatement(1, 1);
         assertThat(actual.getSql(), is(sql));
         assertThat(actual.getParametersCount(), is(1));
+        assertThat(BinaryStatementRegistry.getInstance().getStatementsCount(), is(1));
     }
     
     @Test
-    public void assertRegisterIfPresent() {
-        assertThat(BinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        assertThat(BinaryStatementRegistry.getInstance().register(sql, 1), is(1));
-        BinaryStatement actual = BinaryStatementRegistry.getInstance().getBinaryStatement(1);
-        assertThat(actual.getSql(), is(sql));
-        assertThat(actual.getParametersCount(), is(1));
+    public void assertRegisterForSameConnection() {
+        assertThat(BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null)).get(), is(1));
+        assertThat(BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null)).get(), is(2));
+        assertThat(BinaryStatementRegistry.getInstance().getStatementsCount(), is(2));
+    }
+    
+    @Test
+    public void assertRegisterForDifferentConnections() {
+        assertThat(BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null)).get(), is(1));
+        assertThat(BinaryStatementRegistry.getInstance().register(2, new BinaryStatement(sql, 1, null, null)).get(), is(1));
+        assertNull(BinaryStatementRegistry.getInstance().getBinaryStatement(3, 1));
+    }
+    
+    @Test
+    public void assertRegisterWhenMaxCountReached() {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.PROXY_PREPARED_STATEMENT_MAX_COUNT.getKey(), String.valueOf(1));
+        setShardingProperties(props);
+        assertThat(BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null)).get(), is(1));
+        assertFalse(BinaryStatementRegistry.getInstance().register(2, new BinaryStatement(sql, 1, null, null)).isPresent());
+        BinaryStatementRegistry.getInstance().close(1, 1);
+        assertThat(BinaryStatementRegistry.getInstance().register(2, new BinaryStatement(sql, 1, null, null)).get(), is(1));
+    }
+    
+    @Test
+    public void assertClose() {
+        BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null));
+        BinaryStatementRegistry.getInstance().close(1, 1);
+        BinaryStatementRegistry.getInstance().close(1, 1);
+        assertNull(BinaryStatementRegistry.getInstance().getBinaryStatement(1, 1));
+        assertThat(BinaryStatementRegistry.getInstance().getStatementsCount(), is(0));
+    }
+    
+    @Test
+    public void assertCloseAll() {
+        BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null));
+        BinaryStatementRegistry.getInstance().register(1, new BinaryStatement(sql, 1, null, null));
+        BinaryStatementRegistry.getInstance().register(2, new BinaryStatement(sql, 1, null, null));
+        BinaryStatementRegistry.getInstance().closeAll(1);
+        assertNull(BinaryStatementRegistry.getInstance().getBinaryStatement(1, 1));
+        assertThat(BinaryStatementRegistry.getInstance().getBinaryStatement(2, 1).getSql(), is(sql));
+        assertThat(BinaryStatementRegistry.getInstance().getStatementsCount(), is(1));
     }
 }
@@ -18,8 +18,14 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.close;
 
 import com.google.common.base.Optional;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatement;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -27,6 +33,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -36,17 +43,30 @@ public final class ComStmtClosePacketTest {
     @Mock
     private MySQLPacketPayload payload;
     
+    @Mock
+    private BackendConnection backendConnection;
+    
+    @Before
+    @After
+    public void reset() {
+        BinaryStatementRegistryUtil.reset();
+    }
+    
     @Test
     public void assertExecute() {
+        when(backendConnection.getConnectionId()).thenReturn(1);
+        BinaryStatementRegistry.getInstance().register(1, new BinaryStatement("SELECT id FROM tbl WHERE id=?", 1, null, null));
         when(payload.readInt4()).thenReturn(1);
-        Optional<CommandResponsePackets> actual = new ComStmtClosePacket(1, payload).execute();
+        Optional<CommandResponsePackets> actual = new ComStmtClosePacket(1, payload, backendConnection).execute();
         assertFalse(actual.isPresent());
+        assertNull(BinaryStatementRegistry.getInstance().getBinaryStatement(1, 1));
+        assertThat(BinaryStatementRegistry.getInstance().getStatementsCount(), is(0));
     }
     
     @Test
     public void assertWrite() {
         when(payload.readInt4()).thenReturn(1);
-        ComStmtClosePacket actual = new ComStmtClosePacket(1, payload);
+        ComStmtClosePacket actual = new ComStmtClosePacket(1, payload, backendConnection);
         assertThat(actual.getSequenceId(), is(1));
         actual.write(payload);
     }
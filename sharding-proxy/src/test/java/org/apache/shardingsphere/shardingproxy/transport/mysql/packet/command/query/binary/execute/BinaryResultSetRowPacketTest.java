@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.q
 
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.execute.protocol.BinaryProtocolValueFactory;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -46,4 +47,14 @@ public final class BinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    public void assertWriteWithMultipleNullValues() {
+        BinaryResultSetRowPacket actual = new BinaryResultSetRowPacket(1, Arrays.<Object>asList(null, 1L, null), 
+                BinaryProtocolValueFactory.getBinaryProtocolValues(Arrays.asList(ColumnType.MYSQL_TYPE_STRING, ColumnType.MYSQL_TYPE_LONGLONG, ColumnType.MYSQL_TYPE_STRING)));
+        actual.write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x14);
+        verify(payload).writeInt8(1L);
+    }
 }
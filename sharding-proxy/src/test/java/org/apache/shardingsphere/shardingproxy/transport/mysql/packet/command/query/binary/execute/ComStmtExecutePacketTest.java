@@ -26,6 +26,7 @@ import org.apache.shardingsphere.shardingproxy.transport.common.packet.DatabaseP
 import org.apache.shardingsphere.shardingproxy.transport.mysql.constant.ColumnType;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacketPayload;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.CommandResponsePackets;
+import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatement;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.BinaryStatementRegistry;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.command.query.binary.fixture.BinaryStatementRegistryUtil;
 import org.junit.After;
@@ -65,7 +66,7 @@ public final class ComStmtExecutePacketTest {
     
     @Test
     public void assertWrite() throws SQLException {
-        BinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        BinaryStatementRegistry.getInstance().register(0, new BinaryStatement("SELECT id FROM tbl WHERE id=?", 1, null, null));
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
         ComStmtExecutePacket actual = new ComStmtExecutePacket(1, payload, backendConnection);
@@ -79,7 +80,7 @@ public final class ComStmtExecutePacketTest {
     
     @Test
     public void assertExecute() throws SQLException {
-        BinaryStatementRegistry.getInstance().register("SELECT id FROM tbl WHERE id=?", 1);
+        BinaryStatementRegistry.getInstance().register(0, new BinaryStatement("SELECT id FROM tbl WHERE id=?", 1, null, null));
         DatabaseCommunicationEngine databaseCommunicationEngine = mock(DatabaseCommunicationEngine.class);
         when(payload.readInt4()).thenReturn(1);
         when(payload.readInt1()).thenReturn(0, 1);
@@ -99,6 +100,14 @@ public final class ComStmtExecutePacketTest {
         assertFalse(packet.next());
     }
     
+    @Test(expected = SQLException.class)
+    public void assertNewInstanceWithClosedStatement() throws SQLException {
+        BinaryStatementRegistry.getInstance().register(0, new BinaryStatement("SELECT id FROM tbl WHERE id=?", 1, null, null));
+        BinaryStatementRegistry.getInstance().close(0, 1);
+        when(payload.readInt4()).thenReturn(1);
+        new ComStmtExecutePacket(1, payload, backendConnection);
+    }
+    
     @SneakyThrows
     private void setBackendHandler(final ComStmtExecutePacket packet, final DatabaseCommunicationEngine databaseCommunicationEngine) {
         Field field = ComStmtExecutePacket.class.getDeclaredField("databaseCommunicationEngine");
@@ -46,4 +46,15 @@ public final class NullBitmapTest {
         actual.setNullBit(0);
         assertTrue(actual.isNullParameter(0));
     }
+    
+    @Test
+    public void assertSetMultipleNullBits() {
+        NullBitmap actual = new NullBitmap(8, 0);
+        actual.setNullBit(0);
+        actual.setNullBit(2);
+        assertTrue(actual.isNullParameter(0));
+        assertFalse(actual.isNullParameter(1));
+        assertTrue(actual.isNullParameter(2));
+        assertThat(actual.getNullBitmap()[0], is(0x05));
+    }
 }
@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Timestamp;
@@ -30,6 +31,7 @@ import java.util.Calendar;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -83,6 +85,15 @@ public final class DateBinaryProtocolValueTest {
         assertThat(actual.get(Calendar.SECOND), is(0));
     }
 
+    @Test
+    public void assertWriteWithDate() {
+        new DateBinaryProtocolValue().write(payload, Date.valueOf("2018-12-31"));
+        verify(payload).writeInt1(4);
+        verify(payload).writeInt2(2018);
+        verify(payload).writeInt1(12);
+        verify(payload).writeInt1(31);
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertReadWithIllegalArgument() throws SQLException {
         when(payload.readInt1()).thenReturn(100);
@@ -45,4 +45,10 @@ public final class Int4BinaryProtocolValueTest {
         new Int4BinaryProtocolValue().write(payload, 1);
         verify(payload).writeInt4(1);
     }
+    
+    @Test
+    public void assertWriteWithLong() {
+        new Int4BinaryProtocolValue().write(payload, 1L);
+        verify(payload).writeInt4(1);
+    }
 }
@@ -34,14 +34,11 @@ public final class BinaryStatementRegistryUtil {
      */
     @SneakyThrows
     public static void reset() {
-        Field statementIdAssignerField = BinaryStatementRegistry.class.getDeclaredField("statementIdAssigner");
-        statementIdAssignerField.setAccessible(true);
-        ((Map) statementIdAssignerField.get(BinaryStatementRegistry.getInstance())).clear();
-        Field binaryStatementsField = BinaryStatementRegistry.class.getDeclaredField("binaryStatements");
-        binaryStatementsField.setAccessible(true);
-        ((Map) binaryStatementsField.get(BinaryStatementRegistry.getInstance())).clear();
-        Field sequenceField = BinaryStatementRegistry.class.getDeclaredField("sequence");
-        sequenceField.setAccessible(true);
-        ((AtomicInteger) sequenceField.get(BinaryStatementRegistry.getInstance())).set(0);
+        Field connectionBinaryStatementsField = BinaryStatementRegistry.class.getDeclaredField("connectionBinaryStatements");
+        connectionBinaryStatementsField.setAccessible(true);
+        ((Map) connectionBinaryStatementsField.get(BinaryStatementRegistry.getInstance())).clear();
+        Field statementsCountField = BinaryStatementRegistry.class.getDeclaredField("statementsCount");
+        statementsCountField.setAccessible(true);
+        ((AtomicInteger) statementsCountField.get(BinaryStatementRegistry.getInstance())).set(0);
     }
 }
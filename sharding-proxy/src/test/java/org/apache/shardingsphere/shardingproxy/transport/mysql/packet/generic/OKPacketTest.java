@@ -41,6 +41,7 @@ public final class OKPacketTest {
         assertThat(actual.getSequenceId(), is(1));
         assertThat(actual.getAffectedRows(), is(0L));
         assertThat(actual.getLastInsertId(), is(0L));
+        assertThat(actual.getStatusFlags(), is(StatusFlag.SERVER_STATUS_AUTOCOMMIT.getValue()));
         assertThat(actual.getWarnings(), is(0));
         assertThat(actual.getInfo(), is(""));
     }
@@ -65,6 +66,7 @@ public final class OKPacketTest {
         assertThat(actual.getSequenceId(), is(1));
         assertThat(actual.getAffectedRows(), is(100L));
         assertThat(actual.getLastInsertId(), is(9999L));
+        assertThat(actual.getStatusFlags(), is(0));
         assertThat(actual.getWarnings(), is(1));
         assertThat(actual.getInfo(), is("no info"));
     }